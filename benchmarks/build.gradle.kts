@@ -0,0 +1,23 @@
+    plugins {
+      java
+      id("me.champeau.jmh")
+    }
+
+    dependencies {
+      jmh(project(":domain"))
+      jmh(project(":client"))
+    }
+
+    // Run everything:        ./gradlew :benchmarks:jmh
+    // Run a subset:          ./gradlew :benchmarks:jmh -Pjmh.includes=CommandParserBenchmark
+    // Results (JSON) are written to benchmarks/build/results/jmh/results.json
+    extensions.configure<me.champeau.jmh.JmhParameters> {
+      // allocation rate (gc.alloc.rate.norm = bytes per operation) for every benchmark
+      profilers.set(listOf("gc"))
+      resultFormat.set("JSON")
+      fork.set(1)
+      jvmArgs.set(listOf("-Xms2g", "-Xmx8g", "-XX:+UseG1GC"))
+      if (project.hasProperty("jmh.includes")) {
+        includes.set(listOf(project.property("jmh.includes") as String))
+      }
+    }
@@ -0,0 +1,54 @@
+package com.dpandev.benchmarks;
+
+import com.dpandev.domain.model.Monster;
+import com.dpandev.domain.service.CommandResult;
+import com.dpandev.domain.service.DefaultCombatService;
+import com.dpandev.domain.utils.GameContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one {@link DefaultCombatService#playerAttack} round (player hit, monster reply, status
+ * line). Both combatants are healed back to full after every round so the fight never ends and
+ * invocations stay comparable. Rolls come from the session's own seeded generator, as in the
+ * server, so runs with several threads measure the service without a shared generator.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class CombatServiceBenchmark {
+  private DefaultCombatService combat;
+  private GameContext ctx;
+  private Monster monster;
+  private String monsterId;
+
+  @Setup
+  public void setUp() {
+    combat = new DefaultCombatService();
+    ctx = SyntheticWorlds.newContext(SyntheticWorlds.grid(100));
+    combat.initiateCombat(ctx, SyntheticWorlds.MONSTER);
+    monsterId = ctx.getCombatMonsterId();
+    monster = ctx.world().findMonster(monsterId).orElseThrow();
+  }
+
+  @Benchmark
+  public CommandResult playerAttack() {
+    CommandResult result = combat.playerAttack(ctx);
+    if (!ctx.isInCombat()) {
+      ctx.startCombat(monsterId);
+    }
+    monster.setCurrentHealth(monster.getMaxHealth());
+    ctx.player().setCurrentHealth(ctx.player().getMaxHealth());
+    return result;
+  }
+}
@@ -0,0 +1,39 @@
+package com.dpandev.benchmarks;
+
+import com.dpandev.domain.command.SimpleCommandParser;
+import com.dpandev.domain.utils.CommandToken;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures {@link SimpleCommandParser#parse(String)} across typical input shapes. */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class CommandParserBenchmark {
+
+  @Param({"look", "n", "go north", "pickup steel sword", "  Attack   THE  Goblin  ", "xyzzy"})
+  public String input;
+
+  private SimpleCommandParser parser;
+
+  @Setup
+  public void setUp() {
+    parser = new SimpleCommandParser();
+  }
+
+  @Benchmark
+  public CommandToken parse() {
+    return parser.parse(input);
+  }
+}
@@ -0,0 +1,89 @@
+package com.dpandev.benchmarks;
+
+import com.dpandev.client.controller.CombatController;
+import com.dpandev.client.controller.CommandController;
+import com.dpandev.client.controller.FrontController;
+import com.dpandev.client.controller.InteractionController;
+import com.dpandev.client.controller.InventoryController;
+import com.dpandev.client.controller.MovementController;
+import com.dpandev.client.controller.SystemController;
+import com.dpandev.client.persistence.FileSaveRepository;
+import com.dpandev.domain.command.SimpleCommandParser;
+import com.dpandev.domain.service.CommandResult;
+import com.dpandev.domain.service.DefaultCombatService;
+import com.dpandev.domain.service.DefaultExplorationService;
+import com.dpandev.domain.service.DefaultInteractionService;
+import com.dpandev.domain.service.DefaultInventoryService;
+import com.dpandev.domain.service.DefaultMapService;
+import com.dpandev.domain.service.InteractionService;
+import com.dpandev.domain.service.SaveService;
+import com.dpandev.domain.utils.CommandToken;
+import com.dpandev.domain.utils.GameContext;
+import com.dpandev.domain.utils.VerbCategory;
+import com.dpandev.domain.world.WorldTemplate;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link FrontController#handle} for read-only commands, so every invocation does the same
+ * work: routing by verb category plus the target controller's handling.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class FrontControllerBenchmark {
+
+  @Param({"look", "inventory", "stats", "map", "help", "inspect steel sword", "xyzzy"})
+  public String command;
+
+  private FrontController frontController;
+  private GameContext ctx;
+  private CommandToken token;
+
+  @Setup
+  public void setUp() throws IOException {
+    WorldTemplate template = SyntheticWorlds.grid(100);
+    ctx = SyntheticWorlds.newContext(template);
+    token = new SimpleCommandParser().parse(command);
+
+    InteractionService interactionService = new DefaultInteractionService();
+    CommandController systemController =
+        new SystemController(
+            new SaveService(new FileSaveRepository(Files.createTempDirectory("bench-saves"))),
+            template::newSession);
+    frontController =
+        new FrontController(
+            Map.of(
+                VerbCategory.MOVEMENT,
+                new MovementController(
+                    new DefaultExplorationService(interactionService), new DefaultMapService()),
+                VerbCategory.INVENTORY,
+                new InventoryController(new DefaultInventoryService()),
+                VerbCategory.INTERACTION,
+                new InteractionController(interactionService),
+                VerbCategory.COMBAT,
+                new CombatController(new DefaultCombatService()),
+                VerbCategory.SYSTEM,
+                systemController),
+            systemController);
+  }
+
+  @Benchmark
+  public CommandResult handle() {
+    return frontController.handle(token, ctx);
+  }
+}
@@ -0,0 +1,60 @@
+package com.dpandev.benchmarks;
+
+import com.dpandev.domain.service.CommandResult;
+import com.dpandev.domain.service.DefaultInventoryService;
+import com.dpandev.domain.utils.GameContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DefaultInventoryService} pickup, inspect and equip. Pickup and equip change
+ * state, so each is paired with its inverse (drop, unequip) to keep every invocation identical.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class InventoryServiceBenchmark {
+  private final DefaultInventoryService inventory = new DefaultInventoryService();
+  private GameContext roomCtx;
+  private GameContext carryingCtx;
+
+  @Setup
+  public void setUp() {
+    var template = SyntheticWorlds.grid(100);
+    roomCtx = SyntheticWorlds.newContext(template);
+    carryingCtx = SyntheticWorlds.newContext(template);
+    inventory.pickup(carryingCtx, SyntheticWorlds.SWORD);
+  }
+
+  @Benchmark
+  public CommandResult pickupThenDrop() {
+    inventory.pickup(roomCtx, SyntheticWorlds.SWORD);
+    return inventory.drop(roomCtx, SyntheticWorlds.SWORD);
+  }
+
+  @Benchmark
+  public CommandResult inspectInventoryItem() {
+    return inventory.inspect(carryingCtx, SyntheticWorlds.SWORD);
+  }
+
+  @Benchmark
+  public CommandResult inspectRoomItem() {
+    return inventory.inspect(roomCtx, SyntheticWorlds.HELMET);
+  }
+
+  @Benchmark
+  public CommandResult equipThenUnequip() {
+    inventory.equip(carryingCtx, SyntheticWorlds.SWORD);
+    return inventory.unequip(carryingCtx, SyntheticWorlds.SWORD);
+  }
+}
@@ -0,0 +1,37 @@
+package com.dpandev.benchmarks;
+
+import com.dpandev.domain.service.CommandResult;
+import com.dpandev.domain.service.DefaultMapService;
+import com.dpandev.domain.utils.GameContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures {@link DefaultMapService#showMap} from a room with exits in all four directions. */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class MapServiceBenchmark {
+  private final DefaultMapService mapService = new DefaultMapService();
+  private GameContext ctx;
+
+  @Setup
+  public void setUp() {
+    ctx = SyntheticWorlds.newContext(SyntheticWorlds.grid(100));
+    ctx.player().setRoomId("r5_5");
+  }
+
+  @Benchmark
+  public CommandResult showMap() {
+    return mapService.showMap(ctx);
+  }
+}
@@ -0,0 +1,84 @@
+package com.dpandev.benchmarks;
+
+import com.dpandev.client.persistence.PropertiesSaveFormat;
+import com.dpandev.client.persistence.SaveDataCodec;
+import com.dpandev.domain.model.Puzzle.PuzzlePhase;
+import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.world.WorldDelta;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares encoding and decoding a mid-game save with {@link SaveDataCodec} against the older
+ * {@link PropertiesSaveFormat}, without any file I/O.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class SaveCodecBenchmark {
+  private SaveData save;
+  private byte[] binary;
+  private byte[] properties;
+
+  @Setup
+  public void setUp() {
+    save =
+        new SaveData(
+            "bench",
+            UUID.randomUUID(),
+            "Bench",
+            "r5_5",
+            List.of("sword", "helmet", "potion", "potion"),
+            Map.of("WEAPON", "sword", "HELMET", "helmet"),
+            120,
+            80,
+            100,
+            12,
+            7,
+            List.of("riddle1", "riddle2"),
+            List.of("r0_0", "r0_1", "r1_1", "r2_1", "r3_1", "r4_1", "r5_1", "r5_5"),
+            Instant.now(),
+            new WorldDelta(
+                Map.of("r0_0", List.of(), "r5_5", List.of("shield")),
+                Map.of("m1_1", 0, "m4_1", 12),
+                Map.of("riddle1", new WorldDelta.PuzzleState(PuzzlePhase.SOLVED, 2))),
+            SaveData.DEFAULT_SLOT);
+    binary = SaveDataCodec.encode(save);
+    properties = PropertiesSaveFormat.encode(save);
+  }
+
+  @Benchmark
+  public byte[] encodeBinary() {
+    return SaveDataCodec.encode(save);
+  }
+
+  @Benchmark
+  public byte[] encodeProperties() {
+    return PropertiesSaveFormat.encode(save);
+  }
+
+  @Benchmark
+  public SaveData decodeBinary() throws IOException {
+    return SaveDataCodec.decode(binary);
+  }
+
+  @Benchmark
+  public SaveData decodeProperties() throws IOException {
+    return PropertiesSaveFormat.decode(properties);
+  }
+}
@@ -0,0 +1,78 @@
+package com.dpandev.benchmarks;
+
+import com.dpandev.client.persistence.FileSaveRepository;
+import com.dpandev.domain.service.SaveData;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures {@link FileSaveRepository} writes and reads of a mid-game save. */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class SaveRepositoryBenchmark {
+  private Path directory;
+  private FileSaveRepository repository;
+  private SaveData save;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("bench-saves");
+    repository = new FileSaveRepository(directory);
+    save =
+        new SaveData(
+            "bench",
+            UUID.randomUUID(),
+            "Bench",
+            "r5_5",
+            List.of("sword", "helmet", "potion", "potion"),
+            Map.of("WEAPON", "sword", "HELMET", "helmet"),
+            120,
+            80,
+            100,
+            12,
+            7,
+            List.of("riddle1", "riddle2"),
+            List.of("r0_0", "r0_1", "r1_1", "r2_1", "r3_1", "r4_1", "r5_1", "r5_5"),
+            Instant.now());
+    repository.upsert(save);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public SaveData upsert() {
+    repository.upsert(save);
+    return save;
+  }
+
+  @Benchmark
+  public Optional<SaveData> findByPlayerId() {
+    return repository.findByPlayerId(save.playerId());
+  }
+}
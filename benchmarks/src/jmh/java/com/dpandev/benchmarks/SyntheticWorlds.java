@@ -0,0 +1,169 @@
+package com.dpandev.benchmarks;
+
+import com.dpandev.domain.model.Item;
+import com.dpandev.domain.model.Monster;
+import com.dpandev.domain.model.Player;
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.GameContext;
+import com.dpandev.domain.world.World;
+import com.dpandev.domain.world.WorldTemplate;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds deterministic synthetic worlds for benchmarks. Rooms form a square grid named {@code
+ * r<x>_<y>}, each connected to its north/south/east/west neighbours, with a sword, a helmet and a
+ * potion available in every room and a goblin guarding the start room.
+ */
+final class SyntheticWorlds {
+  static final String START_ROOM = "r0_0";
+  static final String SWORD = "Steel Sword";
+  static final String HELMET = "Iron Helmet";
+  static final String MONSTER = "Goblin";
+  static final long SEED = 42L;
+
+  private SyntheticWorlds() {}
+
+  /**
+   * Builds a grid world in memory.
+   *
+   * @param roomCount number of rooms; rounded up to a full square
+   * @return the world template
+   */
+  static WorldTemplate grid(int roomCount) {
+    int side = side(roomCount);
+    Map<String, Room> rooms = new HashMap<>();
+    for (int y = 0; y < side; y++) {
+      for (int x = 0; x < side; x++) {
+        String id = roomId(x, y);
+        rooms.put(
+            id,
+            Room.builder()
+                .id(id)
+                .name("Room " + x + "," + y)
+                .description("A featureless stone chamber.")
+                .exits(exits(x, y, side))
+                .itemIds(new ArrayList<>(List.of("sword", "helmet", "potion")))
+                .monsterId(id.equals(START_ROOM) ? "goblin" : null)
+                .build());
+      }
+    }
+
+    Map<String, Item> items =
+        Map.of(
+            "sword",
+            Item.builder()
+                .id("sword")
+                .name(SWORD)
+                .description("A sharp blade")
+                .type(Item.ItemType.WEAPON)
+                .attackBonus(10)
+                .build(),
+            "helmet",
+            Item.builder()
+                .id("helmet")
+                .name(HELMET)
+                .description("Dented but sturdy")
+                .type(Item.ItemType.ARMOR)
+                .armorType(Item.ArmorType.HELMET)
+                .defenseBonus(5)
+                .build(),
+            "potion",
+            Item.builder()
+                .id("potion")
+                .name("Health Potion")
+                .description("Smells of mint")
+                .type(Item.ItemType.CONSUMABLE)
+                .consumableType(Item.ConsumableType.HEALTH_POTION)
+                .healthRestore(20)
+                .build());
+    Map<String, Monster> monsters =
+        Map.of("goblin", new Monster(MONSTER, "A small green creature", 50, 5, 2, 0.2));
+
+    return new WorldTemplate("bench", rooms, items, Map.of(), monsters, START_ROOM);
+  }
+
+  /**
+   * Starts a fresh session with a new player in the start room. The session's generator has a fixed
+   * seed so every run rolls the same fights.
+   *
+   * @param template the world template
+   * @return a new game context
+   */
+  static GameContext newContext(WorldTemplate template) {
+    World world = template.newSession();
+    return new GameContext(world, new Player("Bench", world.getStartRoomId()), SEED);
+  }
+
+  /**
+   * Writes a grid world as a JSON world pack, streaming it so million-room packs do not have to be
+   * held in memory as a string.
+   *
+   * @param roomCount number of rooms; rounded up to a full square
+   * @param file destination file
+   * @throws IOException if writing fails
+   */
+  static void writeJsonPack(int roomCount, Path file) throws IOException {
+    int side = side(roomCount);
+    try (BufferedWriter out = Files.newBufferedWriter(file)) {
+      out.write("{\"version\":\"bench\",\"startRoomId\":\"" + START_ROOM + "\",\"items\":[");
+      out.write("{\"id\":\"sword\",\"name\":\"" + SWORD + "\",\"type\":\"WEAPON\",");
+      out.write("\"attackBonus\":10},");
+      out.write("{\"id\":\"helmet\",\"name\":\"" + HELMET + "\",\"type\":\"ARMOR\",");
+      out.write("\"armorType\":\"HELMET\",\"defenseBonus\":5}");
+      out.write("],\"monsters\":[{\"id\":\"goblin\",\"name\":\"" + MONSTER + "\"}],\"rooms\":[");
+      for (int y = 0; y < side; y++) {
+        for (int x = 0; x < side; x++) {
+          if (x > 0 || y > 0) {
+            out.write(',');
+          }
+          out.write("{\"id\":\"" + roomId(x, y) + "\",\"name\":\"Room " + x + "," + y + "\",");
+          out.write("\"description\":\"A featureless stone chamber.\",\"exits\":{");
+          boolean first = true;
+          for (Map.Entry<String, String> exit : exits(x, y, side).entrySet()) {
+            out.write((first ? "\"" : ",\"") + exit.getKey() + "\":\"" + exit.getValue() + "\"");
+            first = false;
+          }
+          out.write("},\"itemIds\":[\"sword\",\"helmet\"]");
+          if (x == 0 && y == 0) {
+            out.write(",\"monsterId\":\"goblin\"");
+          }
+          out.write('}');
+        }
+      }
+      out.write("]}");
+    }
+  }
+
+  private static int side(int roomCount) {
+    return (int) Math.ceil(Math.sqrt(roomCount));
+  }
+
+  private static String roomId(int x, int y) {
+    return "r" + x + "_" + y;
+  }
+
+  private static Map<String, String> exits(int x, int y, int side) {
+    Map<String, String> exits = new LinkedHashMap<>();
+    if (y > 0) {
+      exits.put("north", roomId(x, y - 1));
+    }
+    if (y < side - 1) {
+      exits.put("south", roomId(x, y + 1));
+    }
+    if (x < side - 1) {
+      exits.put("east", roomId(x + 1, y));
+    }
+    if (x > 0) {
+      exits.put("west", roomId(x - 1, y));
+    }
+    return exits;
+  }
+}
@@ -0,0 +1,58 @@
+package com.dpandev.benchmarks;
+
+import com.dpandev.domain.world.JsonWorldLoader;
+import com.dpandev.domain.world.World;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link JsonWorldLoader#load()} on synthetic grid packs of increasing size, in every
+ * parse mode. Each load is a cold parse of the whole file, so single-shot timing is used and the
+ * sample distribution across iterations gives the percentiles.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+@State(Scope.Benchmark)
+public class WorldLoaderBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  public int rooms;
+
+  @Param({"TREE", "STREAMING", "PARALLEL"})
+  public JsonWorldLoader.ParseMode mode;
+
+  private Path pack;
+
+  @Setup
+  public void setUp() throws IOException {
+    pack = Files.createTempFile("bench-world-" + rooms + "-", ".json");
+    SyntheticWorlds.writeJsonPack(rooms, pack);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(pack);
+  }
+
+  @Benchmark
+  public World load() {
+    return new JsonWorldLoader(pack.toString(), mode).load();
+  }
+}
@@ -6,6 +6,7 @@ plugins {
   id("org.springframework.boot") version "3.5.7" apply false
   id("io.spring.dependency-management") version "1.1.7" apply false
   id("com.diffplug.spotless") version "8.0.0" apply false
+  id("me.champeau.jmh") version "0.7.3" apply false
 }
 
 allprojects {
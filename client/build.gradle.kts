@@ -64,3 +64,18 @@
         args = (project.property("appArgs") as String).split("\\s+".toRegex())
       }
     }
+
+    // Precompile a JSON worldpack to the binary format, e.g.
+    // ./gradlew :client:compileWorldpack -Pin=worldpacks/example.json -Pout=worldpacks/example.atwp
+    tasks.register<JavaExec>("compileWorldpack") {
+      group = "worldpack"
+      description = "Compiles a JSON worldpack into a memory-mappable binary worldpack"
+      classpath = sourceSets["main"].runtimeClasspath
+      mainClass.set("com.dpandev.client.runtime.WorldpackTool")
+      workingDir = project.rootDir
+      args = listOf(
+        "compile",
+        project.findProperty("in")?.toString() ?: "worldpacks/example.json",
+        project.findProperty("out")?.toString() ?: "worldpacks/example.atwp"
+      )
+    }
@@ -0,0 +1,161 @@
+package com.dpandev.client.controller;
+
+import com.dpandev.domain.command.CommandParser;
+import com.dpandev.domain.service.CommandResult;
+import com.dpandev.domain.utils.CommandToken;
+import com.dpandev.domain.utils.GameContext;
+import com.dpandev.domain.utils.Verb;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Executes raw command lines against a {@link GameContext} through the {@link FrontController}.
+ *
+ * <p>A line is treated as a puzzle answer while one is pending, otherwise it is parsed and routed
+ * like any other command; combat restrictions are enforced by the controllers themselves. The
+ * interactive runners use {@link #execute} one line at a time, while {@link #executeAll} runs a
+ * whole script and collects the results in memory, so scripted or replayed input is not slowed down
+ * by per-line console output.
+ */
+public final class CommandExecutor {
+  private final CommandParser parser;
+  private final FrontController frontController;
+
+  /**
+   * Creates an executor.
+   *
+   * @param parser parser for lines that are not puzzle answers
+   * @param frontController router the commands are handed to
+   * @throws NullPointerException if either argument is null
+   */
+  public CommandExecutor(CommandParser parser, FrontController frontController) {
+    this.parser = Objects.requireNonNull(parser, "parser cannot be null");
+    this.frontController =
+        Objects.requireNonNull(frontController, "frontController cannot be null");
+  }
+
+  /**
+   * Executes one line of input.
+   *
+   * @param line the raw command line
+   * @param ctx the game context to run it against
+   * @return the command result
+   */
+  public CommandResult execute(String line, GameContext ctx) {
+    // while a puzzle answer is pending the whole line is the answer, bypassing command parsing
+    if (ctx.isAwaitingPuzzleAnswer()) {
+      return frontController.handle(new CommandToken(Verb.SOLVE, line, List.of(), line), ctx);
+    }
+    return frontController.handle(parser.parse(line), ctx);
+  }
+
+  /**
+   * Executes lines in order. Execution stops after the first command that ends the game; the
+   * remaining lines are not run. If reading the next line fails, execution stops there and the
+   * results so far are returned with the error, see {@link BatchResult#readError()}.
+   *
+   * @param lines the raw command lines
+   * @param ctx the game context to run them against
+   * @return the results of every executed line
+   */
+  public BatchResult executeAll(Iterable<String> lines, GameContext ctx) {
+    return executeAll(lines.iterator(), ctx);
+  }
+
+  /**
+   * Executes lines in order. See {@link #executeAll(Iterable, GameContext)}.
+   *
+   * @param lines the raw command lines
+   * @param ctx the game context to run them against
+   * @return the results of every executed line
+   */
+  public BatchResult executeAll(String[] lines, GameContext ctx) {
+    return executeAll(Arrays.asList(lines), ctx);
+  }
+
+  /**
+   * Executes lines in order, consuming the stream lazily so a script can be read as it runs. See
+   * {@link #executeAll(Iterable, GameContext)}.
+   *
+   * @param lines the raw command lines
+   * @param ctx the game context to run them against
+   * @return the results of every executed line
+   */
+  public BatchResult executeAll(Stream<String> lines, GameContext ctx) {
+    return executeAll(lines.iterator(), ctx);
+  }
+
+  private BatchResult executeAll(Iterator<String> lines, GameContext ctx) {
+    List<CommandResult> results = new ArrayList<>();
+    while (true) {
+      String line;
+      try {
+        if (!lines.hasNext()) {
+          return new BatchResult(results, false);
+        }
+        line = lines.next();
+      } catch (UncheckedIOException e) {
+        // only reading is guarded; a command's own I/O errors propagate as before
+        return new BatchResult(results, false, e.getCause());
+      }
+      CommandResult result = execute(line, ctx);
+      results.add(result);
+      if (result.shouldExit()) {
+        return new BatchResult(results, true);
+      }
+    }
+  }
+
+  /**
+   * The outcome of a batch of commands.
+   *
+   * @param results the result of each executed line, in order
+   * @param exited true if execution stopped because a command ended the game
+   * @param readError the error that stopped reading the lines early, or null if all were read
+   */
+  public record BatchResult(List<CommandResult> results, boolean exited, IOException readError) {
+
+    /**
+     * Constructs a BatchResult, copying the results.
+     *
+     * @param results the result of each executed line, in order
+     * @param exited true if a command ended the game
+     * @param readError the error that stopped reading the lines early, or null
+     */
+    public BatchResult {
+      results = List.copyOf(results);
+    }
+
+    /**
+     * Constructs a BatchResult for lines that were all read.
+     *
+     * @param results the result of each executed line, in order
+     * @param exited true if a command ended the game
+     */
+    public BatchResult(List<CommandResult> results, boolean exited) {
+      this(results, exited, null);
+    }
+
+    /**
+     * Joins the non-blank messages of every result, one per line, the way the console would have
+     * printed them.
+     *
+     * @return the buffered output
+     */
+    public String output() {
+      StringBuilder out = new StringBuilder();
+      for (CommandResult result : results) {
+        if (!result.message().isBlank()) {
+          out.append(result.message()).append(System.lineSeparator());
+        }
+      }
+      return out.toString();
+    }
+  }
+}
@@ -6,7 +6,7 @@ import com.dpandev.domain.service.MapService;
 import com.dpandev.domain.utils.CommandToken;
 import com.dpandev.domain.utils.GameContext;
 
-/** Controller to handle movement-related commands such as LOOK, GO, and MAP. */
+/** Controller to handle movement-related commands such as LOOK, GO, TRAVEL and MAP. */
 public final class MovementController implements CommandController {
 
   private final ExplorationService exploration;
@@ -22,9 +22,14 @@ public final class MovementController implements CommandController {
     return switch (cmd.verb()) {
       case LOOK -> exploration.look(ctx);
       case GO -> exploration.move(ctx, cmd.target());
-      case MAP -> mapService.showMap(ctx);
+      case TRAVEL -> exploration.travel(ctx, cmd.target());
+      case MAP -> isWorldMap(cmd) ? mapService.showWorldMap(ctx) : mapService.showMap(ctx);
       case STATS -> exploration.showStats(ctx);
       default -> CommandResult.fail("Unsupported verb for movement: " + cmd.verb());
     };
   }
+
+  private boolean isWorldMap(CommandToken cmd) {
+    return "world".equals(cmd.target()) || "all".equals(cmd.target());
+  }
 }
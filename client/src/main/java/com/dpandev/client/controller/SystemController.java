@@ -1,23 +1,31 @@
 package com.dpandev.client.controller;
 
-import com.dpandev.client.view.ConsoleView;
 import com.dpandev.domain.service.CommandResult;
+import com.dpandev.domain.service.SaveData;
 import com.dpandev.domain.service.SaveService;
+import com.dpandev.domain.service.SaveSummary;
 import com.dpandev.domain.utils.CommandToken;
 import com.dpandev.domain.utils.GameContext;
 import com.dpandev.domain.world.World;
 import com.dpandev.domain.world.WorldLoader;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 /** Controller to handle system commands like help, save, load, and quit. */
 public class SystemController implements CommandController {
+  private static final String INVALID_SLOT =
+      "Save slot names are 1 to 32 letters, digits, '_' or '-'.";
+
   private final SaveService save;
-  private final ConsoleView view;
   private final WorldLoader worldLoader;
 
-  /** Constructs a SystemController with the given SaveService, ConsoleView, and WorldLoader. */
-  public SystemController(SaveService save, ConsoleView view, WorldLoader worldLoader) {
+  /**
+   * Constructs a SystemController with the given SaveService and WorldLoader. Pass a {@link
+   * com.dpandev.domain.world.CachingWorldLoader} so that starting a new game does not re-parse an
+   * unchanged world pack. Holds no per-player state, so one instance can serve many sessions.
+   */
+  public SystemController(SaveService save, WorldLoader worldLoader) {
     this.save = save;
-    this.view = view;
     this.worldLoader = worldLoader;
   }
 
@@ -30,7 +38,9 @@ public class SystemController implements CommandController {
               "Available commands:\n"
                   + "  look - Look around the room\n"
                   + "  map - Display a map of nearby rooms\n"
+                  + "  map world - Display the part of the world you have explored\n"
                   + "  go <dir> - Move in a direction (north, south, east, west, up, down)\n"
+                  + "  travel <room> - Walk the shortest way to a room you have visited\n"
                   + "  inventory (i) - View your inventory\n"
                   + "  pickup <item> - Pick up an item\n"
                   + "  drop <item> - Drop an item\n"
@@ -42,23 +52,54 @@ public class SystemController implements CommandController {
                   + "  attack <monster> - Attack a monster (starts combat)\n"
                   + "  ignore <monster> - Ignore a monster (makes it disappear)\n"
                   + "  heal - Use a healing potion during combat\n"
-                  + "  save - Save your game\n"
+                  + "  save [slot] - Save your game, optionally to a named slot\n"
+                  + "  load [slot] - Load a saved game; the most recent one if no slot is given\n"
+                  + "  saves - List your saved games\n"
                   + "  new - Start a new game\n"
                   + "  quit - Save and quit the game");
       case SAVE -> {
-        save.saveData(ctx);
-        yield CommandResult.success("Game saved successfully.");
+        String slot = cmd.hasTarget() ? cmd.target() : SaveData.DEFAULT_SLOT;
+        if (!SaveData.isValidSlot(slot)) {
+          yield CommandResult.fail(INVALID_SLOT);
+        }
+        save.saveData(ctx, slot);
+        yield CommandResult.success(
+            cmd.hasTarget() ? "Game saved to slot '" + slot + "'." : "Game saved successfully.");
       }
       case LOAD -> {
         var playerId = ctx.player().getId();
-        var loadedCtx = save.load(playerId); // no multiple saves per player, just one
+        if (cmd.hasTarget() && !SaveData.isValidSlot(cmd.target())) {
+          yield CommandResult.fail(INVALID_SLOT);
+        }
+        // without a slot, pick up from the most recent save
+        var loadedCtx = cmd.hasTarget() ? save.load(playerId, cmd.target()) : save.load(playerId);
         if (loadedCtx.isEmpty()) {
-          yield CommandResult.fail("No saved game found for player ID: " + playerId);
+          yield CommandResult.fail(
+              cmd.hasTarget()
+                  ? "No saved game found in slot '" + cmd.target() + "'."
+                  : "No saved game found for player ID: " + playerId);
         }
         yield save.applySave(ctx, loadedCtx.get()); // this also returns CommandResult
       }
+      case SAVES -> {
+        List<SaveSummary> saves = save.list(ctx.player().getId());
+        if (saves.isEmpty()) {
+          yield CommandResult.success("You have no saved games.");
+        }
+        StringBuilder listing = new StringBuilder("Saved games (most recent first):");
+        for (SaveSummary summary : saves) {
+          listing
+              .append("\n  ")
+              .append(summary.slot())
+              .append(" - room ")
+              .append(summary.roomId())
+              .append(", saved ")
+              .append(summary.savedAt().truncatedTo(ChronoUnit.SECONDS));
+        }
+        yield CommandResult.success(listing.toString());
+      }
       case NEW_GAME -> {
-        // Reload the world from scratch to reset all state properly
+        // Fresh session from the loader; a caching loader only re-parses if the pack changed
         World freshWorld = worldLoader.load();
         ctx.resetGame(freshWorld, "Player");
 
@@ -69,7 +110,13 @@ public class SystemController implements CommandController {
                 + "Type 'look' to see your surroundings.");
       }
       case QUIT -> {
-        save.saveData(ctx);
+        // a queued save must reach the repository before the player is let go
+        try {
+          save.saveData(ctx);
+          save.flush();
+        } catch (RuntimeException e) {
+          yield CommandResult.fail("Could not save your game: " + e.getMessage());
+        }
         yield CommandResult.exit("Game saved. Goodbye!");
       }
       default -> CommandResult.fail("Unknown command: " + cmd.verb());
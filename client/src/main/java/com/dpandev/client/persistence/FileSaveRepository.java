@@ -1,30 +1,46 @@
 package com.dpandev.client.persistence;
 
 import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.service.SaveSummary;
 import com.dpandev.domain.spi.SaveRepository;
 import java.io.IOException;
-import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.Instant;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Properties;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * A file-based implementation of the SaveRepository interface for managing player save data. Save
- * data is stored in individual properties files within a specified base directory.
+ * data is stored in individual files, encoded with {@link SaveDataCodec}, within a specified base
+ * directory: {@code <uuid>.save} for the default slot and {@code <uuid>.<slot>.save} for named
+ * slots. Saves in the older {@code <uuid>.properties} format are still read as the default slot,
+ * and are replaced by a {@code .save} file the next time the player saves.
+ *
+ * <p>Listing saves is answered from a {@link SaveIndex} kept next to the save files. When the
+ * repository is created, saves written after the index file are added to it, and a missing or torn
+ * index, for example in a directory written by an older version, is rebuilt from the save files.
  */
 public final class FileSaveRepository implements SaveRepository {
+  /** File name suffix of saves written by this repository. */
+  public static final String SAVE_SUFFIX = ".save";
+
+  /** File name suffix of saves in the older {@link PropertiesSaveFormat}. */
+  public static final String LEGACY_SUFFIX = ".properties";
+
   private final Path baseDirectory;
+  private final SaveIndex index;
 
   /**
    * Constructs a FileSaveRepository with the specified base directory for save files.
    *
    * @param baseDirectory the base directory where save files will be stored
+   * @throws UncheckedIOException if the save index cannot be opened
    */
   public FileSaveRepository(Path baseDirectory) {
     this.baseDirectory = baseDirectory;
@@ -33,159 +49,167 @@ public final class FileSaveRepository implements SaveRepository {
     } catch (Exception e) {
       throw new RuntimeException("Failed to create base directory for saves: " + baseDirectory, e);
     }
+    try {
+      this.index = SaveIndex.open(baseDirectory.resolve(SaveIndex.FILE_NAME), this::readSaves);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to open save index in " + baseDirectory, e);
+    }
   }
 
   /**
-   * Constructs the file path for a player's save data based on their UUID.
+   * Constructs the file path for a player's save data based on their UUID and the save slot.
    *
    * @param playerId the player's UUID
+   * @param slot the save slot
    * @return the Path to the player's save file
    */
-  private Path fileFor(UUID playerId) {
-    return baseDirectory.resolve(playerId.toString() + ".properties");
+  private Path fileFor(UUID playerId, String slot) {
+    String name =
+        SaveData.DEFAULT_SLOT.equals(slot) ? playerId.toString() : playerId + "." + slot;
+    return baseDirectory.resolve(name + SAVE_SUFFIX);
+  }
+
+  /**
+   * Constructs the file path for a player's save in the older properties format.
+   *
+   * @param playerId the player's UUID
+   * @return the Path to the player's legacy save file
+   */
+  private Path legacyFileFor(UUID playerId) {
+    return baseDirectory.resolve(playerId.toString() + LEGACY_SUFFIX);
   }
 
   /**
-   * Finds the save data for a player by their ID.
+   * Finds the save data in the default slot for a player by their ID.
    *
    * @param id the player's UUID
    * @return an Optional containing the SaveData if found, or empty if not found
    */
   @Override
   public Optional<SaveData> findByPlayerId(UUID id) {
-    Path file = fileFor(id);
-    if (Files.notExists(file)) {
+    return find(id, SaveData.DEFAULT_SLOT);
+  }
+
+  /**
+   * Finds the save data in a slot for a player, preferring the binary save over a legacy one.
+   *
+   * @param id the player's UUID
+   * @param slot the save slot
+   * @return an Optional containing the SaveData if found, or empty if not found
+   */
+  @Override
+  public Optional<SaveData> find(UUID id, String slot) {
+    if (!SaveData.isValidSlot(slot)) {
       return Optional.empty();
     }
-    Properties p = new Properties();
-    try (Reader r = Files.newBufferedReader(file)) {
-      p.load(r);
-    } catch (Exception e) {
+    try {
+      Path file = fileFor(id, slot);
+      if (Files.exists(file)) {
+        return Optional.of(SaveDataCodec.decode(Files.readAllBytes(file)));
+      }
+      Path legacy = legacyFileFor(id);
+      if (SaveData.DEFAULT_SLOT.equals(slot) && Files.exists(legacy)) {
+        return Optional.of(PropertiesSaveFormat.decode(Files.readAllBytes(legacy)));
+      }
+      return Optional.empty();
+    } catch (IOException e) {
       //      throw new RuntimeException("Failed to read save file for player ID: " + id, e);
       // TODO keep the app running and log the error instead of throwing
       return Optional.empty();
     }
-
-    try {
-      String worldVersion = p.getProperty("worldVersion");
-      UUID uuid = UUID.fromString(p.getProperty("playerId"));
-      String playerName = p.getProperty("playerName");
-      String roomId = p.getProperty("roomId");
-      List<String> itemIds = parseItemIds(p.getProperty("itemIds"));
-      Map<String, String> equippedItems = parseEquippedItems(p.getProperty("equippedItems"));
-
-      // Parse player stats with defaults for backward compatibility
-      int score = Integer.parseInt(p.getProperty("score", "0"));
-      int currentHealth = Integer.parseInt(p.getProperty("currentHealth", "100"));
-      int maxHealth = Integer.parseInt(p.getProperty("maxHealth", "100"));
-      int baseAttack = Integer.parseInt(p.getProperty("baseAttack", "10"));
-      int baseDefense = Integer.parseInt(p.getProperty("baseDefense", "0"));
-
-      List<String> puzzlesSolved = parseItemIds(p.getProperty("puzzlesSolved"));
-      List<String> roomsVisited = parseItemIds(p.getProperty("roomsVisited"));
-
-      Instant savedAt = Instant.parse(p.getProperty("savedAt"));
-
-      return Optional.of(
-          new SaveData(
-              worldVersion,
-              uuid,
-              playerName,
-              roomId,
-              itemIds,
-              equippedItems,
-              score,
-              currentHealth,
-              maxHealth,
-              baseAttack,
-              baseDefense,
-              puzzlesSolved,
-              roomsVisited,
-              savedAt));
-    } catch (Exception e) {
-      //      throw new RuntimeException("Failed to parse save data for player ID: " + id, e);
-      return Optional.empty();
-    }
   }
 
   /**
-   * Inserts or updates the save data for a player.
+   * Inserts or updates the save data for a player in the save's slot. A legacy properties save for
+   * the player is removed once a new default-slot save is in place.
    *
    * @param data the save data to upsert
    */
   @Override
   public void upsert(SaveData data) {
-    Properties p = new Properties();
-    p.setProperty("worldVersion", data.worldVersion());
-    p.setProperty("playerId", data.playerId().toString());
-    p.setProperty("playerName", data.playerName());
-    p.setProperty("roomId", data.roomId());
-    p.setProperty("itemIds", String.join(",", data.itemIds()));
-
-    // Save equipped items as "SLOT:itemId" pairs
-    StringBuilder equippedBuilder = new StringBuilder();
-    data.equippedItems()
-        .forEach(
-            (slot, itemId) -> {
-              if (equippedBuilder.length() > 0) {
-                equippedBuilder.append(",");
-              }
-              equippedBuilder.append(slot).append(":").append(itemId);
-            });
-    p.setProperty("equippedItems", equippedBuilder.toString());
+    byte[] bytes = SaveDataCodec.encode(data);
 
-    p.setProperty("score", String.valueOf(data.score()));
-    p.setProperty("currentHealth", String.valueOf(data.currentHealth()));
-    p.setProperty("maxHealth", String.valueOf(data.maxHealth()));
-    p.setProperty("baseAttack", String.valueOf(data.baseAttack()));
-    p.setProperty("baseDefense", String.valueOf(data.baseDefense()));
-    p.setProperty("puzzlesSolved", String.join(",", data.puzzlesSolved()));
-    p.setProperty("roomsVisited", String.join(",", data.roomsVisited()));
-    p.setProperty("savedAt", data.savedAt().toString());
-
-    Path file = fileFor(data.playerId());
-    try (var writer = Files.newBufferedWriter(file)) {
-      p.store(writer, "AdventureTime_save_for_" + data.playerId());
+    // write a sibling temp file and move it over the save, so a crash never leaves a torn save
+    Path file = fileFor(data.playerId(), data.slot());
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      Files.write(temp, bytes);
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      if (SaveData.DEFAULT_SLOT.equals(data.slot())) {
+        Files.deleteIfExists(legacyFileFor(data.playerId()));
+      }
     } catch (IOException e) {
       throw new UncheckedIOException(
           "Failed to write save file for player ID: " + data.playerId(), e);
       // unchecked so no need to force handling it
     }
+    index.put(SaveSummary.of(data));
   }
 
   /**
-   * Parses a comma-separated string of item IDs into a list.
+   * Lists a player's saves from the index, most recent first.
    *
-   * @param itemIdsStr the comma-separated string of item IDs
-   * @return a list of item IDs
+   * @param id the player's UUID
+   * @return the summaries of the player's saves
    */
-  private static List<String> parseItemIds(String itemIdsStr) {
-    if (itemIdsStr == null || itemIdsStr.isBlank()) {
-      return List.of();
-    }
-    String[] parts = itemIdsStr.split(",");
-    return List.of(parts);
+  @Override
+  public List<SaveSummary> list(UUID id) {
+    return index.list(id);
+  }
+
+  /**
+   * Finds a player's most recent save from the index.
+   *
+   * @param id the player's UUID
+   * @return an Optional containing the latest save's summary, or empty if there is none
+   */
+  @Override
+  public Optional<SaveSummary> latest(UUID id) {
+    return index.latest(id);
   }
 
   /**
-   * Parses equipped items from "SLOT:itemId,SLOT:itemId" format.
+   * Lists every save in the directory from the index, most recent first.
    *
-   * @param equippedStr the equipped items string
-   * @return a map of slot name to item ID
+   * @return the summaries of all saves
    */
-  private static Map<String, String> parseEquippedItems(String equippedStr) {
-    if (equippedStr == null || equippedStr.isBlank()) {
-      return Map.of();
-    }
+  @Override
+  public List<SaveSummary> listAll() {
+    return index.all();
+  }
 
-    Map<String, String> result = new java.util.HashMap<>();
-    String[] pairs = equippedStr.split(",");
-    for (String pair : pairs) {
-      String[] parts = pair.split(":");
-      if (parts.length == 2) {
-        result.put(parts[0], parts[1]);
+  /**
+   * Reads the summaries of the save files in the directory, to build or catch up the index. A
+   * binary save shadows a legacy save of the same player, and unreadable files are skipped.
+   *
+   * @param since only read files modified at or after this time, or every file if null
+   */
+  private List<SaveSummary> readSaves(FileTime since) {
+    List<Path> files;
+    try (Stream<Path> listing = Files.list(baseDirectory)) {
+      files = listing.toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to list saves in " + baseDirectory, e);
+    }
+    List<SaveSummary> summaries = new ArrayList<>();
+    for (Path file : files) {
+      String name = file.getFileName().toString();
+      try {
+        if (since != null && Files.getLastModifiedTime(file).compareTo(since) < 0) {
+          continue;
+        }
+        if (name.endsWith(SAVE_SUFFIX)) {
+          summaries.add(SaveSummary.of(SaveDataCodec.decode(Files.readAllBytes(file))));
+        } else if (name.endsWith(LEGACY_SUFFIX)) {
+          SaveData legacy = PropertiesSaveFormat.decode(Files.readAllBytes(file));
+          if (Files.notExists(fileFor(legacy.playerId(), SaveData.DEFAULT_SLOT))) {
+            summaries.add(SaveSummary.of(legacy));
+          }
+        }
+      } catch (IOException e) {
+        // not a save, or a corrupt one that cannot be loaded either
       }
     }
-    return result;
+    return summaries;
   }
 }
@@ -0,0 +1,725 @@
+package com.dpandev.client.persistence;
+
+import com.dpandev.domain.model.Puzzle.PuzzlePhase;
+import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.service.SaveSummary;
+import com.dpandev.domain.spi.SaveRepository;
+import com.dpandev.domain.world.WorldDelta;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.h2.jdbcx.JdbcConnectionPool;
+
+/**
+ * Save repository backed by an embedded H2 database. Each save is one {@code player_save} row,
+ * keyed by player and save slot, plus rows in child tables for the inventory, equipment, solved
+ * puzzles, visited rooms and the changed rooms, monsters and puzzles of the world delta. Saves are
+ * written in a single transaction with prepared statements, and the child rows are inserted as JDBC
+ * batches. Connections come from a small pool so concurrent sessions do not open one each. Saves
+ * are listed from the {@code player_save} rows alone.
+ *
+ * <p>A database created before save slots existed is upgraded when it is opened: its saves move to
+ * the default slot. {@link #migrateFrom(Path)} imports the files written by {@link
+ * FileSaveRepository}, in either of its formats.
+ */
+public final class H2SaveRepository implements SaveRepository, AutoCloseable {
+  /** Default maximum number of pooled connections. */
+  public static final int DEFAULT_MAX_CONNECTIONS = 4;
+
+  private static final String MIGRATED_SUFFIX = ".migrated";
+
+  /** Save slot column of the child tables, with the reference to the owning save. */
+  private static final String SAVE_SLOT_COLUMN =
+      "save_slot VARCHAR(32) NOT NULL, "
+          + "FOREIGN KEY (player_id, save_slot) REFERENCES player_save (player_id, save_slot)"
+          + " ON DELETE CASCADE, ";
+
+  // save_slot is the last column of every table, so pre-slot rows copy over with SELECT *
+  private static final String[] SCHEMA = {
+    "CREATE TABLE IF NOT EXISTS player_save ("
+        + "player_id UUID NOT NULL, "
+        + "world_version VARCHAR(255) NOT NULL, "
+        + "player_name VARCHAR(255) NOT NULL, "
+        + "room_id VARCHAR(255) NOT NULL, "
+        + "score INT NOT NULL, "
+        + "current_health INT NOT NULL, "
+        + "max_health INT NOT NULL, "
+        + "base_attack INT NOT NULL, "
+        + "base_defense INT NOT NULL, "
+        + "saved_at TIMESTAMP WITH TIME ZONE NOT NULL, "
+        + "save_slot VARCHAR(32) NOT NULL, "
+        + "PRIMARY KEY (player_id, save_slot))",
+    "CREATE INDEX IF NOT EXISTS player_save_saved_at ON player_save (saved_at)",
+    "CREATE TABLE IF NOT EXISTS save_inventory ("
+        + "player_id UUID NOT NULL, "
+        + "seq_no INT NOT NULL, "
+        + "item_id VARCHAR(255) NOT NULL, "
+        + SAVE_SLOT_COLUMN
+        + "PRIMARY KEY (player_id, save_slot, seq_no))",
+    "CREATE TABLE IF NOT EXISTS save_equipment ("
+        + "player_id UUID NOT NULL, "
+        + "slot VARCHAR(32) NOT NULL, "
+        + "item_id VARCHAR(255) NOT NULL, "
+        + SAVE_SLOT_COLUMN
+        + "PRIMARY KEY (player_id, save_slot, slot))",
+    "CREATE TABLE IF NOT EXISTS save_solved_puzzle ("
+        + "player_id UUID NOT NULL, "
+        + "seq_no INT NOT NULL, "
+        + "puzzle_id VARCHAR(255) NOT NULL, "
+        + SAVE_SLOT_COLUMN
+        + "PRIMARY KEY (player_id, save_slot, seq_no))",
+    "CREATE TABLE IF NOT EXISTS save_visited_room ("
+        + "player_id UUID NOT NULL, "
+        + "seq_no INT NOT NULL, "
+        + "room_id VARCHAR(255) NOT NULL, "
+        + SAVE_SLOT_COLUMN
+        + "PRIMARY KEY (player_id, save_slot, seq_no))",
+    "CREATE TABLE IF NOT EXISTS save_room_state ("
+        + "player_id UUID NOT NULL, "
+        + "room_id VARCHAR(255) NOT NULL, "
+        + "item_ids VARCHAR(255) ARRAY NOT NULL, "
+        + SAVE_SLOT_COLUMN
+        + "PRIMARY KEY (player_id, save_slot, room_id))",
+    "CREATE TABLE IF NOT EXISTS save_monster_state ("
+        + "player_id UUID NOT NULL, "
+        + "monster_id VARCHAR(255) NOT NULL, "
+        + "current_health INT NOT NULL, "
+        + SAVE_SLOT_COLUMN
+        + "PRIMARY KEY (player_id, save_slot, monster_id))",
+    "CREATE TABLE IF NOT EXISTS save_puzzle_state ("
+        + "player_id UUID NOT NULL, "
+        + "puzzle_id VARCHAR(255) NOT NULL, "
+        + "phase VARCHAR(32) NOT NULL, "
+        + "attempts_left INT NOT NULL, "
+        + SAVE_SLOT_COLUMN
+        + "PRIMARY KEY (player_id, save_slot, puzzle_id))"
+  };
+
+  private static final String MERGE_PLAYER =
+      "MERGE INTO player_save (player_id, save_slot, world_version, player_name, room_id, score,"
+          + " current_health, max_health, base_attack, base_defense, saved_at)"
+          + " KEY (player_id, save_slot) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String SELECT_PLAYER =
+      "SELECT world_version, player_name, room_id, score, current_health, max_health,"
+          + " base_attack, base_defense, saved_at FROM player_save"
+          + " WHERE player_id = ? AND save_slot = ?";
+  private static final String SELECT_SAVED_AT =
+      "SELECT saved_at FROM player_save WHERE player_id = ? AND save_slot = ?";
+  private static final String SELECT_SUMMARIES =
+      "SELECT player_id, save_slot, saved_at, world_version, room_id FROM player_save";
+  private static final String NEWEST_FIRST = " ORDER BY saved_at DESC";
+  private static final String HAS_SAVE_SLOT =
+      "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS"
+          + " WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = 'PLAYER_SAVE'"
+          + " AND COLUMN_NAME = 'SAVE_SLOT'";
+  private static final String HAS_PLAYER_SAVE =
+      "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES"
+          + " WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = 'PLAYER_SAVE'";
+
+  /** Every table, the parent first. */
+  private static final String[] TABLES = {
+    "player_save",
+    "save_inventory",
+    "save_equipment",
+    "save_solved_puzzle",
+    "save_visited_room",
+    "save_room_state",
+    "save_monster_state",
+    "save_puzzle_state"
+  };
+
+  private static final String[] CHILD_TABLES = {
+    "save_inventory",
+    "save_equipment",
+    "save_solved_puzzle",
+    "save_visited_room",
+    "save_room_state",
+    "save_monster_state",
+    "save_puzzle_state"
+  };
+
+  /** Ordered list tables: table name and value column. */
+  private static final String[][] LIST_TABLES = {
+    {"save_inventory", "item_id"},
+    {"save_solved_puzzle", "puzzle_id"},
+    {"save_visited_room", "room_id"}
+  };
+
+  private final JdbcConnectionPool pool;
+
+  /**
+   * Opens an H2 database in the given save directory with the default pool size.
+   *
+   * @param baseDirectory the save directory; the database files are named {@code saves.*}
+   * @return the repository
+   * @throws IllegalStateException if the database cannot be opened
+   */
+  public static H2SaveRepository inDirectory(Path baseDirectory) {
+    Path database = baseDirectory.toAbsolutePath().resolve("saves");
+    return new H2SaveRepository("jdbc:h2:file:" + database, DEFAULT_MAX_CONNECTIONS);
+  }
+
+  /**
+   * Opens the database at the given JDBC URL and creates the schema if it does not exist yet.
+   *
+   * @param jdbcUrl H2 JDBC URL, e.g. {@code jdbc:h2:file:/var/game/saves}
+   * @param maxConnections maximum number of pooled connections
+   * @throws IllegalStateException if the database cannot be opened
+   * @throws IllegalArgumentException if maxConnections is not positive
+   */
+  public H2SaveRepository(String jdbcUrl, int maxConnections) {
+    Objects.requireNonNull(jdbcUrl, "jdbcUrl cannot be null");
+    if (maxConnections <= 0) {
+      throw new IllegalArgumentException("maxConnections must be positive: " + maxConnections);
+    }
+    this.pool = JdbcConnectionPool.create(jdbcUrl, "sa", "");
+    pool.setMaxConnections(maxConnections);
+    try (Connection conn = pool.getConnection();
+        Statement statement = conn.createStatement()) {
+      // a database from before save slots: set its tables aside and copy them into the new ones
+      boolean addSlots =
+          count(statement, HAS_PLAYER_SAVE) > 0 && count(statement, HAS_SAVE_SLOT) == 0;
+      if (addSlots) {
+        for (String table : TABLES) {
+          statement.execute("ALTER TABLE IF EXISTS " + table + " RENAME TO " + table + "_v1");
+        }
+      }
+      for (String ddl : SCHEMA) {
+        statement.execute(ddl);
+      }
+      if (addSlots) {
+        moveToDefaultSlot(statement);
+      }
+    } catch (SQLException e) {
+      pool.dispose();
+      throw new IllegalStateException("Failed to open save database " + jdbcUrl, e);
+    }
+  }
+
+  /**
+   * Finds the save data in the default slot for a player by their ID.
+   *
+   * @param id the player's UUID
+   * @return an Optional containing the SaveData if found, or empty if not found
+   * @throws IllegalStateException if the database cannot be read
+   */
+  @Override
+  public Optional<SaveData> findByPlayerId(UUID id) {
+    return find(id, SaveData.DEFAULT_SLOT);
+  }
+
+  /**
+   * Finds the save data in a slot for a player.
+   *
+   * @param id the player's UUID
+   * @param slot the save slot
+   * @return an Optional containing the SaveData if found, or empty if not found
+   * @throws IllegalStateException if the database cannot be read
+   */
+  @Override
+  public Optional<SaveData> find(UUID id, String slot) {
+    try (Connection conn = pool.getConnection()) {
+      return find(conn, id, slot);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to read save for player ID: " + id, e);
+    }
+  }
+
+  /**
+   * Lists a player's saves, most recent first.
+   *
+   * @param id the player's UUID
+   * @return the summaries of the player's saves
+   * @throws IllegalStateException if the database cannot be read
+   */
+  @Override
+  public List<SaveSummary> list(UUID id) {
+    return summaries(SELECT_SUMMARIES + " WHERE player_id = ?" + NEWEST_FIRST, id);
+  }
+
+  /**
+   * Finds a player's most recent save.
+   *
+   * @param id the player's UUID
+   * @return an Optional containing the latest save's summary, or empty if there is none
+   * @throws IllegalStateException if the database cannot be read
+   */
+  @Override
+  public Optional<SaveSummary> latest(UUID id) {
+    String sql = SELECT_SUMMARIES + " WHERE player_id = ?" + NEWEST_FIRST + " LIMIT 1";
+    return summaries(sql, id).stream().findFirst();
+  }
+
+  /**
+   * Lists every save in the database, most recent first.
+   *
+   * @return the summaries of all saves
+   * @throws IllegalStateException if the database cannot be read
+   */
+  @Override
+  public List<SaveSummary> listAll() {
+    return summaries(SELECT_SUMMARIES + NEWEST_FIRST, null);
+  }
+
+  /**
+   * Inserts or updates the save data for a player in one transaction.
+   *
+   * @param data the save data to upsert
+   * @throws IllegalStateException if the save cannot be written
+   */
+  @Override
+  public void upsert(SaveData data) {
+    upsertAll(List.of(data));
+  }
+
+  /**
+   * Inserts or updates several saves in one transaction, batching every statement across them. If
+   * the list holds more than one save for a player and slot, the last one wins.
+   *
+   * @param saves the save data to upsert
+   * @throws IllegalStateException if the saves cannot be written; none of them are applied
+   */
+  @Override
+  public void upsertAll(List<SaveData> saves) {
+    if (saves.isEmpty()) {
+      return;
+    }
+    Map<SaveKey, SaveData> latest = new LinkedHashMap<>();
+    saves.forEach(save -> latest.put(SaveKey.of(save), save));
+    try (Connection conn = pool.getConnection()) {
+      conn.setAutoCommit(false);
+      try {
+        write(conn, List.copyOf(latest.values()));
+        conn.commit();
+      } catch (SQLException | RuntimeException e) {
+        conn.rollback();
+        throw e;
+      } finally {
+        conn.setAutoCommit(true);
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to write " + saves.size() + " save(s)", e);
+    }
+  }
+
+  /**
+   * Imports every {@code .save} and {@code .properties} save in a directory, into the player and
+   * slot recorded in the save. A file is imported unless the database already holds a save for that
+   * player and slot that is at least as recent, and is then renamed with a {@code .migrated} suffix
+   * so later runs skip it. Files that cannot be parsed are left in place.
+   *
+   * @param savesDirectory directory written by {@link FileSaveRepository}
+   * @return the number of saves imported
+   * @throws UncheckedIOException if the directory cannot be listed or a file cannot be renamed
+   * @throws IllegalStateException if the saves cannot be written
+   */
+  public int migrateFrom(Path savesDirectory) {
+    if (!Files.isDirectory(savesDirectory)) {
+      return 0;
+    }
+    List<Path> files;
+    try (Stream<Path> listing = Files.list(savesDirectory)) {
+      files = listing.filter(p -> suffixOf(p) != null).toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to list saves in " + savesDirectory, e);
+    }
+
+    Map<SaveKey, SaveData> imports = new LinkedHashMap<>();
+    List<Path> migrated = new ArrayList<>();
+    try (Connection conn = pool.getConnection()) {
+      for (Path file : files) {
+        SaveData save;
+        try {
+          byte[] bytes = Files.readAllBytes(file);
+          save =
+              suffixOf(file).equals(FileSaveRepository.SAVE_SUFFIX)
+                  ? SaveDataCodec.decode(bytes)
+                  : PropertiesSaveFormat.decode(bytes);
+        } catch (IllegalArgumentException | IOException e) {
+          continue; // not a save file, or unreadable
+        }
+        SaveKey key = SaveKey.of(save);
+        SaveData pending = imports.get(key);
+        Optional<OffsetDateTime> existing = savedAt(conn, save.playerId(), save.slot());
+        if ((existing.isEmpty() || existing.get().toInstant().isBefore(save.savedAt()))
+            && (pending == null || pending.savedAt().isBefore(save.savedAt()))) {
+          imports.put(key, save);
+        }
+        migrated.add(file);
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to read saves for migration", e);
+    }
+
+    upsertAll(List.copyOf(imports.values()));
+    for (Path file : migrated) {
+      try {
+        Files.move(
+            file,
+            file.resolveSibling(file.getFileName() + MIGRATED_SUFFIX),
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to mark " + file + " as migrated", e);
+      }
+    }
+    return imports.size();
+  }
+
+  private static String suffixOf(Path file) {
+    String name = file.getFileName().toString();
+    if (name.endsWith(FileSaveRepository.SAVE_SUFFIX)) {
+      return FileSaveRepository.SAVE_SUFFIX;
+    }
+    return name.endsWith(FileSaveRepository.LEGACY_SUFFIX)
+        ? FileSaveRepository.LEGACY_SUFFIX
+        : null;
+  }
+
+  /** Closes every pooled connection. */
+  @Override
+  public void close() {
+    pool.dispose();
+  }
+
+  private static void write(Connection conn, List<SaveData> saves) throws SQLException {
+    try (PreparedStatement merge = conn.prepareStatement(MERGE_PLAYER)) {
+      for (SaveData save : saves) {
+        merge.setObject(1, save.playerId());
+        merge.setString(2, save.slot());
+        merge.setString(3, save.worldVersion());
+        merge.setString(4, save.playerName());
+        merge.setString(5, save.roomId());
+        merge.setInt(6, save.score());
+        merge.setInt(7, save.currentHealth());
+        merge.setInt(8, save.maxHealth());
+        merge.setInt(9, save.baseAttack());
+        merge.setInt(10, save.baseDefense());
+        merge.setObject(11, OffsetDateTime.ofInstant(save.savedAt(), ZoneOffset.UTC));
+        merge.addBatch();
+      }
+      merge.executeBatch();
+    }
+
+    // child rows are replaced wholesale; saves are small, so this beats diffing them
+    for (String table : CHILD_TABLES) {
+      try (PreparedStatement delete =
+          conn.prepareStatement(
+              "DELETE FROM " + table + " WHERE player_id = ? AND save_slot = ?")) {
+        for (SaveData save : saves) {
+          delete.setObject(1, save.playerId());
+          delete.setString(2, save.slot());
+          delete.addBatch();
+        }
+        delete.executeBatch();
+      }
+    }
+
+    insertList(conn, LIST_TABLES[0], saves, SaveData::itemIds);
+    insertList(conn, LIST_TABLES[1], saves, SaveData::puzzlesSolved);
+    insertList(conn, LIST_TABLES[2], saves, SaveData::roomsVisited);
+    try (PreparedStatement insert =
+        conn.prepareStatement(
+            "INSERT INTO save_equipment (player_id, save_slot, slot, item_id)"
+                + " VALUES (?, ?, ?, ?)")) {
+      for (SaveData save : saves) {
+        for (Map.Entry<String, String> entry : save.equippedItems().entrySet()) {
+          insert.setObject(1, save.playerId());
+          insert.setString(2, save.slot());
+          insert.setString(3, entry.getKey());
+          insert.setString(4, entry.getValue());
+          insert.addBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+    insertWorldDelta(conn, saves);
+  }
+
+  private static void insertWorldDelta(Connection conn, List<SaveData> saves) throws SQLException {
+    try (PreparedStatement rooms =
+            conn.prepareStatement(
+                "INSERT INTO save_room_state (player_id, save_slot, room_id, item_ids)"
+                    + " VALUES (?, ?, ?, ?)");
+        PreparedStatement monsters =
+            conn.prepareStatement(
+                "INSERT INTO save_monster_state (player_id, save_slot, monster_id, current_health)"
+                    + " VALUES (?, ?, ?, ?)");
+        PreparedStatement puzzles =
+            conn.prepareStatement(
+                "INSERT INTO save_puzzle_state"
+                    + " (player_id, save_slot, puzzle_id, phase, attempts_left)"
+                    + " VALUES (?, ?, ?, ?, ?)")) {
+      for (SaveData save : saves) {
+        WorldDelta delta = save.worldDelta();
+        for (Map.Entry<String, List<String>> entry : delta.roomItems().entrySet()) {
+          rooms.setObject(1, save.playerId());
+          rooms.setString(2, save.slot());
+          rooms.setString(3, entry.getKey());
+          rooms.setObject(4, entry.getValue().toArray(String[]::new));
+          rooms.addBatch();
+        }
+        for (Map.Entry<String, Integer> entry : delta.monsterHealth().entrySet()) {
+          monsters.setObject(1, save.playerId());
+          monsters.setString(2, save.slot());
+          monsters.setString(3, entry.getKey());
+          monsters.setInt(4, entry.getValue());
+          monsters.addBatch();
+        }
+        for (Map.Entry<String, WorldDelta.PuzzleState> entry : delta.puzzles().entrySet()) {
+          puzzles.setObject(1, save.playerId());
+          puzzles.setString(2, save.slot());
+          puzzles.setString(3, entry.getKey());
+          puzzles.setString(4, entry.getValue().phase().name());
+          puzzles.setInt(5, entry.getValue().attemptsLeft());
+          puzzles.addBatch();
+        }
+      }
+      rooms.executeBatch();
+      monsters.executeBatch();
+      puzzles.executeBatch();
+    }
+  }
+
+  private static void insertList(
+      Connection conn,
+      String[] table,
+      List<SaveData> saves,
+      Function<SaveData, List<String>> values)
+      throws SQLException {
+    String sql =
+        "INSERT INTO "
+            + table[0]
+            + " (player_id, save_slot, seq_no, "
+            + table[1]
+            + ") VALUES (?, ?, ?, ?)";
+    try (PreparedStatement insert = conn.prepareStatement(sql)) {
+      for (SaveData save : saves) {
+        List<String> list = values.apply(save);
+        for (int i = 0; i < list.size(); i++) {
+          insert.setObject(1, save.playerId());
+          insert.setString(2, save.slot());
+          insert.setInt(3, i);
+          insert.setString(4, list.get(i));
+          insert.addBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+  }
+
+  private static Optional<SaveData> find(Connection conn, UUID id, String slot)
+      throws SQLException {
+    try (PreparedStatement select = conn.prepareStatement(SELECT_PLAYER)) {
+      select.setObject(1, id);
+      select.setString(2, slot);
+      try (ResultSet row = select.executeQuery()) {
+        if (!row.next()) {
+          return Optional.empty();
+        }
+        return Optional.of(
+            new SaveData(
+                row.getString("world_version"),
+                id,
+                row.getString("player_name"),
+                row.getString("room_id"),
+                selectList(conn, LIST_TABLES[0], id, slot),
+                selectEquipment(conn, id, slot),
+                row.getInt("score"),
+                row.getInt("current_health"),
+                row.getInt("max_health"),
+                row.getInt("base_attack"),
+                row.getInt("base_defense"),
+                selectList(conn, LIST_TABLES[1], id, slot),
+                selectList(conn, LIST_TABLES[2], id, slot),
+                row.getObject("saved_at", OffsetDateTime.class).toInstant(),
+                selectWorldDelta(conn, id, slot),
+                slot));
+      }
+    }
+  }
+
+  private static List<String> selectList(Connection conn, String[] table, UUID id, String slot)
+      throws SQLException {
+    try (PreparedStatement select =
+        conn.prepareStatement(
+            "SELECT "
+                + table[1]
+                + " FROM "
+                + table[0]
+                + " WHERE player_id = ? AND save_slot = ? ORDER BY seq_no")) {
+      select.setObject(1, id);
+      select.setString(2, slot);
+      try (ResultSet rows = select.executeQuery()) {
+        List<String> values = new ArrayList<>();
+        while (rows.next()) {
+          values.add(rows.getString(1));
+        }
+        return List.copyOf(values);
+      }
+    }
+  }
+
+  private static Map<String, String> selectEquipment(Connection conn, UUID id, String slot)
+      throws SQLException {
+    try (PreparedStatement select =
+        conn.prepareStatement(
+            "SELECT slot, item_id FROM save_equipment WHERE player_id = ? AND save_slot = ?")) {
+      select.setObject(1, id);
+      select.setString(2, slot);
+      try (ResultSet rows = select.executeQuery()) {
+        Map<String, String> equipped = new HashMap<>();
+        while (rows.next()) {
+          equipped.put(rows.getString(1), rows.getString(2));
+        }
+        return equipped;
+      }
+    }
+  }
+
+  private static WorldDelta selectWorldDelta(Connection conn, UUID id, String slot)
+      throws SQLException {
+    Map<String, List<String>> roomItems = new HashMap<>();
+    try (PreparedStatement select =
+        conn.prepareStatement(
+            "SELECT room_id, item_ids FROM save_room_state"
+                + " WHERE player_id = ? AND save_slot = ?")) {
+      select.setObject(1, id);
+      select.setString(2, slot);
+      try (ResultSet rows = select.executeQuery()) {
+        while (rows.next()) {
+          Array itemIds = rows.getArray(2);
+          List<String> items = new ArrayList<>();
+          for (Object itemId : (Object[]) itemIds.getArray()) {
+            items.add((String) itemId);
+          }
+          itemIds.free();
+          roomItems.put(rows.getString(1), items);
+        }
+      }
+    }
+    Map<String, Integer> monsterHealth = new HashMap<>();
+    try (PreparedStatement select =
+        conn.prepareStatement(
+            "SELECT monster_id, current_health FROM save_monster_state"
+                + " WHERE player_id = ? AND save_slot = ?")) {
+      select.setObject(1, id);
+      select.setString(2, slot);
+      try (ResultSet rows = select.executeQuery()) {
+        while (rows.next()) {
+          monsterHealth.put(rows.getString(1), rows.getInt(2));
+        }
+      }
+    }
+    Map<String, WorldDelta.PuzzleState> puzzles = new HashMap<>();
+    try (PreparedStatement select =
+        conn.prepareStatement(
+            "SELECT puzzle_id, phase, attempts_left FROM save_puzzle_state"
+                + " WHERE player_id = ? AND save_slot = ?")) {
+      select.setObject(1, id);
+      select.setString(2, slot);
+      try (ResultSet rows = select.executeQuery()) {
+        while (rows.next()) {
+          puzzles.put(
+              rows.getString(1),
+              new WorldDelta.PuzzleState(PuzzlePhase.valueOf(rows.getString(2)), rows.getInt(3)));
+        }
+      }
+    }
+    return new WorldDelta(roomItems, monsterHealth, puzzles);
+  }
+
+  private static Optional<OffsetDateTime> savedAt(Connection conn, UUID id, String slot)
+      throws SQLException {
+    try (PreparedStatement select = conn.prepareStatement(SELECT_SAVED_AT)) {
+      select.setObject(1, id);
+      select.setString(2, slot);
+      try (ResultSet row = select.executeQuery()) {
+        return row.next()
+            ? Optional.of(row.getObject(1, OffsetDateTime.class))
+            : Optional.empty();
+      }
+    }
+  }
+
+  /** Runs a summary query, with the player ID as its only parameter if one is given. */
+  private List<SaveSummary> summaries(String sql, UUID playerId) {
+    try (Connection conn = pool.getConnection();
+        PreparedStatement select = conn.prepareStatement(sql)) {
+      if (playerId != null) {
+        select.setObject(1, playerId);
+      }
+      try (ResultSet rows = select.executeQuery()) {
+        List<SaveSummary> summaries = new ArrayList<>();
+        while (rows.next()) {
+          summaries.add(
+              new SaveSummary(
+                  rows.getObject("player_id", UUID.class),
+                  rows.getString("save_slot"),
+                  rows.getObject("saved_at", OffsetDateTime.class).toInstant(),
+                  rows.getString("world_version"),
+                  rows.getString("room_id")));
+        }
+        return summaries;
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to list saves", e);
+    }
+  }
+
+  private static int count(Statement statement, String sql) throws SQLException {
+    try (ResultSet row = statement.executeQuery(sql)) {
+      row.next();
+      return row.getInt(1);
+    }
+  }
+
+  /**
+   * Copies the rows of a database created before save slots into the new tables, in the default
+   * slot, then drops the old tables. Tables added after the database was created have no old copy.
+   */
+  private static void moveToDefaultSlot(Statement statement) throws SQLException {
+    for (String table : TABLES) {
+      String old = table + "_v1";
+      String exists =
+          "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES"
+              + " WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = '"
+              + old.toUpperCase(Locale.ROOT)
+              + "'";
+      if (count(statement, exists) > 0) {
+        statement.execute(
+            "INSERT INTO " + table + " SELECT *, '" + SaveData.DEFAULT_SLOT + "' FROM " + old);
+      }
+    }
+    for (int i = TABLES.length - 1; i >= 0; i--) {
+      statement.execute("DROP TABLE IF EXISTS " + TABLES[i] + "_v1");
+    }
+  }
+
+  /** Identifies one save: a player's slot. */
+  private record SaveKey(UUID playerId, String slot) {
+    static SaveKey of(SaveData save) {
+      return new SaveKey(save.playerId(), save.slot());
+    }
+  }
+}
@@ -0,0 +1,608 @@
+package com.dpandev.client.persistence;
+
+import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.service.SaveSummary;
+import com.dpandev.domain.spi.SaveRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Journaled save repository. Every save is appended as one record to a segmented log under {@code
+ * <baseDirectory>/journal}, so a save costs a single sequential write instead of rewriting a file
+ * per player, and a crash can at worst lose the torn record at the end of the log. A record holds
+ * the save in the same {@link SaveDataCodec} encoding as the per-player save files.
+ *
+ * <p>Durability uses group commit: a save returns once its record has been forced to disk, but
+ * saves that arrive while a force is in progress share the next one. An in-memory index maps each
+ * player and save slot to the location and summary of the latest record, so saves are listed
+ * without reading the log; it is rebuilt by scanning the log on startup. When a segment reaches its
+ * size limit a new one is started, and a background compactor copies the still-live records out of
+ * mostly superseded segments and deletes them.
+ *
+ * <p>Players without a journal record fall back to their per-player save file in the base
+ * directory, so existing saves stay readable and move into the journal on their next save.
+ */
+public final class JournalSaveRepository implements SaveRepository, AutoCloseable {
+  /** Default size at which the active segment is sealed and a new one started. */
+  public static final long DEFAULT_SEGMENT_BYTES = 16L * 1024 * 1024;
+
+  /** Default delay between background compaction runs. */
+  public static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofMinutes(1);
+
+  private static final System.Logger LOG = System.getLogger(JournalSaveRepository.class.getName());
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int MAX_PAYLOAD_BYTES = 1024 * 1024; // recovery treats longer ones as torn
+
+  /** Segments whose live records fill less than this fraction of the file are compacted. */
+  private static final double COMPACTION_THRESHOLD = 0.5;
+
+  private final Path directory;
+  private final long segmentBytes;
+  private final FileSaveRepository legacy;
+  private final Map<UUID, Map<String, Location>> index = new ConcurrentHashMap<>();
+  private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+  private final AtomicLong nextSeq = new AtomicLong(1);
+  private final ScheduledExecutorService compactor;
+
+  private final Object appendLock = new Object();
+  private Segment active; // guarded by appendLock
+  private long appendedTicket; // guarded by appendLock
+
+  private final Object syncLock = new Object();
+  private long durableTicket; // guarded by syncLock
+
+  private final Object compactLock = new Object();
+
+  /**
+   * Opens the journal in the given save directory with the default segment size and compaction
+   * interval, recovering it if the previous run did not shut down cleanly.
+   *
+   * @param baseDirectory the save directory; the journal lives in its {@code journal} subdirectory
+   * @throws UncheckedIOException if the journal cannot be opened
+   */
+  public JournalSaveRepository(Path baseDirectory) {
+    this(baseDirectory, DEFAULT_SEGMENT_BYTES, DEFAULT_COMPACTION_INTERVAL);
+  }
+
+  /**
+   * Opens the journal in the given save directory.
+   *
+   * @param baseDirectory the save directory; the journal lives in its {@code journal} subdirectory
+   * @param segmentBytes size at which the active segment is sealed
+   * @param compactionInterval delay between background compaction runs, or {@link Duration#ZERO} to
+   *     only compact when {@link #compact()} is called
+   * @throws UncheckedIOException if the journal cannot be opened
+   * @throws IllegalArgumentException if segmentBytes is not positive or the interval is negative
+   */
+  public JournalSaveRepository(Path baseDirectory, long segmentBytes, Duration compactionInterval) {
+    Objects.requireNonNull(baseDirectory, "baseDirectory cannot be null");
+    Objects.requireNonNull(compactionInterval, "compactionInterval cannot be null");
+    if (segmentBytes <= 0) {
+      throw new IllegalArgumentException("segmentBytes must be positive: " + segmentBytes);
+    }
+    if (compactionInterval.isNegative()) {
+      throw new IllegalArgumentException("compactionInterval cannot be negative");
+    }
+    this.legacy = new FileSaveRepository(baseDirectory);
+    this.directory = baseDirectory.resolve("journal");
+    this.segmentBytes = segmentBytes;
+    try {
+      Files.createDirectories(directory);
+      recover();
+    } catch (IOException e) {
+      closeSegments();
+      throw new UncheckedIOException("Failed to open save journal in " + directory, e);
+    }
+
+    if (compactionInterval.isZero()) {
+      this.compactor = null;
+    } else {
+      this.compactor =
+          Executors.newSingleThreadScheduledExecutor(
+              Thread.ofPlatform().daemon().name("save-journal-compactor").factory());
+      long millis = compactionInterval.toMillis();
+      compactor.scheduleWithFixedDelay(this::compactQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Finds the save in the default slot for a player, falling back to a legacy per-player save file.
+   *
+   * @param id the player's UUID
+   * @return an Optional containing the SaveData if found, or empty if not found
+   */
+  @Override
+  public Optional<SaveData> findByPlayerId(UUID id) {
+    return find(id, SaveData.DEFAULT_SLOT);
+  }
+
+  /**
+   * Finds the save in a slot for a player, falling back to a legacy per-player save file.
+   *
+   * @param id the player's UUID
+   * @param slot the save slot
+   * @return an Optional containing the SaveData if found, or empty if not found
+   */
+  @Override
+  public Optional<SaveData> find(UUID id, String slot) {
+    Location location = locate(id, slot);
+    while (location != null) {
+      try {
+        return Optional.of(SaveDataCodec.decode(read(location)));
+      } catch (ClosedChannelException e) {
+        // the segment was compacted away after the lookup; the index already points at the copy
+        Location moved = locate(id, slot);
+        if (moved == location) {
+          throw new UncheckedIOException("Save journal is closed", e);
+        }
+        location = moved;
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to read save for player ID: " + id, e);
+      }
+    }
+    return legacy.find(id, slot);
+  }
+
+  /**
+   * Lists a player's saves from the index, most recent first. Legacy saves are included for slots
+   * the player has not saved to since the journal was introduced.
+   *
+   * @param id the player's UUID
+   * @return the summaries of the player's saves
+   */
+  @Override
+  public List<SaveSummary> list(UUID id) {
+    Map<String, Location> slots = index.getOrDefault(id, Map.of());
+    List<SaveSummary> summaries = new ArrayList<>();
+    slots.values().forEach(location -> summaries.add(location.summary()));
+    for (SaveSummary old : legacy.list(id)) {
+      if (!slots.containsKey(old.slot())) {
+        summaries.add(old);
+      }
+    }
+    summaries.sort(SaveSummary.NEWEST_FIRST);
+    return summaries;
+  }
+
+  /**
+   * Lists every save from the index, most recent first, including legacy saves not yet replaced by
+   * a journal record.
+   *
+   * @return the summaries of all saves
+   */
+  @Override
+  public List<SaveSummary> listAll() {
+    List<SaveSummary> summaries = new ArrayList<>();
+    index.values().forEach(slots -> slots.values().forEach(l -> summaries.add(l.summary())));
+    for (SaveSummary old : legacy.listAll()) {
+      if (locate(old.playerId(), old.slot()) == null) {
+        summaries.add(old);
+      }
+    }
+    summaries.sort(SaveSummary.NEWEST_FIRST);
+    return summaries;
+  }
+
+  /**
+   * Appends the save to the journal and waits until it is durable.
+   *
+   * @param data the save data to upsert
+   * @throws IllegalArgumentException if the encoded save is larger than a record may be
+   * @throws UncheckedIOException if the record cannot be written or forced to disk
+   */
+  @Override
+  public void upsert(SaveData data) {
+    try {
+      appendDurably(List.of(data));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write save for player ID: " + data.playerId(), e);
+    }
+  }
+
+  /**
+   * Appends several saves and waits once for all of them to be durable, so a batch costs one force
+   * however many saves it holds.
+   *
+   * @param saves the save data to upsert, in order
+   * @throws IllegalArgumentException if any encoded save is larger than a record may be; none of
+   *     the saves is written then
+   * @throws UncheckedIOException if a record cannot be written or forced to disk
+   */
+  @Override
+  public void upsertAll(List<SaveData> saves) {
+    try {
+      appendDurably(saves);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write " + saves.size() + " save(s)", e);
+    }
+  }
+
+  /**
+   * Rewrites every sealed segment whose live records fill less than half of it: the live records
+   * are appended to the active segment and the old segment is deleted. Segments still holding
+   * records that are not yet in the index are left for a later run. Runs in the background on the
+   * configured interval; calling it directly is safe.
+   *
+   * @return the number of segments deleted
+   * @throws UncheckedIOException if a segment cannot be rewritten
+   */
+  public int compact() {
+    synchronized (compactLock) {
+      long activeId;
+      synchronized (appendLock) {
+        activeId = active.id;
+      }
+      // segments before the active one are sealed, so their unpublished count can only fall
+      List<Segment> candidates = new ArrayList<>();
+      for (Segment segment : segments.headMap(activeId).values()) {
+        if (segment.unpublished.get() == 0
+            && segment.liveBytes.get() < segment.size * COMPACTION_THRESHOLD) {
+          candidates.add(segment);
+        }
+      }
+      if (candidates.isEmpty()) {
+        return 0;
+      }
+
+      List<Appended> copies = new ArrayList<>();
+      try {
+        for (Map<String, Location> slots : index.values()) {
+          for (Location location : slots.values()) {
+            if (candidates.contains(location.segment())) {
+              copies.add(append(location.seq(), read(location), location.summary()));
+            }
+          }
+        }
+        if (!copies.isEmpty()) {
+          awaitDurable(copies.getLast().ticket());
+        }
+        copies.forEach(copy -> publish(copy.location()));
+
+        synchronized (syncLock) {
+          for (Segment segment : candidates) {
+            segments.remove(segment.id);
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to compact save journal in " + directory, e);
+      } finally {
+        release(copies);
+      }
+      return candidates.size();
+    }
+  }
+
+  /**
+   * Gets the number of journal segments, including the active one.
+   *
+   * @return the segment count
+   */
+  public int segmentCount() {
+    return segments.size();
+  }
+
+  /**
+   * Stops the compactor and closes the journal. Every completed save is already durable.
+   *
+   * @throws UncheckedIOException if the active segment cannot be forced
+   */
+  @Override
+  public void close() {
+    if (compactor != null) {
+      compactor.shutdownNow();
+    }
+    synchronized (compactLock) {
+      synchronized (syncLock) {
+        try {
+          synchronized (appendLock) {
+            active.channel.force(false);
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException("Failed to flush save journal in " + directory, e);
+        } finally {
+          closeSegments();
+        }
+      }
+    }
+  }
+
+  /**
+   * Scans every segment in order to rebuild the index. A torn or corrupt record ends its segment:
+   * it and everything after it in that segment are truncated, so appends to the last segment
+   * continue from its last good record.
+   */
+  private void recover() throws IOException {
+    List<Path> files;
+    try (Stream<Path> listing = Files.list(directory)) {
+      files =
+          listing
+              .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX))
+              .filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+              .sorted()
+              .toList();
+    }
+
+    long maxSeq = 0;
+    for (Path file : files) {
+      Segment segment = Segment.open(file, segmentId(file));
+      segments.put(segment.id, segment);
+      long validEnd = 0;
+      ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+      while (true) {
+        header.clear();
+        if (segment.channel.read(header, validEnd) < HEADER_BYTES) {
+          break;
+        }
+        header.flip();
+        int length = header.getInt();
+        int crc = header.getInt();
+        long seq = header.getLong();
+        if (length < 0 || length > MAX_PAYLOAD_BYTES) {
+          break;
+        }
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        if (segment.channel.read(payload, validEnd + HEADER_BYTES) < length
+            || crc != checksum(seq, payload.array())) {
+          break;
+        }
+        SaveSummary summary = SaveSummary.of(SaveDataCodec.decode(payload.array()));
+        publish(new Location(seq, segment, validEnd, HEADER_BYTES + length, summary));
+        maxSeq = Math.max(maxSeq, seq);
+        validEnd += HEADER_BYTES + length;
+      }
+      if (validEnd < segment.channel.size()) {
+        LOG.log(
+            System.Logger.Level.WARNING,
+            "Discarding {0} bytes of torn or corrupt records in {1}",
+            segment.channel.size() - validEnd,
+            file);
+        segment.channel.truncate(validEnd);
+      }
+      segment.size = validEnd;
+    }
+    nextSeq.set(maxSeq + 1);
+
+    synchronized (appendLock) {
+      active = segments.isEmpty() ? newSegment(1) : segments.lastEntry().getValue();
+    }
+  }
+
+  /**
+   * Appends saves, waits once for all of them to be durable and points the index at them. Records
+   * stay counted as unpublished in their segment until then, so the compactor cannot delete a
+   * segment holding a save the index does not know about yet.
+   */
+  private void appendDurably(List<SaveData> saves) throws IOException {
+    List<byte[]> payloads = new ArrayList<>(saves.size());
+    for (SaveData data : saves) {
+      byte[] payload = SaveDataCodec.encode(data);
+      if (payload.length > MAX_PAYLOAD_BYTES) {
+        throw new IllegalArgumentException(
+            "Save for player ID "
+                + data.playerId()
+                + " is "
+                + payload.length
+                + " bytes, more than the journal's limit of "
+                + MAX_PAYLOAD_BYTES);
+      }
+      payloads.add(payload);
+    }
+
+    List<Appended> batch = new ArrayList<>(saves.size());
+    try {
+      for (int i = 0; i < saves.size(); i++) {
+        SaveData data = saves.get(i);
+        batch.add(append(nextSeq.getAndIncrement(), payloads.get(i), SaveSummary.of(data)));
+      }
+      if (!batch.isEmpty()) {
+        awaitDurable(batch.getLast().ticket());
+      }
+      batch.forEach(appended -> publish(appended.location()));
+    } finally {
+      release(batch);
+    }
+  }
+
+  /**
+   * Appends one framed record to the active segment, sealing it first if the record would not fit.
+   * The record counts as unpublished in its segment until it is passed to {@link #release}.
+   *
+   * @return where the record was written and the ticket to wait on for durability
+   */
+  private Appended append(long seq, byte[] payload, SaveSummary summary) throws IOException {
+    ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+    record.putInt(payload.length).putInt(checksum(seq, payload)).putLong(seq).put(payload).flip();
+    synchronized (appendLock) {
+      if (active.size > 0 && active.size + record.remaining() > segmentBytes) {
+        // sealed segments are forced here, so a ticket only ever needs the active one forced
+        active.channel.force(false);
+        active = newSegment(active.id + 1);
+      }
+      long offset = active.size;
+      while (record.hasRemaining()) {
+        active.channel.write(record, offset + record.position());
+      }
+      active.size += record.capacity();
+      active.unpublished.incrementAndGet();
+      Location location = new Location(seq, active, offset, record.capacity(), summary);
+      return new Appended(location, ++appendedTicket);
+    }
+  }
+
+  /**
+   * Waits until the record with the given ticket is on disk. The first waiter forces everything
+   * appended so far; waiters that queued up behind it usually find their record already covered.
+   */
+  private void awaitDurable(long ticket) throws IOException {
+    synchronized (syncLock) {
+      if (durableTicket >= ticket) {
+        return;
+      }
+      Segment segment;
+      long target;
+      synchronized (appendLock) {
+        segment = active;
+        target = appendedTicket;
+      }
+      segment.channel.force(false);
+      durableTicket = target;
+    }
+  }
+
+  /** Gets where the latest record for a player's slot lives, or null if there is none. */
+  private Location locate(UUID playerId, String slot) {
+    Map<String, Location> slots = index.get(playerId);
+    return slots == null ? null : slots.get(slot);
+  }
+
+  /**
+   * Points the index at a record unless its player and slot already have a newer one. A record with
+   * the same sequence number is a compacted copy and replaces the original.
+   */
+  private void publish(Location location) {
+    SaveSummary summary = location.summary();
+    index
+        .computeIfAbsent(summary.playerId(), id -> new ConcurrentHashMap<>())
+        .compute(
+            summary.slot(),
+            (slot, current) -> {
+              if (current != null && current.seq() > location.seq()) {
+                return current;
+              }
+              if (current != null) {
+                current.segment().liveBytes.addAndGet(-current.length());
+              }
+              location.segment().liveBytes.addAndGet(location.length());
+              return location;
+            });
+  }
+
+  /** Stops counting appended records as unpublished, whether or not they made it to the index. */
+  private static void release(List<Appended> appended) {
+    appended.forEach(a -> a.location().segment().unpublished.decrementAndGet());
+  }
+
+  private byte[] read(Location location) throws IOException {
+    ByteBuffer payload = ByteBuffer.allocate(location.length() - HEADER_BYTES);
+    long position = location.offset() + HEADER_BYTES;
+    while (payload.hasRemaining()) {
+      if (location.segment().channel.read(payload, position + payload.position()) < 0) {
+        throw new IOException("Save record is truncated in " + location.segment().path);
+      }
+    }
+    return payload.array();
+  }
+
+  private Segment newSegment(long id) throws IOException {
+    String name = String.format("%s%012d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX);
+    Segment segment = Segment.open(directory.resolve(name), id);
+    segments.put(id, segment);
+    return segment;
+  }
+
+  private void compactQuietly() {
+    try {
+      compact();
+    } catch (RuntimeException e) {
+      // keep the schedule alive; the segments are retried on the next run
+      LOG.log(System.Logger.Level.WARNING, "Save journal compaction failed", e);
+    }
+  }
+
+  private void closeSegments() {
+    for (Segment segment : segments.values()) {
+      try {
+        segment.channel.close();
+      } catch (IOException e) {
+        // nothing left to flush; closing is best effort
+      }
+    }
+  }
+
+  private static long segmentId(Path file) {
+    String name = file.getFileName().toString();
+    return Long.parseLong(
+        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  private static int checksum(long seq, byte[] payload) {
+    CRC32C crc = new CRC32C();
+    crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, seq));
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+
+  /**
+   * One log file. The channel is shared by appends and positional reads.
+   *
+   * <p>{@code size} is only written under the append lock, or before the journal is published.
+   * {@code unpublished} counts records appended to the segment that have not yet been released.
+   */
+  private static final class Segment {
+    final long id;
+    final Path path;
+    final FileChannel channel;
+    final AtomicLong liveBytes = new AtomicLong();
+    final AtomicInteger unpublished = new AtomicInteger();
+    volatile long size;
+
+    private Segment(long id, Path path, FileChannel channel) {
+      this.id = id;
+      this.path = path;
+      this.channel = channel;
+    }
+
+    static Segment open(Path path, long id) throws IOException {
+      FileChannel channel =
+          FileChannel.open(
+              path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      return new Segment(id, path, channel);
+    }
+  }
+
+  /**
+   * Where a player's record for one slot lives, and what it holds.
+   *
+   * @param seq sequence number of the save; higher numbers are newer saves
+   * @param segment the segment holding the record
+   * @param offset byte offset of the record header
+   * @param length record length including the header
+   * @param summary the summary of the save, for listing without reading the record
+   */
+  private record Location(
+      long seq, Segment segment, long offset, int length, SaveSummary summary) {}
+
+  /**
+   * A record that has been written but not necessarily forced.
+   *
+   * @param location where the record was written
+   * @param ticket append order, used to wait for durability
+   */
+  private record Appended(Location location, long ticket) {}
+}
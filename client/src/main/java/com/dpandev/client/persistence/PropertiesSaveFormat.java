@@ -0,0 +1,213 @@
+package com.dpandev.client.persistence;
+
+import com.dpandev.domain.model.Puzzle.PuzzlePhase;
+import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.world.WorldDelta;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * The original text save format: a {@link Properties} file with lists joined by commas and
+ * equipment stored as {@code SLOT:itemId} pairs. IDs containing a comma or colon do not survive it,
+ * and it has no save slots: every save reads back in the default slot. {@link FileSaveRepository}
+ * now writes {@link SaveDataCodec} files and only reads this format for saves made before the
+ * switch.
+ */
+public final class PropertiesSaveFormat {
+  private static final String ROOM_ITEMS_PREFIX = "world.room.";
+  private static final String MONSTER_HEALTH_PREFIX = "world.monster.";
+  private static final String PUZZLE_PREFIX = "world.puzzle.";
+
+  private PropertiesSaveFormat() {}
+
+  /**
+   * Encodes a save as a UTF-8 properties file.
+   *
+   * @param data the save data
+   * @return the file contents
+   */
+  public static byte[] encode(SaveData data) {
+    Properties p = new Properties();
+    p.setProperty("worldVersion", data.worldVersion());
+    p.setProperty("playerId", data.playerId().toString());
+    p.setProperty("playerName", data.playerName());
+    p.setProperty("roomId", data.roomId());
+    p.setProperty("itemIds", String.join(",", data.itemIds()));
+
+    // Save equipped items as "SLOT:itemId" pairs
+    StringBuilder equippedBuilder = new StringBuilder();
+    data.equippedItems()
+        .forEach(
+            (slot, itemId) -> {
+              if (equippedBuilder.length() > 0) {
+                equippedBuilder.append(",");
+              }
+              equippedBuilder.append(slot).append(":").append(itemId);
+            });
+    p.setProperty("equippedItems", equippedBuilder.toString());
+
+    p.setProperty("score", String.valueOf(data.score()));
+    p.setProperty("currentHealth", String.valueOf(data.currentHealth()));
+    p.setProperty("maxHealth", String.valueOf(data.maxHealth()));
+    p.setProperty("baseAttack", String.valueOf(data.baseAttack()));
+    p.setProperty("baseDefense", String.valueOf(data.baseDefense()));
+    p.setProperty("puzzlesSolved", String.join(",", data.puzzlesSolved()));
+    p.setProperty("roomsVisited", String.join(",", data.roomsVisited()));
+    p.setProperty("savedAt", data.savedAt().toString());
+
+    // world changes as one key per changed entity, e.g. "world.puzzle.riddle_1=SOLVED:2"
+    WorldDelta delta = data.worldDelta();
+    delta
+        .roomItems()
+        .forEach((id, items) -> p.setProperty(ROOM_ITEMS_PREFIX + id, String.join(",", items)));
+    delta
+        .monsterHealth()
+        .forEach((id, health) -> p.setProperty(MONSTER_HEALTH_PREFIX + id, String.valueOf(health)));
+    delta
+        .puzzles()
+        .forEach(
+            (id, state) ->
+                p.setProperty(PUZZLE_PREFIX + id, state.phase() + ":" + state.attemptsLeft()));
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+    try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+      p.store(writer, "AdventureTime_save_for_" + data.playerId());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // in-memory stream
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Decodes a UTF-8 properties save. Missing player stats fall back to their defaults.
+   *
+   * @param bytes the file contents
+   * @return the save data
+   * @throws IOException if the file cannot be parsed
+   */
+  public static SaveData decode(byte[] bytes) throws IOException {
+    Properties p = new Properties();
+    try (Reader r =
+        new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+      p.load(r);
+    }
+
+    try {
+      String worldVersion = p.getProperty("worldVersion");
+      UUID uuid = UUID.fromString(p.getProperty("playerId"));
+      String playerName = p.getProperty("playerName");
+      String roomId = p.getProperty("roomId");
+      List<String> itemIds = parseItemIds(p.getProperty("itemIds"));
+      Map<String, String> equippedItems = parseEquippedItems(p.getProperty("equippedItems"));
+
+      // Parse player stats with defaults for backward compatibility
+      int score = Integer.parseInt(p.getProperty("score", "0"));
+      int currentHealth = Integer.parseInt(p.getProperty("currentHealth", "100"));
+      int maxHealth = Integer.parseInt(p.getProperty("maxHealth", "100"));
+      int baseAttack = Integer.parseInt(p.getProperty("baseAttack", "10"));
+      int baseDefense = Integer.parseInt(p.getProperty("baseDefense", "0"));
+
+      List<String> puzzlesSolved = parseItemIds(p.getProperty("puzzlesSolved"));
+      List<String> roomsVisited = parseItemIds(p.getProperty("roomsVisited"));
+
+      Instant savedAt = Instant.parse(p.getProperty("savedAt"));
+      WorldDelta worldDelta = parseWorldDelta(p);
+
+      return new SaveData(
+          worldVersion,
+          uuid,
+          playerName,
+          roomId,
+          itemIds,
+          equippedItems,
+          score,
+          currentHealth,
+          maxHealth,
+          baseAttack,
+          baseDefense,
+          puzzlesSolved,
+          roomsVisited,
+          savedAt,
+          worldDelta,
+          SaveData.DEFAULT_SLOT);
+    } catch (RuntimeException e) {
+      throw new IOException("Malformed properties save", e);
+    }
+  }
+
+  /**
+   * Parses a comma-separated string of item IDs into a list.
+   *
+   * @param itemIdsStr the comma-separated string of item IDs
+   * @return a list of item IDs
+   */
+  private static List<String> parseItemIds(String itemIdsStr) {
+    if (itemIdsStr == null || itemIdsStr.isBlank()) {
+      return List.of();
+    }
+    String[] parts = itemIdsStr.split(",");
+    return List.of(parts);
+  }
+
+  /**
+   * Parses equipped items from "SLOT:itemId,SLOT:itemId" format.
+   *
+   * @param equippedStr the equipped items string
+   * @return a map of slot name to item ID
+   */
+  private static Map<String, String> parseEquippedItems(String equippedStr) {
+    if (equippedStr == null || equippedStr.isBlank()) {
+      return Map.of();
+    }
+
+    Map<String, String> result = new java.util.HashMap<>();
+    String[] pairs = equippedStr.split(",");
+    for (String pair : pairs) {
+      String[] parts = pair.split(":");
+      if (parts.length == 2) {
+        result.put(parts[0], parts[1]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Parses the world changes from the "world.*" keys. Saves written before world changes were
+   * recorded have none, which reads as an unchanged world.
+   *
+   * @param p the save properties
+   * @return the world delta
+   */
+  private static WorldDelta parseWorldDelta(Properties p) {
+    Map<String, List<String>> roomItems = new HashMap<>();
+    Map<String, Integer> monsterHealth = new HashMap<>();
+    Map<String, WorldDelta.PuzzleState> puzzles = new HashMap<>();
+    for (String key : p.stringPropertyNames()) {
+      String value = p.getProperty(key);
+      if (key.startsWith(ROOM_ITEMS_PREFIX)) {
+        roomItems.put(key.substring(ROOM_ITEMS_PREFIX.length()), parseItemIds(value));
+      } else if (key.startsWith(MONSTER_HEALTH_PREFIX)) {
+        monsterHealth.put(key.substring(MONSTER_HEALTH_PREFIX.length()), Integer.parseInt(value));
+      } else if (key.startsWith(PUZZLE_PREFIX)) {
+        String[] parts = value.split(":");
+        puzzles.put(
+            key.substring(PUZZLE_PREFIX.length()),
+            new WorldDelta.PuzzleState(PuzzlePhase.valueOf(parts[0]), Integer.parseInt(parts[1])));
+      }
+    }
+    return new WorldDelta(roomItems, monsterHealth, puzzles);
+  }
+}
@@ -0,0 +1,385 @@
+package com.dpandev.client.persistence;
+
+import com.dpandev.domain.model.Player.EquipmentSlot;
+import com.dpandev.domain.model.Puzzle.PuzzlePhase;
+import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.world.WorldDelta;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Versioned binary encoding of {@link SaveData}. Strings are length-prefixed UTF-8, so IDs may
+ * contain any character; counts and numbers are varints (zigzag for signed values); equipment slots
+ * and puzzle phases are written as enum ordinals, so new constants must only be appended.
+ *
+ * <p>Layout of version 3: format version byte, player UUID (16 bytes), save slot, world version,
+ * player name, room ID, inventory, equipment, score, current and max health, attack, defense,
+ * solved puzzles, visited rooms, saved-at seconds and nanos, then the world delta. Version 1 had no
+ * save slot and is read as the default slot.
+ *
+ * <p>Solved puzzles and visited rooms are sets that can cover a whole world, so from version 3 they
+ * are front-coded: each ID is written as the number of leading UTF-8 bytes it shares with the
+ * previous one, then the rest. Players hold these sets in ID order, where neighbouring IDs share
+ * most of their bytes. Versions 1 and 2 wrote them as plain string lists.
+ */
+public final class SaveDataCodec {
+  /** The format version written by {@link #encode(SaveData)}. */
+  public static final byte FORMAT_VERSION = 3;
+
+  private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+  private static final PuzzlePhase[] PHASES = PuzzlePhase.values();
+
+  private SaveDataCodec() {}
+
+  /**
+   * Encodes a save.
+   *
+   * @param data the save data
+   * @return the encoded bytes
+   * @throws IllegalArgumentException if an equipped item is in an unknown slot, or a solved puzzle
+   *     or visited room ID is null
+   */
+  public static byte[] encode(SaveData data) {
+    Writer out = new Writer(256);
+    out.writeByte(FORMAT_VERSION);
+    out.writeLong(data.playerId().getMostSignificantBits());
+    out.writeLong(data.playerId().getLeastSignificantBits());
+    out.writeString(data.slot());
+    out.writeString(data.worldVersion());
+    out.writeString(data.playerName());
+    out.writeString(data.roomId());
+    out.writeStrings(data.itemIds());
+    out.writeVarInt(data.equippedItems().size());
+    for (Map.Entry<String, String> entry : data.equippedItems().entrySet()) {
+      out.writeVarInt(EquipmentSlot.valueOf(entry.getKey()).ordinal());
+      out.writeString(entry.getValue());
+    }
+    out.writeSignedVarLong(data.score());
+    out.writeSignedVarLong(data.currentHealth());
+    out.writeSignedVarLong(data.maxHealth());
+    out.writeSignedVarLong(data.baseAttack());
+    out.writeSignedVarLong(data.baseDefense());
+    out.writeIdSet(data.puzzlesSolved());
+    out.writeIdSet(data.roomsVisited());
+    out.writeSignedVarLong(data.savedAt().getEpochSecond());
+    out.writeVarInt(data.savedAt().getNano());
+
+    WorldDelta delta = data.worldDelta();
+    out.writeVarInt(delta.roomItems().size());
+    for (Map.Entry<String, List<String>> entry : delta.roomItems().entrySet()) {
+      out.writeString(entry.getKey());
+      out.writeStrings(entry.getValue());
+    }
+    out.writeVarInt(delta.monsterHealth().size());
+    for (Map.Entry<String, Integer> entry : delta.monsterHealth().entrySet()) {
+      out.writeString(entry.getKey());
+      out.writeSignedVarLong(entry.getValue());
+    }
+    out.writeVarInt(delta.puzzles().size());
+    for (Map.Entry<String, WorldDelta.PuzzleState> entry : delta.puzzles().entrySet()) {
+      out.writeString(entry.getKey());
+      out.writeVarInt(entry.getValue().phase().ordinal());
+      out.writeSignedVarLong(entry.getValue().attemptsLeft());
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodes a save written by {@link #encode(SaveData)}.
+   *
+   * @param bytes the encoded bytes
+   * @return the save data
+   * @throws IOException if the bytes are truncated, malformed or of an unknown version
+   */
+  public static SaveData decode(byte[] bytes) throws IOException {
+    Reader in = new Reader(bytes);
+    byte version = in.readByte();
+    if (version < 1 || version > FORMAT_VERSION) {
+      throw new IOException("Unsupported save format version: " + version);
+    }
+    UUID playerId = new UUID(in.readLong(), in.readLong());
+    String slot = version == 1 ? SaveData.DEFAULT_SLOT : in.readString();
+    String worldVersion = in.readString();
+    String playerName = in.readString();
+    String roomId = in.readString();
+    List<String> itemIds = in.readStrings();
+    int equippedCount = in.readCount();
+    Map<String, String> equippedItems = new HashMap<>();
+    for (int i = 0; i < equippedCount; i++) {
+      equippedItems.put(in.readEnum(SLOTS).name(), in.readString());
+    }
+    int score = in.readSignedInt();
+    int currentHealth = in.readSignedInt();
+    int maxHealth = in.readSignedInt();
+    int baseAttack = in.readSignedInt();
+    int baseDefense = in.readSignedInt();
+    List<String> puzzlesSolved = version < 3 ? in.readStrings() : in.readIdSet();
+    List<String> roomsVisited = version < 3 ? in.readStrings() : in.readIdSet();
+    Instant savedAt = Instant.ofEpochSecond(in.readSignedVarLong(), in.readVarInt());
+
+    int roomCount = in.readCount();
+    Map<String, List<String>> roomItems = new HashMap<>();
+    for (int i = 0; i < roomCount; i++) {
+      roomItems.put(in.readString(), in.readStrings());
+    }
+    int monsterCount = in.readCount();
+    Map<String, Integer> monsterHealth = new HashMap<>();
+    for (int i = 0; i < monsterCount; i++) {
+      monsterHealth.put(in.readString(), in.readSignedInt());
+    }
+    int puzzleCount = in.readCount();
+    Map<String, WorldDelta.PuzzleState> puzzles = new HashMap<>();
+    for (int i = 0; i < puzzleCount; i++) {
+      String id = in.readString();
+      puzzles.put(id, new WorldDelta.PuzzleState(in.readEnum(PHASES), in.readSignedInt()));
+    }
+    if (in.remaining() != 0) {
+      throw new IOException(in.remaining() + " unexpected trailing bytes in save");
+    }
+
+    try {
+      return new SaveData(
+          worldVersion,
+          playerId,
+          playerName,
+          roomId,
+          itemIds,
+          equippedItems,
+          score,
+          currentHealth,
+          maxHealth,
+          baseAttack,
+          baseDefense,
+          puzzlesSolved,
+          roomsVisited,
+          savedAt,
+          new WorldDelta(roomItems, monsterHealth, puzzles),
+          slot);
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Malformed save", e);
+    }
+  }
+
+  /** Growable byte buffer with varint and string writers. */
+  private static final class Writer {
+    private byte[] buffer;
+    private int size;
+
+    Writer(int initialCapacity) {
+      buffer = new byte[initialCapacity];
+    }
+
+    void writeByte(int value) {
+      ensure(1);
+      buffer[size++] = (byte) value;
+    }
+
+    void writeLong(long value) {
+      ensure(Long.BYTES);
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        buffer[size++] = (byte) (value >>> shift);
+      }
+    }
+
+    void writeVarInt(int value) {
+      writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    void writeSignedVarLong(long value) {
+      writeVarLong((value << 1) ^ (value >> 63)); // zigzag, so small negatives stay short
+    }
+
+    void writeVarLong(long value) {
+      ensure(10);
+      while ((value & ~0x7FL) != 0) {
+        buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      buffer[size++] = (byte) value;
+    }
+
+    /** Writes the UTF-8 length plus one, so zero can stand for null. */
+    void writeString(String value) {
+      if (value == null) {
+        writeVarInt(0);
+        return;
+      }
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(bytes.length + 1);
+      ensure(bytes.length);
+      System.arraycopy(bytes, 0, buffer, size, bytes.length);
+      size += bytes.length;
+    }
+
+    void writeStrings(List<String> values) {
+      writeVarInt(values.size());
+      for (String value : values) {
+        writeString(value);
+      }
+    }
+
+    /** Writes non-null IDs front-coded against their predecessor. */
+    void writeIdSet(List<String> ids) {
+      writeVarInt(ids.size());
+      byte[] previous = new byte[0];
+      for (String id : ids) {
+        if (id == null) {
+          throw new IllegalArgumentException("IDs in a set cannot be null");
+        }
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        int shared = Arrays.mismatch(previous, bytes);
+        if (shared < 0) {
+          shared = bytes.length; // a repeated ID
+        }
+        writeVarInt(shared);
+        writeVarInt(bytes.length - shared);
+        ensure(bytes.length - shared);
+        System.arraycopy(bytes, shared, buffer, size, bytes.length - shared);
+        size += bytes.length - shared;
+        previous = bytes;
+      }
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensure(int extra) {
+      if (size + extra > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+      }
+    }
+  }
+
+  /** Bounds-checked reader over an encoded save. */
+  private static final class Reader {
+    private final byte[] bytes;
+    private int position;
+
+    Reader(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    int remaining() {
+      return bytes.length - position;
+    }
+
+    byte readByte() throws IOException {
+      require(1);
+      return bytes[position++];
+    }
+
+    long readLong() throws IOException {
+      require(Long.BYTES);
+      long value = 0;
+      for (int i = 0; i < Long.BYTES; i++) {
+        value = (value << 8) | (bytes[position++] & 0xFF);
+      }
+      return value;
+    }
+
+    long readVarLong() throws IOException {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        byte b = readByte();
+        value |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return value;
+        }
+      }
+      throw new IOException("Malformed varint at offset " + position);
+    }
+
+    int readVarInt() throws IOException {
+      long value = readVarLong();
+      if (value < 0 || value > 0xFFFFFFFFL) {
+        throw new IOException("Varint out of range at offset " + position);
+      }
+      return (int) value;
+    }
+
+    long readSignedVarLong() throws IOException {
+      long value = readVarLong();
+      return (value >>> 1) ^ -(value & 1);
+    }
+
+    int readSignedInt() throws IOException {
+      long value = readSignedVarLong();
+      if (value != (int) value) {
+        throw new IOException("Value out of range at offset " + position);
+      }
+      return (int) value;
+    }
+
+    /** Reads a count, rejecting any that could not fit in the remaining bytes. */
+    int readCount() throws IOException {
+      int count = readVarInt();
+      if (count < 0 || count > remaining()) {
+        throw new IOException("Bad count " + count + " at offset " + position);
+      }
+      return count;
+    }
+
+    String readString() throws IOException {
+      int length = readVarInt();
+      if (length == 0) {
+        return null;
+      }
+      length--;
+      require(length);
+      String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+      position += length;
+      return value;
+    }
+
+    List<String> readStrings() throws IOException {
+      int count = readCount();
+      List<String> values = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        values.add(readString());
+      }
+      return values;
+    }
+
+    List<String> readIdSet() throws IOException {
+      int count = readCount();
+      List<String> values = new ArrayList<>(count);
+      byte[] previous = new byte[0];
+      for (int i = 0; i < count; i++) {
+        int shared = readVarInt();
+        if (shared > previous.length) {
+          throw new IOException("Bad shared prefix " + shared + " at offset " + position);
+        }
+        int suffix = readVarInt();
+        require(suffix);
+        byte[] bytes = Arrays.copyOf(previous, shared + suffix);
+        System.arraycopy(this.bytes, position, bytes, shared, suffix);
+        position += suffix;
+        values.add(new String(bytes, StandardCharsets.UTF_8));
+        previous = bytes;
+      }
+      return values;
+    }
+
+    <E extends Enum<E>> E readEnum(E[] constants) throws IOException {
+      int ordinal = readVarInt();
+      if (ordinal < 0 || ordinal >= constants.length) {
+        throw new IOException("Unknown enum ordinal " + ordinal + " at offset " + position);
+      }
+      return constants[ordinal];
+    }
+
+    private void require(int count) throws IOException {
+      if (count < 0 || count > remaining()) {
+        throw new IOException("Save is truncated at offset " + position);
+      }
+    }
+  }
+}
@@ -0,0 +1,286 @@
+package com.dpandev.client.persistence;
+
+import com.dpandev.domain.service.SaveSummary;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * Index of the saves in a {@link FileSaveRepository} directory, so saves can be listed without
+ * opening every save file. The index is held in memory and backed by an append-only file: each save
+ * appends one record, and the file is rewritten once it holds more superseded records than live
+ * ones.
+ *
+ * <p>A save file is written before its index record, so a crash in between leaves a save the index
+ * does not know about. Opening the index therefore re-reads every save file modified since the
+ * index file was last written, and rebuilds the index from all save files if its last record is
+ * torn. A failed index write is logged rather than failing the save; the next write rewrites the
+ * whole file from memory.
+ *
+ * <p>Each record is {@code [int length][int CRC32C][payload]}, and the payload holds the player
+ * UUID, slot, saved-at seconds and nanos, world version and room ID.
+ */
+final class SaveIndex {
+  /** Name of the index file in the save directory. */
+  static final String FILE_NAME = "saves.idx";
+
+  private static final System.Logger LOG = System.getLogger(SaveIndex.class.getName());
+  private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+
+  private final Path file;
+  private final Map<UUID, Map<String, SaveSummary>> byPlayer = new ConcurrentHashMap<>();
+  private int liveRecords; // guarded by this
+  private int fileRecords; // guarded by this
+  private boolean stale; // guarded by this; the file is missing records held in memory
+
+  private SaveIndex(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Opens the index file and brings it up to date with the save files, or builds it from the save
+   * files if there is none yet or its last record is torn.
+   *
+   * @param file the index file
+   * @param readSaves reads the summaries of the saves in the directory modified at or after the
+   *     given time, or of every save if the time is null
+   * @return the index
+   * @throws IOException if the index cannot be read or written
+   */
+  static SaveIndex open(Path file, Function<FileTime, List<SaveSummary>> readSaves)
+      throws IOException {
+    if (Files.exists(file)) {
+      FileTime written = Files.getLastModifiedTime(file);
+      SaveIndex index = new SaveIndex(file);
+      if (index.load()) {
+        index.reconcile(readSaves.apply(written));
+        return index;
+      }
+      LOG.log(System.Logger.Level.WARNING, "Rebuilding {0} from the save files", file);
+    }
+    SaveIndex index = new SaveIndex(file);
+    readSaves.apply(null).forEach(index::remember);
+    index.rewrite();
+    return index;
+  }
+
+  /**
+   * Records a save, replacing the entry for its player and slot. If the index file cannot be
+   * written the failure is logged and the entry is only kept in memory until the next write.
+   *
+   * @param summary the summary of the save
+   */
+  synchronized void put(SaveSummary summary) {
+    remember(summary);
+    try {
+      if (stale || fileRecords > 2 * liveRecords + 64) {
+        rewrite();
+      } else {
+        Files.write(file, frame(summary), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        fileRecords++;
+      }
+    } catch (IOException e) {
+      stale = true;
+      LOG.log(System.Logger.Level.WARNING, "Failed to update save index " + file, e);
+    }
+  }
+
+  /**
+   * Lists a player's saves, most recent first.
+   *
+   * @param playerId the player's UUID
+   * @return the player's saves
+   */
+  List<SaveSummary> list(UUID playerId) {
+    Map<String, SaveSummary> slots = byPlayer.get(playerId);
+    if (slots == null) {
+      return List.of();
+    }
+    return slots.values().stream().sorted(SaveSummary.NEWEST_FIRST).toList();
+  }
+
+  /**
+   * Finds a player's most recent save.
+   *
+   * @param playerId the player's UUID
+   * @return the latest save, or empty if the player has none
+   */
+  Optional<SaveSummary> latest(UUID playerId) {
+    Map<String, SaveSummary> slots = byPlayer.get(playerId);
+    return slots == null ? Optional.empty() : slots.values().stream().min(SaveSummary.NEWEST_FIRST);
+  }
+
+  /**
+   * Lists every save, most recent first.
+   *
+   * @return all saves
+   */
+  List<SaveSummary> all() {
+    List<SaveSummary> all = new ArrayList<>();
+    byPlayer.values().forEach(slots -> all.addAll(slots.values()));
+    all.sort(SaveSummary.NEWEST_FIRST);
+    return all;
+  }
+
+  /**
+   * Updates the in-memory entry. The slot maps are replaced rather than mutated, so readers need no
+   * lock; writers hold this index's lock, or run before the index is shared.
+   */
+  private void remember(SaveSummary summary) {
+    Map<String, SaveSummary> slots = byPlayer.getOrDefault(summary.playerId(), Map.of());
+    Map<String, SaveSummary> updated = new HashMap<>(slots);
+    if (updated.put(summary.slot(), summary) == null) {
+      liveRecords++;
+    }
+    byPlayer.put(summary.playerId(), Map.copyOf(updated));
+  }
+
+  /**
+   * Adds the saves written after the index file, which a crash kept out of it.
+   *
+   * @param newerSaves the summaries of the saves modified since the index file was written
+   */
+  private void reconcile(List<SaveSummary> newerSaves) throws IOException {
+    boolean changed = false;
+    for (SaveSummary summary : newerSaves) {
+      Map<String, SaveSummary> slots = byPlayer.getOrDefault(summary.playerId(), Map.of());
+      if (!summary.equals(slots.get(summary.slot()))) {
+        remember(summary);
+        changed = true;
+      }
+    }
+    if (changed) {
+      LOG.log(System.Logger.Level.WARNING, "Recovered saves missing from {0}", file);
+      rewrite();
+    }
+  }
+
+  /**
+   * Reads the index file.
+   *
+   * @return false if the file ends in a torn or corrupt record
+   */
+  private boolean load() throws IOException {
+    ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+    int records = 0;
+    while (bytes.remaining() >= HEADER_BYTES) {
+      int length = bytes.getInt(bytes.position());
+      int crc = bytes.getInt(bytes.position() + Integer.BYTES);
+      if (length < 0 || length > bytes.remaining() - HEADER_BYTES) {
+        break;
+      }
+      byte[] payload = new byte[length];
+      bytes.get(bytes.position() + HEADER_BYTES, payload);
+      if (crc != checksum(payload)) {
+        break;
+      }
+      remember(decode(payload));
+      records++;
+      bytes.position(bytes.position() + HEADER_BYTES + length);
+    }
+    fileRecords = records;
+    if (bytes.hasRemaining()) {
+      LOG.log(
+          System.Logger.Level.WARNING,
+          "Found {0} bytes of torn or corrupt records in {1}",
+          bytes.remaining(),
+          file);
+      return false;
+    }
+    return true;
+  }
+
+  /** Replaces the file with one record per live entry. */
+  private void rewrite() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    int records = 0;
+    for (Map<String, SaveSummary> slots : byPlayer.values()) {
+      for (SaveSummary summary : slots.values()) {
+        out.write(frame(summary));
+        records++;
+      }
+    }
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    Files.write(temp, out.toByteArray());
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    fileRecords = records;
+    stale = false;
+  }
+
+  private static byte[] frame(SaveSummary summary) {
+    byte[] payload = encode(summary);
+    return ByteBuffer.allocate(HEADER_BYTES + payload.length)
+        .putInt(payload.length)
+        .putInt(checksum(payload))
+        .put(payload)
+        .array();
+  }
+
+  private static byte[] encode(SaveSummary summary) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeLong(summary.playerId().getMostSignificantBits());
+      out.writeLong(summary.playerId().getLeastSignificantBits());
+      writeString(out, summary.slot());
+      out.writeLong(summary.savedAt().getEpochSecond());
+      out.writeInt(summary.savedAt().getNano());
+      writeString(out, summary.worldVersion());
+      writeString(out, summary.roomId());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // in-memory stream
+    }
+    return bytes.toByteArray();
+  }
+
+  private static SaveSummary decode(byte[] payload) {
+    ByteBuffer in = ByteBuffer.wrap(payload);
+    UUID playerId = new UUID(in.getLong(), in.getLong());
+    String slot = readString(in);
+    Instant savedAt = Instant.ofEpochSecond(in.getLong(), in.getInt());
+    return new SaveSummary(playerId, slot, savedAt, readString(in), readString(in));
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer in) {
+    int length = in.getInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static int checksum(byte[] payload) {
+    CRC32C crc = new CRC32C();
+    crc.update(payload);
+    return (int) crc.getValue();
+  }
+}
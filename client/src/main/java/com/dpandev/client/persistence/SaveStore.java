@@ -0,0 +1,37 @@
+package com.dpandev.client.persistence;
+
+import com.dpandev.domain.spi.SaveRepository;
+import java.nio.file.Path;
+
+/** The save repository implementations a client or server can be configured to use. */
+public enum SaveStore {
+  /** One binary {@code .save} file per player, rewritten on every save. */
+  FILES,
+
+  /** Append-only segmented journal with group commit and background compaction. */
+  JOURNAL,
+
+  /**
+   * Embedded H2 database in the save directory. Existing per-player save files there are imported
+   * when it is opened.
+   */
+  H2;
+
+  /**
+   * Opens a repository of this kind over the given save directory.
+   *
+   * @param baseDirectory the save directory
+   * @return the repository; close it if it is {@link AutoCloseable}
+   */
+  public SaveRepository open(Path baseDirectory) {
+    return switch (this) {
+      case FILES -> new FileSaveRepository(baseDirectory);
+      case JOURNAL -> new JournalSaveRepository(baseDirectory);
+      case H2 -> {
+        H2SaveRepository repo = H2SaveRepository.inDirectory(baseDirectory);
+        repo.migrateFrom(baseDirectory);
+        yield repo;
+      }
+    };
+  }
+}
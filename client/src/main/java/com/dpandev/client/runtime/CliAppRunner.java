@@ -1,19 +1,16 @@
 package com.dpandev.client.runtime;
 
+import com.dpandev.client.controller.CommandExecutor;
 import com.dpandev.client.controller.FrontController;
 import com.dpandev.client.view.ConsoleView;
 import com.dpandev.domain.command.CommandParser;
 import com.dpandev.domain.service.CommandResult;
 import com.dpandev.domain.service.ExplorationService;
-import com.dpandev.domain.utils.CommandToken;
 import com.dpandev.domain.utils.GameContext;
-import com.dpandev.domain.utils.Verb;
-import java.util.List;
 
 public final class CliAppRunner {
   private final ConsoleView view;
-  private final CommandParser parser;
-  private final FrontController frontController;
+  private final CommandExecutor executor;
   private final ExplorationService explorationService;
   private final GameContext ctx;
 
@@ -24,8 +21,7 @@ public final class CliAppRunner {
       ExplorationService explorationService,
       GameContext ctx) {
     this.view = view;
-    this.parser = parser;
-    this.frontController = frontController;
+    this.executor = new CommandExecutor(parser, frontController);
     this.explorationService = explorationService;
     this.ctx = ctx;
   }
@@ -52,20 +48,8 @@ public final class CliAppRunner {
         return;
       }
 
-      // if awaiting puzzle answer, treat input as puzzle solution and bypass normal command
-      // parsing.
-      // player cannot issue other commands until puzzle is resolved (or max attempts reached).
-      if (ctx.isAwaitingPuzzleAnswer()) {
-        CommandToken solveCmd = new CommandToken(Verb.SOLVE, line, List.of(), line);
-        CommandResult result = frontController.handle(solveCmd, ctx);
-        if (result != null && !result.message().isBlank()) {
-          view.println(result.message());
-        }
-        continue;
-      }
-
-      CommandToken cmd = parser.parse(line);
-      CommandResult result = frontController.handle(cmd, ctx);
+      // puzzle answers bypass command parsing while one is pending; see CommandExecutor
+      CommandResult result = executor.execute(line, ctx);
       if (result != null && !result.message().isBlank()) {
         view.println(result.message());
       }
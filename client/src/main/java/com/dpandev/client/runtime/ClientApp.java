@@ -2,17 +2,20 @@ package com.dpandev.client.runtime;
 
 import com.dpandev.client.controller.CombatController;
 import com.dpandev.client.controller.CommandController;
+import com.dpandev.client.controller.CommandExecutor;
+import com.dpandev.client.controller.CommandExecutor.BatchResult;
 import com.dpandev.client.controller.FrontController;
 import com.dpandev.client.controller.InteractionController;
 import com.dpandev.client.controller.InventoryController;
 import com.dpandev.client.controller.MovementController;
 import com.dpandev.client.controller.SystemController;
-import com.dpandev.client.persistence.FileSaveRepository;
+import com.dpandev.client.persistence.SaveStore;
 import com.dpandev.client.view.ConsoleView;
 import com.dpandev.domain.command.CommandParser;
 import com.dpandev.domain.command.SimpleCommandParser;
 import com.dpandev.domain.model.Player;
 import com.dpandev.domain.service.CombatService;
+import com.dpandev.domain.service.CommandResult;
 import com.dpandev.domain.service.DefaultCombatService;
 import com.dpandev.domain.service.DefaultExplorationService;
 import com.dpandev.domain.service.DefaultInteractionService;
@@ -25,10 +28,19 @@ import com.dpandev.domain.service.MapService;
 import com.dpandev.domain.service.SaveService;
 import com.dpandev.domain.utils.GameContext;
 import com.dpandev.domain.utils.VerbCategory;
+import com.dpandev.domain.world.BinaryWorldLoader;
+import com.dpandev.domain.world.CachingWorldLoader;
 import com.dpandev.domain.world.JsonWorldLoader;
+import com.dpandev.domain.world.ValidatingWorldLoader;
 import com.dpandev.domain.world.World;
 import com.dpandev.domain.world.WorldLoader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Locale;
 import java.util.Map;
 
 /** Main client application entry point. */
@@ -40,10 +52,21 @@ public final class ClientApp {
     // Parse command-line arguments for worldpack selection
     String worldpack = parseWorldpackArg(args);
 
-    WorldLoader loader = new JsonWorldLoader(worldpack);
+    // -Dworldpack.validate=true refuses packs with dangling references before the game starts
+    WorldLoader source = loaderFor(worldpack);
+    if (Boolean.getBoolean("worldpack.validate")) {
+      source = new ValidatingWorldLoader(source);
+    }
+    WorldLoader loader = new CachingWorldLoader(source);
     World world = loader.load();
     Player player = new Player("Player", world.getStartRoomId());
-    GameContext ctx = new GameContext(world, player);
+    // -Dcombat.seed=N replays the fights of an earlier run with the same seed and commands
+    Long seed = Long.getLong("combat.seed");
+    GameContext ctx =
+        seed != null ? new GameContext(world, player, seed) : new GameContext(world, player);
+    // on stderr so script output stays comparable between runs
+    System.err.println(
+        "Combat seed: " + ctx.seed() + " (replay with -Dcombat.seed=" + ctx.seed() + ")");
 
     // init services here
     InteractionService interactionService = new DefaultInteractionService();
@@ -56,14 +79,24 @@ public final class ClientApp {
     // This allows configuration via -Dsaves.dir=/path/to/saves if needed
     String savesPath = System.getProperty("saves.dir", "saves");
     var saveDirectory = Path.of(savesPath).toAbsolutePath();
-    SaveService saveService = new SaveService(new FileSaveRepository(saveDirectory));
+    // -Dsaves.store=journal switches to the append-only save journal
+    SaveStore saveStore =
+        SaveStore.valueOf(System.getProperty("saves.store", "files").toUpperCase(Locale.ROOT));
+    // -Dsaves.queue=N queues up to N saves and writes them in the background
+    int saveQueue = Integer.getInteger("saves.queue", 0);
+    SaveService saveService =
+        saveQueue > 0
+            ? SaveService.writeBehind(saveStore.open(saveDirectory), saveQueue)
+            : new SaveService(saveStore.open(saveDirectory));
+    // QUIT flushes its own save; this covers saves still queued when the JVM is stopped
+    Runtime.getRuntime().addShutdownHook(new Thread(saveService::close, "save-flush"));
 
     // init controllers here
     CommandController movementController = new MovementController(explorationService, mapService);
     CommandController inventoryController = new InventoryController(inventoryService);
     CommandController interactionController = new InteractionController(interactionService);
     CommandController combatController = new CombatController(combatService);
-    CommandController systemController = new SystemController(saveService, view, loader);
+    CommandController systemController = new SystemController(saveService, loader);
 
     // init front controller here and pass controllers as map with verb categories as keys
     FrontController frontController =
@@ -77,10 +110,91 @@ public final class ClientApp {
             systemController // fallback to system controller
             );
 
+    String script = parseScriptArg(args);
+    if (script != null) {
+      runScript(script, new CommandExecutor(parser, frontController), explorationService, ctx);
+      return;
+    }
+
     CliAppRunner runner = new CliAppRunner(view, parser, frontController, explorationService, ctx);
     runner.run();
   }
 
+  /**
+   * Runs every command in a script without the interactive prompt and prints the combined output
+   * once, after the script has finished or a command has ended the game. If reading the script
+   * fails partway, the output of the commands that ran is printed before the error.
+   *
+   * @param script path to a file with one command per line, or "-" for standard input
+   * @param executor executor for the commands
+   * @param explorationService service used for the opening room description
+   * @param ctx the game context
+   */
+  private static void runScript(
+      String script,
+      CommandExecutor executor,
+      ExplorationService explorationService,
+      GameContext ctx) {
+    StringBuilder out = new StringBuilder();
+    CommandResult roomDesc = explorationService.describeCurrentRoom(ctx);
+    if (roomDesc != null && !roomDesc.message().isBlank()) {
+      out.append(roomDesc.message()).append(System.lineSeparator());
+    }
+
+    BatchResult batch = null;
+    IOException failure;
+    try (BufferedReader reader =
+        script.equals("-")
+            ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+            : Files.newBufferedReader(Path.of(script), StandardCharsets.UTF_8)) {
+      batch = executor.executeAll(reader.lines(), ctx);
+      failure = batch.readError();
+    } catch (IOException e) {
+      failure = e; // opening or closing the script failed
+    }
+
+    if (batch != null) {
+      out.append(batch.output());
+      System.out.print(out);
+      System.out.flush();
+    }
+    if (failure != null) {
+      System.err.println("Failed to read script '" + script + "': " + failure.getMessage());
+    }
+  }
+
+  /**
+   * Parses the --script=FILE argument, which runs the game non-interactively.
+   *
+   * @param args command-line arguments
+   * @return the script path, or null to play interactively
+   */
+  private static String parseScriptArg(String[] args) {
+    if (args == null) {
+      return null;
+    }
+    for (String arg : args) {
+      if (arg.startsWith("--script=")) {
+        return arg.substring("--script=".length());
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Picks the loader for a worldpack path. Precompiled packs (see {@link WorldpackTool}) are
+   * memory-mapped from the filesystem; anything else is parsed as JSON.
+   *
+   * @param worldpack path to the worldpack
+   * @return the loader to use
+   */
+  private static WorldLoader loaderFor(String worldpack) {
+    if (worldpack.endsWith(WorldpackTool.BINARY_EXTENSION)) {
+      return new BinaryWorldLoader(Path.of(worldpack));
+    }
+    return new JsonWorldLoader(worldpack);
+  }
+
   /**
    * Parses command-line arguments to determine which worldpack to load.
    *
@@ -0,0 +1,98 @@
+package com.dpandev.client.runtime;
+
+import com.dpandev.domain.world.BinaryWorldCompiler;
+import com.dpandev.domain.world.BinaryWorldLoader;
+import com.dpandev.domain.world.JsonWorldLoader;
+import com.dpandev.domain.world.ValidatingWorldLoader;
+import com.dpandev.domain.world.ValidationReport;
+import com.dpandev.domain.world.WorldTemplate;
+import com.dpandev.domain.world.WorldValidator;
+import java.nio.file.Path;
+
+/**
+ * Command-line entry point for offline worldpack tooling.
+ *
+ * <p>Usage: {@code worldpack compile <input.json> <output.atwp>} or {@code worldpack validate
+ * <pack.json|pack.atwp>}
+ *
+ * <p>Compiling parses a JSON worldpack once, in parallel mode, refuses it if it has errors, and
+ * writes the binary form, which the client loads by memory-mapping instead of parsing on every
+ * start.
+ *
+ * <p>Validating loads a JSON or compiled pack without rejecting anything and reports every broken
+ * reference, every room that cannot be reached from the start room and every room with no way back
+ * to it. It exits with status 1 if the pack has errors.
+ */
+public final class WorldpackTool {
+  /** File extension of compiled binary worldpacks. */
+  public static final String BINARY_EXTENSION = ".atwp";
+
+  private static final int MAX_PRINTED_ISSUES = 100;
+
+  private WorldpackTool() {}
+
+  public static void main(String[] args) {
+    if (args.length == 3 && "compile".equals(args[0])) {
+      compile(args[1], Path.of(args[2]));
+    } else if (args.length == 2 && "validate".equals(args[0])) {
+      if (!validate(args[1])) {
+        System.exit(1);
+      }
+    } else {
+      System.err.println("Usage: worldpack compile <input.json> <output" + BINARY_EXTENSION + ">");
+      System.err.println("       worldpack validate <pack.json|pack" + BINARY_EXTENSION + ">");
+      System.exit(2);
+    }
+  }
+
+  private static void compile(String input, Path output) {
+    long start = System.nanoTime();
+    WorldTemplate template =
+        new ValidatingWorldLoader(new JsonWorldLoader(input, JsonWorldLoader.ParseMode.PARALLEL))
+            .loadTemplate();
+    new BinaryWorldCompiler().compile(template, output);
+    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+    System.out.printf(
+        "Compiled %d rooms, %d items, %d monsters, %d puzzles to %s in %d ms%n",
+        template.getRooms().size(),
+        template.getItems().size(),
+        template.getMonsters().size(),
+        template.getPuzzles().size(),
+        output.toAbsolutePath(),
+        elapsedMs);
+  }
+
+  /**
+   * Validates a pack and prints the findings.
+   *
+   * @param pack path to a JSON or compiled worldpack
+   * @return true if the pack has no errors
+   */
+  private static boolean validate(String pack) {
+    long start = System.nanoTime();
+    WorldTemplate template =
+        pack.endsWith(BINARY_EXTENSION)
+            ? new BinaryWorldLoader(Path.of(pack)).loadTemplate()
+            : new JsonWorldLoader(pack, JsonWorldLoader.ParseMode.STREAMING).loadTemplate();
+    ValidationReport report = new WorldValidator().validate(template);
+    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+    int printed = Math.min(report.issues().size(), MAX_PRINTED_ISSUES);
+    for (ValidationReport.Issue issue : report.issues().subList(0, printed)) {
+      System.out.println(issue.severity() + ": " + issue.message());
+    }
+    if (printed < report.issues().size()) {
+      System.out.println("... and " + (report.issues().size() - printed) + " more");
+    }
+    System.out.printf(
+        "Checked %d rooms in %d ms: %d reachable from the start room, %d strongly connected"
+            + " components, %d errors, %d warnings%n",
+        report.roomCount(),
+        elapsedMs,
+        report.reachableRooms(),
+        report.components(),
+        report.errorCount(),
+        report.warningCount());
+    return report.isValid();
+  }
+}
@@ -0,0 +1,158 @@
+package com.dpandev.client.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.dpandev.client.controller.CommandExecutor.BatchResult;
+import com.dpandev.domain.command.SimpleCommandParser;
+import com.dpandev.domain.service.CommandResult;
+import com.dpandev.domain.utils.CommandToken;
+import com.dpandev.domain.utils.GameContext;
+import com.dpandev.domain.utils.Verb;
+import com.dpandev.domain.utils.VerbCategory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** Unit tests for CommandExecutor. */
+@ExtendWith(MockitoExtension.class)
+class CommandExecutorTest {
+
+  @Mock private GameContext ctx;
+
+  private final List<CommandToken> handled = new ArrayList<>();
+  private CommandExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    CommandController recording =
+        (cmd, c) -> {
+          handled.add(cmd);
+          return switch (cmd.verb()) {
+            case QUIT -> CommandResult.exit("Goodbye!");
+            case STATS -> CommandResult.success("");
+            default -> CommandResult.success(cmd.verb() + " " + cmd.target());
+          };
+        };
+    FrontController frontController =
+        new FrontController(
+            Map.of(
+                VerbCategory.MOVEMENT, recording,
+                VerbCategory.INTERACTION, recording,
+                VerbCategory.SYSTEM, recording),
+            recording);
+    executor = new CommandExecutor(new SimpleCommandParser(), frontController);
+  }
+
+  @Nested
+  @DisplayName("Single Line Tests")
+  class SingleLineTests {
+
+    @Test
+    @DisplayName("should parse and route a command")
+    void shouldParseAndRouteCommand() {
+      CommandResult result = executor.execute("go n", ctx);
+
+      assertEquals("GO north", result.message());
+      assertEquals(Verb.GO, handled.getFirst().verb());
+    }
+
+    @Test
+    @DisplayName("should treat the whole line as an answer while a puzzle is pending")
+    void shouldTreatLineAsPuzzleAnswer() {
+      when(ctx.isAwaitingPuzzleAnswer()).thenReturn(true);
+
+      executor.execute("Go North", ctx);
+
+      assertEquals(
+          new CommandToken(Verb.SOLVE, "Go North", List.of(), "Go North"), handled.getFirst());
+    }
+  }
+
+  @Nested
+  @DisplayName("Batch Tests")
+  class BatchTests {
+
+    @Test
+    @DisplayName("should execute every line in order and buffer the output")
+    void shouldExecuteLinesInOrder() {
+      BatchResult batch = executor.executeAll(List.of("look", "stats", "go s"), ctx);
+
+      assertFalse(batch.exited());
+      assertNull(batch.readError());
+      assertEquals(3, batch.results().size());
+      assertEquals(
+          List.of(Verb.LOOK, Verb.STATS, Verb.GO),
+          handled.stream().map(CommandToken::verb).toList());
+      String nl = System.lineSeparator();
+      assertEquals("LOOK null" + nl + "GO south" + nl, batch.output());
+    }
+
+    @Test
+    @DisplayName("should switch to puzzle answers when a command starts a puzzle")
+    void shouldFollowPuzzleMode() {
+      when(ctx.isAwaitingPuzzleAnswer()).thenReturn(false, true, false);
+
+      executor.executeAll(new String[] {"solve", "look", "look"}, ctx);
+
+      assertEquals(
+          List.of(Verb.SOLVE, Verb.SOLVE, Verb.LOOK),
+          handled.stream().map(CommandToken::verb).toList());
+      assertEquals("look", handled.get(1).target());
+    }
+
+    @Test
+    @DisplayName("should stop after a command that ends the game")
+    void shouldStopAfterExit() {
+      BatchResult batch = executor.executeAll(Stream.of("look", "quit", "look"), ctx);
+
+      assertTrue(batch.exited());
+      assertEquals(2, batch.results().size());
+      assertEquals(2, handled.size());
+    }
+
+    @Test
+    @DisplayName("should keep the results of lines run before reading failed")
+    void shouldKeepResultsWhenReadingFails() {
+      IOException failure = new IOException("disk gone");
+      Stream<String> lines =
+          Stream.concat(
+              Stream.of("look", "go s"),
+              Stream.<String>generate(
+                  () -> {
+                    throw new UncheckedIOException(failure);
+                  }));
+
+      BatchResult batch = executor.executeAll(lines, ctx);
+
+      assertFalse(batch.exited());
+      assertSame(failure, batch.readError());
+      String nl = System.lineSeparator();
+      assertEquals("LOOK null" + nl + "GO south" + nl, batch.output());
+    }
+
+    @Test
+    @DisplayName("should return an empty result for no input")
+    void shouldHandleEmptyInput() {
+      BatchResult batch = executor.executeAll(List.of(), ctx);
+
+      assertFalse(batch.exited());
+      assertTrue(batch.results().isEmpty());
+      assertEquals("", batch.output());
+    }
+  }
+}
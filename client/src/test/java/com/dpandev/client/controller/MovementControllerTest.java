@@ -85,6 +85,25 @@ class MovementControllerTest {
     }
   }
 
+  @Nested
+  @DisplayName("TRAVEL Command Tests")
+  class TravelCommandTests {
+
+    @Test
+    @DisplayName("should delegate TRAVEL to exploration service with the room name")
+    void shouldDelegateTravelToExplorationService() {
+      List<String> args = List.of("great", "hall");
+      CommandToken cmd = new CommandToken(Verb.TRAVEL, "great hall", args, "travel great hall");
+      CommandResult expected = CommandResult.success("You travel north.");
+      when(explorationService.travel(ctx, "great hall")).thenReturn(expected);
+
+      CommandResult result = controller.handle(cmd, ctx);
+
+      assertEquals(expected, result);
+      verify(explorationService).travel(ctx, "great hall");
+    }
+  }
+
   @Nested
   @DisplayName("MAP Command Tests")
   class MapCommandTests {
@@ -101,6 +120,19 @@ class MovementControllerTest {
       assertEquals(expected, result);
       verify(mapService).showMap(ctx);
     }
+
+    @Test
+    @DisplayName("should delegate MAP WORLD to the world map")
+    void shouldDelegateMapWorldToWorldMap() {
+      CommandToken cmd = new CommandToken(Verb.MAP, "world", List.of(), "map world");
+      CommandResult expected = CommandResult.success("World map display");
+      when(mapService.showWorldMap(ctx)).thenReturn(expected);
+
+      CommandResult result = controller.handle(cmd, ctx);
+
+      assertEquals(expected, result);
+      verify(mapService).showWorldMap(ctx);
+    }
   }
 
   @Nested
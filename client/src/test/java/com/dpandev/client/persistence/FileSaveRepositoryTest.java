@@ -0,0 +1,266 @@
+package com.dpandev.client.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.service.SaveSummary;
+import com.dpandev.domain.world.WorldDelta;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for FileSaveRepository. */
+class FileSaveRepositoryTest {
+
+  @TempDir Path saves;
+
+  private static SaveData save(UUID playerId, String roomId) {
+    return new SaveData(
+        "1.0",
+        playerId,
+        "Player",
+        roomId,
+        List.of("steel_sword", "potion"),
+        Map.of("WEAPON", "steel_sword"),
+        7,
+        80,
+        100,
+        12,
+        3,
+        List.of("riddle_1"),
+        List.of("r1", roomId),
+        Instant.parse("2025-01-01T12:00:00Z"));
+  }
+
+  private static SaveData save(UUID playerId, String slot, String roomId, Instant savedAt) {
+    SaveData data = save(playerId, roomId);
+    return new SaveData(
+        data.worldVersion(),
+        playerId,
+        data.playerName(),
+        roomId,
+        data.itemIds(),
+        data.equippedItems(),
+        data.score(),
+        data.currentHealth(),
+        data.maxHealth(),
+        data.baseAttack(),
+        data.baseDefense(),
+        data.puzzlesSolved(),
+        data.roomsVisited(),
+        savedAt,
+        WorldDelta.EMPTY,
+        slot);
+  }
+
+  private static List<String> slots(List<SaveSummary> summaries) {
+    return summaries.stream().map(SaveSummary::slot).toList();
+  }
+
+  @Nested
+  @DisplayName("Format Tests")
+  class FormatTests {
+
+    @Test
+    @DisplayName("should write a binary save and read it back")
+    void shouldRoundTripBinarySave() {
+      UUID id = UUID.randomUUID();
+      FileSaveRepository repo = new FileSaveRepository(saves);
+
+      repo.upsert(save(id, "r2"));
+
+      assertTrue(Files.exists(saves.resolve(id + ".save")));
+      assertEquals(Optional.of(save(id, "r2")), repo.findByPlayerId(id));
+    }
+
+    @Test
+    @DisplayName("should read a legacy properties save and replace it on the next save")
+    void shouldReadLegacySave() throws IOException {
+      UUID id = UUID.randomUUID();
+      Path legacy = saves.resolve(id + ".properties");
+      Files.write(legacy, PropertiesSaveFormat.encode(save(id, "r2")));
+      FileSaveRepository repo = new FileSaveRepository(saves);
+
+      assertEquals(Optional.of(save(id, "r2")), repo.findByPlayerId(id));
+
+      repo.upsert(save(id, "r3"));
+      assertFalse(Files.exists(legacy));
+      assertEquals("r3", repo.findByPlayerId(id).orElseThrow().roomId());
+    }
+
+    @Test
+    @DisplayName("should return empty for a corrupt save")
+    void shouldReturnEmptyForCorruptSave() throws IOException {
+      UUID id = UUID.randomUUID();
+      Files.write(saves.resolve(id + ".save"), new byte[] {1, 2, 3});
+
+      assertEquals(Optional.empty(), new FileSaveRepository(saves).findByPlayerId(id));
+    }
+  }
+
+  @Nested
+  @DisplayName("Slot Tests")
+  class SlotTests {
+    private final Instant t0 = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Test
+    @DisplayName("should keep each slot in its own file")
+    void shouldKeepSlotsApart() {
+      UUID id = UUID.randomUUID();
+      FileSaveRepository repo = new FileSaveRepository(saves);
+
+      repo.upsert(save(id, SaveData.DEFAULT_SLOT, "r1", t0));
+      repo.upsert(save(id, "before_boss", "r2", t0.plusSeconds(1)));
+
+      assertTrue(Files.exists(saves.resolve(id + ".before_boss.save")));
+      assertEquals("r1", repo.findByPlayerId(id).orElseThrow().roomId());
+      assertEquals("r2", repo.find(id, "before_boss").orElseThrow().roomId());
+      assertEquals(Optional.empty(), repo.find(id, "other"));
+      assertEquals(Optional.empty(), repo.find(id, "../escape"));
+    }
+
+    @Test
+    @DisplayName("should list a player's saves newest first and find the latest")
+    void shouldListNewestFirst() {
+      UUID id = UUID.randomUUID();
+      FileSaveRepository repo = new FileSaveRepository(saves);
+      repo.upsert(save(id, "a", "r1", t0.plusSeconds(2)));
+      repo.upsert(save(id, "b", "r2", t0));
+      repo.upsert(save(id, "c", "r3", t0.plusSeconds(1)));
+      repo.upsert(save(UUID.randomUUID(), "a", "r9", t0.plusSeconds(3)));
+
+      assertEquals(List.of("a", "c", "b"), slots(repo.list(id)));
+      assertEquals("r1", repo.latest(id).orElseThrow().roomId());
+      assertEquals(4, repo.listAll().size());
+      assertEquals(List.of(), repo.list(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("should replace a slot's entry when it is saved again")
+    void shouldReplaceSlotEntry() {
+      UUID id = UUID.randomUUID();
+      FileSaveRepository repo = new FileSaveRepository(saves);
+      repo.upsert(save(id, "a", "r1", t0));
+      repo.upsert(save(id, "a", "r2", t0.plusSeconds(1)));
+
+      assertEquals(1, repo.list(id).size());
+      assertEquals("r2", repo.list(id).getFirst().roomId());
+    }
+
+    @Test
+    @DisplayName("should keep the listing across a reopen")
+    void shouldKeepListingAcrossReopen() {
+      UUID id = UUID.randomUUID();
+      FileSaveRepository repo = new FileSaveRepository(saves);
+      for (int i = 0; i < 100; i++) {
+        repo.upsert(save(id, "s" + (i % 3), "r" + i, t0.plusSeconds(i)));
+      }
+
+      FileSaveRepository reopened = new FileSaveRepository(saves);
+
+      assertEquals(List.of("s0", "s2", "s1"), slots(reopened.list(id)));
+      assertEquals("r99", reopened.latest(id).orElseThrow().roomId());
+    }
+
+    @Test
+    @DisplayName("should rebuild a missing index from the save files, including legacy saves")
+    void shouldRebuildMissingIndex() throws IOException {
+      UUID id = UUID.randomUUID();
+      UUID legacyId = UUID.randomUUID();
+      FileSaveRepository repo = new FileSaveRepository(saves);
+      repo.upsert(save(id, "a", "r1", t0));
+      repo.upsert(save(id, SaveData.DEFAULT_SLOT, "r2", t0.plusSeconds(1)));
+      Files.write(
+          saves.resolve(legacyId + ".properties"),
+          PropertiesSaveFormat.encode(save(legacyId, "r3")));
+      Files.delete(saves.resolve(SaveIndex.FILE_NAME));
+
+      FileSaveRepository reopened = new FileSaveRepository(saves);
+
+      assertEquals(List.of(SaveData.DEFAULT_SLOT, "a"), slots(reopened.list(id)));
+      assertEquals("r3", reopened.latest(legacyId).orElseThrow().roomId());
+      assertTrue(Files.exists(saves.resolve(SaveIndex.FILE_NAME)));
+    }
+
+    @Test
+    @DisplayName("should drop a torn record at the end of the index")
+    void shouldDropTornIndexRecord() throws IOException {
+      UUID id = UUID.randomUUID();
+      new FileSaveRepository(saves).upsert(save(id, "a", "r1", t0));
+      Path index = saves.resolve(SaveIndex.FILE_NAME);
+      Files.write(index, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+      FileSaveRepository reopened = new FileSaveRepository(saves);
+      reopened.upsert(save(id, "b", "r2", t0.plusSeconds(1)));
+
+      assertEquals(List.of("b", "a"), slots(new FileSaveRepository(saves).list(id)));
+    }
+
+    @Test
+    @DisplayName("should add a save written after the index, as a crash would leave it")
+    void shouldRecoverSaveMissingFromIndex() throws IOException {
+      UUID id = UUID.randomUUID();
+      new FileSaveRepository(saves).upsert(save(id, "a", "r1", t0));
+      Path index = saves.resolve(SaveIndex.FILE_NAME);
+      Files.setLastModifiedTime(index, FileTime.fromMillis(0));
+      Files.write(
+          saves.resolve(id + ".b.save"),
+          SaveDataCodec.encode(save(id, "b", "r2", t0.plusSeconds(1))));
+
+      FileSaveRepository reopened = new FileSaveRepository(saves);
+
+      assertEquals(List.of("b", "a"), slots(reopened.list(id)));
+      assertEquals(List.of("b", "a"), slots(new FileSaveRepository(saves).list(id)));
+    }
+
+    @Test
+    @DisplayName("should rebuild the index from the save files when its last record is torn")
+    void shouldRebuildTornIndex() throws IOException {
+      UUID id = UUID.randomUUID();
+      new FileSaveRepository(saves).upsert(save(id, "a", "r1", t0));
+      Path slotB = saves.resolve(id + ".b.save");
+      Files.write(slotB, SaveDataCodec.encode(save(id, "b", "r2", t0.plusSeconds(1))));
+      Files.setLastModifiedTime(slotB, FileTime.fromMillis(0));
+      Path index = saves.resolve(SaveIndex.FILE_NAME);
+      Files.write(index, new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+      assertEquals(List.of("b", "a"), slots(new FileSaveRepository(saves).list(id)));
+    }
+
+    @Test
+    @DisplayName("should keep saving when the index cannot be written, and catch up later")
+    void shouldSurviveIndexWriteFailure() throws IOException {
+      UUID id = UUID.randomUUID();
+      FileSaveRepository repo = new FileSaveRepository(saves);
+      Path index = saves.resolve(SaveIndex.FILE_NAME);
+      Files.delete(index);
+      Files.createDirectory(index);
+      Files.writeString(index.resolve("blocker"), "x");
+
+      repo.upsert(save(id, "a", "r1", t0));
+
+      assertEquals("r1", repo.find(id, "a").orElseThrow().roomId());
+      assertEquals(List.of("a"), slots(repo.list(id)));
+
+      Files.delete(index.resolve("blocker"));
+      Files.delete(index);
+      repo.upsert(save(id, "b", "r2", t0.plusSeconds(1)));
+      Files.setLastModifiedTime(saves.resolve(id + ".a.save"), FileTime.fromMillis(0));
+
+      assertEquals(List.of("b", "a"), slots(new FileSaveRepository(saves).list(id)));
+    }
+  }
+}
@@ -0,0 +1,307 @@
+package com.dpandev.client.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dpandev.domain.model.Puzzle.PuzzlePhase;
+import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.service.SaveSummary;
+import com.dpandev.domain.world.WorldDelta;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for H2SaveRepository, against an in-memory database. */
+class H2SaveRepositoryTest {
+
+  @TempDir Path saves;
+
+  private H2SaveRepository repo;
+
+  @BeforeEach
+  void setUp() {
+    repo = new H2SaveRepository("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    repo.close();
+  }
+
+  private static SaveData save(UUID playerId, String roomId, Instant savedAt) {
+    return save(playerId, roomId, savedAt, WorldDelta.EMPTY);
+  }
+
+  private static SaveData save(UUID playerId, String roomId, Instant savedAt, WorldDelta delta) {
+    return new SaveData(
+        "1.0",
+        playerId,
+        "Player",
+        roomId,
+        List.of("steel_sword", "potion", "potion"),
+        Map.of("WEAPON", "steel_sword", "HELMET", "iron_helmet"),
+        42,
+        80,
+        100,
+        12,
+        3,
+        List.of("riddle_1"),
+        List.of("r1", "r2", roomId),
+        savedAt,
+        delta,
+        SaveData.DEFAULT_SLOT);
+  }
+
+  @Nested
+  @DisplayName("Read and Write Tests")
+  class ReadWriteTests {
+
+    @Test
+    @DisplayName("should round-trip a save including list order and equipment")
+    void shouldRoundTripSave() {
+      UUID id = UUID.randomUUID();
+      SaveData data = save(id, "r3", Instant.parse("2025-01-01T12:00:00Z"));
+
+      repo.upsert(data);
+
+      assertEquals(Optional.of(data), repo.findByPlayerId(id));
+    }
+
+    @Test
+    @DisplayName("should round-trip the world delta")
+    void shouldRoundTripWorldDelta() {
+      UUID id = UUID.randomUUID();
+      Instant savedAt = Instant.parse("2025-01-01T12:00:00Z");
+      WorldDelta delta =
+          new WorldDelta(
+              Map.of("r1", List.of(), "r2", List.of("potion", "potion")),
+              Map.of("goblin", 0),
+              Map.of("riddle_1", new WorldDelta.PuzzleState(PuzzlePhase.SOLVED, 2)));
+      SaveData data = save(id, "r2", savedAt, delta);
+
+      repo.upsert(data);
+      assertEquals(Optional.of(data), repo.findByPlayerId(id));
+
+      repo.upsert(save(id, "r2", savedAt));
+      assertEquals(WorldDelta.EMPTY, repo.findByPlayerId(id).orElseThrow().worldDelta());
+    }
+
+    @Test
+    @DisplayName("should return empty for an unknown player")
+    void shouldReturnEmptyForUnknownPlayer() {
+      assertEquals(Optional.empty(), repo.findByPlayerId(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("should replace the child rows on update")
+    void shouldReplaceChildRowsOnUpdate() {
+      UUID id = UUID.randomUUID();
+      repo.upsert(save(id, "r3", Instant.parse("2025-01-01T12:00:00Z")));
+      SaveData emptier =
+          new SaveData(
+              "1.0",
+              id,
+              "Player",
+              "r4",
+              List.of(),
+              Map.of(),
+              1,
+              100,
+              100,
+              10,
+              0,
+              List.of(),
+              List.of("r4"),
+              Instant.parse("2025-01-02T12:00:00Z"));
+
+      repo.upsert(emptier);
+
+      assertEquals(Optional.of(emptier), repo.findByPlayerId(id));
+    }
+
+    @Test
+    @DisplayName("should write a batch with the last save per player winning")
+    void shouldWriteBatch() {
+      UUID first = UUID.randomUUID();
+      UUID second = UUID.randomUUID();
+
+      repo.upsertAll(
+          List.of(
+              save(first, "r1", Instant.parse("2025-01-01T12:00:00Z")),
+              save(second, "r2", Instant.parse("2025-01-01T12:00:00Z")),
+              save(first, "r5", Instant.parse("2025-01-01T12:05:00Z"))));
+
+      assertEquals("r5", repo.findByPlayerId(first).orElseThrow().roomId());
+      assertEquals("r2", repo.findByPlayerId(second).orElseThrow().roomId());
+    }
+  }
+
+  private static SaveData inSlot(SaveData save, String slot) {
+    return new SaveData(
+        save.worldVersion(),
+        save.playerId(),
+        save.playerName(),
+        save.roomId(),
+        save.itemIds(),
+        save.equippedItems(),
+        save.score(),
+        save.currentHealth(),
+        save.maxHealth(),
+        save.baseAttack(),
+        save.baseDefense(),
+        save.puzzlesSolved(),
+        save.roomsVisited(),
+        save.savedAt(),
+        save.worldDelta(),
+        slot);
+  }
+
+  @Nested
+  @DisplayName("Slot Tests")
+  class SlotTests {
+
+    @Test
+    @DisplayName("should keep each slot's rows apart")
+    void shouldKeepSlotsApart() {
+      UUID id = UUID.randomUUID();
+      WorldDelta delta =
+          new WorldDelta(Map.of("r1", List.of("potion")), Map.of("goblin", 0), Map.of());
+      SaveData main = save(id, "r1", Instant.parse("2025-01-01T12:00:00Z"), delta);
+      SaveData other = inSlot(save(id, "r2", Instant.parse("2025-01-02T12:00:00Z")), "other");
+
+      repo.upsertAll(List.of(main, other));
+
+      assertEquals(Optional.of(main), repo.findByPlayerId(id));
+      assertEquals(Optional.of(other), repo.find(id, "other"));
+      assertEquals(Optional.empty(), repo.find(id, "missing"));
+    }
+
+    @Test
+    @DisplayName("should list saves newest first without loading them")
+    void shouldListNewestFirst() {
+      UUID id = UUID.randomUUID();
+      repo.upsert(inSlot(save(id, "r1", Instant.parse("2025-01-03T12:00:00Z")), "a"));
+      repo.upsert(inSlot(save(id, "r2", Instant.parse("2025-01-01T12:00:00Z")), "b"));
+      repo.upsert(save(UUID.randomUUID(), "r3", Instant.parse("2025-01-02T12:00:00Z")));
+
+      assertEquals(List.of("a", "b"), repo.list(id).stream().map(SaveSummary::slot).toList());
+      assertEquals("r1", repo.latest(id).orElseThrow().roomId());
+      assertEquals(
+          List.of("r1", "r3", "r2"),
+          repo.listAll().stream().map(SaveSummary::roomId).toList());
+      assertEquals(Optional.empty(), repo.latest(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("should move saves from a database without slots to the default slot")
+    void shouldUpgradeDatabaseWithoutSlots() throws SQLException {
+      String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+      UUID id = UUID.randomUUID();
+      try (Connection conn = DriverManager.getConnection(url, "sa", "");
+          Statement statement = conn.createStatement()) {
+        statement.execute(
+            "CREATE TABLE player_save (player_id UUID PRIMARY KEY,"
+                + " world_version VARCHAR(255) NOT NULL, player_name VARCHAR(255) NOT NULL,"
+                + " room_id VARCHAR(255) NOT NULL, score INT NOT NULL,"
+                + " current_health INT NOT NULL, max_health INT NOT NULL,"
+                + " base_attack INT NOT NULL, base_defense INT NOT NULL,"
+                + " saved_at TIMESTAMP WITH TIME ZONE NOT NULL)");
+        statement.execute(
+            "CREATE TABLE save_inventory (player_id UUID NOT NULL"
+                + " REFERENCES player_save(player_id) ON DELETE CASCADE,"
+                + " seq_no INT NOT NULL, item_id VARCHAR(255) NOT NULL,"
+                + " PRIMARY KEY (player_id, seq_no))");
+        statement.execute(
+            "INSERT INTO player_save VALUES ('"
+                + id
+                + "', '1.0', 'Player', 'r4', 1, 90, 100, 10, 0,"
+                + " TIMESTAMP WITH TIME ZONE '2025-01-01 12:00:00+00')");
+        statement.execute("INSERT INTO save_inventory VALUES ('" + id + "', 0, 'potion')");
+      }
+
+      try (H2SaveRepository upgraded = new H2SaveRepository(url, 1)) {
+        SaveData save = upgraded.findByPlayerId(id).orElseThrow();
+        assertEquals("r4", save.roomId());
+        assertEquals(List.of("potion"), save.itemIds());
+        assertEquals(SaveData.DEFAULT_SLOT, save.slot());
+
+        upgraded.upsert(inSlot(save, "second"));
+        assertEquals(2, upgraded.list(id).size());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Migration Tests")
+  class MigrationTests {
+
+    @Test
+    @DisplayName("should import properties saves and mark them migrated")
+    void shouldImportPropertiesSaves() throws IOException {
+      UUID id = UUID.randomUUID();
+      SaveData legacy = save(id, "r7", Instant.parse("2025-01-01T12:00:00Z"));
+      Files.write(saves.resolve(id + ".properties"), PropertiesSaveFormat.encode(legacy));
+
+      assertEquals(1, repo.migrateFrom(saves));
+
+      assertEquals(Optional.of(legacy), repo.findByPlayerId(id));
+      assertFalse(Files.exists(saves.resolve(id + ".properties")));
+      assertTrue(Files.exists(saves.resolve(id + ".properties.migrated")));
+      assertEquals(0, repo.migrateFrom(saves));
+    }
+
+    @Test
+    @DisplayName("should import binary saves and mark them migrated")
+    void shouldImportBinarySaves() {
+      UUID id = UUID.randomUUID();
+      SaveData save = save(id, "r7", Instant.parse("2025-01-01T12:00:00Z"));
+      new FileSaveRepository(saves).upsert(save);
+
+      assertEquals(1, repo.migrateFrom(saves));
+
+      assertEquals(Optional.of(save), repo.findByPlayerId(id));
+      assertTrue(Files.exists(saves.resolve(id + ".save.migrated")));
+    }
+
+    @Test
+    @DisplayName("should import a named slot into that slot")
+    void shouldImportNamedSlot() {
+      UUID id = UUID.randomUUID();
+      SaveData save = inSlot(save(id, "r7", Instant.parse("2025-01-01T12:00:00Z")), "boss");
+      new FileSaveRepository(saves).upsert(save);
+
+      assertEquals(1, repo.migrateFrom(saves));
+
+      assertEquals(Optional.of(save), repo.find(id, "boss"));
+      assertEquals(Optional.empty(), repo.findByPlayerId(id));
+    }
+
+    @Test
+    @DisplayName("should not overwrite a newer database save")
+    void shouldNotOverwriteNewerSave() {
+      UUID id = UUID.randomUUID();
+      new FileSaveRepository(saves).upsert(save(id, "r7", Instant.parse("2025-01-01T12:00:00Z")));
+      repo.upsert(save(id, "r9", Instant.parse("2025-06-01T12:00:00Z")));
+
+      assertEquals(0, repo.migrateFrom(saves));
+
+      assertEquals("r9", repo.findByPlayerId(id).orElseThrow().roomId());
+    }
+  }
+}
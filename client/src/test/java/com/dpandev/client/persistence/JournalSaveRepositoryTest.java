@@ -0,0 +1,361 @@
+package com.dpandev.client.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dpandev.domain.model.Puzzle.PuzzlePhase;
+import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.service.SaveSummary;
+import com.dpandev.domain.world.WorldDelta;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for JournalSaveRepository. */
+class JournalSaveRepositoryTest {
+
+  @TempDir Path saves;
+
+  private static SaveData save(UUID playerId, String roomId, int score) {
+    return save(playerId, roomId, score, WorldDelta.EMPTY);
+  }
+
+  private static SaveData save(UUID playerId, String roomId, int score, WorldDelta delta) {
+    return new SaveData(
+        "1.0",
+        playerId,
+        "Player",
+        roomId,
+        List.of("steel_sword", "potion"),
+        Map.of("WEAPON", "steel_sword"),
+        score,
+        80,
+        100,
+        12,
+        3,
+        List.of("riddle_1"),
+        List.of("r1", roomId),
+        Instant.parse("2025-01-01T12:00:00.123456789Z"),
+        delta,
+        SaveData.DEFAULT_SLOT);
+  }
+
+  private static SaveData inSlot(SaveData save, String slot, Instant savedAt) {
+    return new SaveData(
+        save.worldVersion(),
+        save.playerId(),
+        save.playerName(),
+        save.roomId(),
+        save.itemIds(),
+        save.equippedItems(),
+        save.score(),
+        save.currentHealth(),
+        save.maxHealth(),
+        save.baseAttack(),
+        save.baseDefense(),
+        save.puzzlesSolved(),
+        save.roomsVisited(),
+        savedAt,
+        save.worldDelta(),
+        slot);
+  }
+
+  private JournalSaveRepository open(long segmentBytes) {
+    return new JournalSaveRepository(saves, segmentBytes, Duration.ZERO);
+  }
+
+  @Nested
+  @DisplayName("Read and Write Tests")
+  class ReadWriteTests {
+
+    @Test
+    @DisplayName("should round-trip a save")
+    void shouldRoundTripSave() {
+      UUID id = UUID.randomUUID();
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        repo.upsert(save(id, "r2", 5));
+
+        assertEquals(Optional.of(save(id, "r2", 5)), repo.findByPlayerId(id));
+        assertEquals(Optional.empty(), repo.findByPlayerId(UUID.randomUUID()));
+      }
+    }
+
+    @Test
+    @DisplayName("should round-trip the world delta")
+    void shouldRoundTripWorldDelta() {
+      UUID id = UUID.randomUUID();
+      WorldDelta delta =
+          new WorldDelta(
+              Map.of("r1", List.of(), "r2", List.of("potion", "potion")),
+              Map.of("goblin", 0),
+              Map.of("riddle_1", new WorldDelta.PuzzleState(PuzzlePhase.SOLVED, 2)));
+      SaveData data = save(id, "r2", 5, delta);
+
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        repo.upsert(data);
+      }
+
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        assertEquals(Optional.of(data), repo.findByPlayerId(id));
+      }
+    }
+
+    @Test
+    @DisplayName("should return the latest save after reopening")
+    void shouldReturnLatestSaveAfterReopen() {
+      UUID id = UUID.randomUUID();
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        repo.upsert(save(id, "r2", 5));
+        repo.upsert(save(id, "r3", 9));
+      }
+
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        assertEquals("r3", repo.findByPlayerId(id).orElseThrow().roomId());
+      }
+    }
+
+    @Test
+    @DisplayName("should fall back to a legacy properties save")
+    void shouldFallBackToLegacySave() {
+      UUID id = UUID.randomUUID();
+      new FileSaveRepository(saves).upsert(save(id, "r7", 1));
+
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        assertEquals("r7", repo.findByPlayerId(id).orElseThrow().roomId());
+
+        repo.upsert(save(id, "r8", 2));
+        assertEquals("r8", repo.findByPlayerId(id).orElseThrow().roomId());
+      }
+    }
+
+    @Test
+    @DisplayName("should reject a save too large for a record instead of losing it on recovery")
+    void shouldRejectOversizedSave() {
+      UUID id = UUID.randomUUID();
+      SaveData small = save(id, "r1", 1);
+      SaveData huge = inSlot(save(id, "x".repeat(2 * 1024 * 1024), 2), "big", small.savedAt());
+
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        assertThrows(IllegalArgumentException.class, () -> repo.upsert(huge));
+        assertThrows(IllegalArgumentException.class, () -> repo.upsertAll(List.of(small, huge)));
+
+        assertEquals(Optional.empty(), repo.findByPlayerId(id));
+        assertTrue(repo.list(id).isEmpty());
+      }
+    }
+
+    @Test
+    @DisplayName("should keep every save written concurrently")
+    void shouldKeepConcurrentSaves() throws Exception {
+      List<UUID> ids = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        ids.add(UUID.randomUUID());
+      }
+      ExecutorService pool = Executors.newFixedThreadPool(8);
+      try (JournalSaveRepository repo = open(4096)) {
+        List<Future<?>> writes = new ArrayList<>();
+        for (UUID id : ids) {
+          writes.add(pool.submit(() -> repo.upsert(save(id, "r1", 1))));
+        }
+        for (Future<?> write : writes) {
+          write.get();
+        }
+      } finally {
+        pool.shutdown();
+      }
+
+      try (JournalSaveRepository repo = open(4096)) {
+        for (UUID id : ids) {
+          assertTrue(repo.findByPlayerId(id).isPresent());
+        }
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Recovery Tests")
+  class RecoveryTests {
+
+    @Test
+    @DisplayName("should discard a torn record at the end of the log")
+    void shouldDiscardTornRecord() throws IOException {
+      UUID id = UUID.randomUUID();
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        repo.upsert(save(id, "r2", 5));
+      }
+      Path segment;
+      try (Stream<Path> files = Files.list(saves.resolve("journal"))) {
+        segment = files.findFirst().orElseThrow();
+      }
+      long intact = Files.size(segment);
+      Files.write(segment, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        assertEquals(intact, Files.size(segment));
+        assertEquals("r2", repo.findByPlayerId(id).orElseThrow().roomId());
+
+        repo.upsert(save(id, "r3", 6));
+        assertEquals("r3", repo.findByPlayerId(id).orElseThrow().roomId());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Compaction Tests")
+  class CompactionTests {
+
+    @Test
+    @DisplayName("should roll segments and compact superseded ones")
+    void shouldCompactSupersededSegments() {
+      UUID first = UUID.randomUUID();
+      UUID second = UUID.randomUUID();
+      try (JournalSaveRepository repo = open(1024)) {
+        for (int i = 0; i < 50; i++) {
+          repo.upsert(save(first, "r" + i, i));
+        }
+        repo.upsert(save(second, "r99", 99));
+        int before = repo.segmentCount();
+        assertTrue(before > 2);
+
+        assertTrue(repo.compact() > 0);
+
+        assertTrue(repo.segmentCount() < before);
+        assertEquals("r49", repo.findByPlayerId(first).orElseThrow().roomId());
+        assertEquals("r99", repo.findByPlayerId(second).orElseThrow().roomId());
+      }
+
+      try (JournalSaveRepository repo = open(1024)) {
+        assertEquals(49, repo.findByPlayerId(first).orElseThrow().score());
+        assertEquals(99, repo.findByPlayerId(second).orElseThrow().score());
+      }
+    }
+
+    @Test
+    @DisplayName("should keep every acknowledged save while compacting concurrently")
+    void shouldKeepSavesDuringConcurrentCompaction() throws Exception {
+      Map<UUID, SaveData> acknowledged = new ConcurrentHashMap<>();
+      AtomicBoolean writing = new AtomicBoolean(true);
+      ExecutorService pool = Executors.newFixedThreadPool(5);
+      try (JournalSaveRepository repo = open(1024)) {
+        Future<?> compactor =
+            pool.submit(
+                () -> {
+                  while (writing.get()) {
+                    repo.compact();
+                  }
+                });
+        List<Future<?>> writes = new ArrayList<>();
+        for (int w = 0; w < 4; w++) {
+          UUID id = UUID.randomUUID();
+          writes.add(
+              pool.submit(
+                  () -> {
+                    for (int i = 0; i < 300; i++) {
+                      SaveData data = save(id, "r" + i, i);
+                      repo.upsert(data);
+                      acknowledged.put(id, data);
+                      assertEquals(Optional.of(data), repo.findByPlayerId(id));
+                    }
+                  }));
+        }
+        try {
+          for (Future<?> write : writes) {
+            write.get();
+          }
+        } finally {
+          writing.set(false);
+        }
+        compactor.get();
+      } finally {
+        pool.shutdown();
+      }
+
+      try (JournalSaveRepository repo = open(1024)) {
+        assertEquals(4, acknowledged.size());
+        for (Map.Entry<UUID, SaveData> latest : acknowledged.entrySet()) {
+          assertEquals(Optional.of(latest.getValue()), repo.findByPlayerId(latest.getKey()));
+        }
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Slot Tests")
+  class SlotTests {
+    private final Instant t0 = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Test
+    @DisplayName("should keep slots apart and list them newest first after reopening")
+    void shouldListSlotsAfterReopen() {
+      UUID id = UUID.randomUUID();
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        repo.upsert(inSlot(save(id, "r1", 1), SaveData.DEFAULT_SLOT, t0));
+        repo.upsertAll(
+            List.of(
+                inSlot(save(id, "r2", 2), "a", t0.plusSeconds(2)),
+                inSlot(save(id, "r3", 3), "b", t0.plusSeconds(1))));
+      }
+
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        assertEquals("r1", repo.findByPlayerId(id).orElseThrow().roomId());
+        assertEquals("r3", repo.find(id, "b").orElseThrow().roomId());
+        assertEquals(
+            List.of("a", "b", SaveData.DEFAULT_SLOT),
+            repo.list(id).stream().map(SaveSummary::slot).toList());
+        assertEquals("r2", repo.latest(id).orElseThrow().roomId());
+      }
+    }
+
+    @Test
+    @DisplayName("should list legacy saves until the slot is saved to the journal")
+    void shouldListLegacySaves() {
+      UUID id = UUID.randomUUID();
+      new FileSaveRepository(saves).upsert(inSlot(save(id, "r7", 1), "old", t0));
+      new FileSaveRepository(saves).upsert(save(id, "r8", 1));
+
+      try (JournalSaveRepository repo = open(JournalSaveRepository.DEFAULT_SEGMENT_BYTES)) {
+        repo.upsert(inSlot(save(id, "r9", 2), "old", t0.plusSeconds(1)));
+
+        List<SaveSummary> listed = repo.list(id);
+        assertEquals(2, listed.size());
+        assertEquals("r9", repo.find(id, "old").orElseThrow().roomId());
+        assertEquals(2, repo.listAll().size());
+      }
+    }
+
+    @Test
+    @DisplayName("should keep every slot through compaction")
+    void shouldKeepSlotsThroughCompaction() {
+      UUID id = UUID.randomUUID();
+      try (JournalSaveRepository repo = open(512)) {
+        for (int i = 0; i < 40; i++) {
+          repo.upsert(inSlot(save(id, "r" + i, i), "s" + (i % 2), t0.plusSeconds(i)));
+        }
+        repo.compact();
+
+        assertEquals("r38", repo.find(id, "s0").orElseThrow().roomId());
+        assertEquals("r39", repo.find(id, "s1").orElseThrow().roomId());
+        assertEquals(2, repo.list(id).size());
+      }
+    }
+  }
+}
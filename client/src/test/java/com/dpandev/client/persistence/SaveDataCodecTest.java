@@ -0,0 +1,172 @@
+package com.dpandev.client.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dpandev.domain.model.Puzzle.PuzzlePhase;
+import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.world.WorldDelta;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the binary SaveData codec. */
+class SaveDataCodecTest {
+
+  private static SaveData save(List<String> itemIds, Map<String, String> equipped) {
+    return save(itemIds, equipped, "slot_2");
+  }
+
+  private static SaveData save(List<String> itemIds, Map<String, String> equipped, String slot) {
+    return save(itemIds, equipped, slot, List.of("riddle_1"), List.of("r1", "r3"));
+  }
+
+  private static SaveData save(
+      List<String> itemIds,
+      Map<String, String> equipped,
+      String slot,
+      List<String> puzzlesSolved,
+      List<String> roomsVisited) {
+    return new SaveData(
+        "1.0",
+        UUID.randomUUID(),
+        "Player",
+        "r3",
+        itemIds,
+        equipped,
+        -5,
+        80,
+        100,
+        12,
+        3,
+        puzzlesSolved,
+        roomsVisited,
+        Instant.parse("2025-01-01T12:00:00.123456789Z"),
+        new WorldDelta(
+            Map.of("r1", List.of()),
+            Map.of("goblin", 0),
+            Map.of("riddle_1", new WorldDelta.PuzzleState(PuzzlePhase.SOLVED, 2))),
+        slot);
+  }
+
+  @Nested
+  @DisplayName("Round Trip Tests")
+  class RoundTripTests {
+
+    @Test
+    @DisplayName("should round-trip every field including the world delta")
+    void shouldRoundTripSave() throws IOException {
+      SaveData data =
+          save(List.of("steel_sword", "potion", "potion"), Map.of("WEAPON", "steel_sword"));
+
+      assertEquals(data, SaveDataCodec.decode(SaveDataCodec.encode(data)));
+    }
+
+    @Test
+    @DisplayName("should keep IDs containing separators and non-ASCII text")
+    void shouldKeepIdsWithSeparators() throws IOException {
+      SaveData data = save(List.of("a,b", "c:d", "épée", ""), Map.of("HELMET", "x,y:z"));
+
+      assertEquals(data, SaveDataCodec.decode(SaveDataCodec.encode(data)));
+    }
+
+    @Test
+    @DisplayName("should read a version 1 save, which has no slot, as the default slot")
+    void shouldReadVersionOneAsDefaultSlot() throws IOException {
+      // empty ID sets are encoded the same way in every version
+      SaveData data =
+          save(List.of("potion"), Map.of(), SaveData.DEFAULT_SLOT, List.of(), List.of());
+      byte[] current = SaveDataCodec.encode(data);
+
+      // version 1 is the same layout without the slot string that follows the 16-byte UUID
+      int slotBytes = 1 + SaveData.DEFAULT_SLOT.length();
+      byte[] legacy = new byte[current.length - slotBytes];
+      System.arraycopy(current, 0, legacy, 0, 17);
+      System.arraycopy(current, 17 + slotBytes, legacy, 17, legacy.length - 17);
+      legacy[0] = 1;
+
+      assertEquals(data, SaveDataCodec.decode(legacy));
+    }
+
+    @Test
+    @DisplayName("should front-code solved puzzles and visited rooms")
+    void shouldFrontCodeIdSets() throws IOException {
+      List<String> rooms = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        rooms.add(String.format("dungeon_level_%04d", i));
+      }
+      SaveData data =
+          save(List.of(), Map.of(), "slot_2", List.of("café_1", "café_2", "cafe", "cafe"), rooms);
+      byte[] bytes = SaveDataCodec.encode(data);
+
+      assertEquals(data, SaveDataCodec.decode(bytes));
+      assertTrue(bytes.length < 1000 * 6); // a plain list would take 19 bytes per room
+    }
+
+    @Test
+    @DisplayName("should be smaller than the properties format")
+    void shouldBeSmallerThanProperties() {
+      SaveData data = save(List.of("steel_sword", "potion"), Map.of("WEAPON", "steel_sword"));
+
+      assertTrue(SaveDataCodec.encode(data).length < PropertiesSaveFormat.encode(data).length);
+    }
+  }
+
+  @Nested
+  @DisplayName("Malformed Input Tests")
+  class MalformedInputTests {
+
+    @Test
+    @DisplayName("should reject an unknown format version")
+    void shouldRejectUnknownVersion() {
+      byte[] bytes = SaveDataCodec.encode(save(List.of(), Map.of()));
+      bytes[0] = 99;
+
+      assertThrows(IOException.class, () -> SaveDataCodec.decode(bytes));
+    }
+
+    @Test
+    @DisplayName("should reject a truncated save")
+    void shouldRejectTruncatedSave() {
+      byte[] bytes = SaveDataCodec.encode(save(List.of("potion"), Map.of()));
+
+      for (int length = 0; length < bytes.length; length++) {
+        byte[] truncated = Arrays.copyOf(bytes, length);
+        assertThrows(IOException.class, () -> SaveDataCodec.decode(truncated));
+      }
+    }
+
+    @Test
+    @DisplayName("should reject an invalid save slot name")
+    void shouldRejectInvalidSlotName() {
+      byte[] bytes = SaveDataCodec.encode(save(List.of(), Map.of(), "slot_2"));
+      bytes[18] = '/'; // first character of the slot, after the version, UUID and length
+
+      assertThrows(IOException.class, () -> SaveDataCodec.decode(bytes));
+    }
+
+    @Test
+    @DisplayName("should refuse to encode a null ID in a set")
+    void shouldRefuseNullIdInSet() {
+      SaveData data = save(List.of(), Map.of(), "slot_2", List.of(), Arrays.asList("r1", null));
+
+      assertThrows(IllegalArgumentException.class, () -> SaveDataCodec.encode(data));
+    }
+
+    @Test
+    @DisplayName("should refuse to encode an unknown equipment slot")
+    void shouldRefuseUnknownSlot() {
+      SaveData data = save(List.of(), Map.of("TAIL", "ribbon"));
+
+      assertThrows(IllegalArgumentException.class, () -> SaveDataCodec.encode(data));
+    }
+  }
+}
@@ -197,7 +197,7 @@ echo ========================================================================
 echo.
 
 REM Run the actual game with the demo commands
-type adventure_demo_commands.txt | client\build\install\client\bin\client.bat --world=example
+client\build\install\client\bin\client.bat --world=example --script=adventure_demo_commands.txt
 
 echo.
 echo ========================================================================
@@ -201,7 +201,7 @@ echo ""
 echo "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━"
 echo ""
 
-cat /tmp/adventure_demo_commands.txt | ./client/build/install/client/bin/client --world=example
+./client/build/install/client/bin/client --world=example --script=/tmp/adventure_demo_commands.txt
 
 echo ""
 echo "━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━"
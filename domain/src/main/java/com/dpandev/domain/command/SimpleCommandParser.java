@@ -2,7 +2,6 @@ package com.dpandev.domain.command;
 
 import com.dpandev.domain.utils.CommandToken;
 import com.dpandev.domain.utils.Verb;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,100 +9,201 @@ import java.util.Map;
 /**
  * A simple command parser that interprets user input into structured commands. Supports verb
  * synonyms, direction shortcuts, and argument extraction.
+ *
+ * <p>Input is scanned in a single pass without regular expressions or intermediate token lists:
+ * token boundaries are found in place, verbs and directions are resolved straight from the
+ * character ranges through collision-free keyword tables, and strings are only created for the
+ * parts that end up in the {@link CommandToken}. Lowercase, single-spaced input is not copied at
+ * all.
  */
 public class SimpleCommandParser implements CommandParser {
-  private final Map<String, Verb> verbs;
-  private final Map<String, String> directionSynonyms;
+  private final KeywordTable<Verb> verbs;
+  private final KeywordTable<String> directionSynonyms;
 
   /** Construct a SimpleCommandParser with predefined verbs and direction synonyms. */
   public SimpleCommandParser() {
-    this.verbs = buildVerbs();
-    this.directionSynonyms = buildDirectionSynonyms();
+    this.verbs = new KeywordTable<>(buildVerbs());
+    this.directionSynonyms = new KeywordTable<>(buildDirectionSynonyms());
   }
 
   /**
    * Parse a command line into a CommandToken. Handles normalization, verb resolution, direction
    * synonyms, and argument extraction.
    *
+   * <p>Normalization matches lowercasing, trimming and collapsing internal whitespace runs to a
+   * single space: leading and trailing control characters are ignored, and tokens are separated by
+   * runs of spaces, tabs, line breaks and form feeds.
+   *
    * @param line - the input command line
    * @return the parsed CommandToken
    */
   @Override
   public CommandToken parse(final String line) {
     final String raw = (line == null) ? "" : line;
-    final String normalized = normalize(raw);
-    if (normalized.isEmpty()) {
+    // toLowerCase returns the same instance when there is nothing to change
+    final String s = raw.toLowerCase();
+    int begin = 0;
+    int end = s.length();
+    while (begin < end && s.charAt(begin) <= ' ') {
+      begin++;
+    }
+    while (end > begin && s.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (begin == end) {
       return new CommandToken(Verb.UNKNOWN, null, List.of(), raw);
     }
 
-    final List<String> tokens = new ArrayList<>(List.of(normalized.split(" ")));
-    final String head = tokens.getFirst();
+    final int headEnd = tokenEnd(s, begin, end);
+    final int restStart = nextToken(s, headEnd, end);
+    final boolean single = restStart == end;
 
     // single-token direction like "n" or "north"
-    final String dirSyn = directionSynonyms.get(head);
-    if (dirSyn != null && tokens.size() == 1) {
+    final String dirSyn = directionSynonyms.get(s, begin, headEnd);
+    if (dirSyn != null && single) {
       return new CommandToken(Verb.GO, dirSyn, List.of(), raw);
     }
 
     // resolve verb; fallback to GO if first token is a direction word
-    Verb verb = resolveVerb(head);
-    if (verb == Verb.UNKNOWN && dirSyn != null) {
-      verb = Verb.GO;
-    }
-
-    String target = null;
-    List<String> args = List.of();
-
-    if (verb == Verb.GO) {
-      // need a second token for the direction; if missing, leave target null
-      if (tokens.size() >= 2) {
-        final String t = tokens.get(1);
-        target = directionSynonyms.getOrDefault(t, t);
-        args = List.copyOf(tokens.subList(1, tokens.size()));
-      } else {
-        // controller should prompt for a direction
-        target = null;
-        args = List.of();
+    Verb verb = verbs.get(s, begin, headEnd);
+    if (verb == null) {
+      verb = (dirSyn != null) ? Verb.GO : Verb.UNKNOWN;
+    }
+    if (single) {
+      // no target provided; for GO the controller should prompt for a direction
+      return new CommandToken(verb, null, List.of(), raw);
+    }
+
+    final int secondEnd = tokenEnd(s, restStart, end);
+    final String target;
+    final List<String> args;
+    switch (verb) {
+      case GO -> {
+        final String dir = directionSynonyms.get(s, restStart, secondEnd);
+        target = (dir != null) ? dir : s.substring(restStart, secondEnd);
+        args = tokens(s, restStart, end);
       }
-    } else if (verb == Verb.INSPECT
-        || verb == Verb.PICKUP
-        || verb == Verb.DROP
-        || verb == Verb.USE
-        || verb == Verb.EQUIP
-        || verb == Verb.UNEQUIP
-        || verb == Verb.HEAL
-        || verb == Verb.ATTACK
-        || verb == Verb.IGNORE) {
-      // multi-word targets allowed ("pickup steel sword", "equip iron helmet", "attack ice troll")
-      if (tokens.size() >= 2) {
-        target = String.join(" ", tokens.subList(1, tokens.size()));
-        args = List.copyOf(tokens.subList(1, tokens.size()));
-      } else {
-        // no target provided
-        target = null;
-        args = List.of();
+      // multi-word targets allowed ("pickup steel sword", "travel great hall", "attack ice troll")
+      case TRAVEL, INSPECT, PICKUP, DROP, USE, EQUIP, UNEQUIP, HEAL, ATTACK, IGNORE -> {
+        target = joined(s, restStart, end);
+        args = tokens(s, restStart, end);
       }
-    } else {
-      // other verbs: optional single target token
-      if (tokens.size() >= 2) {
-        target = tokens.get(1);
-        args = (tokens.size() > 2) ? List.copyOf(tokens.subList(2, tokens.size())) : List.of();
-      } else {
-        target = null;
-        args = List.of();
+      default -> {
+        // other verbs: optional single target token
+        target = s.substring(restStart, secondEnd);
+        args = tokens(s, nextToken(s, secondEnd, end), end);
       }
     }
-    return new CommandToken(verb, target, List.copyOf(args), raw);
+    return new CommandToken(verb, target, args, raw);
   }
 
   /**
-   * Normalize input string: lowercase, trim, collapse internal whitespace.
+   * Check whether a character separates tokens. Mirrors the regex {@code \s} class.
    *
-   * @param s - input string
-   * @return normalized string
+   * @param c - the character
+   * @return true for space, tab, line feed, vertical tab, form feed and carriage return
    */
-  private static String normalize(String s) {
-    return s.toLowerCase().trim().replaceAll("\\s+", " ");
+  private static boolean isSeparator(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  /**
+   * Find the end of the token starting at the given index.
+   *
+   * @param s - the lowercased input
+   * @param from - index of the first token character
+   * @param end - end of the trimmed input
+   * @return index just past the token
+   */
+  private static int tokenEnd(String s, int from, int end) {
+    int i = from;
+    while (i < end && !isSeparator(s.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Skip the separators following a token.
+   *
+   * @param s - the lowercased input
+   * @param from - index just past the previous token
+   * @param end - end of the trimmed input
+   * @return index of the next token, or end if there is none
+   */
+  private static int nextToken(String s, int from, int end) {
+    int i = from;
+    while (i < end && isSeparator(s.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Collect the tokens in a range. Small lists are built directly, without a backing array.
+   *
+   * @param s - the lowercased input
+   * @param from - index of the first token, or end if there is none
+   * @param end - end of the trimmed input
+   * @return immutable list of tokens
+   */
+  private static List<String> tokens(String s, int from, int end) {
+    if (from == end) {
+      return List.of();
+    }
+    final int firstEnd = tokenEnd(s, from, end);
+    final int secondStart = nextToken(s, firstEnd, end);
+    if (secondStart == end) {
+      return List.of(s.substring(from, firstEnd));
+    }
+    final int secondEnd = tokenEnd(s, secondStart, end);
+    final int thirdStart = nextToken(s, secondEnd, end);
+    if (thirdStart == end) {
+      return List.of(s.substring(from, firstEnd), s.substring(secondStart, secondEnd));
+    }
+
+    int count = 2;
+    for (int i = thirdStart; i < end; i = nextToken(s, tokenEnd(s, i, end), end)) {
+      count++;
+    }
+    final String[] result = new String[count];
+    int n = 0;
+    for (int i = from; i < end; ) {
+      final int tokenEnd = tokenEnd(s, i, end);
+      result[n++] = s.substring(i, tokenEnd);
+      i = nextToken(s, tokenEnd, end);
+    }
+    return List.of(result);
+  }
+
+  /**
+   * Join the tokens in a range with single spaces. When the range is already single-spaced it is
+   * returned as one substring.
+   *
+   * @param s - the lowercased input
+   * @param from - index of the first token
+   * @param end - end of the trimmed input
+   * @return the joined tokens
+   */
+  private static String joined(String s, int from, int end) {
+    boolean normalized = true;
+    for (int i = from; i < end && normalized; i++) {
+      final char c = s.charAt(i);
+      normalized = !isSeparator(c) || (c == ' ' && !isSeparator(s.charAt(i + 1)));
+    }
+    if (normalized) {
+      return s.substring(from, end);
+    }
+    final StringBuilder sb = new StringBuilder(end - from);
+    for (int i = from; i < end; ) {
+      final int tokenEnd = tokenEnd(s, i, end);
+      if (!sb.isEmpty()) {
+        sb.append(' ');
+      }
+      sb.append(s, i, tokenEnd);
+      i = nextToken(s, tokenEnd, end);
+    }
+    return sb.toString();
   }
 
   /**
@@ -122,6 +222,8 @@ public class SimpleCommandParser implements CommandParser {
     verbMap.put("examine", Verb.INSPECT);
     verbMap.put("go", Verb.GO);
     verbMap.put("move", Verb.GO);
+    verbMap.put("travel", Verb.TRAVEL);
+    verbMap.put("goto", Verb.TRAVEL);
     verbMap.put("pickup", Verb.PICKUP);
     verbMap.put("grab", Verb.PICKUP);
     verbMap.put("take", Verb.PICKUP);
@@ -152,6 +254,7 @@ public class SimpleCommandParser implements CommandParser {
     verbMap.put("quit", Verb.QUIT);
     verbMap.put("save", Verb.SAVE);
     verbMap.put("load", Verb.LOAD);
+    verbMap.put("saves", Verb.SAVES);
     return verbMap;
   }
 
@@ -174,20 +277,82 @@ public class SimpleCommandParser implements CommandParser {
   }
 
   /**
-   * Resolve the verb from the command head.
+   * Read-only keyword lookup over a fixed set of keys. The table is sized so that every key hashes
+   * to its own slot, so a lookup is one hash over the character range plus one comparison, and
+   * tokens never have to be copied into a String to be resolved.
    *
-   * @param head - the first word of the command
-   * @return - the corresponding Verb, or UNKNOWN if not found
+   * @param <V> - the value type
    */
-  private Verb resolveVerb(String head) {
-    Verb v = verbs.get(head);
-    if (v != null) {
-      return v;
+  private static final class KeywordTable<V> {
+    private static final int MAX_BITS = 16;
+    private static final int GOLDEN = 0x9E3779B9;
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int shift;
+
+    /**
+     * Build a collision-free table from the given entries.
+     *
+     * @param entries - keyword to value mappings
+     * @throws IllegalStateException if no collision-free table size exists
+     */
+    KeywordTable(Map<String, V> entries) {
+      int bits = 1;
+      while ((1 << bits) < entries.size() * 2 || !collisionFree(entries, bits)) {
+        if (++bits > MAX_BITS) {
+          throw new IllegalStateException(
+              "No collision-free keyword table for " + entries.keySet());
+        }
+      }
+      this.shift = 32 - bits;
+      this.keys = new String[1 << bits];
+      this.values = new Object[1 << bits];
+      entries.forEach(
+          (key, value) -> {
+            final int slot = slot(key, 0, key.length(), shift);
+            keys[slot] = key;
+            values[slot] = value;
+          });
+    }
+
+    /**
+     * Look up the keyword spanning a character range.
+     *
+     * @param s - the input
+     * @param from - start of the range, inclusive
+     * @param to - end of the range, exclusive
+     * @return the value, or null if the range is not a keyword
+     */
+    @SuppressWarnings("unchecked")
+    V get(String s, int from, int to) {
+      final int slot = slot(s, from, to, shift);
+      final String key = keys[slot];
+      final int length = to - from;
+      if (key != null && key.length() == length && s.regionMatches(from, key, 0, length)) {
+        return (V) values[slot];
+      }
+      return null;
+    }
+
+    private static boolean collisionFree(Map<String, ?> entries, int bits) {
+      final boolean[] used = new boolean[1 << bits];
+      for (String key : entries.keySet()) {
+        final int slot = slot(key, 0, key.length(), 32 - bits);
+        if (used[slot]) {
+          return false;
+        }
+        used[slot] = true;
+      }
+      return true;
     }
-    // if the head looks like a direction ("n", "north"), treat as GO
-    if (directionSynonyms.containsKey(head)) {
-      return Verb.GO;
+
+    private static int slot(String s, int from, int to, int shift) {
+      int h = 0;
+      for (int i = from; i < to; i++) {
+        h = 31 * h + s.charAt(i);
+      }
+      return (h * GOLDEN) >>> shift;
     }
-    return Verb.UNKNOWN;
   }
 }
@@ -1,10 +1,11 @@
 package com.dpandev.domain.model;
 
+import java.util.Objects;
 import java.util.UUID;
 
 /** Represents a character in the game with attributes such as name, health, attack, and defense. */
 public abstract class Character {
-  private final UUID id = UUID.randomUUID();
+  private final UUID id;
   private String name;
   private int maxHealth;
   private int currentHealth;
@@ -18,6 +19,18 @@ public abstract class Character {
    * @param maxHealth the maximum health of the character
    */
   public Character(String name, int maxHealth) {
+    this(UUID.randomUUID(), name, maxHealth);
+  }
+
+  /**
+   * Constructs a Character with a known ID, e.g. a returning player's.
+   *
+   * @param id the character's unique ID
+   * @param name the name of the character
+   * @param maxHealth the maximum health of the character
+   */
+  protected Character(UUID id, String name, int maxHealth) {
+    this.id = Objects.requireNonNull(id, "id cannot be null");
     this.name = name;
     this.maxHealth = maxHealth;
     this.currentHealth = maxHealth;
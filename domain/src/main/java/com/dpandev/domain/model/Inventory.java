@@ -0,0 +1,317 @@
+package com.dpandev.domain.model;
+
+import java.util.AbstractList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A collection of items, such as a player's inventory or the contents of a room, held as a multiset
+ * of item IDs. Each distinct item is one stack with a count, kept in the order the item was first
+ * added. A case-insensitive index maps item names to the stacks carrying them, and consumables are
+ * indexed by type. Adding, removing, counting and finding an item by ID, by name or by consumable
+ * type take constant time however many items are held.
+ *
+ * <p>{@link #describe()} lists the stacks by name. The listing is cached: adding a new stack
+ * appends to it, and only changes to an existing stack make the next call rebuild it.
+ *
+ * <p>Name matching follows {@link String#equalsIgnoreCase(String)}. When several stacks share a
+ * name, the one added first wins.
+ *
+ * <p>Stacks are keyed by the item's string ID rather than by a world's item handle: items known by
+ * ID only have no handle, and an inventory restored from a save is not tied to one pack.
+ */
+public final class Inventory {
+  private final Map<String, Stack> stacks = new LinkedHashMap<>();
+  private final Map<String, Set<String>> idsByName = new HashMap<>();
+  private final Map<Item.ConsumableType, Set<String>> idsByConsumable =
+      new EnumMap<>(Item.ConsumableType.class);
+  private int size;
+  private StringBuilder listing = new StringBuilder(); // null when it must be rebuilt
+  private String listed; // listing as a string, null until asked for again
+
+  /** One distinct item and how many of it the inventory holds. */
+  private static final class Stack {
+    private final String name; // null for items added by ID only
+    private final String folded;
+    private final Item.ConsumableType consumable; // null unless the item is a consumable
+    private int count;
+
+    Stack(String name, Item.ConsumableType consumable) {
+      this.name = name;
+      this.folded = name == null ? null : fold(name);
+      this.consumable = consumable;
+    }
+  }
+
+  /**
+   * Adds one of an item, indexed by its name and, for consumables, its consumable type.
+   *
+   * @param item The item to add.
+   */
+  public void add(Item item) {
+    Item.ConsumableType consumable =
+        item.getItemType() == Item.ItemType.CONSUMABLE ? item.getConsumableType() : null;
+    add(item.getId(), item.getName(), consumable);
+  }
+
+  /**
+   * Adds one of an item known only by its ID, such as an item the world no longer defines. The item
+   * can be found by ID but not by name.
+   *
+   * @param itemId The ID of the item.
+   */
+  public void add(String itemId) {
+    add(itemId, null, null);
+  }
+
+  private void add(String itemId, String name, Item.ConsumableType consumable) {
+    Stack stack = stacks.get(itemId);
+    if (stack == null) {
+      stack = new Stack(name, consumable);
+      stacks.put(itemId, stack);
+      if (stack.folded != null) {
+        idsByName.computeIfAbsent(stack.folded, key -> new LinkedHashSet<>()).add(itemId);
+      }
+      if (consumable != null) {
+        idsByConsumable.computeIfAbsent(consumable, key -> new LinkedHashSet<>()).add(itemId);
+      }
+      if (listing != null) {
+        appendListing(stack); // a new stack goes last, so the listing only grows
+      }
+    } else {
+      invalidateListing(); // the stack's count is shown mid-listing
+    }
+    stack.count++;
+    size++;
+  }
+
+  /**
+   * Removes one of an item.
+   *
+   * @param itemId The ID of the item.
+   * @return true if the item was held, false otherwise.
+   */
+  public boolean remove(String itemId) {
+    Stack stack = stacks.get(itemId);
+    if (stack == null) {
+      return false;
+    }
+    size--;
+    invalidateListing();
+    if (--stack.count == 0) {
+      stacks.remove(itemId);
+      unindex(idsByName, stack.folded, itemId);
+      unindex(idsByConsumable, stack.consumable, itemId);
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether the inventory holds an item.
+   *
+   * @param itemId The ID of the item.
+   * @return true if at least one of the item is held.
+   */
+  public boolean contains(String itemId) {
+    return stacks.containsKey(itemId);
+  }
+
+  /**
+   * Gets how many of an item the inventory holds.
+   *
+   * @param itemId The ID of the item.
+   * @return The count, or 0 if the item is not held.
+   */
+  public int count(String itemId) {
+    Stack stack = stacks.get(itemId);
+    return stack == null ? 0 : stack.count;
+  }
+
+  /**
+   * Finds a held item by its name (case-insensitive).
+   *
+   * @param name The name of the item.
+   * @return The ID of the first held item with that name, or null if there is none.
+   */
+  public String findByName(String name) {
+    if (name == null) {
+      return null;
+    }
+    Set<String> ids = idsByName.get(fold(name));
+    return ids == null ? null : ids.iterator().next();
+  }
+
+  /**
+   * Finds a held consumable by its type.
+   *
+   * @param type The consumable type.
+   * @return The ID of the first held consumable of that type, or null if there is none.
+   */
+  public String findConsumable(Item.ConsumableType type) {
+    Set<String> ids = type == null ? null : idsByConsumable.get(type);
+    return ids == null ? null : ids.iterator().next();
+  }
+
+  /**
+   * Gets the distinct items held with their counts.
+   *
+   * @return A copy of the counts, keyed by item ID in the order items were first added.
+   */
+  public Map<String, Integer> stacks() {
+    Map<String, Integer> counts = new LinkedHashMap<>();
+    stacks.forEach((id, stack) -> counts.put(id, stack.count));
+    return counts;
+  }
+
+  /**
+   * Gets the number of items held, counting every copy.
+   *
+   * @return The number of items.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the inventory is empty.
+   *
+   * @return true if no items are held.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Removes every item. */
+  public void clear() {
+    stacks.clear();
+    idsByName.clear();
+    idsByConsumable.clear();
+    size = 0;
+    listing = new StringBuilder();
+    listed = null;
+  }
+
+  /**
+   * Lists the named items held, one entry per stack in the order items were first added, with a
+   * count for stacks of more than one, e.g. {@code "Steel Sword, Health Potion (x3)"}. Items added
+   * by ID only are left out.
+   *
+   * @return The listing, or an empty string if no named items are held.
+   */
+  public String describe() {
+    if (listing == null) {
+      listing = new StringBuilder();
+      for (Stack stack : stacks.values()) {
+        appendListing(stack);
+      }
+    }
+    if (listed == null) {
+      listed = listing.toString();
+    }
+    return listed;
+  }
+
+  /**
+   * Returns a read-only list view with one entry per copy held, stacks in the order they were first
+   * added. Membership checks on the view use the index; positional access walks the stacks.
+   *
+   * @return The item IDs.
+   */
+  public List<String> asList() {
+    return new AbstractList<>() {
+      @Override
+      public String get(int index) {
+        if (index < 0 || index >= size) {
+          throw new IndexOutOfBoundsException("Index " + index + " out of bounds: " + size);
+        }
+        for (Map.Entry<String, Stack> entry : stacks.entrySet()) {
+          if (index < entry.getValue().count) {
+            return entry.getKey();
+          }
+          index -= entry.getValue().count;
+        }
+        throw new IllegalStateException("Inventory size is out of sync with its stacks");
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        return o instanceof String id && stacks.containsKey(id);
+      }
+
+      @Override
+      public Iterator<String> iterator() {
+        Iterator<Map.Entry<String, Stack>> entries = stacks.entrySet().iterator();
+        return new Iterator<>() {
+          private String id;
+          private int left;
+
+          @Override
+          public boolean hasNext() {
+            return left > 0 || entries.hasNext();
+          }
+
+          @Override
+          public String next() {
+            if (left == 0) {
+              Map.Entry<String, Stack> entry = entries.next();
+              id = entry.getKey();
+              left = entry.getValue().count;
+            }
+            left--;
+            return id;
+          }
+        };
+      }
+    };
+  }
+
+  private void invalidateListing() {
+    listing = null;
+    listed = null;
+  }
+
+  /** Appends a stack with its current count to the listing. */
+  private void appendListing(Stack stack) {
+    listed = null;
+    if (stack.name == null) {
+      return;
+    }
+    if (!listing.isEmpty()) {
+      listing.append(", ");
+    }
+    listing.append(stack.name);
+    if (stack.count > 1) {
+      listing.append(" (x").append(stack.count).append(')');
+    }
+  }
+
+  private static <K> void unindex(Map<K, Set<String>> index, K key, String itemId) {
+    if (key == null) {
+      return;
+    }
+    Set<String> ids = index.get(key);
+    ids.remove(itemId);
+    if (ids.isEmpty()) {
+      index.remove(key);
+    }
+  }
+
+  private static String fold(String name) {
+    char[] chars = new char[name.length()];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = java.lang.Character.toLowerCase(java.lang.Character.toUpperCase(name.charAt(i)));
+    }
+    return new String(chars);
+  }
+}
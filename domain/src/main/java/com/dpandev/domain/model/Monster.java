@@ -7,6 +7,10 @@ package com.dpandev.domain.model;
 public class Monster extends Character {
   private final String description;
   private final double criticalHitThreshold; // Threshold for double damage (0.0 to 1.0)
+  private String presence; // last presence line, built for the name and health below
+  private String presenceName;
+  private int presenceHealth;
+  private int presenceMaxHealth;
 
   /**
    * Constructs a new Monster with the specified attributes.
@@ -62,4 +66,45 @@ public class Monster extends Character {
   public double getCriticalHitThreshold() {
     return criticalHitThreshold;
   }
+
+  /**
+   * Describes the monster's presence in a room with its health, e.g. {@code "There is a Goblin
+   * here! (HP: 12/30)"}, ending with a line break. The line is cached and only rebuilt when the
+   * monster's name or health has changed since the last call.
+   *
+   * @return The presence line.
+   */
+  public String describePresence() {
+    String name = getName();
+    int health = getCurrentHealth();
+    int maxHealth = getMaxHealth();
+    if (presence == null
+        || presenceName != name
+        || presenceHealth != health
+        || presenceMaxHealth != maxHealth) {
+      presence = "There is a " + name + " here! (HP: " + health + "/" + maxHealth + ")\n";
+      presenceName = name;
+      presenceHealth = health;
+      presenceMaxHealth = maxHealth;
+    }
+    return presence;
+  }
+
+  /**
+   * Creates an independent copy of this monster, including its current health.
+   *
+   * @return a copy of this monster
+   */
+  public Monster copy() {
+    Monster copy =
+        new Monster(
+            getName(),
+            description,
+            getMaxHealth(),
+            getBaseAttack(),
+            getBaseDefense(),
+            criticalHitThreshold);
+    copy.setCurrentHealth(getCurrentHealth());
+    return copy;
+  }
 }
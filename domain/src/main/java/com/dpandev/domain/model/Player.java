@@ -1,20 +1,28 @@
 package com.dpandev.domain.model;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Represents a player in the game with attributes such as name, score, current room, inventory
  * items, puzzles solved, and rooms visited.
+ *
+ * <p>Rooms visited and puzzles solved are bitsets over the dense room and puzzle handles of the
+ * world the player is in (see {@code World.roomHandle}), so membership is one bit test and a player
+ * who has seen every room of a large world costs a bit per room rather than a string.
+ *
+ * <p>The inventory and equipment are keyed by item ID, not by handle, since a loaded save may hold
+ * items the current pack does not define.
  */
 public final class Player extends Character {
   private int score = 0;
   private String roomId;
-  private final List<String> inventoryItems;
-  private List<String> puzzlesSolved;
-  private final List<String> roomsVisited;
+  private final Inventory inventory = new Inventory();
+  private final BitSet puzzlesSolved = new BitSet();
+  private final BitSet roomsVisited = new BitSet();
   private final Map<EquipmentSlot, String> equippedItems = new HashMap<>();
 
   /** Enum representing different equipment slots for the player. */
@@ -32,11 +40,19 @@ public final class Player extends Character {
    * @param name The name of the player.
    */
   public Player(String name, String startingRoomId) {
-    super(name, 100);
+    this(UUID.randomUUID(), name, startingRoomId);
+  }
+
+  /**
+   * Constructs a new Player with a known ID, so a returning player can find their saves.
+   *
+   * @param id The player's unique ID.
+   * @param name The name of the player.
+   * @param startingRoomId The ID of the room the player starts in.
+   */
+  public Player(UUID id, String name, String startingRoomId) {
+    super(id, name, 100);
     this.roomId = startingRoomId;
-    this.inventoryItems = new ArrayList<String>();
-    this.puzzlesSolved = new ArrayList<String>();
-    this.roomsVisited = new ArrayList<String>();
     increaseBaseAttack(10);
     increaseBaseDefense(0);
   }
@@ -87,31 +103,40 @@ public final class Player extends Character {
   }
 
   /**
-   * Gets the list of item IDs in the player's inventory.
+   * Gets the player's inventory.
    *
-   * @return A list of item IDs.
+   * @return The inventory, which can be changed directly.
+   */
+  public Inventory getInventory() {
+    return inventory;
+  }
+
+  /**
+   * Gets the item IDs in the player's inventory, one entry per copy held.
+   *
+   * @return A read-only list of item IDs, in the order items were first picked up.
    */
   public List<String> getInventoryItemIds() {
-    return inventoryItems;
+    return inventory.asList();
   }
 
   /**
    * Adds an item to the player's inventory.
    *
-   * @param itemId The ID of the item to add.
+   * @param item The item to add.
    */
-  public void addItemToInventory(String itemId) {
-    this.inventoryItems.add(itemId);
+  public void addItemToInventory(Item item) {
+    inventory.add(item);
   }
 
   /**
-   * Removes an item from the player's inventory.
+   * Removes one of an item from the player's inventory.
    *
    * @param itemId The ID of the item to remove.
    * @return true if the item was removed, false otherwise.
    */
   public boolean removeItemFromInventory(String itemId) {
-    return this.inventoryItems.remove(itemId);
+    return inventory.remove(itemId);
   }
 
   /**
@@ -121,43 +146,123 @@ public final class Player extends Character {
    * @return true if the item is in the inventory, false otherwise.
    */
   public boolean hasItemInInventory(String itemId) {
-    return this.inventoryItems.contains(itemId);
+    return inventory.contains(itemId);
+  }
+
+  /**
+   * Checks if the player has solved a puzzle.
+   *
+   * @param puzzleHandle The handle of the puzzle.
+   * @return true if the puzzle is solved, false otherwise or if the handle is negative.
+   */
+  public boolean hasSolved(int puzzleHandle) {
+    return puzzleHandle >= 0 && puzzlesSolved.get(puzzleHandle);
+  }
+
+  /**
+   * Marks a puzzle as solved by the player.
+   *
+   * @param puzzleHandle The handle of the puzzle.
+   * @return true if the puzzle was not solved before.
+   * @throws IndexOutOfBoundsException if the handle is negative.
+   */
+  public boolean markSolved(int puzzleHandle) {
+    if (puzzlesSolved.get(puzzleHandle)) {
+      return false;
+    }
+    puzzlesSolved.set(puzzleHandle);
+    return true;
+  }
+
+  /**
+   * Gets the number of puzzles solved by the player.
+   *
+   * @return The number of solved puzzles.
+   */
+  public int getPuzzlesSolvedCount() {
+    return puzzlesSolved.cardinality();
+  }
+
+  /**
+   * Gets the puzzles solved by the player.
+   *
+   * @return A copy of the set of solved puzzle handles.
+   */
+  public BitSet getPuzzlesSolved() {
+    return (BitSet) puzzlesSolved.clone();
+  }
+
+  /**
+   * Replaces the puzzles solved by the player.
+   *
+   * @param puzzleHandles The set of solved puzzle handles.
+   */
+  public void setPuzzlesSolved(BitSet puzzleHandles) {
+    puzzlesSolved.clear();
+    puzzlesSolved.or(puzzleHandles);
+  }
+
+  /**
+   * Checks if the player has visited a room.
+   *
+   * @param roomHandle The handle of the room.
+   * @return true if the room was visited, false otherwise or if the handle is negative.
+   */
+  public boolean hasVisited(int roomHandle) {
+    return roomHandle >= 0 && roomsVisited.get(roomHandle);
+  }
+
+  /**
+   * Marks a room as visited by the player.
+   *
+   * @param roomHandle The handle of the room.
+   * @return true if this is the first visit to the room.
+   * @throws IndexOutOfBoundsException if the handle is negative.
+   */
+  public boolean markVisited(int roomHandle) {
+    if (roomsVisited.get(roomHandle)) {
+      return false;
+    }
+    roomsVisited.set(roomHandle);
+    return true;
   }
 
   /**
-   * Gets the list of puzzles solved by the player.
+   * Gets the number of rooms visited by the player.
    *
-   * @return A list of puzzle IDs that the player has solved.
+   * @return The number of visited rooms.
    */
-  public List<String> getPuzzlesSolved() {
-    return puzzlesSolved;
+  public int getRoomsVisitedCount() {
+    return roomsVisited.cardinality();
   }
 
   /**
-   * Sets the list of puzzles solved by the player.
+   * Gets the share of a world's rooms the player has visited.
    *
-   * @param puzzlesSolved A list of puzzle IDs that the player has solved.
+   * @param roomCount The number of rooms in the world.
+   * @return The percentage of rooms visited, from 0 to 100, or 0 for a world without rooms.
    */
-  public void setPuzzlesSolved(List<String> puzzlesSolved) {
-    this.puzzlesSolved = puzzlesSolved;
+  public double getExplorationPercentage(int roomCount) {
+    return roomCount <= 0 ? 0 : 100.0 * roomsVisited.cardinality() / roomCount;
   }
 
   /**
-   * Gets the list of rooms visited by the player.
+   * Gets the rooms visited by the player.
    *
-   * @return A list of room IDs that the player has visited.
+   * @return A copy of the set of visited room handles.
    */
-  public List<String> getRoomsVisited() {
-    return roomsVisited;
+  public BitSet getRoomsVisited() {
+    return (BitSet) roomsVisited.clone();
   }
 
   /**
-   * Adds a room to the list of rooms visited by the player.
+   * Replaces the rooms visited by the player.
    *
-   * @param roomId The ID of the room to add.
+   * @param roomHandles The set of visited room handles.
    */
-  public void addRoomToRoomsVisited(String roomId) {
-    this.roomsVisited.add(roomId);
+  public void setRoomsVisited(BitSet roomHandles) {
+    roomsVisited.clear();
+    roomsVisited.or(roomHandles);
   }
 
   /**
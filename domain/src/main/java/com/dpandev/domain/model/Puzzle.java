@@ -1,5 +1,6 @@
 package com.dpandev.domain.model;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /** Represents a puzzle in the game */
@@ -87,6 +88,15 @@ public class Puzzle {
     this.attemptsLeft = this.maxAttempts;
   }
 
+  /**
+   * Sets the attempts left, clamped to between zero and the maximum attempts.
+   *
+   * @param attemptsLeft the attempts left to set
+   */
+  public void setAttemptsLeft(int attemptsLeft) {
+    this.attemptsLeft = Math.max(0, Math.min(attemptsLeft, maxAttempts));
+  }
+
   public void setPuzzlePhase(PuzzlePhase puzzlePhase) {
     this.puzzlePhase = puzzlePhase;
   }
@@ -106,4 +116,23 @@ public class Puzzle {
   public void setSolution(Map<String, Object> solution) {
     this.solution.putAll(solution);
   }
+
+  /**
+   * Creates an independent copy of this puzzle, including its current phase and attempts left.
+   *
+   * @return a copy of this puzzle
+   */
+  public Puzzle copy() {
+    Puzzle copy =
+        new Puzzle(
+            id,
+            description,
+            puzzleType,
+            solution == null ? null : new HashMap<>(solution),
+            puzzlePhase,
+            maxAttempts,
+            rewardItemId);
+    copy.attemptsLeft = attemptsLeft;
+    return copy;
+  }
 }
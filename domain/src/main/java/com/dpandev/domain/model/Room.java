@@ -1,27 +1,55 @@
 package com.dpandev.domain.model;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-/** Represents a room in the game. */
+/**
+ * Represents a room in the game.
+ *
+ * <p>The items in a room are held in an {@link Inventory}, so they can be found by ID or by name in
+ * constant time and listed from a cached string. A room resolves item IDs to items through an item
+ * lookup to learn their names; rooms built without one hold their items by ID only, as pack
+ * definitions do, and {@link #copy(Function)} gives a session copy a lookup.
+ *
+ * <p>A room's name, description and exits never change, so the text built from them is rendered
+ * once and shared with every copy of the room. The parts that do change, the monster and the items,
+ * are only rebuilt when they differ from the last time the room was described.
+ */
 public final class Room {
   private final String id;
   private final String name;
   private final String description;
   private final Map<String, String> exits;
-  private final List<String> itemIds;
+  private final Inventory items = new Inventory();
+  private final Function<String, Item> itemLookup; // null when items are held by ID only
   private String puzzleId;
   private String monsterId;
+  private Rendered rendered = new Rendered(); // shared with copies of this room
+  private String lookText; // last look text, built from the two parts below
+  private String lookMonster;
+  private String lookItems;
+
+  /** Text rendered from the parts of a room that never change. */
+  private static final class Rendered {
+    private volatile String entry;
+    private volatile String lookHeader;
+    private volatile String lookExits;
+    private volatile String areaMap;
+  }
 
   public Room(Builder builder) {
     this.id = builder.id;
     this.name = builder.name;
     this.description = builder.description;
     this.exits = Map.copyOf(builder.exits != null ? builder.exits : Map.of());
-    this.itemIds = new ArrayList<>(builder.itemIds != null ? builder.itemIds : List.of());
+    this.itemLookup = builder.itemLookup;
     this.puzzleId = builder.puzzleId;
     this.monsterId = builder.monsterId;
+    if (builder.itemIds != null) {
+      builder.itemIds.forEach(this::addItemToRoom);
+    }
   }
 
   public String getId() {
@@ -44,26 +72,211 @@ public final class Room {
     return puzzleId;
   }
 
+  /**
+   * Gets the IDs of the items in the room, one entry per copy.
+   *
+   * @return A read-only list of item IDs, in the order items were first added.
+   */
   public List<String> getItemIds() {
-    return itemIds;
+    return items.asList();
+  }
+
+  /**
+   * Replaces the items in the room.
+   *
+   * @param itemIds The IDs of the items, one entry per copy.
+   */
+  public void setItemIds(List<String> itemIds) {
+    items.clear();
+    itemIds.forEach(this::addItemToRoom);
   }
 
+  /**
+   * Adds an item to the room, resolving its name through the room's item lookup.
+   *
+   * @param itemId The ID of the item.
+   */
   public void addItemToRoom(String itemId) {
-    this.itemIds.add(itemId);
+    Item item = itemLookup == null ? null : itemLookup.apply(itemId);
+    if (item != null) {
+      items.add(item);
+    } else {
+      items.add(itemId);
+    }
+  }
+
+  /**
+   * Adds an item to the room.
+   *
+   * @param item The item to add.
+   */
+  public void addItemToRoom(Item item) {
+    items.add(item);
   }
 
   public boolean hasItem(String itemId) {
-    return this.itemIds.contains(itemId);
+    return items.contains(itemId);
+  }
+
+  /**
+   * Removes one copy of an item from the room.
+   *
+   * @param itemId The ID of the item.
+   * @return true if the item was in the room.
+   */
+  public boolean removeItemFromRoom(String itemId) {
+    return items.remove(itemId);
+  }
+
+  /**
+   * Finds an item in the room by its name (case-insensitive).
+   *
+   * @param itemName The name of the item.
+   * @return The ID of the first item in the room with that name, or null if there is none.
+   */
+  public String findItemByName(String itemName) {
+    return items.findByName(itemName);
   }
 
-  public void removeItemFromRoom(String itemId) {
-    this.itemIds.remove(itemId);
+  /**
+   * Lists the items in the room by name, e.g. {@code "Steel Sword, Health Potion (x3)"}. The
+   * listing is cached and kept up to date as items come and go.
+   *
+   * @return The listing, or an empty string if the room has no items with known names.
+   */
+  public String describeItems() {
+    return items.describe();
   }
 
   public String getMonsterId() {
     return monsterId;
   }
 
+  /**
+   * Describes the room for a player entering it: name, description and exits.
+   *
+   * @return The description, rendered once and shared by every copy of the room.
+   */
+  public String describeEntry() {
+    String entry = rendered.entry;
+    if (entry == null) {
+      StringBuilder sb = new StringBuilder();
+      sb.append(name).append("\n");
+      sb.append(description).append("\n");
+      if (!exits.isEmpty()) {
+        sb.append("Exits: ").append(String.join(", ", exits.keySet()));
+      }
+      entry = sb.toString();
+      rendered.entry = entry;
+    }
+    return entry;
+  }
+
+  /**
+   * Describes the room for a player looking around: name, description, monster, items and exits.
+   * The text is cached and only rebuilt when the monster line or the room's items have changed
+   * since the last call.
+   *
+   * @param monsterLine The line describing the monster in the room, or null if there is none.
+   * @return The description.
+   */
+  public String describeLook(String monsterLine) {
+    String itemListing = items.describe(); // the same instance until the items change
+    if (lookText != null && lookMonster == monsterLine && lookItems == itemListing) {
+      return lookText;
+    }
+    String header = lookHeader();
+    String exitsLine = lookExits();
+    StringBuilder sb =
+        new StringBuilder(header.length() + exitsLine.length() + itemListing.length() + 64);
+    sb.append(header);
+    if (monsterLine != null) {
+      sb.append(monsterLine);
+    }
+    if (!itemListing.isEmpty()) {
+      sb.append("You see: ").append(itemListing).append("\n");
+    } else {
+      sb.append("There are no items here.\n");
+    }
+    sb.append(exitsLine);
+    lookText = sb.toString();
+    lookMonster = monsterLine;
+    lookItems = itemListing;
+    return lookText;
+  }
+
+  /**
+   * Gets the map of the room and its neighbours, rendering it on first use. The map must only show
+   * what never changes, such as room names and exits, because it is shared by every copy of the
+   * room.
+   *
+   * @param render Renders the map.
+   * @return The map.
+   */
+  public String describeArea(Supplier<String> render) {
+    String areaMap = rendered.areaMap;
+    if (areaMap == null) {
+      areaMap = render.get();
+      rendered.areaMap = areaMap;
+    }
+    return areaMap;
+  }
+
+  private String lookHeader() {
+    String header = rendered.lookHeader;
+    if (header == null) {
+      header = "You are in " + name + ".\n" + description + "\n";
+      rendered.lookHeader = header;
+    }
+    return header;
+  }
+
+  private String lookExits() {
+    String exitsLine = rendered.lookExits;
+    if (exitsLine == null) {
+      exitsLine =
+          exits.isEmpty()
+              // this should not happen at all - all rooms have at least one exit
+              ? "There are no exits from this room.\n"
+              : "Exits: " + String.join(", ", exits.keySet()) + "\n";
+      rendered.lookExits = exitsLine;
+    }
+    return exitsLine;
+  }
+
+  /**
+   * Creates an independent copy of this room. Exits and the text rendered from them are immutable
+   * and shared with the copy; the items are copied so either room can be mutated without affecting
+   * the other.
+   *
+   * @return a copy of this room
+   */
+  public Room copy() {
+    return copy(itemLookup);
+  }
+
+  /**
+   * Creates an independent copy of this room that resolves item names through the given lookup.
+   *
+   * @param itemLookup Resolves an item ID to the item, or to null if there is no such item.
+   * @return a copy of this room
+   */
+  public Room copy(Function<String, Item> itemLookup) {
+    Room copy =
+        builder()
+            .id(id)
+            .name(name)
+            .description(description)
+            .exits(exits)
+            .itemIds(getItemIds())
+            .itemLookup(itemLookup)
+            .puzzleId(puzzleId)
+            .monsterId(monsterId)
+            .build();
+    copy.rendered = rendered;
+    return copy;
+  }
+
   /** Builder pattern for creating Room instances */
   public static Builder builder() {
     return new Builder();
@@ -76,6 +289,7 @@ public final class Room {
     private String description;
     private Map<String, String> exits;
     private List<String> itemIds;
+    private Function<String, Item> itemLookup;
     private String puzzleId;
     private String monsterId;
 
@@ -104,6 +318,11 @@ public final class Room {
       return this;
     }
 
+    public Builder itemLookup(Function<String, Item> itemLookup) {
+      this.itemLookup = itemLookup;
+      return this;
+    }
+
     public Builder puzzleId(String puzzleId) {
       this.puzzleId = puzzleId;
       return this;
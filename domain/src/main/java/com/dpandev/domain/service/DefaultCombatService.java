@@ -4,19 +4,23 @@ import com.dpandev.domain.model.Monster;
 import com.dpandev.domain.model.Room;
 import com.dpandev.domain.utils.GameContext;
 import java.util.Optional;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
-/** Default implementation of CombatService for turn-based combat. */
+/**
+ * Default implementation of CombatService for turn-based combat. Rolls come from the session's own
+ * generator ({@link GameContext#random()}), so one instance can be shared by every session without
+ * contention and a session's fights replay exactly from its seed.
+ */
 public final class DefaultCombatService implements CombatService {
 
-  private final Random random;
+  private final RandomGenerator random; // null: use the session's generator
 
   public DefaultCombatService() {
-    this.random = new Random();
+    this.random = null;
   }
 
-  // Constructor for testing with seeded random
-  public DefaultCombatService(Random random) {
+  // Constructor for testing: every session rolls from the given generator instead of its own
+  public DefaultCombatService(RandomGenerator random) {
     this.random = random;
   }
 
@@ -120,7 +124,7 @@ public final class DefaultCombatService implements CombatService {
 
     // Monster turn - attack
     sb.append("\n");
-    int monsterDamage = calculateMonsterDamage(monster);
+    int monsterDamage = calculateMonsterDamage(ctx, monster);
     int actualPlayerDamage = Math.max(0, monsterDamage - player.getBaseDefense());
     player.takeDamage(actualPlayerDamage);
 
@@ -233,11 +237,13 @@ public final class DefaultCombatService implements CombatService {
   /**
    * Calculate the damage the monster deals, with chance for critical hit (double damage).
    *
+   * @param ctx the game context, whose generator supplies the roll
    * @param monster the monster attacking
    * @return the damage dealt
    */
-  private int calculateMonsterDamage(Monster monster) {
-    double roll = random.nextDouble(); // random num between 0.0 and 1.0
+  private int calculateMonsterDamage(GameContext ctx, Monster monster) {
+    RandomGenerator rng = random != null ? random : ctx.random();
+    double roll = rng.nextDouble(); // random num between 0.0 and 1.0
     int baseDamage = monster.getBaseAttack();
 
     // If roll is below threshold, deal double damage
@@ -1,8 +1,9 @@
 package com.dpandev.domain.service;
 
-import com.dpandev.domain.model.Item;
+import com.dpandev.domain.model.Monster;
 import com.dpandev.domain.model.Room;
 import com.dpandev.domain.utils.GameContext;
+import java.util.List;
 import java.util.Optional;
 
 public final class DefaultExplorationService implements ExplorationService {
@@ -29,55 +30,19 @@ public final class DefaultExplorationService implements ExplorationService {
     // alt Room room = world.getRoomById(player.getRoomId()).get(); // safe due to isEmpty() check
     // above
 
-    StringBuilder sb = new StringBuilder();
-    sb.append("You are in ")
-        .append(room.getName())
-        .append(".\n")
-        .append(room.getDescription())
-        .append("\n");
-
-    // list monsters in the room
+    // describe the monster in the room, if it is still alive
+    String monsterLine = null;
     if (room.getMonsterId() != null) {
-      world
-          .findMonster(room.getMonsterId())
-          .ifPresent(
-              monster -> {
-                if (monster.isAlive()) {
-                  sb.append("There is a ")
-                      .append(monster.getName())
-                      .append(" here! (HP: ")
-                      .append(monster.getCurrentHealth())
-                      .append("/")
-                      .append(monster.getMaxHealth())
-                      .append(")\n");
-                }
-              });
+      monsterLine =
+          world
+              .findMonster(room.getMonsterId())
+              .filter(Monster::isAlive)
+              .map(Monster::describePresence)
+              .orElse(null);
     }
 
-    // list items in the room by name
-    if (!room.getItemIds().isEmpty()) {
-      sb.append("You see: ");
-      var itemNames =
-          room.getItemIds().stream()
-              .map(world::findItem)
-              .filter(Optional::isPresent)
-              .map(Optional::get)
-              .map(Item::getName)
-              .toList();
-      sb.append(String.join(", ", itemNames)).append("\n");
-    } else {
-      sb.append("There are no items here.\n");
-    }
-
-    // list exits
-    if (!room.getExits().isEmpty()) {
-      sb.append("Exits: ").append(String.join(", ", room.getExits().keySet())).append("\n");
-    } else {
-      // this should not happen at all - all rooms have at least one exit
-      sb.append("There are no exits from this room.\n");
-    }
-
-    return CommandResult.success(sb.toString());
+    // the room caches its text and only rebuilds it when the monster line or its items change
+    return CommandResult.success(room.describeLook(monsterLine));
   }
 
   @Override
@@ -89,8 +54,9 @@ public final class DefaultExplorationService implements ExplorationService {
     var world = ctx.world();
     var player = ctx.player();
 
-    // validate current room
-    Optional<Room> currentRoomOpt = world.getRoomById(player.getRoomId());
+    // validate current room, resolving its handle once so the move never hashes a room ID again
+    int currentHandle = world.roomHandle(player.getRoomId());
+    Optional<Room> currentRoomOpt = world.findRoom(currentHandle);
     if (currentRoomOpt.isEmpty()) {
       return CommandResult.fail("Your current location is unknown."); // this should not happen
     }
@@ -106,22 +72,18 @@ public final class DefaultExplorationService implements ExplorationService {
     }
 
     // verify the destination room exists
-    String destRoomId = currentRoom.getExits().get(direction.toLowerCase());
-    if (!isValidRoomId(destRoomId, ctx)) {
+    int destHandle = world.findExit(currentHandle, direction.toLowerCase());
+    Optional<Room> destRoomOpt = world.findRoom(destHandle);
+    if (destRoomOpt.isEmpty()) {
       return CommandResult.fail("There is no room in that direction. Try another direction.");
     }
 
     // move to new room
-    player.setRoomId(destRoomId);
-
-    // Check if destination room has a puzzle and delegate to InteractionService
-    Optional<Room> destRoomOpt = world.getRoomById(destRoomId);
-    if (destRoomOpt.isEmpty()) {
-      return CommandResult.fail("Unable to enter the destination room.");
-    }
+    player.setRoomId(world.getRoomIds().id(destHandle));
+    player.markVisited(destHandle);
 
     Room destRoom = destRoomOpt.get();
-    String roomDescription = formatRoomEntry(destRoom);
+    String roomDescription = destRoom.describeEntry();
 
     if (destRoom.getPuzzleId() != null) {
       CommandResult puzzleResult = interactionService.presentPuzzle(ctx, destRoom.getPuzzleId());
@@ -133,6 +95,65 @@ public final class DefaultExplorationService implements ExplorationService {
     return CommandResult.success(roomDescription);
   }
 
+  @Override
+  public CommandResult travel(GameContext ctx, String destination) {
+    if (destination == null || destination.isBlank()) {
+      return CommandResult.fail("You must specify where to travel. Try 'travel <room name>'.");
+    }
+    var world = ctx.world();
+    var player = ctx.player();
+
+    // accept a room name first, then a room ID
+    Optional<Room> destRoomOpt =
+        world.findRoomByName(destination).or(() -> world.findRoom(destination));
+    if (destRoomOpt.isEmpty()) {
+      return CommandResult.fail("You don't know of any place called '" + destination + "'.");
+    }
+    Room destRoom = destRoomOpt.get();
+
+    int currentHandle = world.roomHandle(player.getRoomId());
+    if (world.findRoom(currentHandle).isEmpty()) {
+      return CommandResult.fail("Your current location is unknown."); // this should not happen
+    }
+    int destHandle = world.roomHandle(destRoom.getId());
+    if (destHandle == currentHandle) {
+      return CommandResult.fail("You are already in " + destRoom.getName() + ".");
+    }
+    if (!player.hasVisited(destHandle)) {
+      return CommandResult.fail("You don't know the way to " + destRoom.getName() + " yet.");
+    }
+
+    // the route comes from the template's next-hop tables; no search happens here
+    Optional<List<String>> route = world.findRoute(currentHandle, destHandle);
+    if (route.isEmpty()) {
+      return CommandResult.fail("There is no way to reach " + destRoom.getName() + " from here.");
+    }
+
+    // walk the route through move, so every step behaves like the player typed it
+    List<String> steps = route.get();
+    CommandResult last = null;
+    int taken = 0;
+    for (String direction : steps) {
+      last = move(ctx, direction);
+      if (!last.success()) {
+        break;
+      }
+      taken++;
+      if (ctx.isAwaitingPuzzleAnswer() || hasLiveMonster(ctx, player.getRoomId())) {
+        break; // stop where something needs the player's attention
+      }
+    }
+
+    if (taken == 0) {
+      return last;
+    }
+    String walked = "You travel " + String.join(", ", steps.subList(0, taken));
+    if (taken < steps.size()) {
+      return CommandResult.success(walked + ", and stop.\n\n" + last.message());
+    }
+    return CommandResult.success(walked + ".\n\n" + last.message());
+  }
+
   @Override
   public CommandResult describeCurrentRoom(GameContext ctx) {
     var world = ctx.world();
@@ -144,29 +165,10 @@ public final class DefaultExplorationService implements ExplorationService {
     }
 
     Room room = currentRoomOpt.get();
-    String roomDescription = formatRoomEntry(room);
+    String roomDescription = room.describeEntry();
     return CommandResult.success(roomDescription);
   }
 
-  /**
-   * Format the room entry message showing name, description, and exits.
-   *
-   * @param room the room to format
-   * @return formatted room description
-   */
-  private String formatRoomEntry(Room room) {
-    StringBuilder sb = new StringBuilder();
-    sb.append(room.getName()).append("\n");
-    sb.append(room.getDescription()).append("\n");
-
-    // show exits
-    if (!room.getExits().isEmpty()) {
-      sb.append("Exits: ").append(String.join(", ", room.getExits().keySet()));
-    }
-
-    return sb.toString();
-  }
-
   @Override
   public CommandResult showStats(GameContext ctx) {
     var player = ctx.player();
@@ -203,6 +205,21 @@ public final class DefaultExplorationService implements ExplorationService {
     sb.append(" (Base: ").append(player.getBaseDefense()).append(")");
     sb.append("\n");
 
+    // show progress through the world
+    int roomCount = world.getRoomIds().size();
+    sb.append("Explored: ")
+        .append(player.getRoomsVisitedCount())
+        .append("/")
+        .append(roomCount)
+        .append(" rooms (")
+        .append(Math.round(player.getExplorationPercentage(roomCount)))
+        .append("%)\n");
+    sb.append("Puzzles solved: ")
+        .append(player.getPuzzlesSolvedCount())
+        .append("/")
+        .append(world.getPuzzleIds().size())
+        .append("\n");
+
     // Show equipped items
     sb.append("\nEquipped Items:\n");
     var equippedItems = player.getEquippedItems();
@@ -246,11 +263,17 @@ public final class DefaultExplorationService implements ExplorationService {
     };
   }
 
-  private boolean isValidRoomId(String roomId, GameContext ctx) {
-    return ctx.world().getRoomById(roomId).isPresent();
-  }
-
   private boolean isValidExit(String direction, Room room) {
     return room.getExits().containsKey(direction.toLowerCase());
   }
+
+  private boolean hasLiveMonster(GameContext ctx, String roomId) {
+    var world = ctx.world();
+    return world
+        .findRoom(roomId)
+        .map(Room::getMonsterId)
+        .flatMap(world::findMonster)
+        .filter(Monster::isAlive)
+        .isPresent();
+  }
 }
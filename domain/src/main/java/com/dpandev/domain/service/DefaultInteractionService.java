@@ -71,8 +71,9 @@ public class DefaultInteractionService implements InteractionService {
       puzzle.setPuzzlePhase(Puzzle.PuzzlePhase.SOLVED);
       ctx.setAwaitingPuzzleAnswer(false);
 
-      if (!player.getPuzzlesSolved().contains(puzzle.getId())) {
-        player.getPuzzlesSolved().add(puzzle.getId());
+      int puzzleHandle = world.puzzleHandle(puzzle.getId());
+      if (puzzleHandle >= 0) {
+        player.markSolved(puzzleHandle);
       }
 
       StringBuilder successMessage = new StringBuilder();
@@ -83,7 +84,7 @@ public class DefaultInteractionService implements InteractionService {
       if (rewardItemId != null && !rewardItemId.isBlank()) {
         var itemOpt = world.findItem(rewardItemId);
         if (itemOpt.isPresent()) {
-          player.addItemToInventory(rewardItemId);
+          player.addItemToInventory(itemOpt.get());
           successMessage.append("You received: ").append(itemOpt.get().getName()).append("\n");
         }
       }
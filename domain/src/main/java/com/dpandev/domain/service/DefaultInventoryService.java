@@ -1,5 +1,6 @@
 package com.dpandev.domain.service;
 
+import com.dpandev.domain.model.Inventory;
 import com.dpandev.domain.model.Item;
 import com.dpandev.domain.model.Monster;
 import com.dpandev.domain.model.Player;
@@ -22,42 +23,17 @@ public final class DefaultInventoryService implements InventoryService {
 
     var room = roomOpt.get();
 
-    // try to find by exact ID match first in the current room
-    if (room.hasItem(userInput)) {
-      return world.findItem(userInput);
-    }
-
-    // try to find by fuzzy name match (case-insensitive) ONLY in current room items
-    return room.getItemIds().stream()
-        .map(world::findItem)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .filter(item -> item.getName().equalsIgnoreCase(userInput))
-        .findFirst();
+    // try exact ID match first, then name match (case-insensitive), both through the room's indexes
+    String itemId = room.hasItem(userInput) ? userInput : room.findItemByName(userInput);
+    return itemId == null ? Optional.empty() : world.findItem(itemId);
   }
 
   private Optional<Item> findItemInPlayerInventory(GameContext ctx, String userInput) {
-    var player = ctx.player();
-    var world = ctx.world();
+    Inventory inventory = ctx.player().getInventory();
 
-    // try exact ID match first
-    Optional<Item> byId =
-        player.getInventoryItemIds().stream()
-            .filter(id -> id.equals(userInput))
-            .findFirst()
-            .flatMap(world::findItem);
-
-    if (byId.isPresent()) {
-      return byId;
-    }
-
-    // try name match (case-insensitive)
-    return player.getInventoryItemIds().stream()
-        .map(world::findItem)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .filter(item -> item.getName().equalsIgnoreCase(userInput))
-        .findFirst();
+    // try exact ID match first, then name match (case-insensitive), both through the indexes
+    String itemId = inventory.contains(userInput) ? userInput : inventory.findByName(userInput);
+    return itemId == null ? Optional.empty() : ctx.world().findItem(itemId);
   }
 
   private Optional<Item> findEquippedItem(GameContext ctx, String userInput) {
@@ -84,7 +60,7 @@ public final class DefaultInventoryService implements InventoryService {
   public CommandResult inventory(GameContext ctx) {
     var player = ctx.player();
     var world = ctx.world();
-    List<String> inv = player.getInventoryItemIds();
+    Inventory inv = player.getInventory();
     var equippedItems = player.getEquippedItems();
 
     StringBuilder sb = new StringBuilder();
@@ -109,16 +85,18 @@ public final class DefaultInventoryService implements InventoryService {
       return CommandResult.success(sb.toString().trim());
     }
 
+    // one line per stack, so a player carrying many copies of an item sees it once
     sb.append("=== INVENTORY ===\n");
-    for (String itemId : inv) {
+    for (var stack : inv.stacks().entrySet()) {
+      String itemId = stack.getKey();
       Optional<Item> itemOpt = world.findItem(itemId);
       if (itemOpt.isPresent()) {
         Item item = itemOpt.get();
-        sb.append("  - ")
-            .append(item.getName())
-            .append(": ")
-            .append(item.getDescription())
-            .append("\n");
+        sb.append("  - ").append(item.getName());
+        if (stack.getValue() > 1) {
+          sb.append(" (x").append(stack.getValue()).append(")");
+        }
+        sb.append(": ").append(item.getDescription()).append("\n");
       } else {
         sb.append("  - Unknown item with ID: ").append(itemId).append("\n");
       }
@@ -147,7 +125,7 @@ public final class DefaultInventoryService implements InventoryService {
 
     // add to player inv then remove from Room
     Item item = itemOpt.get();
-    player.addItemToInventory(item.getId());
+    player.addItemToInventory(item);
     currentRoomOpt.get().removeItemFromRoom(item.getId());
 
     return CommandResult.success(
@@ -182,7 +160,7 @@ public final class DefaultInventoryService implements InventoryService {
 
     Item item = itemOpt.get();
     player.removeItemFromInventory(item.getId());
-    roomOpt.get().addItemToRoom(item.getId());
+    roomOpt.get().addItemToRoom(item);
 
     return CommandResult.success(
         item.getName()
@@ -375,7 +353,8 @@ public final class DefaultInventoryService implements InventoryService {
             player.decreaseBaseDefense(prev.getDefenseBonus());
           });
       // Add previous item back to inventory
-      player.addItemToInventory(previouslyEquippedItemId);
+      prevItemOpt.ifPresentOrElse(
+          player::addItemToInventory, () -> player.getInventory().add(previouslyEquippedItemId));
     }
 
     // remove from inventory and equip
@@ -424,7 +403,7 @@ public final class DefaultInventoryService implements InventoryService {
 
     // Unequip and add back to inventory
     player.unequipItem(slotToUnequip);
-    player.addItemToInventory(item.getId());
+    player.addItemToInventory(item);
 
     return CommandResult.success("You unequipped the " + item.getName() + ".");
   }
@@ -443,16 +422,9 @@ public final class DefaultInventoryService implements InventoryService {
 
     // If no item name provided, automatically find a health potion
     if (userInput == null || userInput.isBlank()) {
+      String potionId = player.getInventory().findConsumable(Item.ConsumableType.HEALTH_POTION);
       Optional<Item> healthPotionOpt =
-          player.getInventoryItemIds().stream()
-              .map(world::findItem)
-              .filter(Optional::isPresent)
-              .map(Optional::get)
-              .filter(
-                  i ->
-                      i.getItemType() == Item.ItemType.CONSUMABLE
-                          && i.getConsumableType() == Item.ConsumableType.HEALTH_POTION)
-              .findFirst();
+          potionId == null ? Optional.empty() : world.findItem(potionId);
 
       if (healthPotionOpt.isEmpty()) {
         return CommandResult.fail("You don't have any health potions.");
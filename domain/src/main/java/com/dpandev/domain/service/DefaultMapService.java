@@ -2,6 +2,8 @@ package com.dpandev.domain.service;
 
 import com.dpandev.domain.model.Room;
 import com.dpandev.domain.utils.GameContext;
+import com.dpandev.domain.world.World;
+import com.dpandev.domain.world.WorldMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -9,8 +11,20 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-/** Default implementation of MapService that displays a visual map of nearby rooms. */
+/**
+ * Default implementation of MapService that displays a visual map of nearby rooms, or a window of
+ * the world map around the player.
+ */
 public class DefaultMapService implements MapService {
+  /** Columns of rooms shown on the world map, centred on the current room. */
+  private static final int VIEW_COLUMNS = 7;
+
+  /** Rows of rooms shown on the world map, centred on the current room. */
+  private static final int VIEW_ROWS = 5;
+
+  private static final String UNEXPLORED_TILE = "[  ??   ]";
+  private static final String EMPTY_TILE = " ".repeat(WorldMap.TILE_WIDTH);
+  private static final String HALF_TILE = " ".repeat(WorldMap.TILE_WIDTH / 2);
 
   @Override
   public CommandResult showMap(GameContext ctx) {
@@ -22,7 +36,19 @@ public class DefaultMapService implements MapService {
       return CommandResult.fail("Your current location is unknown.");
     }
 
+    // the map only shows room names and exits, which never change, so each room renders it once
     Room currentRoom = currentRoomOpt.get();
+    return CommandResult.success(currentRoom.describeArea(() -> renderArea(world, currentRoom)));
+  }
+
+  /**
+   * Render the map of a room and its neighbours.
+   *
+   * @param world the world the room belongs to
+   * @param currentRoom the room at the centre of the map
+   * @return the rendered map
+   */
+  private String renderArea(World world, Room currentRoom) {
     StringBuilder map = new StringBuilder();
 
     map.append("\n╔════════════════════════════════════════════╗\n");
@@ -105,9 +131,127 @@ public class DefaultMapService implements MapService {
       map.append(String.join(", ", exitList));
     }
 
+    return map.toString();
+  }
+
+  @Override
+  public CommandResult showWorldMap(GameContext ctx) {
+    var world = ctx.world();
+    var player = ctx.player();
+
+    int current = world.roomHandle(player.getRoomId());
+    if (world.findRoom(current).isEmpty()) {
+      return CommandResult.fail("Your current location is unknown.");
+    }
+
+    // the layout and tiles are shared by every session; only the visible window is composed here
+    WorldMap worldMap = world.getWorldMap();
+    int floor = worldMap.floor(current);
+    int left = worldMap.column(current) - VIEW_COLUMNS / 2;
+    int top = worldMap.row(current) - VIEW_ROWS / 2;
+
+    StringBuilder map = new StringBuilder();
+    map.append("\n╔════════════════════════════════════════════╗\n");
+    map.append("║                 WORLD MAP                  ║\n");
+    map.append("╚════════════════════════════════════════════╝\n");
+    map.append("  Floor ").append(floor).append("\n\n");
+
+    for (int row = top; row < top + VIEW_ROWS; row++) {
+      int lineStart = map.length();
+      for (int column = left; column < left + VIEW_COLUMNS; column++) {
+        int room = worldMap.roomAt(column, row, floor);
+        map.append(tileOf(ctx, worldMap, room, current, column, row, floor));
+        int east = worldMap.roomAt(column + 1, row, floor);
+        boolean link = room >= 0 && worldMap.linksEast(room);
+        boolean shown = link && (isKnown(ctx, room, current) || isKnown(ctx, east, current));
+        map.append(shown ? '-' : ' ');
+      }
+      trimLine(map, lineStart);
+
+      if (row < top + VIEW_ROWS - 1) {
+        lineStart = map.length();
+        for (int column = left; column < left + VIEW_COLUMNS; column++) {
+          int room = worldMap.roomAt(column, row, floor);
+          int south = worldMap.roomAt(column, row + 1, floor);
+          boolean link = room >= 0 && worldMap.linksSouth(room);
+          boolean shown = link && (isKnown(ctx, room, current) || isKnown(ctx, south, current));
+          map.append(shown ? HALF_TILE + "|" + HALF_TILE + " " : EMPTY_TILE + " ");
+        }
+        trimLine(map, lineStart);
+      }
+    }
+
+    map.append("\n  < > = Current Location   ?? = Unexplored   ^ v ↕ = Stairs up, down, both\n");
+    int roomCount = world.getRoomIds().size();
+    map.append("  Explored: ")
+        .append(player.getRoomsVisitedCount())
+        .append("/")
+        .append(roomCount)
+        .append(" rooms");
+
     return CommandResult.success(map.toString());
   }
 
+  /**
+   * Pick the tile drawn for a cell of the world map. Visited rooms show their name; rooms joined to
+   * a visited room show as unexplored; everything else stays hidden.
+   *
+   * @param ctx the game context
+   * @param worldMap the world map
+   * @param room the room in the cell, or a negative handle for an empty cell
+   * @param current the handle of the current room
+   * @param column the column of the cell
+   * @param row the row of the cell
+   * @param floor the floor shown
+   * @return the tile
+   */
+  private String tileOf(
+      GameContext ctx, WorldMap worldMap, int room, int current, int column, int row, int floor) {
+    if (room < 0) {
+      return EMPTY_TILE;
+    }
+    if (isKnown(ctx, room, current)) {
+      return worldMap.tile(room, room == current);
+    }
+    int west = worldMap.roomAt(column - 1, row, floor);
+    int north = worldMap.roomAt(column, row - 1, floor);
+    boolean nextToKnown =
+        (west >= 0 && worldMap.linksEast(west) && isKnown(ctx, west, current))
+            || (north >= 0 && worldMap.linksSouth(north) && isKnown(ctx, north, current))
+            || (worldMap.linksEast(room)
+                && isKnown(ctx, worldMap.roomAt(column + 1, row, floor), current))
+            || (worldMap.linksSouth(room)
+                && isKnown(ctx, worldMap.roomAt(column, row + 1, floor), current));
+    return nextToKnown ? UNEXPLORED_TILE : EMPTY_TILE;
+  }
+
+  /**
+   * Check whether the player knows a room, either from visiting it or from standing in it.
+   *
+   * @param ctx the game context
+   * @param room the room handle, may be negative for an empty cell
+   * @param current the handle of the current room
+   * @return true if the room is known
+   */
+  private boolean isKnown(GameContext ctx, int room, int current) {
+    return room >= 0 && (room == current || ctx.player().hasVisited(room));
+  }
+
+  /**
+   * End a line of the world map, dropping its trailing spaces.
+   *
+   * @param map the map being built
+   * @param lineStart the index where the line starts
+   */
+  private void trimLine(StringBuilder map, int lineStart) {
+    int end = map.length();
+    while (end > lineStart && map.charAt(end - 1) == ' ') {
+      end--;
+    }
+    map.setLength(end);
+    map.append('\n');
+  }
+
   /**
    * Center text within a given width.
    *
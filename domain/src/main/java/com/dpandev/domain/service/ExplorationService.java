@@ -22,6 +22,16 @@ public interface ExplorationService {
    */
   CommandResult move(GameContext ctx, String direction);
 
+  /**
+   * Move the player along the shortest route to a room they have already visited, one step at a
+   * time, stopping early if something on the way needs their attention.
+   *
+   * @param ctx the game context
+   * @param destination the name or ID of the room to travel to
+   * @return the result of the travel command
+   */
+  CommandResult travel(GameContext ctx, String destination);
+
   /**
    * Get a description of the current room (name, description, and exits). This is used when
    * entering a room or starting the game.
@@ -11,4 +11,13 @@ public interface MapService {
    * @return the result of the map command
    */
   CommandResult showMap(GameContext ctx);
+
+  /**
+   * Display the part of the world map around the current room, showing only the rooms the player
+   * has visited and the unexplored rooms next to them.
+   *
+   * @param ctx the game context
+   * @return the result of the map command
+   */
+  CommandResult showWorldMap(GameContext ctx);
 }
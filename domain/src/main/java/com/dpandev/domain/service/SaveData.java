@@ -1,12 +1,15 @@
 package com.dpandev.domain.service;
 
+import com.dpandev.domain.world.WorldDelta;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
- * Represents the saved data of a player's game state.
+ * Represents the saved data of a player's game state. A player can keep several saves, one per
+ * named slot; saves made without a slot go to {@link #DEFAULT_SLOT}.
  *
  * @param worldVersion the version of the world
  * @param playerId the unique ID of the player
@@ -22,6 +25,8 @@ import java.util.UUID;
  * @param puzzlesSolved list of puzzle IDs the player has solved
  * @param roomsVisited list of room IDs the player has visited
  * @param savedAt the timestamp when the game was saved
+ * @param worldDelta the changes the player made to the world, relative to the pack version
+ * @param slot the save slot, see {@link #isValidSlot(String)}
  */
 public record SaveData(
     String worldVersion,
@@ -37,4 +42,74 @@ public record SaveData(
     int baseDefense,
     List<String> puzzlesSolved,
     List<String> roomsVisited,
-    Instant savedAt) {}
+    Instant savedAt,
+    WorldDelta worldDelta,
+    String slot) {
+
+  /** The slot used when a save is made or read without naming one. */
+  public static final String DEFAULT_SLOT = "default";
+
+  private static final Pattern SLOT_NAME = Pattern.compile("[a-z0-9_-]{1,32}");
+
+  /**
+   * Treats a missing world delta as an unchanged world and a missing slot as the default one.
+   *
+   * @throws IllegalArgumentException if the slot name is not valid
+   */
+  public SaveData {
+    worldDelta = worldDelta == null ? WorldDelta.EMPTY : worldDelta;
+    slot = slot == null ? DEFAULT_SLOT : slot;
+    if (!isValidSlot(slot)) {
+      throw new IllegalArgumentException("Invalid save slot name: " + slot);
+    }
+  }
+
+  /**
+   * Creates save data in the default slot for an unchanged world, as read from saves written before
+   * world changes were recorded.
+   */
+  public SaveData(
+      String worldVersion,
+      UUID playerId,
+      String playerName,
+      String roomId,
+      List<String> itemIds,
+      Map<String, String> equippedItems,
+      int score,
+      int currentHealth,
+      int maxHealth,
+      int baseAttack,
+      int baseDefense,
+      List<String> puzzlesSolved,
+      List<String> roomsVisited,
+      Instant savedAt) {
+    this(
+        worldVersion,
+        playerId,
+        playerName,
+        roomId,
+        itemIds,
+        equippedItems,
+        score,
+        currentHealth,
+        maxHealth,
+        baseAttack,
+        baseDefense,
+        puzzlesSolved,
+        roomsVisited,
+        savedAt,
+        WorldDelta.EMPTY,
+        DEFAULT_SLOT);
+  }
+
+  /**
+   * Checks whether a slot name is valid: 1 to 32 lowercase letters, digits, underscores or hyphens,
+   * so it can safely be part of a file name.
+   *
+   * @param slot the slot name
+   * @return true if the name is valid
+   */
+  public static boolean isValidSlot(String slot) {
+    return slot != null && SLOT_NAME.matcher(slot).matches();
+  }
+}
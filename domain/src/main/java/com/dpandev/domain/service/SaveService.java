@@ -2,16 +2,30 @@ package com.dpandev.domain.service;
 
 import com.dpandev.domain.spi.SaveRepository;
 import com.dpandev.domain.utils.GameContext;
+import com.dpandev.domain.utils.IdTable;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
-/** Service responsible for saving and loading game data. */
-public final class SaveService {
+/**
+ * Service responsible for saving and loading game data.
+ *
+ * <p>A player can keep one save per named slot; saving or loading without a slot uses {@link
+ * SaveData#DEFAULT_SLOT}, except that loading without a slot picks the most recent save.
+ *
+ * <p>By default saves are written synchronously. A service created with {@link #writeBehind}
+ * instead snapshots the game state and queues it, so saving does not block the command loop on I/O;
+ * call {@link #flush()} where a save must be durable, and {@link #close()} on shutdown.
+ */
+public final class SaveService implements AutoCloseable {
   private final SaveRepository repo;
+  private final WriteBehindQueue queue; // null when saving synchronously
 
   /**
    * Constructs a SaveService with the given SaveRepository.
@@ -19,50 +33,160 @@ public final class SaveService {
    * @param repo the repository for saving and loading game data
    */
   public SaveService(SaveRepository repo) {
+    this(repo, null);
+  }
+
+  private SaveService(SaveRepository repo, WriteBehindQueue queue) {
     this.repo = Objects.requireNonNull(repo); // need to ensure repo is not null
+    this.queue = queue;
+  }
+
+  /**
+   * Creates a SaveService whose saves are queued and written in batches by a background writer.
+   * Repeated saves for a player that are still queued are coalesced into the latest one.
+   *
+   * @param repo the repository for saving and loading game data
+   * @param capacity maximum number of players with a queued save; saving blocks while it is full
+   * @return the write-behind save service
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public static SaveService writeBehind(SaveRepository repo, int capacity) {
+    Objects.requireNonNull(repo);
+    return new SaveService(repo, new WriteBehindQueue(repo, capacity));
   }
 
   /**
-   * Save the current game state for the player in the given context.
+   * Save the current game state for the player in the given context to the default slot. In
+   * write-behind mode this only snapshots the state and queues it.
    *
    * @param ctx the game context containing world and player information
    */
   public void saveData(GameContext ctx) {
+    saveData(ctx, SaveData.DEFAULT_SLOT);
+  }
+
+  /**
+   * Save the current game state for the player in the given context to a named slot, replacing what
+   * the slot held. In write-behind mode this only snapshots the state and queues it.
+   *
+   * @param ctx the game context containing world and player information
+   * @param slot the save slot
+   * @throws IllegalArgumentException if the slot name is not valid
+   */
+  public void saveData(GameContext ctx, String slot) {
+    SaveData data = snapshot(ctx, slot);
+    if (queue != null) {
+      queue.enqueue(data);
+    } else {
+      repo.upsert(data); // save or update the save data if exists
+    }
+  }
+
+  /**
+   * Wait until every save made so far is written. Returns immediately when saving synchronously.
+   *
+   * @throws IllegalStateException if queued saves could not be written
+   */
+  public void flush() {
+    if (queue != null) {
+      queue.flush();
+    }
+  }
+
+  /**
+   * Write any queued saves and stop the background writer. Does nothing when saving synchronously.
+   *
+   * @throws IllegalStateException if queued saves could not be written
+   */
+  @Override
+  public void close() {
+    if (queue != null) {
+      queue.close();
+    }
+  }
+
+  /**
+   * Copy the game state that a save records.
+   *
+   * @param ctx the game context containing world and player information
+   * @param slot the save slot
+   * @return the save data, detached from the live player
+   */
+  private static SaveData snapshot(GameContext ctx, String slot) {
     var world = ctx.world();
     var player = ctx.player();
 
     // Convert EquipmentSlot enum to String for serialization
     Map<String, String> equippedItemsMap = new java.util.HashMap<>();
-    player.getEquippedItems().forEach((slot, itemId) -> equippedItemsMap.put(slot.name(), itemId));
-
-    SaveData data =
-        new SaveData(
-            world.getVersion(),
-            player.getId(),
-            player.getName(),
-            player.getRoomId(),
-            List.copyOf(player.getInventoryItemIds()),
-            equippedItemsMap,
-            player.getScore(),
-            player.getCurrentHealth(),
-            player.getMaxHealth(),
-            player.getBaseAttack(),
-            player.getBaseDefense(),
-            List.copyOf(player.getPuzzlesSolved()),
-            List.copyOf(player.getRoomsVisited()),
-            Instant.now());
-
-    repo.upsert(data); // save or update the save data if exists
+    player
+        .getEquippedItems()
+        .forEach((equipSlot, itemId) -> equippedItemsMap.put(equipSlot.name(), itemId));
+
+    return new SaveData(
+        world.getVersion(),
+        player.getId(),
+        player.getName(),
+        player.getRoomId(),
+        List.copyOf(player.getInventoryItemIds()),
+        equippedItemsMap,
+        player.getScore(),
+        player.getCurrentHealth(),
+        player.getMaxHealth(),
+        player.getBaseAttack(),
+        player.getBaseDefense(),
+        idsOf(player.getPuzzlesSolved(), world.getPuzzleIds()),
+        idsOf(player.getRoomsVisited(), world.getRoomIds()),
+        Instant.now(),
+        world.getState().diff(),
+        slot);
   }
 
   /**
-   * Load the save data for a given player ID.
+   * Load the most recent save for a given player ID, whichever slot it is in.
    *
    * @param playerId the UUID of the player
    * @return an Optional containing the SaveData if found, otherwise empty
    */
   public Optional<SaveData> load(UUID playerId) {
-    return repo.findByPlayerId(playerId);
+    return list(playerId).stream().findFirst().flatMap(latest -> load(playerId, latest.slot()));
+  }
+
+  /**
+   * Load the save in a slot for a given player ID.
+   *
+   * @param playerId the UUID of the player
+   * @param slot the save slot
+   * @return an Optional containing the SaveData if found, otherwise empty
+   */
+  public Optional<SaveData> load(UUID playerId, String slot) {
+    if (queue != null) {
+      Optional<SaveData> unwritten = queue.unwritten(playerId, slot);
+      if (unwritten.isPresent()) {
+        return unwritten;
+      }
+    }
+    return repo.find(playerId, slot);
+  }
+
+  /**
+   * List a player's saves, most recent first, including saves that are still queued.
+   *
+   * @param playerId the UUID of the player
+   * @return the summaries of the player's saves, one per slot
+   */
+  public List<SaveSummary> list(UUID playerId) {
+    List<SaveSummary> saved = repo.list(playerId);
+    if (queue == null) {
+      return saved;
+    }
+    List<SaveData> unwritten = queue.unwritten(playerId);
+    if (unwritten.isEmpty()) {
+      return saved;
+    }
+    Map<String, SaveSummary> bySlot = new LinkedHashMap<>();
+    saved.forEach(summary -> bySlot.put(summary.slot(), summary));
+    unwritten.forEach(data -> bySlot.put(data.slot(), SaveSummary.of(data)));
+    return bySlot.values().stream().sorted(SaveSummary.NEWEST_FIRST).toList();
   }
 
   /**
@@ -85,13 +209,20 @@ public final class SaveService {
               + world.getVersion());
     }
 
+    // restore the world changes on top of the pristine pack, without re-parsing it
+    world.getState().apply(data.worldDelta());
+
     // apply save data to player but keep the current player uuid
     player.setName(data.playerName());
     player.setRoomId(data.roomId());
 
-    // restore inventory
-    player.getInventoryItemIds().clear();
-    player.getInventoryItemIds().addAll(data.itemIds());
+    // restore inventory, keeping IDs the world no longer defines so they are not lost on save
+    player.getInventory().clear();
+    for (String itemId : data.itemIds()) {
+      world
+          .findItem(itemId)
+          .ifPresentOrElse(player::addItemToInventory, () -> player.getInventory().add(itemId));
+    }
 
     // restore equipped items
     player.getEquippedItems().clear();
@@ -115,15 +246,43 @@ public final class SaveService {
     player.setBaseAttack(data.baseAttack());
     player.setBaseDefense(data.baseDefense());
 
-    // restore puzzles solved
-    player.getPuzzlesSolved().clear();
-    player.getPuzzlesSolved().addAll(data.puzzlesSolved());
-
-    // restore rooms visited
-    player.getRoomsVisited().clear();
-    player.getRoomsVisited().addAll(data.roomsVisited());
+    // restore puzzles solved and rooms visited
+    player.setPuzzlesSolved(handlesOf(data.puzzlesSolved(), world.getPuzzleIds()));
+    player.setRoomsVisited(handlesOf(data.roomsVisited(), world.getRoomIds()));
 
     return CommandResult.success(
         "Game loaded successfully. You are now in room " + data.roomId() + ".");
   }
+
+  /**
+   * Convert a set of handles to the IDs a save records, so saves do not depend on how a pack's IDs
+   * are numbered.
+   *
+   * @param handles the set of handles
+   * @param ids the table the handles belong to
+   * @return the IDs, in handle order
+   */
+  private static List<String> idsOf(BitSet handles, IdTable ids) {
+    List<String> result = new ArrayList<>(handles.cardinality());
+    handles.stream().forEach(handle -> result.add(ids.id(handle)));
+    return List.copyOf(result);
+  }
+
+  /**
+   * Convert saved IDs back to handles, skipping IDs the current world does not define.
+   *
+   * @param saved the saved IDs
+   * @param ids the table to look the IDs up in
+   * @return the set of handles
+   */
+  private static BitSet handlesOf(List<String> saved, IdTable ids) {
+    BitSet handles = new BitSet(ids.size());
+    for (String id : saved) {
+      int handle = ids.handle(id);
+      if (handle != IdTable.NO_HANDLE) {
+        handles.set(handle);
+      }
+    }
+    return handles;
+  }
 }
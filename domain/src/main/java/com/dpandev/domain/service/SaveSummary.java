@@ -0,0 +1,34 @@
+package com.dpandev.domain.service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * The details of a save that listing saves needs, kept by repositories in an index so saves can be
+ * listed without reading them.
+ *
+ * @param playerId the unique ID of the player
+ * @param slot the save slot
+ * @param savedAt the timestamp when the game was saved
+ * @param worldVersion the version of the world
+ * @param roomId the room the player was in
+ */
+public record SaveSummary(
+    UUID playerId, String slot, Instant savedAt, String worldVersion, String roomId) {
+
+  /** Orders summaries from the most recent save to the oldest. */
+  public static final Comparator<SaveSummary> NEWEST_FIRST =
+      Comparator.comparing(SaveSummary::savedAt).reversed();
+
+  /**
+   * Summarizes a save.
+   *
+   * @param data the save data
+   * @return the summary
+   */
+  public static SaveSummary of(SaveData data) {
+    return new SaveSummary(
+        data.playerId(), data.slot(), data.savedAt(), data.worldVersion(), data.roomId());
+  }
+}
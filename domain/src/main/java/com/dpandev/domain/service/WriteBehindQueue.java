@@ -0,0 +1,247 @@
+package com.dpandev.domain.service;
+
+import com.dpandev.domain.spi.SaveRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded write-behind buffer in front of a {@link SaveRepository}. Saves are queued per player and
+ * slot, and a newer save for the same slot replaces the queued one, so a player who saves
+ * repeatedly is written once. A single writer thread drains everything queued as one batch through
+ * {@link SaveRepository#upsertAll}. When the queue is full, saves for new slots wait for room.
+ *
+ * <p>A failed batch is put back, unless newer saves for the same slots arrived meanwhile, and
+ * retried after a delay; {@link #flush()} reports the failure instead of waiting forever.
+ */
+final class WriteBehindQueue implements AutoCloseable {
+  private static final long RETRY_DELAY_MILLIS = 1000;
+
+  private final SaveRepository repo;
+  private final int capacity;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition workAvailable = lock.newCondition();
+  private final Condition spaceAvailable = lock.newCondition();
+  private final Condition batchDone = lock.newCondition();
+  private final Map<SaveKey, SaveData> pending = new LinkedHashMap<>(); // guarded by lock
+  private Map<SaveKey, SaveData> inFlight = Map.of(); // guarded by lock
+  private long enqueued; // guarded by lock
+  private long written; // guarded by lock
+  private RuntimeException failure; // guarded by lock
+  private boolean closed; // guarded by lock
+  private final Thread writer;
+
+  /**
+   * Creates the queue and starts its writer thread.
+   *
+   * @param repo repository the saves are written to
+   * @param capacity maximum number of slots with a queued save
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  WriteBehindQueue(SaveRepository repo, int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+    this.repo = repo;
+    this.capacity = capacity;
+    this.writer = Thread.ofPlatform().daemon().name("save-writer").start(this::run);
+  }
+
+  /**
+   * Queues a save, replacing any save still queued for the same player and slot. Blocks while the
+   * queue is full and the slot has nothing queued.
+   *
+   * @param data the save to write
+   * @throws IllegalStateException if the queue is closed
+   */
+  void enqueue(SaveData data) {
+    lock.lock();
+    try {
+      SaveKey key = SaveKey.of(data);
+      while (pending.size() >= capacity && !pending.containsKey(key) && !closed) {
+        spaceAvailable.awaitUninterruptibly();
+      }
+      if (closed) {
+        throw new IllegalStateException("Save queue is closed");
+      }
+      pending.put(key, data);
+      enqueued++;
+      workAvailable.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Gets the save for a slot that is queued or being written, which is newer than anything the
+   * repository returns for it.
+   *
+   * @param playerId the player's UUID
+   * @param slot the save slot
+   * @return the unwritten save, or empty if the slot has none
+   */
+  Optional<SaveData> unwritten(UUID playerId, String slot) {
+    SaveKey key = new SaveKey(playerId, slot);
+    lock.lock();
+    try {
+      SaveData data = pending.get(key);
+      return Optional.ofNullable(data != null ? data : inFlight.get(key));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Gets every save of a player that is queued or being written, at most one per slot.
+   *
+   * @param playerId the player's UUID
+   * @return the unwritten saves, empty if the player has none
+   */
+  List<SaveData> unwritten(UUID playerId) {
+    lock.lock();
+    try {
+      Map<String, SaveData> bySlot = new LinkedHashMap<>();
+      inFlight.forEach(
+          (key, data) -> {
+            if (key.playerId().equals(playerId)) {
+              bySlot.put(key.slot(), data);
+            }
+          });
+      pending.forEach(
+          (key, data) -> {
+            if (key.playerId().equals(playerId)) {
+              bySlot.put(key.slot(), data); // pending saves are newer than in-flight ones
+            }
+          });
+      return List.copyOf(bySlot.values());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits until every save queued before this call has been written.
+   *
+   * @throws IllegalStateException if a write failed; the saves stay queued for retry
+   */
+  void flush() {
+    lock.lock();
+    try {
+      long target = enqueued;
+      while (written < target) {
+        if (failure != null) {
+          throw new IllegalStateException("Queued saves could not be written", failure);
+        }
+        batchDone.awaitUninterruptibly();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Writes everything still queued and stops the writer thread. Further saves are rejected.
+   *
+   * @throws IllegalStateException if the remaining saves could not be written
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      workAvailable.signal();
+      spaceAvailable.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    boolean interrupted = false;
+    while (writer.isAlive()) {
+      try {
+        writer.join();
+      } catch (InterruptedException e) {
+        interrupted = true; // finish closing so queued saves are not abandoned
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    lock.lock();
+    try {
+      if (!pending.isEmpty()) {
+        throw new IllegalStateException(
+            pending.size() + " queued save(s) could not be written", failure);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void run() {
+    while (true) {
+      List<SaveData> batch;
+      long batchEnd;
+      lock.lock();
+      try {
+        while (pending.isEmpty() && !closed) {
+          workAvailable.awaitUninterruptibly();
+        }
+        if (pending.isEmpty()) {
+          return;
+        }
+        inFlight = new LinkedHashMap<>(pending);
+        pending.clear();
+        batch = new ArrayList<>(inFlight.values());
+        batchEnd = enqueued;
+        spaceAvailable.signalAll();
+      } finally {
+        lock.unlock();
+      }
+
+      RuntimeException error = null;
+      try {
+        repo.upsertAll(batch);
+      } catch (RuntimeException e) {
+        error = e;
+      }
+
+      lock.lock();
+      try {
+        if (error == null) {
+          written = batchEnd;
+          failure = null;
+        } else {
+          // keep any newer save that was queued while this batch was being written
+          inFlight.forEach(pending::putIfAbsent);
+          failure = error;
+        }
+        inFlight = Map.of();
+        batchDone.signalAll();
+        if (error != null) {
+          if (closed) {
+            return; // give up; close() reports what is left
+          }
+          try {
+            workAvailable.await(RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+          } catch (InterruptedException e) {
+            // only close() ends the writer; retry now
+          }
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /** Identifies the slot a queued save is written to. */
+  private record SaveKey(UUID playerId, String slot) {
+    static SaveKey of(SaveData data) {
+      return new SaveKey(data.playerId(), data.slot());
+    }
+  }
+}
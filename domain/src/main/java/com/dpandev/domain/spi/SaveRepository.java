@@ -1,14 +1,23 @@
 package com.dpandev.domain.spi;
 
 import com.dpandev.domain.service.SaveData;
+import com.dpandev.domain.service.SaveSummary;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-/** Repository interface (Service Provider Interface) for managing player save data. */
+/**
+ * Repository interface (Service Provider Interface) for managing player save data. A player can
+ * have one save per slot; {@link #findByPlayerId(UUID)} reads the {@link SaveData#DEFAULT_SLOT}.
+ *
+ * <p>The listing methods are answered from an index the repository maintains, so they never read
+ * every save. Repositories that only keep the default slot can rely on the default implementations
+ * of {@link #list(UUID)} and {@link #latest(UUID)}.
+ */
 public interface SaveRepository {
 
   /**
-   * Finds the save data for a player by their unique identifier.
+   * Finds the save data in the default slot for a player by their unique identifier.
    *
    * @param id The unique identifier of the player.
    * @return An Optional containing the SaveData if found, or empty if not found.
@@ -16,9 +25,57 @@ public interface SaveRepository {
   Optional<SaveData> findByPlayerId(UUID id);
 
   /**
-   * Inserts or updates the save data for a player.
+   * Finds the save data in the given slot for a player.
+   *
+   * @param id The unique identifier of the player.
+   * @param slot The save slot.
+   * @return An Optional containing the SaveData if found, or empty if not found.
+   */
+  default Optional<SaveData> find(UUID id, String slot) {
+    return SaveData.DEFAULT_SLOT.equals(slot) ? findByPlayerId(id) : Optional.empty();
+  }
+
+  /**
+   * Inserts or updates the save data for a player in the save's slot.
    *
    * @param save The SaveData to be inserted or updated.
    */
   void upsert(SaveData save);
+
+  /**
+   * Inserts or updates several saves. Implementations that can write them together, for example in
+   * one transaction, should override this; the default upserts them one at a time.
+   *
+   * @param saves The SaveData to be inserted or updated, in order.
+   */
+  default void upsertAll(List<SaveData> saves) {
+    saves.forEach(this::upsert);
+  }
+
+  /**
+   * Lists a player's saves, most recent first.
+   *
+   * @param id The unique identifier of the player.
+   * @return The summaries of the player's saves, empty if they have none.
+   */
+  default List<SaveSummary> list(UUID id) {
+    return findByPlayerId(id).map(SaveSummary::of).stream().toList();
+  }
+
+  /**
+   * Finds a player's most recent save across all slots.
+   *
+   * @param id The unique identifier of the player.
+   * @return An Optional containing the summary of the latest save, or empty if there is none.
+   */
+  default Optional<SaveSummary> latest(UUID id) {
+    return list(id).stream().min(SaveSummary.NEWEST_FIRST);
+  }
+
+  /**
+   * Lists every save in the repository, most recent first.
+   *
+   * @return The summaries of all saves.
+   */
+  List<SaveSummary> listAll();
 }
@@ -0,0 +1,72 @@
+package com.dpandev.domain.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * {@link IdTable} held in memory: the sorted IDs, plus an open-addressing hash table from ID to
+ * handle. Lookups probe a flat int array and compare against the ID array, so the table costs two
+ * arrays rather than a map entry and a boxed Integer per ID. Immutable once built.
+ */
+final class DenseIdTable implements IdTable {
+  private final String[] ids;
+  private final int[] slots; // handle + 1, or 0 for an empty slot
+  private final int mask;
+
+  DenseIdTable(Collection<String> ids) {
+    this.ids = ids.toArray(String[]::new);
+    for (String id : this.ids) {
+      if (id == null) {
+        throw new IllegalArgumentException("IDs cannot be null");
+      }
+    }
+    Arrays.sort(this.ids, ORDER);
+
+    // at most half full, so probe sequences stay short
+    int capacity = Integer.highestOneBit(Math.max(2, this.ids.length) * 2 - 1) << 1;
+    this.slots = new int[capacity];
+    this.mask = capacity - 1;
+    for (int handle = 0; handle < this.ids.length; handle++) {
+      String id = this.ids[handle];
+      int slot = spread(id.hashCode()) & mask;
+      while (slots[slot] != 0) {
+        if (this.ids[slots[slot] - 1].equals(id)) {
+          throw new IllegalArgumentException("Duplicate ID: " + id);
+        }
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = handle + 1;
+    }
+  }
+
+  @Override
+  public int handle(String id) {
+    if (id == null) {
+      return NO_HANDLE;
+    }
+    int slot = spread(id.hashCode()) & mask;
+    int entry;
+    while ((entry = slots[slot]) != 0) {
+      if (ids[entry - 1].equals(id)) {
+        return entry - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return NO_HANDLE;
+  }
+
+  @Override
+  public String id(int handle) {
+    return ids[handle];
+  }
+
+  @Override
+  public int size() {
+    return ids.length;
+  }
+
+  /** Mixes the high bits of the hash into the low bits the mask keeps. */
+  private static int spread(int hash) {
+    return (hash ^ (hash >>> 16)) * 0x9E3779B9;
+  }
+}
@@ -3,11 +3,20 @@ package com.dpandev.domain.utils;
 import com.dpandev.domain.model.Player;
 import com.dpandev.domain.world.World;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
-/** A context object encapsulating the game world and the current player. */
+/**
+ * A context object encapsulating the game world, the current player and the session's random number
+ * generator. The generator belongs to this session alone, so sessions never contend on a shared
+ * one, and it is seeded from a recorded seed, so the same seed and the same commands replay the
+ * same fights.
+ */
 public final class GameContext {
   private World world;
   private Player player;
+  private final long seed;
+  private final SplittableRandom random;
   // Flag indicating if the game is awaiting a puzzle answer from the player
   private boolean awaitingPuzzleAnswer = false;
   // Combat state
@@ -15,15 +24,47 @@ public final class GameContext {
   private String combatMonsterId = null;
 
   /**
-   * Constructs a GameContext with the specified world and player.
+   * Constructs a GameContext with the specified world and player, and a randomly chosen seed.
    *
    * @param world the game world
    * @param player the current player
    * @throws NullPointerException if either world or player is null
    */
   public GameContext(World world, Player player) {
+    this(world, player, ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Constructs a GameContext with the specified world, player and random seed. The player's current
+   * room is marked visited, so a new player has already explored the start room.
+   *
+   * @param world the game world
+   * @param player the current player
+   * @param seed seed of the session's random number generator, see {@link #seedFor}
+   * @throws NullPointerException if either world or player is null
+   */
+  public GameContext(World world, Player player, long seed) {
     this.world = Objects.requireNonNull(world, "world must not be null");
     this.player = Objects.requireNonNull(player, "player must not be null");
+    this.seed = seed;
+    this.random = new SplittableRandom(seed);
+    markCurrentRoomVisited();
+  }
+
+  /**
+   * Derives a session's seed from a session ID and a seed recorded for the whole host, so that
+   * every session gets its own stream but any of them can be recreated from the two values.
+   *
+   * @param sessionId the session ID
+   * @param baseSeed the recorded seed
+   * @return the session's seed
+   */
+  public static long seedFor(String sessionId, long baseSeed) {
+    // String.hashCode is fixed by the language spec, so the result is the same on every JVM
+    long z = baseSeed + 0x9E3779B97F4A7C15L * sessionId.hashCode();
+    z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+    z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return z ^ (z >>> 33);
   }
 
   /**
@@ -44,6 +85,25 @@ public final class GameContext {
     return player;
   }
 
+  /**
+   * Returns the seed the session's random number generator started from.
+   *
+   * @return the seed
+   */
+  public long seed() {
+    return seed;
+  }
+
+  /**
+   * Returns the session's random number generator. It is not thread-safe; like the rest of the
+   * context it is only used by the thread running the session.
+   *
+   * @return the random number generator
+   */
+  public SplittableRandom random() {
+    return random;
+  }
+
   /**
    * Check if the game is awaiting a puzzle answer from the player.
    *
@@ -115,18 +175,27 @@ public final class GameContext {
   }
 
   /**
-   * Reset the game by replacing the world and player with fresh instances.
+   * Reset the game by replacing the world and player with fresh instances. The new player keeps the
+   * old one's ID, so their saves stay theirs, and starts having visited the start room.
    *
    * @param newWorld the freshly loaded world
    * @param playerName the name for the new player
    */
   public void resetGame(World newWorld, String playerName) {
     this.world = Objects.requireNonNull(newWorld, "world must not be null");
-    this.player = new Player(playerName, newWorld.getStartRoomId());
+    this.player = new Player(player.getId(), playerName, newWorld.getStartRoomId());
+    markCurrentRoomVisited();
 
     // Reset game state flags
     this.awaitingPuzzleAnswer = false;
     this.inCombat = false;
     this.combatMonsterId = null;
   }
+
+  private void markCurrentRoomVisited() {
+    int handle = world.roomHandle(player.getRoomId());
+    if (handle != IdTable.NO_HANDLE) {
+      player.markVisited(handle);
+    }
+  }
 }
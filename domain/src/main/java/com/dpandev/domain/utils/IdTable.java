@@ -0,0 +1,83 @@
+package com.dpandev.domain.utils;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Interns the IDs of one kind of entity into dense int handles, numbered from 0 to {@link #size()}
+ * - 1. A world pack is loaded with one table per entity kind, so entities can be stored in arrays
+ * indexed by handle, and references that always resolve, such as room exits, can be kept as ints
+ * instead of strings.
+ *
+ * <p>Handles follow {@link #ORDER}, the order a pack's IDs are compiled in, so loading the same
+ * pack from JSON or from its compiled form gives every ID the same handle.
+ */
+public interface IdTable {
+  /** Returned by {@link #handle(String)} for an ID the table does not hold. */
+  int NO_HANDLE = -1;
+
+  /**
+   * Orders IDs by code point, which matches the unsigned order of their UTF-8 bytes without
+   * encoding them.
+   */
+  Comparator<String> ORDER =
+      (a, b) -> {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+          int ca = a.codePointAt(i);
+          int cb = b.codePointAt(j);
+          if (ca != cb) {
+            return Integer.compare(ca, cb);
+          }
+          i += Character.charCount(ca);
+          j += Character.charCount(cb);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+      };
+
+  /**
+   * Creates a table over the given IDs.
+   *
+   * @param ids the IDs, in any order
+   * @return the table
+   * @throws IllegalArgumentException if an ID is null or appears twice
+   */
+  static IdTable of(Collection<String> ids) {
+    return new DenseIdTable(ids);
+  }
+
+  /**
+   * Gets the handle of an ID.
+   *
+   * @param id the ID, may be null
+   * @return the handle, or {@link #NO_HANDLE} if the table does not hold the ID
+   */
+  int handle(String id);
+
+  /**
+   * Gets the ID of a handle.
+   *
+   * @param handle the handle
+   * @return the ID
+   * @throws IndexOutOfBoundsException if the handle is not in the table
+   */
+  String id(int handle);
+
+  /**
+   * Gets the number of IDs, which is also one more than the largest handle.
+   *
+   * @return the number of IDs
+   */
+  int size();
+
+  /**
+   * Checks whether the table holds an ID.
+   *
+   * @param id the ID, may be null
+   * @return true if the ID has a handle
+   */
+  default boolean contains(String id) {
+    return handle(id) != NO_HANDLE;
+  }
+}
@@ -3,6 +3,7 @@ package com.dpandev.domain.utils;
 /** Enumeration of possible command verbs in the text adventure game. */
 public enum Verb {
   GO,
+  TRAVEL,
   LOOK,
   MAP,
   INSPECT,
@@ -21,6 +22,7 @@ public enum Verb {
   SAVE,
   QUIT,
   LOAD,
+  SAVES,
   NEW_GAME,
   UNKNOWN,
 }
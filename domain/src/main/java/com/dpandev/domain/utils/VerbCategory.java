@@ -19,11 +19,11 @@ public enum VerbCategory {
       return SYSTEM;
     }
     return switch (v) {
-      case GO, LOOK, MAP, STATS -> MOVEMENT;
+      case GO, TRAVEL, LOOK, MAP, STATS -> MOVEMENT;
       case SOLVE -> INTERACTION;
       case ATTACK, IGNORE -> COMBAT;
       case INSPECT, PICKUP, DROP, USE, INVENTORY, EQUIP, UNEQUIP, HEAL -> INVENTORY;
-      case HELP, SAVE, LOAD, QUIT, NEW_GAME, UNKNOWN -> SYSTEM;
+      case HELP, SAVE, LOAD, SAVES, QUIT, NEW_GAME, UNKNOWN -> SYSTEM;
     };
   }
 }
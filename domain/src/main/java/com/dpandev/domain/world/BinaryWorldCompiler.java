@@ -0,0 +1,269 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.model.Item;
+import com.dpandev.domain.model.Monster;
+import com.dpandev.domain.model.Puzzle;
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.IdTable;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compiles a parsed world template into the binary world pack format read by {@link
+ * BinaryWorldLoader}. See {@link BinaryWorldFormat} for the file layout.
+ */
+public final class BinaryWorldCompiler {
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  /**
+   * Compiles the template and writes it to the output file, replacing any existing file.
+   *
+   * @param template the parsed world template
+   * @param output the binary world pack to write
+   * @throws UncheckedIOException if writing fails
+   */
+  public void compile(WorldTemplate template, Path output) {
+    Objects.requireNonNull(template, "template cannot be null");
+    Objects.requireNonNull(output, "output cannot be null");
+    try {
+      Path parent = output.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create directory for '" + output + "'", e);
+    }
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output))) {
+      write(template, out);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write binary worldpack to '" + output + "'", e);
+    }
+  }
+
+  /**
+   * Encodes the template. Records are built in memory first because they intern strings, and the
+   * string table must precede them in the file.
+   *
+   * @param template the parsed world template
+   * @param out destination stream
+   * @throws IOException if writing fails
+   */
+  private void write(WorldTemplate template, OutputStream out) throws IOException {
+    StringTable strings = new StringTable();
+    int versionIndex = strings.intern(template.getVersion());
+    int startRoomIndex = strings.intern(template.getStartRoomId());
+
+    ByteArrayOutputStream items = new ByteArrayOutputStream();
+    List<String> itemIds = sortedIds(template.getItems());
+    writeItems(template.getItems(), itemIds, strings, new DataOutputStream(items));
+
+    ByteArrayOutputStream monsters = new ByteArrayOutputStream();
+    List<String> monsterIds = sortedIds(template.getMonsters());
+    writeMonsters(template.getMonsters(), monsterIds, strings, new DataOutputStream(monsters));
+
+    ByteArrayOutputStream puzzles = new ByteArrayOutputStream();
+    List<String> puzzleIds = sortedIds(template.getPuzzles());
+    writePuzzles(template.getPuzzles(), puzzleIds, strings, new DataOutputStream(puzzles));
+
+    ByteArrayOutputStream rooms = new ByteArrayOutputStream();
+    ByteArrayOutputStream exits = new ByteArrayOutputStream();
+    ByteArrayOutputStream roomItems = new ByteArrayOutputStream();
+    List<String> roomIds = sortedIds(template.getRooms());
+    int[] counts =
+        writeRooms(
+            template.getRooms(),
+            roomIds,
+            strings,
+            new DataOutputStream(rooms),
+            new DataOutputStream(exits),
+            new DataOutputStream(roomItems));
+
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(BinaryWorldFormat.MAGIC);
+    data.writeInt(BinaryWorldFormat.FORMAT_VERSION);
+    data.writeInt(versionIndex);
+    data.writeInt(startRoomIndex);
+    data.writeInt(strings.size());
+    data.writeInt(strings.dataLength());
+    data.writeInt(itemIds.size());
+    data.writeInt(monsterIds.size());
+    data.writeInt(puzzleIds.size());
+    data.writeInt(roomIds.size());
+    data.writeInt(counts[0]);
+    data.writeInt(counts[1]);
+    strings.writeTo(data);
+    items.writeTo(data);
+    monsters.writeTo(data);
+    puzzles.writeTo(data);
+    rooms.writeTo(data);
+    exits.writeTo(data);
+    roomItems.writeTo(data);
+    data.flush();
+  }
+
+  private static void writeItems(
+      Map<String, Item> byId, List<String> ids, StringTable strings, DataOutputStream out)
+      throws IOException {
+    for (String id : ids) {
+      Item item = byId.get(id);
+      out.writeInt(strings.intern(id));
+      out.writeInt(strings.intern(item.getName()));
+      out.writeInt(strings.intern(item.getDescription()));
+      out.writeByte(ordinal(item.getItemType()));
+      out.writeByte(ordinal(item.getArmorType()));
+      out.writeByte(ordinal(item.getConsumableType()));
+      out.writeByte(0);
+      out.writeInt(item.getAttackBonus());
+      out.writeInt(item.getDefenseBonus());
+      out.writeInt(item.getHealthRestore());
+    }
+  }
+
+  private static void writeMonsters(
+      Map<String, Monster> byId, List<String> ids, StringTable strings, DataOutputStream out)
+      throws IOException {
+    for (String id : ids) {
+      Monster monster = byId.get(id);
+      out.writeInt(strings.intern(id));
+      out.writeInt(strings.intern(monster.getName()));
+      out.writeInt(strings.intern(monster.getDescription()));
+      out.writeInt(monster.getMaxHealth());
+      out.writeInt(monster.getBaseAttack());
+      out.writeInt(monster.getBaseDefense());
+      out.writeDouble(monster.getCriticalHitThreshold());
+    }
+  }
+
+  private void writePuzzles(
+      Map<String, Puzzle> byId, List<String> ids, StringTable strings, DataOutputStream out)
+      throws IOException {
+    for (String id : ids) {
+      Puzzle puzzle = byId.get(id);
+      out.writeInt(strings.intern(id));
+      out.writeInt(strings.intern(puzzle.getDescription()));
+      out.writeByte(ordinal(puzzle.getPuzzleType()));
+      out.write(new byte[3]);
+      out.writeInt(puzzle.getMaxAttempts());
+      out.writeInt(strings.intern(puzzle.getRewardItemId()));
+      out.writeInt(strings.intern(solutionJson(puzzle.getSolution())));
+    }
+  }
+
+  /**
+   * Writes room records plus their exit and item arrays.
+   *
+   * @return the total number of exits and room items written
+   */
+  private static int[] writeRooms(
+      Map<String, Room> byId,
+      List<String> ids,
+      StringTable strings,
+      DataOutputStream out,
+      DataOutputStream exits,
+      DataOutputStream roomItems)
+      throws IOException {
+    int exitCount = 0;
+    int itemCount = 0;
+    for (String id : ids) {
+      Room room = byId.get(id);
+      out.writeInt(strings.intern(id));
+      out.writeInt(strings.intern(room.getName()));
+      out.writeInt(strings.intern(room.getDescription()));
+      out.writeInt(strings.intern(room.getPuzzleId()));
+      out.writeInt(strings.intern(room.getMonsterId()));
+      out.writeInt(exitCount);
+      out.writeInt(room.getExits().size());
+      out.writeInt(itemCount);
+      out.writeInt(room.getItemIds().size());
+
+      for (Map.Entry<String, String> exit : room.getExits().entrySet()) {
+        exits.writeInt(strings.intern(exit.getKey()));
+        exits.writeInt(strings.intern(exit.getValue()));
+        exitCount++;
+      }
+      for (String itemId : room.getItemIds()) {
+        roomItems.writeInt(strings.intern(itemId));
+        itemCount++;
+      }
+    }
+    return new int[] {exitCount, itemCount};
+  }
+
+  private String solutionJson(Map<String, Object> solution) {
+    if (solution == null) {
+      return null;
+    }
+    try {
+      return mapper.writeValueAsString(solution);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Puzzle solution is not serialisable: " + solution, e);
+    }
+  }
+
+  private static byte ordinal(Enum<?> value) {
+    return value == null ? BinaryWorldFormat.NO_ENUM : (byte) value.ordinal();
+  }
+
+  /** Sorts IDs by their UTF-8 bytes so the loader can binary-search them in the mapped file. */
+  private static List<String> sortedIds(Map<String, ?> byId) {
+    List<String> ids = new ArrayList<>(byId.keySet());
+    ids.sort(IdTable.ORDER); // record index doubles as the handle, so match the ID tables
+    return ids;
+  }
+
+  /** Interned strings in first-use order, with their UTF-8 encodings. */
+  private static final class StringTable {
+    private final Map<String, Integer> indices = new LinkedHashMap<>();
+    private final List<byte[]> encoded = new ArrayList<>();
+    private int dataLength;
+
+    int intern(String value) {
+      if (value == null) {
+        return BinaryWorldFormat.NO_STRING;
+      }
+      Integer index = indices.get(value);
+      if (index == null) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        index = encoded.size();
+        indices.put(value, index);
+        encoded.add(bytes);
+        dataLength += bytes.length;
+      }
+      return index;
+    }
+
+    int size() {
+      return encoded.size();
+    }
+
+    int dataLength() {
+      return dataLength;
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+      int offset = 0;
+      for (byte[] bytes : encoded) {
+        out.writeInt(offset);
+        offset += bytes.length;
+      }
+      out.writeInt(offset);
+      for (byte[] bytes : encoded) {
+        out.write(bytes);
+      }
+    }
+  }
+}
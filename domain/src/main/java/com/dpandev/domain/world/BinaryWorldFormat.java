@@ -0,0 +1,45 @@
+package com.dpandev.domain.world;
+
+/**
+ * Layout constants for precompiled binary world packs. All values are big-endian.
+ *
+ * <pre>
+ * header        12 x int: magic, formatVersion, version, startRoomId, stringCount,
+ *               stringDataLength, itemCount, monsterCount, puzzleCount, roomCount,
+ *               exitCount, roomItemCount
+ * stringOffsets int[stringCount + 1], byte offsets into stringData
+ * stringData    UTF-8 bytes of every interned string
+ * items         fixed-width item records, sorted by ID
+ * monsters      fixed-width monster records, sorted by ID
+ * puzzles       fixed-width puzzle records, sorted by ID
+ * rooms         fixed-width room records, sorted by ID
+ * exits         (direction, targetRoomId) string index pairs, grouped per room
+ * roomItems     item ID string indices, grouped per room
+ * </pre>
+ *
+ * <p>Strings are referenced by their index in the string table; {@link #NO_STRING} marks null.
+ * Records are sorted by the UTF-8 bytes of their ID so lookups can binary-search the mapped file.
+ */
+final class BinaryWorldFormat {
+  static final int MAGIC = 0x41545750; // "ATWP"
+  static final int FORMAT_VERSION = 1;
+  static final int HEADER_BYTES = 12 * Integer.BYTES;
+  static final int NO_STRING = -1;
+  static final byte NO_ENUM = -1;
+
+  /** id, name, description, type/armor/consumable bytes + pad, attack, defense, healthRestore. */
+  static final int ITEM_BYTES = 7 * Integer.BYTES;
+
+  /** id, name, description, maxHealth, baseAttack, baseDefense, criticalHitThreshold. */
+  static final int MONSTER_BYTES = 6 * Integer.BYTES + Double.BYTES;
+
+  /** id, description, type byte + pad, maxAttempts, rewardItemId, solution JSON. */
+  static final int PUZZLE_BYTES = 6 * Integer.BYTES;
+
+  /** id, name, description, puzzleId, monsterId, firstExit, exitCount, firstItem, itemCount. */
+  static final int ROOM_BYTES = 9 * Integer.BYTES;
+
+  static final int EXIT_BYTES = 2 * Integer.BYTES;
+
+  private BinaryWorldFormat() {}
+}
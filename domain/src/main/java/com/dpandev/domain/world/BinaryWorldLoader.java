@@ -0,0 +1,401 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.model.Item;
+import com.dpandev.domain.model.Monster;
+import com.dpandev.domain.model.Puzzle;
+import com.dpandev.domain.model.PuzzleType;
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.IdTable;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * World loader for packs precompiled by {@link BinaryWorldCompiler}. The file is memory-mapped and
+ * only the header is read up front; rooms, items, monsters and puzzles are decoded from the mapped
+ * records the first time they are looked up, then cached in the shared template. Startup cost is
+ * therefore independent of pack size.
+ *
+ * <p>Every reference read from the file is range-checked, so a corrupt pack fails with an {@link
+ * IllegalStateException} naming the file, whether it is detected while loading or while a record is
+ * decoded later during play.
+ *
+ * <p>Packs are limited to 2 GB, the largest region a single mapping can cover.
+ */
+public final class BinaryWorldLoader implements WorldLoader {
+  private final Path file;
+
+  /**
+   * Creates a loader for the given binary world pack.
+   *
+   * @param file path to the compiled pack on the filesystem
+   * @throws NullPointerException if file is null
+   */
+  public BinaryWorldLoader(Path file) {
+    this.file = Objects.requireNonNull(file, "file cannot be null");
+  }
+
+  @Override
+  public World load() {
+    return loadTemplate().newSession();
+  }
+
+  @Override
+  public Optional<Path> sourceFile() {
+    return Optional.of(file);
+  }
+
+  /**
+   * Maps the pack and returns a template whose entities are decoded on demand.
+   *
+   * @return the world template
+   * @throws UncheckedIOException if the file cannot be mapped
+   * @throws IllegalStateException if the file is not a supported binary world pack or is corrupt
+   */
+  @Override
+  public WorldTemplate loadTemplate() {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      // the mapping stays valid after the channel is closed
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to map binary worldpack '" + file + "'", e);
+    }
+    Pack pack = new Pack(buffer, file);
+    try {
+      return pack.toTemplate();
+    } catch (IndexOutOfBoundsException | NegativeArraySizeException e) {
+      throw pack.corrupt(e);
+    }
+  }
+
+  /** Decoder over the mapped file. Absolute reads only, so it is safe to share across threads. */
+  private static final class Pack {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ByteBuffer buffer;
+    private final Path file;
+    private final int stringCount;
+    private final int stringDataLength;
+    private final int stringOffsetsStart;
+    private final int stringDataStart;
+    private final int itemsStart;
+    private final int monstersStart;
+    private final int puzzlesStart;
+    private final int roomsStart;
+    private final int exitsStart;
+    private final int roomItemsStart;
+    private final int exitCount;
+    private final int roomItemCount;
+    private final int itemCount;
+    private final int monsterCount;
+    private final int puzzleCount;
+    private final int roomCount;
+
+    Pack(ByteBuffer buffer, Path file) {
+      this.buffer = buffer;
+      this.file = file;
+      if (buffer.capacity() < BinaryWorldFormat.HEADER_BYTES
+          || buffer.getInt(0) != BinaryWorldFormat.MAGIC) {
+        throw new IllegalStateException("Not a binary worldpack: '" + file + "'");
+      }
+      int formatVersion = buffer.getInt(4);
+      if (formatVersion != BinaryWorldFormat.FORMAT_VERSION) {
+        throw new IllegalStateException("Unsupported binary worldpack version: " + formatVersion);
+      }
+      this.stringCount = headerCount(16);
+      this.stringDataLength = headerCount(20);
+      this.itemCount = headerCount(24);
+      this.monsterCount = headerCount(28);
+      this.puzzleCount = headerCount(32);
+      this.roomCount = headerCount(36);
+      this.exitCount = headerCount(40);
+      this.roomItemCount = headerCount(44);
+      long declaredBytes =
+          BinaryWorldFormat.HEADER_BYTES
+              + ((long) stringCount + 1) * Integer.BYTES
+              + stringDataLength
+              + (long) itemCount * BinaryWorldFormat.ITEM_BYTES
+              + (long) monsterCount * BinaryWorldFormat.MONSTER_BYTES
+              + (long) puzzleCount * BinaryWorldFormat.PUZZLE_BYTES
+              + (long) roomCount * BinaryWorldFormat.ROOM_BYTES
+              + (long) exitCount * BinaryWorldFormat.EXIT_BYTES
+              + (long) roomItemCount * Integer.BYTES;
+      if (declaredBytes > buffer.capacity()) {
+        throw new IllegalStateException(
+            "Binary worldpack '" + file + "' is shorter than its header declares");
+      }
+
+      this.stringOffsetsStart = BinaryWorldFormat.HEADER_BYTES;
+      this.stringDataStart = stringOffsetsStart + (stringCount + 1) * Integer.BYTES;
+      this.itemsStart = stringDataStart + stringDataLength;
+      this.monstersStart = itemsStart + itemCount * BinaryWorldFormat.ITEM_BYTES;
+      this.puzzlesStart = monstersStart + monsterCount * BinaryWorldFormat.MONSTER_BYTES;
+      this.roomsStart = puzzlesStart + puzzleCount * BinaryWorldFormat.PUZZLE_BYTES;
+      this.exitsStart = roomsStart + roomCount * BinaryWorldFormat.ROOM_BYTES;
+      this.roomItemsStart = exitsStart + exitCount * BinaryWorldFormat.EXIT_BYTES;
+    }
+
+    private int headerCount(int offset) {
+      int count = buffer.getInt(offset);
+      if (count < 0) {
+        throw corrupt("negative count " + count + " in header", null);
+      }
+      return count;
+    }
+
+    /** Reports a read outside the file, which only a corrupt record can cause. */
+    IllegalStateException corrupt(RuntimeException cause) {
+      return corrupt("record points outside the file", cause);
+    }
+
+    private IllegalStateException corrupt(String detail, Exception cause) {
+      return new IllegalStateException("Corrupt binary worldpack '" + file + "': " + detail, cause);
+    }
+
+    private void checkRange(String what, int first, int count, int sectionCount) {
+      if (first < 0 || count < 0 || first > sectionCount - count) {
+        throw corrupt(what + " range " + first + "+" + count + " out of bounds", null);
+      }
+    }
+
+    WorldTemplate toTemplate() {
+      RecordTable<Room> rooms =
+          new RecordTable<>(roomCount, roomsStart, BinaryWorldFormat.ROOM_BYTES, this::room);
+      String startRoomId = string(buffer.getInt(12));
+      if (rooms.handle(startRoomId) == IdTable.NO_HANDLE) {
+        throw corrupt("start room '" + startRoomId + "' is not in the rooms table", null);
+      }
+      return WorldTemplate.lazy(
+          string(buffer.getInt(8)),
+          rooms.entities(),
+          new RecordTable<>(itemCount, itemsStart, BinaryWorldFormat.ITEM_BYTES, this::item)
+              .entities(),
+          new RecordTable<>(puzzleCount, puzzlesStart, BinaryWorldFormat.PUZZLE_BYTES, this::puzzle)
+              .entities(),
+          new RecordTable<>(
+                  monsterCount, monstersStart, BinaryWorldFormat.MONSTER_BYTES, this::monster)
+              .entities(),
+          startRoomId);
+    }
+
+    private Item item(int offset) {
+      return Item.builder()
+          .id(string(buffer.getInt(offset)))
+          .name(string(buffer.getInt(offset + 4)))
+          .description(string(buffer.getInt(offset + 8)))
+          .type(enumAt(Item.ItemType.values(), offset + 12))
+          .armorType(enumAt(Item.ArmorType.values(), offset + 13))
+          .consumableType(enumAt(Item.ConsumableType.values(), offset + 14))
+          .attackBonus(buffer.getInt(offset + 16))
+          .defenseBonus(buffer.getInt(offset + 20))
+          .healthRestore(buffer.getInt(offset + 24))
+          .build();
+    }
+
+    private Monster monster(int offset) {
+      return new Monster(
+          string(buffer.getInt(offset + 4)),
+          string(buffer.getInt(offset + 8)),
+          buffer.getInt(offset + 12),
+          buffer.getInt(offset + 16),
+          buffer.getInt(offset + 20),
+          buffer.getDouble(offset + 24));
+    }
+
+    private Puzzle puzzle(int offset) {
+      return new Puzzle(
+          string(buffer.getInt(offset)),
+          string(buffer.getInt(offset + 4)),
+          enumAt(PuzzleType.values(), offset + 8),
+          solution(string(buffer.getInt(offset + 20))),
+          Puzzle.PuzzlePhase.LOCKED,
+          buffer.getInt(offset + 12),
+          string(buffer.getInt(offset + 16)));
+    }
+
+    private Room room(int offset) {
+      int firstExit = buffer.getInt(offset + 20);
+      int exitCount = buffer.getInt(offset + 24);
+      checkRange("exit", firstExit, exitCount, this.exitCount);
+      Map<String, String> exits = new LinkedHashMap<>();
+      for (int i = 0; i < exitCount; i++) {
+        int exitOffset = exitsStart + (firstExit + i) * BinaryWorldFormat.EXIT_BYTES;
+        exits.put(string(buffer.getInt(exitOffset)), string(buffer.getInt(exitOffset + 4)));
+      }
+
+      int firstItem = buffer.getInt(offset + 28);
+      int itemCount = buffer.getInt(offset + 32);
+      checkRange("room item", firstItem, itemCount, roomItemCount);
+      List<String> itemIds = new ArrayList<>(itemCount);
+      for (int i = 0; i < itemCount; i++) {
+        itemIds.add(string(buffer.getInt(roomItemsStart + (firstItem + i) * Integer.BYTES)));
+      }
+
+      return Room.builder()
+          .id(string(buffer.getInt(offset)))
+          .name(string(buffer.getInt(offset + 4)))
+          .description(string(buffer.getInt(offset + 8)))
+          .puzzleId(string(buffer.getInt(offset + 12)))
+          .monsterId(string(buffer.getInt(offset + 16)))
+          .exits(exits)
+          .itemIds(itemIds)
+          .build();
+    }
+
+    private String string(int index) {
+      if (index == BinaryWorldFormat.NO_STRING) {
+        return null;
+      }
+      byte[] bytes = stringBytes(index);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private byte[] stringBytes(int index) {
+      if (index < 0 || index >= stringCount) {
+        throw corrupt("invalid string reference " + index, null);
+      }
+      int start = buffer.getInt(stringOffsetsStart + index * Integer.BYTES);
+      int end = buffer.getInt(stringOffsetsStart + (index + 1) * Integer.BYTES);
+      if (start < 0 || end < start || end > stringDataLength) {
+        throw corrupt("string " + index + " spans bytes " + start + " to " + end, null);
+      }
+      byte[] bytes = new byte[end - start];
+      buffer.get(stringDataStart + start, bytes);
+      return bytes;
+    }
+
+    private <E extends Enum<E>> E enumAt(E[] values, int offset) {
+      byte ordinal = buffer.get(offset);
+      if (ordinal == BinaryWorldFormat.NO_ENUM) {
+        return null;
+      }
+      if (ordinal < 0 || ordinal >= values.length) {
+        String type = values.getClass().getComponentType().getSimpleName();
+        throw corrupt("invalid " + type + " ordinal " + ordinal, null);
+      }
+      return values[ordinal];
+    }
+
+    private Map<String, Object> solution(String json) {
+      if (json == null) {
+        return new HashMap<>();
+      }
+      try {
+        return MAPPER.readValue(json, new TypeReference<Map<String, Object>>() {});
+      } catch (IOException e) {
+        throw corrupt("invalid puzzle solution", e);
+      }
+    }
+
+    /** Decodes the record at the given byte offset. */
+    private interface RecordDecoder<V> {
+      V decode(int offset);
+    }
+
+    /**
+     * One record section, sorted by ID. The record index is the entity's handle, so handles are
+     * looked up by binary search over the IDs in the mapped file and entities are found by index.
+     * Decoded values are cached so each record is materialised at most once.
+     */
+    private final class RecordTable<V> implements IdTable {
+      private final int count;
+      private final int start;
+      private final int recordBytes;
+      private final RecordDecoder<V> decoder;
+      private final AtomicReferenceArray<V> decoded;
+
+      RecordTable(int count, int start, int recordBytes, RecordDecoder<V> decoder) {
+        this.count = count;
+        this.start = start;
+        this.recordBytes = recordBytes;
+        this.decoder = decoder;
+        this.decoded = new AtomicReferenceArray<>(count);
+      }
+
+      EntityTable<V> entities() {
+        return EntityTable.lazy(this, this::valueAt);
+      }
+
+      @Override
+      public int handle(String id) {
+        try {
+          return indexOf(id);
+        } catch (IndexOutOfBoundsException | NegativeArraySizeException e) {
+          throw corrupt(e);
+        }
+      }
+
+      @Override
+      public String id(int handle) {
+        if (handle < 0 || handle >= count) {
+          throw new IndexOutOfBoundsException("Handle " + handle + " out of bounds: " + count);
+        }
+        try {
+          return idAt(handle);
+        } catch (IndexOutOfBoundsException | NegativeArraySizeException e) {
+          throw corrupt(e);
+        }
+      }
+
+      @Override
+      public int size() {
+        return count;
+      }
+
+      private V valueAt(int index) {
+        V value = decoded.get(index);
+        if (value == null) {
+          try {
+            decoded.compareAndSet(index, null, decoder.decode(start + index * recordBytes));
+          } catch (IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw corrupt(e);
+          }
+          value = decoded.get(index);
+        }
+        return value;
+      }
+
+      private String idAt(int index) {
+        return string(buffer.getInt(start + index * recordBytes));
+      }
+
+      private int indexOf(String id) {
+        if (id == null) {
+          return NO_HANDLE;
+        }
+        byte[] target = id.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+          int mid = (low + high) >>> 1;
+          byte[] candidate = stringBytes(buffer.getInt(start + mid * recordBytes));
+          int cmp = Arrays.compareUnsigned(candidate, target);
+          if (cmp < 0) {
+            low = mid + 1;
+          } else if (cmp > 0) {
+            high = mid - 1;
+          } else {
+            return mid;
+          }
+        }
+        return NO_HANDLE;
+      }
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.dpandev.domain.world;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorator that parses a world pack once and hands out fresh sessions over the cached template.
+ *
+ * <p>The cached template is keyed by the resolved source file, its size and its modification time.
+ * The first load only parses the pack, so the file is read once and binary packs stay lazily
+ * mapped. When the modification time changes but the size does not, the file is hashed with SHA-256
+ * and parsed again only if the hash differs from the one taken at the previous change; the first
+ * such change has nothing to compare against and always parses. Packs that are not filesystem files
+ * (classpath resources) cannot change at runtime and are parsed once.
+ */
+public final class CachingWorldLoader implements WorldLoader {
+  private final WorldLoader delegate;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong invalidations = new AtomicLong();
+  private final AtomicLong loadNanos = new AtomicLong();
+  private Entry cached; // guarded by this
+
+  /**
+   * Wraps the given loader.
+   *
+   * @param delegate loader used on cache misses
+   * @throws NullPointerException if delegate is null
+   */
+  public CachingWorldLoader(WorldLoader delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+  }
+
+  /**
+   * Returns a fresh session over the cached template, parsing the pack only if it is not cached yet
+   * or has changed on disk.
+   *
+   * @return a new World session
+   */
+  @Override
+  public World load() {
+    return loadTemplate().newSession();
+  }
+
+  /**
+   * Returns the cached template, reloading it first if the source file has changed.
+   *
+   * @return the world template
+   * @throws UncheckedIOException if the source file cannot be read
+   */
+  @Override
+  public synchronized WorldTemplate loadTemplate() {
+    Optional<Path> source = delegate.sourceFile();
+    if (source.isEmpty()) {
+      if (cached != null && cached.file == null) {
+        hits.incrementAndGet();
+        return cached.template;
+      }
+      cached = new Entry(null, 0, null, null, timedLoad());
+      return cached.template;
+    }
+
+    Path file = source.get().toAbsolutePath().normalize();
+    BasicFileAttributes attributes = attributes(file);
+    boolean sameSize =
+        cached != null && file.equals(cached.file) && attributes.size() == cached.size;
+    if (sameSize && attributes.lastModifiedTime().equals(cached.modified)) {
+      hits.incrementAndGet();
+      return cached.template;
+    }
+
+    // a new size means new content; a touched file is hashed so the next touch can skip the parse
+    byte[] hash = null;
+    if (sameSize) {
+      hash = hash(file);
+      if (Arrays.equals(hash, cached.hash)) {
+        hits.incrementAndGet();
+        cached =
+            new Entry(
+                file, attributes.size(), attributes.lastModifiedTime(), hash, cached.template);
+        return cached.template;
+      }
+    }
+
+    if (cached != null) {
+      invalidations.incrementAndGet();
+    }
+    cached = new Entry(file, attributes.size(), attributes.lastModifiedTime(), hash, timedLoad());
+    return cached.template;
+  }
+
+  @Override
+  public Optional<Path> sourceFile() {
+    return delegate.sourceFile();
+  }
+
+  /** Drops the cached template so the next load parses the pack again. */
+  public synchronized void invalidate() {
+    if (cached != null) {
+      invalidations.incrementAndGet();
+      cached = null;
+    }
+  }
+
+  /**
+   * Gets a snapshot of the cache counters.
+   *
+   * @return the current statistics
+   */
+  public Stats stats() {
+    return new Stats(hits.get(), misses.get(), invalidations.get(), loadNanos.get());
+  }
+
+  private WorldTemplate timedLoad() {
+    misses.incrementAndGet();
+    long start = System.nanoTime();
+    WorldTemplate template = delegate.loadTemplate();
+    loadNanos.addAndGet(System.nanoTime() - start);
+    return template;
+  }
+
+  private static BasicFileAttributes attributes(Path file) {
+    try {
+      return Files.readAttributes(file, BasicFileAttributes.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read attributes of '" + file + "'", e);
+    }
+  }
+
+  private static byte[] hash(Path file) {
+    try (InputStream in = Files.newInputStream(file)) {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] buffer = new byte[64 * 1024];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+      return digest.digest();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to hash world pack '" + file + "'", e);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * Cached template plus the file fingerprint it was parsed from; file is null for resources and
+   * hash is null until the file has been touched without changing size.
+   */
+  private record Entry(
+      Path file, long size, FileTime modified, byte[] hash, WorldTemplate template) {}
+
+  /**
+   * Cache counters.
+   *
+   * @param hits loads served from the cached template
+   * @param misses loads that parsed the pack
+   * @param invalidations cached templates dropped because the file changed or on request
+   * @param loadNanos total time spent parsing on misses, in nanoseconds
+   */
+  public record Stats(long hits, long misses, long invalidations, long loadNanos) {
+    /**
+     * Gets the average time a miss spent parsing.
+     *
+     * @return average parse time in milliseconds, or 0 if nothing has been parsed
+     */
+    public double averageLoadMillis() {
+      return misses == 0 ? 0 : loadNanos / 1_000_000.0 / misses;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.utils.IdTable;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * The entities of one kind in a {@link WorldTemplate}, addressed by the dense handles of an {@link
+ * IdTable}. Eager tables hold the entities in an array indexed by handle; lazy tables decode an
+ * entity the first time its handle is looked up.
+ *
+ * @param <V> entity type
+ */
+final class EntityTable<V> {
+  private final IdTable ids;
+  private final IntFunction<V> byHandle;
+
+  private EntityTable(IdTable ids, IntFunction<V> byHandle) {
+    this.ids = ids;
+    this.byHandle = byHandle;
+  }
+
+  /**
+   * Creates a table holding the given entities in an array indexed by handle.
+   *
+   * @param byId map of entity ID to entity
+   * @param <V> entity type
+   * @return the table
+   */
+  static <V> EntityTable<V> of(Map<String, V> byId) {
+    IdTable ids = IdTable.of(byId.keySet());
+    Object[] values = new Object[ids.size()];
+    byId.forEach((id, value) -> values[ids.handle(id)] = value);
+    @SuppressWarnings("unchecked") // the array only ever holds values of V
+    IntFunction<V> byHandle = handle -> (V) values[handle];
+    return new EntityTable<>(ids, byHandle);
+  }
+
+  /**
+   * Creates a table whose entities are produced on demand. The function must be safe to call from
+   * several threads and should cache what it decodes.
+   *
+   * @param ids the entity IDs
+   * @param byHandle produces the entity with a handle
+   * @param <V> entity type
+   * @return the table
+   */
+  static <V> EntityTable<V> lazy(IdTable ids, IntFunction<V> byHandle) {
+    return new EntityTable<>(ids, byHandle);
+  }
+
+  /**
+   * Gets the entity IDs and their handles.
+   *
+   * @return the ID table
+   */
+  IdTable ids() {
+    return ids;
+  }
+
+  /**
+   * Gets the entity with a handle.
+   *
+   * @param handle the handle
+   * @return the entity, or null if the handle is not in the table
+   */
+  V get(int handle) {
+    return handle >= 0 && handle < ids.size() ? byHandle.apply(handle) : null;
+  }
+
+  /**
+   * Gets the entity with an ID.
+   *
+   * @param id the ID, may be null
+   * @return the entity, or null if the table has no such ID
+   */
+  V get(String id) {
+    return get(ids.handle(id));
+  }
+
+  /**
+   * Returns a read-only map view of the table, iterating in handle order.
+   *
+   * @return map of entity ID to entity
+   */
+  Map<String, V> asMap() {
+    return new HandleMap<>(ids, this::get);
+  }
+}
@@ -0,0 +1,72 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.utils.IdTable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Read-only map over the IDs of an {@link IdTable}, whose values are looked up by handle. Keeps the
+ * string-keyed map API for callers while the values live in handle-indexed storage.
+ *
+ * @param <V> value type
+ */
+final class HandleMap<V> extends AbstractMap<String, V> {
+  private final IdTable ids;
+  private final IntFunction<V> byHandle;
+
+  HandleMap(IdTable ids, IntFunction<V> byHandle) {
+    this.ids = ids;
+    this.byHandle = byHandle;
+  }
+
+  @Override
+  public V get(Object key) {
+    int handle = key instanceof String id ? ids.handle(id) : IdTable.NO_HANDLE;
+    return handle == IdTable.NO_HANDLE ? null : byHandle.apply(handle);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String id && ids.contains(id);
+  }
+
+  @Override
+  public int size() {
+    return ids.size();
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, V>> iterator() {
+        return new Iterator<>() {
+          private int next;
+
+          @Override
+          public boolean hasNext() {
+            return next < ids.size();
+          }
+
+          @Override
+          public Entry<String, V> next() {
+            if (next >= ids.size()) {
+              throw new NoSuchElementException();
+            }
+            int handle = next++;
+            return new SimpleImmutableEntry<>(ids.id(handle), byHandle.apply(handle));
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return ids.size();
+      }
+    };
+  }
+}
@@ -5,53 +5,120 @@ import com.dpandev.domain.model.Monster;
 import com.dpandev.domain.model.Puzzle;
 import com.dpandev.domain.model.PuzzleType;
 import com.dpandev.domain.model.Room;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * JSON-based world loader that parses world definition files and creates World instances. Supports
  * loading from classpath resources or filesystem paths. Falls back to example.json if the specified
  * path is not found.
+ *
+ * <p>By default the whole pack is read into a JSON tree first. {@link ParseMode#STREAMING} instead
+ * walks the file token by token and only materialises one item, monster or room at a time, so peak
+ * memory stays close to the size of the resulting world for very large packs. {@link
+ * ParseMode#PARALLEL} only tokenizes the file on the calling thread, to find where each array
+ * element starts and ends, and parses the elements in chunks on the common {@link
+ * java.util.concurrent.ForkJoinPool}, which pays off for large packs on multi-core hosts.
+ *
+ * <p>Every mode accepts the same packs. Only the start room is checked; use a {@link
+ * ValidatingWorldLoader} to also reject dangling references.
  */
 public final class JsonWorldLoader implements WorldLoader {
 
+  /** Strategy used to read the world pack JSON. */
+  public enum ParseMode {
+    /** Read the whole document into a JSON tree, then build the world from it. */
+    TREE,
+    /** Stream the document and build each entity as soon as its JSON object has been read. */
+    STREAMING,
+    /**
+     * Scan the document once for the bounds of each item, monster and room, then parse chunks of
+     * them into JSON trees and domain objects concurrently.
+     */
+    PARALLEL
+  }
+
   private static final String DEFAULT_WORLD_PACK = "worldpacks/example.json";
   private static final int DEFAULT_MAX_ATTEMPTS = 3; // for puzzles
   private static final int DEFAULT_MONSTER_HEALTH = 30;
   private static final int DEFAULT_MONSTER_ATTACK = 5;
   private static final int DEFAULT_MONSTER_DEFENSE = 0;
   private static final double DEFAULT_CRIT_THRESHOLD = 0.3; // for monsters damage
+  private static final int PARALLEL_CHUNK_SIZE = 512; // array elements parsed per task
 
   private final String path;
   private final ObjectMapper mapper;
+  private final ParseMode mode;
 
   /**
-   * Creates a new JsonWorldLoader for the specified resource path.
+   * Creates a new JsonWorldLoader for the specified resource path using tree parsing.
    *
    * @param resourcePath path to the world JSON file (classpath or filesystem)
    * @throws NullPointerException if resourcePath is null
    */
   public JsonWorldLoader(String resourcePath) {
+    this(resourcePath, ParseMode.TREE);
+  }
+
+  /**
+   * Creates a new JsonWorldLoader for the specified resource path and parse mode.
+   *
+   * @param resourcePath path to the world JSON file (classpath or filesystem)
+   * @param mode how the JSON document is read
+   * @throws NullPointerException if resourcePath or mode is null
+   */
+  public JsonWorldLoader(String resourcePath, ParseMode mode) {
     this.path = Objects.requireNonNull(resourcePath, "resourcePath cannot be null");
+    this.mode = Objects.requireNonNull(mode, "mode cannot be null");
     this.mapper = new ObjectMapper();
   }
 
   @Override
   public World load() {
+    return loadTemplate().newSession();
+  }
+
+  /**
+   * Parses the world pack into a shared, immutable template. Callers that host many sessions of the
+   * same pack should load the template once and call {@link WorldTemplate#newSession()} per session
+   * instead of calling {@link #load()} repeatedly.
+   *
+   * @return the parsed world template
+   */
+  @Override
+  public WorldTemplate loadTemplate() {
     String pathToLoad = resolvePathWithFallback();
+    if (mode == ParseMode.STREAMING) {
+      return stream(pathToLoad);
+    }
+    if (mode == ParseMode.PARALLEL) {
+      return parseParallel(pathToLoad);
+    }
     JsonNode root = read(pathToLoad);
 
     String version = reqText(root, "version");
@@ -64,7 +131,296 @@ public final class JsonWorldLoader implements WorldLoader {
 
     validateStartRoom(startRoomId, roomsById);
 
-    return new World(version, roomsById, itemsById, puzzlesById, monstersById, startRoomId);
+    return new WorldTemplate(version, roomsById, itemsById, puzzlesById, monstersById, startRoomId);
+  }
+
+  /**
+   * Streams the world pack and builds the template without materialising the whole document.
+   *
+   * @param resourcePath path to the JSON file
+   * @return the parsed world template
+   * @throws UncheckedIOException if reading fails or the JSON is malformed
+   */
+  private WorldTemplate stream(String resourcePath) {
+    try (InputStream in = open(resourcePath)) {
+      if (in == null) {
+        throw new IOException(
+            "Resource not found: " + resourcePath + " (searched classpath and filesystem)");
+      }
+      try (JsonParser parser = mapper.createParser(in)) {
+        return streamTemplate(parser);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read world JSON from '" + resourcePath + "'", e);
+    }
+  }
+
+  /**
+   * Walks the top-level fields of the pack. Sections may appear in any order; each array element is
+   * read as a small JSON tree and converted to a domain object straight away.
+   *
+   * @param parser parser positioned before the root object
+   * @return the parsed world template
+   * @throws IOException if the JSON is malformed
+   */
+  private WorldTemplate streamTemplate(JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IllegalArgumentException("World JSON root must be an object");
+    }
+
+    ObjectNode header = mapper.createObjectNode();
+    Map<String, Item> itemsById = new HashMap<>();
+    Map<String, Monster> monstersById = new HashMap<>();
+    Map<String, Puzzle> puzzlesById = new HashMap<>();
+    Map<String, Room> roomsById = new HashMap<>();
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "version", "startRoomId" -> header.set(field, mapper.readTree(parser));
+        case "items" -> {
+          // a repeated section replaces the earlier one, as it does in the tree parser
+          Map<String, Item> items = new HashMap<>();
+          forEachElement(
+              parser,
+              node -> {
+                Item item = parseItem(node);
+                items.put(item.getId(), item);
+              });
+          itemsById = items;
+        }
+        case "monsters" -> {
+          Map<String, Monster> monsters = new HashMap<>();
+          forEachElement(parser, node -> monsters.put(reqText(node, "id"), parseMonster(node)));
+          monstersById = monsters;
+        }
+        case "rooms" -> {
+          Map<String, Room> rooms = new HashMap<>();
+          Map<String, Puzzle> puzzles = new HashMap<>();
+          forEachElement(
+              parser,
+              node -> {
+                Room room = parseRoom(node, puzzles);
+                rooms.put(room.getId(), room);
+              });
+          roomsById = rooms;
+          puzzlesById = puzzles;
+        }
+        default -> parser.skipChildren();
+      }
+    }
+
+    String version = reqText(header, "version");
+    String startRoomId = reqText(header, "startRoomId");
+    validateStartRoom(startRoomId, roomsById);
+
+    return new WorldTemplate(version, roomsById, itemsById, puzzlesById, monstersById, startRoomId);
+  }
+
+  /**
+   * Reads each element of a streamed section array as a small JSON tree and hands it to the action.
+   * Sections that are not arrays are skipped and treated as empty, matching the tree parser.
+   *
+   * @param parser parser positioned on the section's value token
+   * @param action consumer for each element
+   * @throws IOException if the JSON is malformed
+   */
+  private void forEachElement(JsonParser parser, Consumer<JsonNode> action) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return;
+    }
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      action.accept(mapper.readTree(parser));
+    }
+  }
+
+  /**
+   * Builds the template by parsing chunks of each section concurrently. The calling thread only
+   * tokenizes the file, recording the byte range of every element of the items, monsters and rooms
+   * arrays; building the JSON trees and domain objects, which is most of the work, runs on the
+   * common ForkJoinPool. Chunk results are merged in document order so duplicate IDs resolve
+   * exactly as in the sequential parser (the last one wins).
+   *
+   * @param resourcePath path to the JSON file
+   * @return the parsed world template
+   * @throws UncheckedIOException if reading fails or the JSON is malformed
+   * @throws IllegalStateException if the start room is missing
+   */
+  private WorldTemplate parseParallel(String resourcePath) {
+    byte[] json = readBytes(resourcePath);
+    ObjectNode header = mapper.createObjectNode();
+    int[] itemBounds = new int[0];
+    int[] monsterBounds = new int[0];
+    int[] roomBounds = new int[0];
+    try (JsonParser parser = mapper.createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("World JSON root must be an object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        // a repeated section replaces the earlier one, as it does in the tree parser
+        switch (field) {
+          case "version", "startRoomId" -> header.set(field, mapper.readTree(parser));
+          case "items" -> itemBounds = elementBounds(parser);
+          case "monsters" -> monsterBounds = elementBounds(parser);
+          case "rooms" -> roomBounds = elementBounds(parser);
+          default -> parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read world JSON from '" + resourcePath + "'", e);
+    }
+    String version = reqText(header, "version");
+    String startRoomId = reqText(header, "startRoomId");
+
+    // submit every section before joining any, so the three run together
+    List<CompletableFuture<Map<String, Item>>> items =
+        submitChunks(
+            json,
+            itemBounds,
+            HashMap::new,
+            (node, into) -> {
+              Item item = parseItem(node);
+              into.put(item.getId(), item);
+            });
+    List<CompletableFuture<Map<String, Monster>>> monsters =
+        submitChunks(
+            json,
+            monsterBounds,
+            HashMap::new,
+            (node, into) -> into.put(reqText(node, "id"), parseMonster(node)));
+    List<CompletableFuture<RoomSection>> rooms =
+        submitChunks(
+            json,
+            roomBounds,
+            RoomSection::new,
+            (node, into) -> {
+              Room room = parseRoom(node, into.puzzlesById);
+              into.roomsById.put(room.getId(), room);
+            });
+
+    Map<String, Item> itemsById = joinChunks(items, new HashMap<>(), JsonWorldLoader::mergeInto);
+    Map<String, Monster> monstersById =
+        joinChunks(monsters, new HashMap<>(), JsonWorldLoader::mergeInto);
+    RoomSection section = joinChunks(rooms, new RoomSection(), RoomSection::merge);
+
+    validateStartRoom(startRoomId, section.roomsById);
+
+    return new WorldTemplate(
+        version, section.roomsById, itemsById, section.puzzlesById, monstersById, startRoomId);
+  }
+
+  /**
+   * Skips over a section array, recording the byte range of each element. Sections that are not
+   * arrays are skipped and treated as empty, matching the tree parser.
+   *
+   * @param parser parser positioned on the section's value token
+   * @return the start and end offset of each element, in pairs
+   * @throws IOException if the JSON is malformed
+   */
+  private int[] elementBounds(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return new int[0];
+    }
+    int[] bounds = new int[64];
+    int size = 0;
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+        // a scalar has no ID, so this fails with the tree parser's error
+        reqText(mapper.readTree(parser), "id");
+      }
+      if (size == bounds.length) {
+        bounds = Arrays.copyOf(bounds, size * 2);
+      }
+      bounds[size++] = (int) parser.currentTokenLocation().getByteOffset();
+      parser.skipChildren();
+      bounds[size++] = (int) parser.currentTokenLocation().getByteOffset() + 1;
+    }
+    return Arrays.copyOf(bounds, size);
+  }
+
+  /**
+   * Parses a section's elements in chunks of {@link #PARALLEL_CHUNK_SIZE}, one task per chunk.
+   *
+   * @param json the whole document
+   * @param bounds the start and end offset of each element, in pairs
+   * @param newResult creates an empty result for a chunk
+   * @param parseInto parses one element into its chunk's result
+   * @param <R> per-chunk result type
+   * @return the chunk tasks, in document order
+   */
+  private <R> List<CompletableFuture<R>> submitChunks(
+      byte[] json, int[] bounds, Supplier<R> newResult, BiConsumer<JsonNode, R> parseInto) {
+    int elements = bounds.length / 2;
+    List<CompletableFuture<R>> chunks = new ArrayList<>();
+    for (int from = 0; from < elements; from += PARALLEL_CHUNK_SIZE) {
+      int first = from;
+      int last = Math.min(from + PARALLEL_CHUNK_SIZE, elements);
+      chunks.add(
+          CompletableFuture.supplyAsync(
+              () -> {
+                R result = newResult.get();
+                for (int i = first; i < last; i++) {
+                  parseInto.accept(readElement(json, bounds[2 * i], bounds[2 * i + 1]), result);
+                }
+                return result;
+              }));
+    }
+    return chunks;
+  }
+
+  private JsonNode readElement(byte[] json, int start, int end) {
+    try {
+      return mapper.readTree(json, start, end - start);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e); // the scan already read the element once
+    }
+  }
+
+  /**
+   * Waits for a section's chunks and merges their results in document order.
+   *
+   * @param chunks the chunk tasks, in document order
+   * @param merged the empty result to merge into
+   * @param merge merges a later chunk's result into an earlier one
+   * @param <R> per-chunk result type
+   * @return the merged result
+   */
+  private static <R> R joinChunks(
+      List<CompletableFuture<R>> chunks, R merged, BinaryOperator<R> merge) {
+    for (CompletableFuture<R> chunk : chunks) {
+      try {
+        merged = merge.apply(merged, chunk.join());
+      } catch (CompletionException e) {
+        // join() wraps what the task threw; unwrap it so errors match the sequential parser
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+    return merged;
+  }
+
+  /**
+   * Gets the filesystem file the pack resolves to. Packs found on the classpath take precedence
+   * over files, as in loading, and report no source file.
+   *
+   * @return the resolved file, or empty for classpath resources
+   */
+  @Override
+  public Optional<Path> sourceFile() {
+    String resolved = resolvePathWithFallback();
+    if (classpathResource(resolved) != null) {
+      return Optional.empty();
+    }
+    Path file = Path.of(resolved);
+    return Files.exists(file) ? Optional.of(file) : Optional.empty();
   }
 
   /**
@@ -340,6 +696,25 @@ public final class JsonWorldLoader implements WorldLoader {
     return solution;
   }
 
+  /**
+   * Reads the raw bytes of the specified path.
+   *
+   * @param resourcePath path to the JSON file
+   * @return the file content
+   * @throws UncheckedIOException if reading fails
+   */
+  private byte[] readBytes(String resourcePath) {
+    try (InputStream in = open(resourcePath)) {
+      if (in == null) {
+        throw new IOException(
+            "Resource not found: " + resourcePath + " (searched classpath and filesystem)");
+      }
+      return in.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read world JSON from '" + resourcePath + "'", e);
+    }
+  }
+
   /**
    * Reads and parses JSON from the specified path.
    *
@@ -371,17 +746,9 @@ public final class JsonWorldLoader implements WorldLoader {
    * @throws IOException if an I/O error occurs
    */
   private InputStream open(String resourcePath) throws IOException {
-    // Try thread context class loader first
-    ClassLoader cl = Thread.currentThread().getContextClassLoader();
-    InputStream in = (cl != null) ? cl.getResourceAsStream(stripSlash(resourcePath)) : null;
-    if (in != null) {
-      return in;
-    }
-
-    // Try this class's class loader with leading slash
-    in = JsonWorldLoader.class.getResourceAsStream(ensureSlash(resourcePath));
-    if (in != null) {
-      return in;
+    URL resource = classpathResource(resourcePath);
+    if (resource != null) {
+      return resource.openStream();
     }
 
     // Try filesystem as last resort
@@ -389,6 +756,22 @@ public final class JsonWorldLoader implements WorldLoader {
     return Files.exists(file) ? Files.newInputStream(file) : null;
   }
 
+  /**
+   * Looks up a classpath resource, trying the thread context class loader first and then this
+   * class's class loader.
+   *
+   * @param resourcePath resource path, with or without a leading slash
+   * @return the resource URL, or null if it is not on the classpath
+   */
+  private URL classpathResource(String resourcePath) {
+    ClassLoader cl = Thread.currentThread().getContextClassLoader();
+    URL resource = (cl != null) ? cl.getResource(stripSlash(resourcePath)) : null;
+    if (resource != null) {
+      return resource;
+    }
+    return JsonWorldLoader.class.getResource(ensureSlash(resourcePath));
+  }
+
   /**
    * Gets required text field from JSON node.
    *
@@ -472,7 +855,7 @@ public final class JsonWorldLoader implements WorldLoader {
               + " value: '"
               + rawValue
               + "'. Valid values: "
-              + java.util.Arrays.toString(enumClass.getEnumConstants()),
+              + Arrays.toString(enumClass.getEnumConstants()),
           e);
     }
   }
@@ -496,4 +879,24 @@ public final class JsonWorldLoader implements WorldLoader {
   private static String ensureSlash(String path) {
     return (path != null && path.startsWith("/")) ? path : "/" + path;
   }
+
+  /**
+   * Merges a later chunk's map into an earlier one so later entries win, as in sequential parsing.
+   */
+  private static <V> Map<String, V> mergeInto(Map<String, V> earlier, Map<String, V> later) {
+    earlier.putAll(later);
+    return earlier;
+  }
+
+  /** Rooms and their inline puzzles parsed from one chunk of the rooms array. */
+  private static final class RoomSection {
+    private final Map<String, Room> roomsById = new HashMap<>();
+    private final Map<String, Puzzle> puzzlesById = new HashMap<>();
+
+    private RoomSection merge(RoomSection later) {
+      roomsById.putAll(later.roomsById);
+      puzzlesById.putAll(later.puzzlesById);
+      return this;
+    }
+  }
 }
@@ -0,0 +1,189 @@
+package com.dpandev.domain.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable case-insensitive index from entity names to entity IDs. Exact lookups use an
+ * open-addressing hash table keyed on case-folded characters, so a lookup hashes the query in place
+ * and never allocates. Prefix lookups binary-search a sorted array of folded names and cost O(log n
+ * + k) for k matches.
+ *
+ * <p>Name matching follows {@link String#equalsIgnoreCase(String)}. When several entities share a
+ * name, the one with the lexicographically smallest ID wins exact lookups.
+ */
+final class NameIndex {
+  private final String[] names; // original names, sorted by folded name then ID
+  private final String[] folded; // case-folded names, parallel to names
+  private final String[] ids; // entity IDs, parallel to names
+  private final int[] slots; // hash table of position + 1; 0 marks an empty slot
+  private final int mask;
+
+  /**
+   * Builds an index over the given entities.
+   *
+   * @param namesById map of entity ID to entity name
+   */
+  NameIndex(Map<String, String> namesById) {
+    int size = namesById.size();
+    String[][] entries = new String[size][];
+    int i = 0;
+    for (Map.Entry<String, String> entry : namesById.entrySet()) {
+      String name = entry.getValue() == null ? "" : entry.getValue();
+      entries[i++] = new String[] {fold(name), entry.getKey(), name};
+    }
+    Comparator<String[]> byFoldedNameThenId =
+        Comparator.<String[], String>comparing(e -> e[0]).thenComparing(e -> e[1]);
+    Arrays.sort(entries, byFoldedNameThenId);
+
+    this.names = new String[size];
+    this.folded = new String[size];
+    this.ids = new String[size];
+    for (i = 0; i < size; i++) {
+      folded[i] = entries[i][0];
+      ids[i] = entries[i][1];
+      names[i] = entries[i][2];
+    }
+
+    int capacity = Integer.highestOneBit(Math.max(2, size * 2 - 1)) << 1;
+    this.slots = new int[capacity];
+    this.mask = capacity - 1;
+    for (i = 0; i < size; i++) {
+      // duplicates are adjacent after sorting; only the first (smallest ID) is hashed
+      if (i > 0 && folded[i].equals(folded[i - 1])) {
+        continue;
+      }
+      int slot = hash(names[i]) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = i + 1;
+    }
+  }
+
+  /**
+   * Finds the ID of the entity with the given name (case-insensitive).
+   *
+   * @param name the name to look up
+   * @return the entity ID, or null if no entity has that name
+   */
+  String get(String name) {
+    if (name == null) {
+      return null;
+    }
+    int slot = hash(name) & mask;
+    int position;
+    while ((position = slots[slot]) != 0) {
+      String candidate = names[position - 1];
+      if (candidate.length() == name.length()
+          && candidate.regionMatches(true, 0, name, 0, name.length())) {
+        return ids[position - 1];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return null;
+  }
+
+  /**
+   * Finds the ID of the single entity whose name starts with the given prefix (case-insensitive).
+   *
+   * @param prefix the name prefix
+   * @return the entity ID, or null if no entity or more than one entity matches
+   */
+  String findUniqueByPrefix(String prefix) {
+    if (prefix == null || prefix.isEmpty()) {
+      return null;
+    }
+    int first = lowerBound(prefix);
+    if (first >= folded.length || comparePrefix(folded[first], prefix) != 0) {
+      return null;
+    }
+    int next = first + 1;
+    if (next < folded.length && comparePrefix(folded[next], prefix) == 0) {
+      return null;
+    }
+    return ids[first];
+  }
+
+  /**
+   * Finds the IDs of all entities whose names start with the given prefix (case-insensitive),
+   * ordered by name.
+   *
+   * @param prefix the name prefix
+   * @return list of matching entity IDs, empty if none match
+   */
+  List<String> findAllByPrefix(String prefix) {
+    List<String> matches = new ArrayList<>();
+    if (prefix == null || prefix.isEmpty()) {
+      return matches;
+    }
+    int i = lowerBound(prefix);
+    while (i < folded.length && comparePrefix(folded[i], prefix) == 0) {
+      matches.add(ids[i++]);
+    }
+    return matches;
+  }
+
+  /**
+   * Gets the number of indexed entities.
+   *
+   * @return the index size
+   */
+  int size() {
+    return ids.length;
+  }
+
+  /** Returns the first position whose folded name is not less than the folded prefix. */
+  private int lowerBound(String prefix) {
+    int low = 0;
+    int high = folded.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (comparePrefix(folded[mid], prefix) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Compares a folded name against a query prefix, folding the query on the fly. Returns 0 when the
+   * name starts with the prefix.
+   */
+  private static int comparePrefix(String foldedName, String prefix) {
+    int length = Math.min(foldedName.length(), prefix.length());
+    for (int i = 0; i < length; i++) {
+      int diff = foldedName.charAt(i) - fold(prefix.charAt(i));
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return foldedName.length() < prefix.length() ? -1 : 0;
+  }
+
+  /** Hashes a name over its case-folded characters, consistent with equalsIgnoreCase. */
+  private static int hash(String name) {
+    int h = 0;
+    for (int i = 0; i < name.length(); i++) {
+      h = 31 * h + fold(name.charAt(i));
+    }
+    return h ^ (h >>> 16);
+  }
+
+  private static char fold(char c) {
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+
+  private static String fold(String name) {
+    char[] chars = new char[name.length()];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = fold(name.charAt(i));
+    }
+    return new String(chars);
+  }
+}
@@ -0,0 +1,196 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.IdTable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shortest routes between the rooms of a world pack. The exits of every room are flattened into a
+ * compact adjacency array once, and for each destination room a breadth-first search over the
+ * reversed exits records, per room, which exit to take next. Following those next hops from any
+ * room spells out a shortest route, so a route query costs O(path length) and never searches the
+ * graph itself.
+ *
+ * <p>Small packs get the next-hop table of every destination up front, when the table is built.
+ * Larger packs would need one entry per pair of rooms, so their tables are built on the first query
+ * for a destination and a bounded number of the most recently used ones are kept.
+ *
+ * <p>Only exits a player can walk through are followed, and each room's exits are ordered by
+ * direction, so the same pack always yields the same routes.
+ */
+final class RouteTable {
+  /** Packs up to this many rooms get every next-hop table up front. */
+  static final int EAGER_ROOM_LIMIT = 1024;
+
+  /** Next-hop tables kept for packs that build them on demand. */
+  static final int CACHED_DESTINATIONS = 256;
+
+  /** The exit directions the exploration service accepts for a move. */
+  static final Set<String> WALKABLE =
+      Set.of("north", "n", "south", "s", "east", "e", "west", "w", "up", "u", "down", "d");
+
+  private static final short UNREACHABLE = -1;
+
+  private final int roomCount;
+  private final int[] offsets; // exits of room r are edges offsets[r] until offsets[r + 1]
+  private final int[] sources; // room each edge leaves, parallel to targets
+  private final int[] targets; // room each edge leads to
+  private final String[] directions; // direction of each edge
+  private final int[] incomingOffsets; // edges into room r are incoming[incomingOffsets[r]...]
+  private final int[] incoming; // edge indexes grouped by target room
+  private final short[][] hopsByDestination; // every table, or null when built on demand
+  private final Map<Integer, short[]> recentHops; // bounded cache, or null when eager
+
+  /**
+   * Builds the route table of a world pack.
+   *
+   * @param rooms the room definitions
+   */
+  RouteTable(EntityTable<Room> rooms) {
+    IdTable roomIds = rooms.ids();
+    this.roomCount = roomIds.size();
+    this.offsets = new int[roomCount + 1];
+
+    int[] edgeTargets = new int[Math.max(16, roomCount * 2)];
+    String[] edgeDirections = new String[edgeTargets.length];
+    int edgeCount = 0;
+    for (int room = 0; room < roomCount; room++) {
+      offsets[room] = edgeCount;
+      Map<String, String> exits = rooms.get(room).getExits();
+      String[] walkable =
+          exits.keySet().stream().filter(WALKABLE::contains).sorted().toArray(String[]::new);
+      for (String direction : walkable) {
+        int target = roomIds.handle(exits.get(direction));
+        if (target == IdTable.NO_HANDLE) {
+          continue;
+        }
+        if (edgeCount == edgeTargets.length) {
+          edgeTargets = Arrays.copyOf(edgeTargets, edgeCount * 2);
+          edgeDirections = Arrays.copyOf(edgeDirections, edgeCount * 2);
+        }
+        edgeTargets[edgeCount] = target;
+        edgeDirections[edgeCount] = direction;
+        edgeCount++;
+      }
+    }
+    offsets[roomCount] = edgeCount;
+
+    this.targets = Arrays.copyOf(edgeTargets, edgeCount);
+    this.directions = Arrays.copyOf(edgeDirections, edgeCount);
+    this.sources = new int[edgeCount];
+    this.incomingOffsets = new int[roomCount + 1];
+    for (int room = 0; room < roomCount; room++) {
+      Arrays.fill(sources, offsets[room], offsets[room + 1], room);
+    }
+    for (int e = 0; e < edgeCount; e++) {
+      incomingOffsets[targets[e] + 1]++;
+    }
+    for (int room = 0; room < roomCount; room++) {
+      incomingOffsets[room + 1] += incomingOffsets[room];
+    }
+    this.incoming = new int[edgeCount];
+    int[] fill = Arrays.copyOf(incomingOffsets, roomCount);
+    for (int e = 0; e < edgeCount; e++) {
+      incoming[fill[targets[e]]++] = e;
+    }
+
+    if (roomCount <= EAGER_ROOM_LIMIT) {
+      this.hopsByDestination = new short[roomCount][];
+      for (int destination = 0; destination < roomCount; destination++) {
+        hopsByDestination[destination] = search(destination);
+      }
+      this.recentHops = null;
+    } else {
+      this.hopsByDestination = null;
+      this.recentHops =
+          new LinkedHashMap<>(CACHED_DESTINATIONS * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, short[]> eldest) {
+              return size() > CACHED_DESTINATIONS;
+            }
+          };
+    }
+  }
+
+  /**
+   * Finds a shortest route between two rooms.
+   *
+   * @param from the handle of the room to start in
+   * @param to the handle of the room to reach
+   * @return the directions to walk, in order; empty if the rooms are the same, or null if there is
+   *     no route or either handle is outside the pack
+   */
+  List<String> route(int from, int to) {
+    if (from < 0 || from >= roomCount || to < 0 || to >= roomCount) {
+      return null;
+    }
+    short[] hops = hopsTo(to);
+    if (hops[from] == UNREACHABLE) {
+      return null;
+    }
+    List<String> route = new ArrayList<>();
+    for (int room = from; room != to; ) {
+      int edge = offsets[room] + hops[room];
+      route.add(directions[edge]);
+      room = targets[edge];
+    }
+    return route;
+  }
+
+  /**
+   * Gets the next-hop table of a destination, from the up-front tables or the cache.
+   *
+   * @param destination the handle of the destination room
+   * @return the exit each room should take next, by position among that room's exits
+   */
+  private short[] hopsTo(int destination) {
+    if (hopsByDestination != null) {
+      return hopsByDestination[destination];
+    }
+    synchronized (recentHops) {
+      short[] hops = recentHops.get(destination);
+      if (hops != null) {
+        return hops;
+      }
+    }
+    short[] hops = search(destination); // searched outside the lock; a racing copy is equal
+    synchronized (recentHops) {
+      recentHops.put(destination, hops);
+    }
+    return hops;
+  }
+
+  /**
+   * Searches breadth-first from a destination along reversed exits. The first exit found out of
+   * each room lies on a shortest route to the destination.
+   *
+   * @param destination the handle of the destination room
+   * @return the next-hop table, with {@link #UNREACHABLE} for rooms that cannot reach it
+   */
+  private short[] search(int destination) {
+    short[] hops = new short[roomCount];
+    Arrays.fill(hops, UNREACHABLE);
+    hops[destination] = 0; // never followed; marks the destination as reached
+    int[] queue = new int[roomCount];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = destination;
+    while (head < tail) {
+      int room = queue[head++];
+      for (int i = incomingOffsets[room]; i < incomingOffsets[room + 1]; i++) {
+        int edge = incoming[i];
+        int source = sources[edge];
+        if (hops[source] == UNREACHABLE) {
+          hops[source] = (short) (edge - offsets[source]);
+          queue[tail++] = source;
+        }
+      }
+    }
+    return hops;
+  }
+}
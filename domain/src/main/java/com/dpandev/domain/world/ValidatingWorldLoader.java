@@ -0,0 +1,68 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.world.ValidationReport.Issue;
+import com.dpandev.domain.world.ValidationReport.Severity;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Decorator that runs a {@link WorldValidator} over every template its delegate loads and refuses
+ * packs with errors. Warnings do not stop a pack from loading.
+ *
+ * <p>Wrap it inside a {@link CachingWorldLoader} so a pack is validated only when it is parsed, not
+ * on every session.
+ */
+public final class ValidatingWorldLoader implements WorldLoader {
+  private static final int MAX_REPORTED_ERRORS = 10;
+
+  private final WorldLoader delegate;
+  private final WorldValidator validator = new WorldValidator();
+
+  /**
+   * Wraps the given loader.
+   *
+   * @param delegate loader whose templates are validated
+   * @throws NullPointerException if delegate is null
+   */
+  public ValidatingWorldLoader(WorldLoader delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+  }
+
+  @Override
+  public World load() {
+    return loadTemplate().newSession();
+  }
+
+  /**
+   * Loads the template from the delegate and validates it.
+   *
+   * @return the world template
+   * @throws IllegalStateException if the pack has errors
+   */
+  @Override
+  public WorldTemplate loadTemplate() {
+    WorldTemplate template = delegate.loadTemplate();
+    ValidationReport report = validator.validate(template);
+    if (!report.isValid()) {
+      StringBuilder message =
+          new StringBuilder("World pack has ").append(report.errorCount()).append(" error(s):");
+      int listed = 0;
+      for (Issue issue : report.issues()) {
+        if (issue.severity() == Severity.ERROR && listed++ < MAX_REPORTED_ERRORS) {
+          message.append("\n  ").append(issue.message());
+        }
+      }
+      if (listed > MAX_REPORTED_ERRORS) {
+        message.append("\n  ... and ").append(listed - MAX_REPORTED_ERRORS).append(" more");
+      }
+      throw new IllegalStateException(message.toString());
+    }
+    return template;
+  }
+
+  @Override
+  public Optional<Path> sourceFile() {
+    return delegate.sourceFile();
+  }
+}
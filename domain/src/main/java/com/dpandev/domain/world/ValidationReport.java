@@ -0,0 +1,77 @@
+package com.dpandev.domain.world;
+
+import java.util.List;
+
+/**
+ * The findings of a {@link WorldValidator} run over a world pack.
+ *
+ * @param roomCount number of rooms the pack defines
+ * @param reachableRooms rooms that can be reached from the start room
+ * @param components strongly connected components of the room graph; a pack where every room can
+ *     reach every other has exactly one
+ * @param issues every problem found, errors first, each group in room handle order
+ */
+public record ValidationReport(
+    int roomCount, int reachableRooms, int components, List<Issue> issues) {
+
+  /**
+   * Constructs a ValidationReport, copying the issues.
+   *
+   * @param roomCount number of rooms the pack defines
+   * @param reachableRooms rooms that can be reached from the start room
+   * @param components strongly connected components of the room graph
+   * @param issues every problem found
+   */
+  public ValidationReport {
+    issues = List.copyOf(issues);
+  }
+
+  /** How serious an issue is. */
+  public enum Severity {
+    /** The pack refers to something it does not define; play will hit it as a bug. */
+    ERROR,
+    /** The pack is playable, but probably not as intended. */
+    WARNING
+  }
+
+  /**
+   * One problem found in a pack.
+   *
+   * @param severity how serious the problem is
+   * @param message what is wrong and where
+   */
+  public record Issue(Severity severity, String message) {}
+
+  /**
+   * Checks whether the pack is free of errors. Warnings do not make a pack invalid.
+   *
+   * @return true if no issue is an error
+   */
+  public boolean isValid() {
+    return errorCount() == 0;
+  }
+
+  /**
+   * Counts the errors found.
+   *
+   * @return the number of errors
+   */
+  public int errorCount() {
+    int errors = 0;
+    for (Issue issue : issues) {
+      if (issue.severity() == Severity.ERROR) {
+        errors++;
+      }
+    }
+    return errors;
+  }
+
+  /**
+   * Counts the warnings found.
+   *
+   * @return the number of warnings
+   */
+  public int warningCount() {
+    return issues.size() - errorCount();
+  }
+}
@@ -4,17 +4,25 @@ import com.dpandev.domain.model.Item;
 import com.dpandev.domain.model.Monster;
 import com.dpandev.domain.model.Puzzle;
 import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.IdTable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
-/** Represents the entire game world, containing rooms, items, and puzzles. */
+/**
+ * Represents the entire game world, containing rooms, items, and puzzles, as seen by one session. A
+ * World is a thin view over a shared, immutable {@link WorldTemplate} plus a per-session {@link
+ * WorldState} overlay holding the rooms, monsters and puzzles this session has touched.
+ *
+ * <p>Entities can be looked up by their string ID or by the dense int handle the template's {@link
+ * IdTable}s give each ID. Code that resolves the same entity repeatedly can look up its handle once
+ * and then find the entity by array index.
+ */
 public final class World {
-  private final String version;
-  private final Map<String, Room> roomsById;
-  private final Map<String, Item> itemsById;
-  private final Map<String, Puzzle> puzzlesById;
-  private final String startRoomId;
-  private final Map<String, Monster> monstersById;
+  private final WorldTemplate template;
+  private final WorldState state;
 
   /**
    * Constructor for World.
@@ -37,12 +45,45 @@ public final class World {
       Map<String, Puzzle> puzzles,
       Map<String, Monster> monsters,
       String startRoomId) {
-    this.version = version;
-    this.roomsById = Map.copyOf(rooms);
-    this.itemsById = Map.copyOf(items);
-    this.puzzlesById = Map.copyOf(puzzles);
-    this.monstersById = Map.copyOf(monsters);
-    this.startRoomId = startRoomId;
+    this(new WorldTemplate(version, rooms, items, puzzles, monsters, startRoomId));
+  }
+
+  /**
+   * Creates a new session over a shared template with an empty overlay.
+   *
+   * @param template the parsed world template
+   * @throws NullPointerException if template is null
+   */
+  public World(WorldTemplate template) {
+    this.template = Objects.requireNonNull(template, "template cannot be null");
+    this.state = new WorldState(template);
+  }
+
+  /**
+   * Gets the shared template this world is backed by.
+   *
+   * @return The world template.
+   */
+  public WorldTemplate getTemplate() {
+    return template;
+  }
+
+  /**
+   * Gets the per-session overlay of this world.
+   *
+   * @return The world state overlay.
+   */
+  public WorldState getState() {
+    return state;
+  }
+
+  /**
+   * Creates a fresh session over the same template, leaving this world untouched.
+   *
+   * @return A new World with an empty overlay.
+   */
+  public World newSession() {
+    return template.newSession();
   }
 
   /**
@@ -51,7 +92,7 @@ public final class World {
    * @return The version of the world.
    */
   public String getVersion() {
-    return version;
+    return template.getVersion();
   }
 
   /**
@@ -60,34 +101,61 @@ public final class World {
    * @return A map of items in the world.
    */
   public Map<String, Item> getItems() {
-    return itemsById;
+    return template.getItems();
   }
 
   /**
-   * Gets the rooms in the world.
+   * Gets the rooms in the world as seen by this session.
    *
-   * @return A map of rooms in the world.
+   * @return A read-only map of rooms in the world.
    */
   public Map<String, Room> getRooms() {
-    return roomsById;
+    return state.roomsView();
   }
 
   /**
-   * Gets the puzzles in the world.
+   * Gets the puzzles in the world as seen by this session.
    *
-   * @return A map of puzzles in the world.
+   * @return A read-only map of puzzles in the world.
    */
   public Map<String, Puzzle> getPuzzles() {
-    return puzzlesById;
+    return state.puzzlesView();
   }
 
   /**
-   * Gets the monsters in the world.
+   * Gets the monsters in the world as seen by this session.
    *
-   * @return A map of monsters in the world.
+   * @return A read-only map of monsters in the world.
    */
   public Map<String, Monster> getMonsters() {
-    return monstersById;
+    return state.monstersView();
+  }
+
+  /**
+   * Gets the handles of the room IDs, shared by every session of the same template.
+   *
+   * @return The room ID table.
+   */
+  public IdTable getRoomIds() {
+    return template.getRoomIds();
+  }
+
+  /**
+   * Gets the handles of the item IDs, shared by every session of the same template.
+   *
+   * @return The item ID table.
+   */
+  public IdTable getItemIds() {
+    return template.getItemIds();
+  }
+
+  /**
+   * Gets the handles of the puzzle IDs, shared by every session of the same template.
+   *
+   * @return The puzzle ID table.
+   */
+  public IdTable getPuzzleIds() {
+    return template.getPuzzleIds();
   }
 
   /**
@@ -96,7 +164,7 @@ public final class World {
    * @return The ID of the starting room.
    */
   public String getStartRoomId() {
-    return startRoomId;
+    return template.getStartRoomId();
   }
 
   /**
@@ -106,7 +174,7 @@ public final class World {
    * @return An Optional containing the Room if found, or empty if not found.
    */
   public Optional<Room> getRoomById(String roomId) {
-    return Optional.ofNullable(roomsById.get(roomId));
+    return Optional.ofNullable(state.room(roomId));
   }
 
   /**
@@ -116,7 +184,17 @@ public final class World {
    * @return An Optional containing the Puzzle if found, or empty if not found.
    */
   public Optional<Puzzle> findPuzzle(String puzzleId) {
-    return Optional.ofNullable(puzzlesById.get(puzzleId));
+    return Optional.ofNullable(state.puzzle(puzzleId));
+  }
+
+  /**
+   * Finds a puzzle by its handle.
+   *
+   * @param handle The handle of the puzzle in {@link #getPuzzleIds()}.
+   * @return An Optional containing the Puzzle if found, or empty if not found.
+   */
+  public Optional<Puzzle> findPuzzle(int handle) {
+    return Optional.ofNullable(state.puzzle(handle));
   }
 
   /**
@@ -126,7 +204,17 @@ public final class World {
    * @return An Optional containing the Room if found, or empty if not found.
    */
   public Optional<Room> findRoom(String roomId) {
-    return Optional.ofNullable(roomsById.get(roomId));
+    return Optional.ofNullable(state.room(roomId));
+  }
+
+  /**
+   * Finds a room by its handle.
+   *
+   * @param handle The handle of the room in {@link #getRoomIds()}.
+   * @return An Optional containing the Room if found, or empty if not found.
+   */
+  public Optional<Room> findRoom(int handle) {
+    return Optional.ofNullable(state.room(handle));
   }
 
   /**
@@ -136,19 +224,54 @@ public final class World {
    * @return An Optional containing the Item if found, or empty if not found.
    */
   public Optional<Item> findItem(String itemId) {
-    return Optional.ofNullable(itemsById.get(itemId));
+    return Optional.ofNullable(template.items().get(itemId));
+  }
+
+  /**
+   * Finds an item by its handle.
+   *
+   * @param handle The handle of the item in {@link #getItemIds()}.
+   * @return An Optional containing the Item if found, or empty if not found.
+   */
+  public Optional<Item> findItem(int handle) {
+    return Optional.ofNullable(template.items().get(handle));
   }
 
   /**
-   * Finds an item by its name (case-insensitive).
+   * Finds an item by its name (case-insensitive). Uses the template's name index, so the lookup is
+   * constant-time regardless of how many items the world defines.
    *
    * @param itemName The name of the item to find.
    * @return An Optional containing the Item if found, or empty if not found.
    */
   public Optional<Item> findItemByName(String itemName) {
-    return itemsById.values().stream()
-        .filter(item -> item.getName().equalsIgnoreCase(itemName))
-        .findFirst();
+    return Optional.ofNullable(template.items().get(template.itemNames().get(itemName)));
+  }
+
+  /**
+   * Finds the single item whose name starts with the given prefix (case-insensitive), e.g. "steel"
+   * for "Steel Sword".
+   *
+   * @param prefix The beginning of the item name.
+   * @return An Optional containing the Item if exactly one item matches, or empty otherwise.
+   */
+  public Optional<Item> findItemByNamePrefix(String prefix) {
+    String itemId = template.itemNames().findUniqueByPrefix(prefix);
+    return Optional.ofNullable(template.items().get(itemId));
+  }
+
+  /**
+   * Finds all items whose names start with the given prefix (case-insensitive), ordered by name.
+   *
+   * @param prefix The beginning of the item name.
+   * @return A list of matching items, empty if none match.
+   */
+  public List<Item> findItemsByNamePrefix(String prefix) {
+    List<Item> items = new ArrayList<>();
+    for (String itemId : template.itemNames().findAllByPrefix(prefix)) {
+      items.add(template.items().get(itemId));
+    }
+    return items;
   }
 
   /**
@@ -158,18 +281,93 @@ public final class World {
    * @return An Optional containing the Monster if found, or empty if not found.
    */
   public Optional<Monster> findMonster(String monsterId) {
-    return Optional.ofNullable(monstersById.get(monsterId));
+    return Optional.ofNullable(state.monster(monsterId));
+  }
+
+  /**
+   * Finds a monster by its handle.
+   *
+   * @param handle The handle of the monster in {@link WorldTemplate#getMonsterIds()}.
+   * @return An Optional containing the Monster if found, or empty if not found.
+   */
+  public Optional<Monster> findMonster(int handle) {
+    return Optional.ofNullable(state.monster(handle));
+  }
+
+  /**
+   * Gets the handle of a room ID.
+   *
+   * @param roomId The ID of the room, may be null.
+   * @return The handle of the room, or {@link IdTable#NO_HANDLE} if the world has no such room.
+   */
+  public int roomHandle(String roomId) {
+    return template.getRoomIds().handle(roomId);
+  }
+
+  /**
+   * Gets the handle of a puzzle ID.
+   *
+   * @param puzzleId The ID of the puzzle, may be null.
+   * @return The handle of the puzzle, or {@link IdTable#NO_HANDLE} if the world has no such puzzle.
+   */
+  public int puzzleHandle(String puzzleId) {
+    return template.getPuzzleIds().handle(puzzleId);
   }
 
   /**
-   * Finds a monster by its name (case-insensitive).
+   * Finds the room an exit leads to, without hashing the destination ID.
+   *
+   * @param roomHandle The handle of the room to leave.
+   * @param direction The exit direction, in lower case.
+   * @return The handle of the destination room, or {@link IdTable#NO_HANDLE} if the room has no
+   *     such exit or the exit leads nowhere.
+   */
+  public int findExit(int roomHandle, String direction) {
+    return template.exitTarget(roomHandle, direction);
+  }
+
+  /**
+   * Finds a monster by its name (case-insensitive). Uses the template's name index and resolves the
+   * match through this session's overlay.
    *
    * @param monsterName The name of the monster to find.
    * @return An Optional containing the Monster if found, or empty if not found.
    */
   public Optional<Monster> findMonsterByName(String monsterName) {
-    return monstersById.values().stream()
-        .filter(monster -> monster.getName().equalsIgnoreCase(monsterName))
-        .findFirst();
+    return Optional.ofNullable(state.monster(template.monsterNames().get(monsterName)));
+  }
+
+  /**
+   * Finds a room by its name (case-insensitive). Uses the template's name index and resolves the
+   * match through this session's overlay.
+   *
+   * @param roomName The name of the room to find.
+   * @return An Optional containing the Room if found, or empty if not found.
+   */
+  public Optional<Room> findRoomByName(String roomName) {
+    return Optional.ofNullable(state.room(template.roomNames().get(roomName)));
+  }
+
+  /**
+   * Finds a shortest route between two rooms. Routes come from the template's precomputed next-hop
+   * tables, so a query costs time proportional to the length of the route.
+   *
+   * @param fromHandle The handle of the room to start in.
+   * @param toHandle The handle of the room to reach.
+   * @return An Optional containing the directions to walk in order, empty when both rooms are the
+   *     same; or an empty Optional if the room cannot be reached.
+   */
+  public Optional<List<String>> findRoute(int fromHandle, int toHandle) {
+    return Optional.ofNullable(template.routes().route(fromHandle, toHandle));
+  }
+
+  /**
+   * Gets the grid layout of every room, with the rooms' map tiles. The layout is built once per
+   * world pack and shared by every session.
+   *
+   * @return The world map.
+   */
+  public WorldMap getWorldMap() {
+    return template.worldMap();
   }
 }
@@ -0,0 +1,63 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.model.Puzzle.PuzzlePhase;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The changes a session has made to the world, relative to the pristine {@link WorldTemplate} of
+ * the same pack version. Only entities that differ from the template are listed, so a delta grows
+ * with what the player changed rather than with the size of the world.
+ *
+ * @param roomItems room ID to the room's full item list, for rooms whose items changed
+ * @param monsterHealth monster ID to current health, for monsters that took damage or healed
+ * @param puzzles puzzle ID to phase and attempts left, for puzzles that changed
+ */
+public record WorldDelta(
+    Map<String, List<String>> roomItems,
+    Map<String, Integer> monsterHealth,
+    Map<String, PuzzleState> puzzles) {
+
+  /** A delta with no changes; applying it restores the pristine world. */
+  public static final WorldDelta EMPTY = new WorldDelta(Map.of(), Map.of(), Map.of());
+
+  /**
+   * The saved state of one puzzle.
+   *
+   * @param phase the puzzle phase
+   * @param attemptsLeft the attempts the player has left
+   */
+  public record PuzzleState(PuzzlePhase phase, int attemptsLeft) {
+    /** Validates the puzzle state. */
+    public PuzzleState {
+      Objects.requireNonNull(phase, "phase cannot be null");
+    }
+  }
+
+  /** Copies the maps so a delta never changes after it is created; null maps read as empty. */
+  public WorldDelta {
+    roomItems = copyRoomItems(roomItems);
+    monsterHealth = monsterHealth == null ? Map.of() : Map.copyOf(monsterHealth);
+    puzzles = puzzles == null ? Map.of() : Map.copyOf(puzzles);
+  }
+
+  /**
+   * Checks whether this delta records any change.
+   *
+   * @return true if the world is unchanged from the template
+   */
+  public boolean isEmpty() {
+    return roomItems.isEmpty() && monsterHealth.isEmpty() && puzzles.isEmpty();
+  }
+
+  private static Map<String, List<String>> copyRoomItems(Map<String, List<String>> roomItems) {
+    if (roomItems == null || roomItems.isEmpty()) {
+      return Map.of();
+    }
+    Map<String, List<String>> copy = new LinkedHashMap<>();
+    roomItems.forEach((roomId, itemIds) -> copy.put(roomId, List.copyOf(itemIds)));
+    return Map.copyOf(copy);
+  }
+}
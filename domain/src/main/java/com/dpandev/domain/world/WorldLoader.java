@@ -1,6 +1,28 @@
 package com.dpandev.domain.world;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 /** Interface for loading a World */
 public interface WorldLoader {
   World load();
+
+  /**
+   * Loads the shared template behind the worlds this loader produces.
+   *
+   * @return the world template
+   */
+  default WorldTemplate loadTemplate() {
+    return load().getTemplate();
+  }
+
+  /**
+   * Gets the filesystem file this loader reads, if any. Used by {@link CachingWorldLoader} to
+   * detect changes; loaders backed by classpath resources return empty.
+   *
+   * @return the source file, or empty if the pack is not a filesystem file
+   */
+  default Optional<Path> sourceFile() {
+    return Optional.empty();
+  }
 }
@@ -0,0 +1,252 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.IdTable;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A grid layout of every room in a world pack, with each room's map tile rendered once. Rooms are
+ * placed breadth-first from the start room: north and south move one row, east and west one column,
+ * and up and down one floor. A room whose cell is already taken, or that cannot be reached from the
+ * rooms placed so far, starts a new group of rooms to the east of everything placed before it.
+ *
+ * <p>The layout and tiles are built once per template and shared by every session, so drawing any
+ * part of the map only looks up cells and copies tiles.
+ */
+public final class WorldMap {
+  /** Width of a room tile in characters. */
+  public static final int TILE_WIDTH = 9;
+
+  private static final int NAME_WIDTH = TILE_WIDTH - 3; // brackets and a stairs marker
+  private static final int EAST = 1;
+  private static final int SOUTH = 2;
+  private static final int COORD_BITS = 21;
+  private static final long COORD_MASK = (1L << COORD_BITS) - 1;
+
+  /** Exit directions with a place on the grid, in the order they are followed. */
+  private static final String[] DIRECTIONS = {
+    "north", "n", "south", "s", "east", "e", "west", "w", "up", "u", "down", "d"
+  };
+
+  /** Column, row and floor offsets of each direction, parallel to {@link #DIRECTIONS}. */
+  private static final int[][] STEPS = {
+    {0, -1, 0}, {0, -1, 0}, {0, 1, 0}, {0, 1, 0}, {1, 0, 0}, {1, 0, 0},
+    {-1, 0, 0}, {-1, 0, 0}, {0, 0, 1}, {0, 0, 1}, {0, 0, -1}, {0, 0, -1}
+  };
+
+  private final int[] columns;
+  private final int[] rows;
+  private final int[] floors;
+  private final byte[] links; // EAST and SOUTH bits for neighbours linked on the grid
+  private final String[] tiles;
+  private final String[] currentTiles;
+  private final long[] cellKeys; // open-addressing table from cell to room handle + 1
+  private final int[] cellRooms;
+  private final int cellMask;
+
+  /**
+   * Lays out the rooms of a world pack.
+   *
+   * @param rooms the room definitions
+   * @param startRoomId the ID of the room to place first
+   */
+  WorldMap(EntityTable<Room> rooms, String startRoomId) {
+    IdTable roomIds = rooms.ids();
+    int roomCount = roomIds.size();
+    this.columns = new int[roomCount];
+    this.rows = new int[roomCount];
+    this.floors = new int[roomCount];
+    this.links = new byte[roomCount];
+    this.tiles = new String[roomCount];
+    this.currentTiles = new String[roomCount];
+    int capacity = Integer.highestOneBit(Math.max(2, roomCount * 2 - 1)) << 1;
+    this.cellKeys = new long[capacity];
+    this.cellRooms = new int[capacity];
+    this.cellMask = capacity - 1;
+
+    boolean[] placed = new boolean[roomCount];
+    int[] queue = new int[roomCount];
+    int nextColumn = 0;
+    int start = roomIds.handle(startRoomId);
+    for (int i = -1; i < roomCount; i++) {
+      int root = i < 0 ? start : i;
+      if (root < 0 || placed[root]) {
+        continue;
+      }
+      // every placed cell lies west of nextColumn, so the root's cell is free
+      place(root, nextColumn, 0, 0, placed);
+      int maxColumn = nextColumn;
+      int head = 0;
+      int tail = 0;
+      queue[tail++] = root;
+      while (head < tail) {
+        int room = queue[head++];
+        Map<String, String> exits = rooms.get(room).getExits();
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+          int target = roomIds.handle(exits.get(DIRECTIONS[d]));
+          if (target < 0 || placed[target]) {
+            continue;
+          }
+          int[] step = STEPS[d];
+          int column = columns[room] + step[0];
+          int row = rows[room] + step[1];
+          int floor = floors[room] + step[2];
+          if (roomAt(column, row, floor) == IdTable.NO_HANDLE) {
+            place(target, column, row, floor, placed);
+            maxColumn = Math.max(maxColumn, column);
+            queue[tail++] = target;
+          }
+        }
+      }
+      nextColumn = maxColumn + 2;
+    }
+
+    for (int room = 0; room < roomCount; room++) {
+      Room definition = rooms.get(room);
+      Map<String, String> exits = definition.getExits();
+      for (int d = 0; d < DIRECTIONS.length; d++) {
+        int target = roomIds.handle(exits.get(DIRECTIONS[d]));
+        int[] step = STEPS[d];
+        if (target < 0 || step[2] != 0 || floors[target] != floors[room]) {
+          continue;
+        }
+        if (columns[target] - columns[room] == step[0] && rows[target] - rows[room] == step[1]) {
+          link(room, target, step);
+        }
+      }
+      renderTiles(room, definition);
+    }
+  }
+
+  /**
+   * Gets the room in a cell.
+   *
+   * @param column the column, growing eastwards
+   * @param row the row, growing southwards
+   * @param floor the floor, growing upwards
+   * @return the handle of the room in the cell, or {@link IdTable#NO_HANDLE} if it is empty
+   */
+  public int roomAt(int column, int row, int floor) {
+    long key = key(column, row, floor);
+    for (int slot = mix(key) & cellMask; cellRooms[slot] != 0; slot = (slot + 1) & cellMask) {
+      if (cellKeys[slot] == key) {
+        return cellRooms[slot] - 1;
+      }
+    }
+    return IdTable.NO_HANDLE;
+  }
+
+  /**
+   * Gets the column of a room.
+   *
+   * @param room the room handle
+   * @return the column, growing eastwards
+   */
+  public int column(int room) {
+    return columns[room];
+  }
+
+  /**
+   * Gets the row of a room.
+   *
+   * @param room the room handle
+   * @return the row, growing southwards
+   */
+  public int row(int room) {
+    return rows[room];
+  }
+
+  /**
+   * Gets the floor of a room.
+   *
+   * @param room the room handle
+   * @return the floor, growing upwards
+   */
+  public int floor(int room) {
+    return floors[room];
+  }
+
+  /**
+   * Checks whether a room and the room in the next column are connected.
+   *
+   * @param room the room handle
+   * @return true if either room has an exit into the other
+   */
+  public boolean linksEast(int room) {
+    return (links[room] & EAST) != 0;
+  }
+
+  /**
+   * Checks whether a room and the room in the next row are connected.
+   *
+   * @param room the room handle
+   * @return true if either room has an exit into the other
+   */
+  public boolean linksSouth(int room) {
+    return (links[room] & SOUTH) != 0;
+  }
+
+  /**
+   * Gets the tile of a room, e.g. {@code "[Hall  ^]"}, with a marker for stairs up, down or both.
+   *
+   * @param room the room handle
+   * @param current whether the player is in the room, drawn as {@code "<Hall  ^>"}
+   * @return the tile, {@link #TILE_WIDTH} characters wide
+   */
+  public String tile(int room, boolean current) {
+    return current ? currentTiles[room] : tiles[room];
+  }
+
+  private void place(int room, int column, int row, int floor, boolean[] placed) {
+    placed[room] = true;
+    columns[room] = column;
+    rows[room] = row;
+    floors[room] = floor;
+    long key = key(column, row, floor);
+    int slot = mix(key) & cellMask;
+    while (cellRooms[slot] != 0) {
+      slot = (slot + 1) & cellMask;
+    }
+    cellKeys[slot] = key;
+    cellRooms[slot] = room + 1;
+  }
+
+  private void link(int room, int target, int[] step) {
+    if (step[0] == 1) {
+      links[room] |= EAST;
+    } else if (step[0] == -1) {
+      links[target] |= EAST;
+    } else if (step[1] == 1) {
+      links[room] |= SOUTH;
+    } else {
+      links[target] |= SOUTH;
+    }
+  }
+
+  private void renderTiles(int room, Room definition) {
+    Map<String, String> exits = definition.getExits();
+    boolean up = exits.containsKey("up") || exits.containsKey("u");
+    boolean down = exits.containsKey("down") || exits.containsKey("d");
+    char stairs = up && down ? '↕' : up ? '^' : down ? 'v' : ' ';
+
+    String name = definition.getName() == null ? "" : definition.getName();
+    char[] label = new char[NAME_WIDTH];
+    Arrays.fill(label, ' ');
+    name.getChars(0, Math.min(name.length(), NAME_WIDTH), label, 0);
+    String body = new String(label) + stairs;
+    tiles[room] = "[" + body + "]";
+    currentTiles[room] = "<" + body + ">";
+  }
+
+  private static long key(int column, int row, int floor) {
+    return (column & COORD_MASK) << (2 * COORD_BITS)
+        | (row & COORD_MASK) << COORD_BITS
+        | (floor & COORD_MASK);
+  }
+
+  private static int mix(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+}
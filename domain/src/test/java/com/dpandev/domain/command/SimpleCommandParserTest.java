@@ -0,0 +1,168 @@
+package com.dpandev.domain.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.dpandev.domain.utils.CommandToken;
+import com.dpandev.domain.utils.Verb;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the SimpleCommandParser. */
+class SimpleCommandParserTest {
+  private SimpleCommandParser parser;
+
+  @BeforeEach
+  void setUp() {
+    parser = new SimpleCommandParser();
+  }
+
+  @Nested
+  @DisplayName("Normalization Tests")
+  class NormalizationTests {
+
+    @Test
+    @DisplayName("should return UNKNOWN for null, empty and blank input")
+    void shouldReturnUnknownForBlankInput() {
+      assertEquals(new CommandToken(Verb.UNKNOWN, null, List.of(), ""), parser.parse(null));
+      assertEquals(new CommandToken(Verb.UNKNOWN, null, List.of(), ""), parser.parse(""));
+      assertEquals(
+          new CommandToken(Verb.UNKNOWN, null, List.of(), " \t\n "), parser.parse(" \t\n "));
+    }
+
+    @Test
+    @DisplayName("should lowercase and collapse whitespace runs")
+    void shouldLowercaseAndCollapseWhitespace() {
+      CommandToken token = parser.parse("  Attack \t THE\r\n Goblin  ");
+
+      assertEquals(Verb.ATTACK, token.verb());
+      assertEquals("the goblin", token.target());
+      assertEquals(List.of("the", "goblin"), token.args());
+      assertEquals("  Attack \t THE\r\n Goblin  ", token.raw());
+    }
+
+    @Test
+    @DisplayName("should ignore leading and trailing control characters")
+    void shouldIgnoreSurroundingControlCharacters() {
+      CommandToken token = parser.parse("\u0001 look \u0000");
+
+      assertEquals(Verb.LOOK, token.verb());
+      assertNull(token.target());
+    }
+
+    @Test
+    @DisplayName("should keep the raw input unchanged")
+    void shouldKeepRawInput() {
+      String line = "look";
+
+      assertSame(line, parser.parse(line).raw());
+    }
+  }
+
+  @Nested
+  @DisplayName("Verb Resolution Tests")
+  class VerbResolutionTests {
+
+    @Test
+    @DisplayName("should resolve verb synonyms")
+    void shouldResolveVerbSynonyms() {
+      assertEquals(Verb.HELP, parser.parse("?").verb());
+      assertEquals(Verb.INVENTORY, parser.parse("i").verb());
+      assertEquals(Verb.PICKUP, parser.parse("grab").verb());
+      assertEquals(Verb.NEW_GAME, parser.parse("NewGame").verb());
+      assertEquals(Verb.IGNORE, parser.parse("run").verb());
+    }
+
+    @Test
+    @DisplayName("should return UNKNOWN for unrecognised verbs and prefixes of verbs")
+    void shouldReturnUnknownForUnrecognisedVerbs() {
+      assertEquals(Verb.UNKNOWN, parser.parse("dance").verb());
+      assertEquals(Verb.UNKNOWN, parser.parse("loo").verb());
+      assertEquals(Verb.UNKNOWN, parser.parse("looks").verb());
+    }
+
+    @Test
+    @DisplayName("should take a single optional target for other verbs")
+    void shouldTakeSingleTargetForOtherVerbs() {
+      CommandToken token = parser.parse("solve 42 extra words");
+
+      assertEquals(Verb.SOLVE, token.verb());
+      assertEquals("42", token.target());
+      assertEquals(List.of("extra", "words"), token.args());
+    }
+
+    @Test
+    @DisplayName("should join multi-word targets")
+    void shouldJoinMultiWordTargets() {
+      CommandToken token = parser.parse("equip  iron   helmet of doom");
+
+      assertEquals(Verb.EQUIP, token.verb());
+      assertEquals("iron helmet of doom", token.target());
+      assertEquals(List.of("iron", "helmet", "of", "doom"), token.args());
+    }
+
+    @Test
+    @DisplayName("should join the room name after TRAVEL")
+    void shouldJoinRoomNameAfterTravel() {
+      CommandToken token = parser.parse("goto  Great Hall");
+
+      assertEquals(Verb.TRAVEL, token.verb());
+      assertEquals("great hall", token.target());
+      assertEquals(List.of("great", "hall"), token.args());
+    }
+
+    @Test
+    @DisplayName("should leave target empty when a verb has no argument")
+    void shouldLeaveTargetEmptyWithoutArgument() {
+      CommandToken token = parser.parse("pickup");
+
+      assertEquals(Verb.PICKUP, token.verb());
+      assertNull(token.target());
+      assertEquals(List.of(), token.args());
+    }
+  }
+
+  @Nested
+  @DisplayName("Direction Tests")
+  class DirectionTests {
+
+    @Test
+    @DisplayName("should treat a single direction word as GO")
+    void shouldTreatSingleDirectionAsGo() {
+      assertEquals(new CommandToken(Verb.GO, "north", List.of(), "N"), parser.parse("N"));
+      assertEquals(new CommandToken(Verb.GO, "east", List.of(), "east"), parser.parse("east"));
+    }
+
+    @Test
+    @DisplayName("should canonicalise the direction after GO but keep the raw argument")
+    void shouldCanonicaliseDirectionAfterGo() {
+      CommandToken token = parser.parse("move w");
+
+      assertEquals(Verb.GO, token.verb());
+      assertEquals("west", token.target());
+      assertEquals(List.of("w"), token.args());
+    }
+
+    @Test
+    @DisplayName("should pass unknown directions through unchanged")
+    void shouldPassUnknownDirectionsThrough() {
+      CommandToken token = parser.parse("go up the stairs");
+
+      assertEquals("up", token.target());
+      assertEquals(List.of("up", "the", "stairs"), token.args());
+    }
+
+    @Test
+    @DisplayName("should treat a direction followed by words as GO without a direction")
+    void shouldTreatDirectionWithWordsAsGo() {
+      CommandToken token = parser.parse("s quickly");
+
+      assertEquals(Verb.GO, token.verb());
+      assertEquals("quickly", token.target());
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.dpandev.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the Inventory class. */
+class InventoryTest {
+
+  private Inventory inventory;
+  private Item sword;
+  private Item potion;
+
+  @BeforeEach
+  void setUp() {
+    inventory = new Inventory();
+    sword = Item.builder().id("sword").name("Steel Sword").type(Item.ItemType.WEAPON).build();
+    potion =
+        Item.builder()
+            .id("potion")
+            .name("Health Potion")
+            .type(Item.ItemType.CONSUMABLE)
+            .consumableType(Item.ConsumableType.HEALTH_POTION)
+            .healthRestore(20)
+            .build();
+  }
+
+  @Nested
+  @DisplayName("Stack Tests")
+  class StackTests {
+
+    @Test
+    @DisplayName("should count copies of the same item in one stack")
+    void shouldCountCopiesInOneStack() {
+      inventory.add(potion);
+      inventory.add(sword);
+      inventory.add(potion);
+
+      assertEquals(3, inventory.size());
+      assertEquals(2, inventory.count("potion"));
+      assertEquals(Map.of("potion", 2, "sword", 1), inventory.stacks());
+      assertEquals(List.of("potion", "potion", "sword"), inventory.asList());
+    }
+
+    @Test
+    @DisplayName("should remove one copy at a time")
+    void shouldRemoveOneCopyAtATime() {
+      inventory.add(potion);
+      inventory.add(potion);
+
+      assertTrue(inventory.remove("potion"));
+      assertTrue(inventory.contains("potion"));
+      assertTrue(inventory.remove("potion"));
+      assertFalse(inventory.contains("potion"));
+      assertFalse(inventory.remove("potion"));
+      assertTrue(inventory.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should keep the order items were first added")
+    void shouldKeepFirstAddedOrder() {
+      inventory.add(sword);
+      inventory.add(potion);
+      inventory.add(sword);
+
+      assertEquals(List.of("sword", "sword", "potion"), inventory.asList());
+      assertEquals("potion", inventory.asList().get(2));
+    }
+  }
+
+  @Nested
+  @DisplayName("Index Tests")
+  class IndexTests {
+
+    @Test
+    @DisplayName("should find items by name ignoring case")
+    void shouldFindByNameIgnoringCase() {
+      inventory.add(sword);
+
+      assertEquals("sword", inventory.findByName("STEEL sword"));
+      assertNull(inventory.findByName("sword"));
+      assertNull(inventory.findByName(null));
+    }
+
+    @Test
+    @DisplayName("should fall back to the next stack with the same name")
+    void shouldFallBackToNextStackWithSameName() {
+      inventory.add(sword);
+      inventory.add(Item.builder().id("old_sword").name("steel sword").build());
+
+      assertEquals("sword", inventory.findByName("steel sword"));
+      inventory.remove("sword");
+      assertEquals("old_sword", inventory.findByName("steel sword"));
+    }
+
+    @Test
+    @DisplayName("should find consumables by type until the last one is used")
+    void shouldFindConsumablesByType() {
+      inventory.add(sword);
+      inventory.add(potion);
+
+      assertEquals("potion", inventory.findConsumable(Item.ConsumableType.HEALTH_POTION));
+      assertNull(inventory.findConsumable(Item.ConsumableType.STRENGTH_BOOST));
+
+      inventory.remove("potion");
+      assertNull(inventory.findConsumable(Item.ConsumableType.HEALTH_POTION));
+    }
+
+    @Test
+    @DisplayName("should hold items added by ID without indexing them by name")
+    void shouldHoldItemsAddedById() {
+      inventory.add("relic");
+
+      assertTrue(inventory.contains("relic"));
+      assertNull(inventory.findByName("relic"));
+    }
+
+    @Test
+    @DisplayName("should drop every index on clear")
+    void shouldDropIndexesOnClear() {
+      inventory.add(sword);
+      inventory.add(potion);
+      inventory.clear();
+
+      assertTrue(inventory.isEmpty());
+      assertNull(inventory.findByName("steel sword"));
+      assertNull(inventory.findConsumable(Item.ConsumableType.HEALTH_POTION));
+    }
+  }
+
+  @Nested
+  @DisplayName("Listing Tests")
+  class ListingTests {
+
+    @Test
+    @DisplayName("should list stacks by name with counts")
+    void shouldListStacksWithCounts() {
+      inventory.add(sword);
+      inventory.add(potion);
+      inventory.add(potion);
+      inventory.add("relic");
+
+      assertEquals("Steel Sword, Health Potion (x2)", inventory.describe());
+    }
+
+    @Test
+    @DisplayName("should keep the listing up to date as items come and go")
+    void shouldKeepListingUpToDate() {
+      assertEquals("", inventory.describe());
+
+      inventory.add(sword);
+      assertEquals("Steel Sword", inventory.describe());
+      inventory.add(potion);
+      assertEquals("Steel Sword, Health Potion", inventory.describe());
+      inventory.add(sword);
+      assertEquals("Steel Sword (x2), Health Potion", inventory.describe());
+      inventory.remove("sword");
+      inventory.remove("sword");
+      assertEquals("Health Potion", inventory.describe());
+      inventory.clear();
+      assertEquals("", inventory.describe());
+    }
+  }
+}
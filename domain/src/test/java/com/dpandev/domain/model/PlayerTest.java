@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.BitSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -57,6 +58,7 @@ class PlayerTest {
       assertTrue(player.getInventoryItemIds().isEmpty());
       assertTrue(player.getEquippedItems().isEmpty());
       assertTrue(player.getPuzzlesSolved().isEmpty());
+      assertTrue(player.getRoomsVisited().isEmpty());
     }
   }
 
@@ -112,31 +114,35 @@ class PlayerTest {
   @DisplayName("Inventory Tests")
   class InventoryTests {
 
+    private final Item sword = Item.builder().id("sword").name("Steel Sword").build();
+
     @Test
     @DisplayName("should add item to inventory")
     void shouldAddItemToInventory() {
-      player.addItemToInventory("sword");
+      player.addItemToInventory(sword);
 
       assertTrue(player.getInventoryItemIds().contains("sword"));
+      assertTrue(player.hasItemInInventory("sword"));
       assertEquals(1, player.getInventoryItemIds().size());
     }
 
     @Test
     @DisplayName("should remove item from inventory")
     void shouldRemoveItemFromInventory() {
-      player.addItemToInventory("sword");
-      player.removeItemFromInventory("sword");
+      player.addItemToInventory(sword);
+      assertTrue(player.removeItemFromInventory("sword"));
 
       assertFalse(player.getInventoryItemIds().contains("sword"));
       assertTrue(player.getInventoryItemIds().isEmpty());
+      assertFalse(player.removeItemFromInventory("sword"));
     }
 
     @Test
     @DisplayName("should handle multiple items")
     void shouldHandleMultipleItems() {
-      player.addItemToInventory("sword");
-      player.addItemToInventory("shield");
-      player.addItemToInventory("potion");
+      player.addItemToInventory(sword);
+      player.addItemToInventory(Item.builder().id("shield").name("Shield").build());
+      player.addItemToInventory(Item.builder().id("potion").name("Potion").build());
 
       assertEquals(3, player.getInventoryItemIds().size());
     }
@@ -243,12 +249,44 @@ class PlayerTest {
     @Test
     @DisplayName("should track solved puzzles")
     void shouldTrackSolvedPuzzles() {
-      player.getPuzzlesSolved().add("puzzle1");
-      player.getPuzzlesSolved().add("puzzle2");
+      assertTrue(player.markSolved(1));
+      assertTrue(player.markSolved(2));
+      assertFalse(player.markSolved(1));
+
+      assertEquals(2, player.getPuzzlesSolvedCount());
+      assertTrue(player.hasSolved(1));
+      assertTrue(player.hasSolved(2));
+      assertFalse(player.hasSolved(0));
+      assertFalse(player.hasSolved(-1));
+    }
+
+    @Test
+    @DisplayName("should track visited rooms and exploration percentage")
+    void shouldTrackVisitedRooms() {
+      assertTrue(player.markVisited(0));
+      assertTrue(player.markVisited(3));
+      assertFalse(player.markVisited(3));
+
+      assertEquals(2, player.getRoomsVisitedCount());
+      assertTrue(player.hasVisited(3));
+      assertFalse(player.hasVisited(1));
+      assertEquals(50.0, player.getExplorationPercentage(4));
+      assertEquals(0.0, player.getExplorationPercentage(0));
+    }
 
-      assertEquals(2, player.getPuzzlesSolved().size());
-      assertTrue(player.getPuzzlesSolved().contains("puzzle1"));
-      assertTrue(player.getPuzzlesSolved().contains("puzzle2"));
+    @Test
+    @DisplayName("should copy visited rooms in and out")
+    void shouldCopyVisitedRoomsInAndOut() {
+      BitSet visited = new BitSet();
+      visited.set(5);
+      player.setRoomsVisited(visited);
+      visited.set(6);
+
+      assertTrue(player.hasVisited(5));
+      assertFalse(player.hasVisited(6));
+
+      player.getRoomsVisited().set(7);
+      assertFalse(player.hasVisited(7));
     }
   }
 }
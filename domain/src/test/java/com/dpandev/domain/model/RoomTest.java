@@ -0,0 +1,87 @@
+package com.dpandev.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the Room class. */
+class RoomTest {
+
+  private Room room;
+  private Item sword;
+
+  @BeforeEach
+  void setUp() {
+    sword = Item.builder().id("sword").name("Steel Sword").type(Item.ItemType.WEAPON).build();
+    room =
+        Room.builder()
+            .id("hall")
+            .name("Great Hall")
+            .description("A vast hall.")
+            .exits(Map.of("north", "tower"))
+            .itemIds(List.of("sword"))
+            .itemLookup(id -> id.equals("sword") ? sword : null)
+            .build();
+  }
+
+  @Nested
+  @DisplayName("Render Cache Tests")
+  class RenderCacheTests {
+
+    @Test
+    @DisplayName("should describe the room on entry once for every copy")
+    void shouldShareEntryWithCopies() {
+      String entry = room.describeEntry();
+
+      assertEquals("Great Hall\nA vast hall.\nExits: north", entry);
+      assertSame(entry, room.describeEntry());
+      assertSame(entry, room.copy().describeEntry());
+    }
+
+    @Test
+    @DisplayName("should reuse the look text until the items or monster change")
+    void shouldReuseLookTextUntilSomethingChanges() {
+      Monster goblin = new Monster("Goblin", "Small", 30, 5, 2);
+      String look = room.describeLook(goblin.describePresence());
+
+      assertEquals(
+          "You are in Great Hall.\nA vast hall.\n"
+              + "There is a Goblin here! (HP: 30/30)\n"
+              + "You see: Steel Sword\n"
+              + "Exits: north\n",
+          look);
+      assertSame(look, room.describeLook(goblin.describePresence()));
+
+      goblin.takeDamage(10);
+      String hurt = room.describeLook(goblin.describePresence());
+      assertNotSame(look, hurt);
+      assertEquals(
+          "You are in Great Hall.\nA vast hall.\n"
+              + "There is a Goblin here! (HP: 20/30)\n"
+              + "You see: Steel Sword\n"
+              + "Exits: north\n",
+          hurt);
+
+      room.removeItemFromRoom("sword");
+      assertEquals(
+          "You are in Great Hall.\nA vast hall.\nThere are no items here.\nExits: north\n",
+          room.describeLook(null));
+    }
+
+    @Test
+    @DisplayName("should render the area map once for every copy")
+    void shouldRenderAreaMapOnce() {
+      String map = room.describeArea(() -> "map");
+
+      assertSame(map, room.describeArea(() -> "other"));
+      assertSame(map, room.copy().describeArea(() -> "other"));
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.dpandev.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dpandev.domain.model.Monster;
+import com.dpandev.domain.model.Player;
+import com.dpandev.domain.model.Puzzle;
+import com.dpandev.domain.model.PuzzleType;
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.GameContext;
+import com.dpandev.domain.world.World;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for DefaultExplorationService over a small fixture world. */
+class DefaultExplorationServiceTest {
+
+  private DefaultExplorationService explorationService;
+  private World world;
+  private GameContext ctx;
+
+  /**
+   * Builds the fixture world, laid out as a tree so every route is unique.
+   *
+   * <pre>
+   *   tower
+   *     |
+   *   lair (goblin)
+   *     |
+   *   hall - corridor - vault (riddle) - treasury
+   *     |
+   *   cellar
+   *     | down
+   *   crypt
+   * </pre>
+   */
+  @BeforeEach
+  void setUp() {
+    Map<String, Room> rooms = new HashMap<>();
+    Map<String, String> hallExits = Map.of("east", "corridor", "north", "lair", "south", "cellar");
+    addRoom(rooms, "hall", "Great Hall", hallExits);
+    addRoom(rooms, "corridor", "Corridor", Map.of("west", "hall", "east", "vault"));
+    rooms.put(
+        "vault",
+        Room.builder()
+            .id("vault")
+            .name("Vault")
+            .description("A sealed vault")
+            .exits(Map.of("west", "corridor", "east", "treasury"))
+            .puzzleId("riddle")
+            .build());
+    addRoom(rooms, "treasury", "Treasury", Map.of("west", "vault"));
+    rooms.put(
+        "lair",
+        Room.builder()
+            .id("lair")
+            .name("Lair")
+            .description("It smells of goblin")
+            .exits(Map.of("south", "hall", "north", "tower"))
+            .monsterId("goblin")
+            .build());
+    addRoom(rooms, "tower", "Tower", Map.of("south", "lair"));
+    addRoom(rooms, "cellar", "Cellar", Map.of("north", "hall", "down", "crypt"));
+    addRoom(rooms, "crypt", "Crypt", Map.of("up", "cellar"));
+
+    Map<String, Puzzle> puzzles =
+        Map.of(
+            "riddle",
+            new Puzzle(
+                "riddle",
+                "What has keys but opens no locks?",
+                PuzzleType.RIDDLE,
+                Map.of("answer", "piano"),
+                Puzzle.PuzzlePhase.LOCKED,
+                3,
+                null));
+    Map<String, Monster> monsters =
+        Map.of("goblin", new Monster("Goblin", "A small green creature", 30, 5, 2, 0.3));
+
+    world = new World("1.0", rooms, Map.of(), puzzles, monsters, "hall");
+    ctx = new GameContext(world, new Player("Player", "hall"), 42L);
+    explorationService = new DefaultExplorationService(new DefaultInteractionService());
+  }
+
+  private static void addRoom(
+      Map<String, Room> rooms, String id, String name, Map<String, String> exits) {
+    rooms.put(id, Room.builder().id(id).name(name).description(name).exits(exits).build());
+  }
+
+  private void visit(String... roomIds) {
+    for (String roomId : roomIds) {
+      ctx.player().markVisited(world.roomHandle(roomId));
+    }
+  }
+
+  @Nested
+  @DisplayName("Travel Tests")
+  class TravelTests {
+
+    @Test
+    @DisplayName("should walk the whole route to a visited room")
+    void shouldTravelToVisitedRoom() {
+      visit("cellar", "crypt");
+
+      CommandResult result = explorationService.travel(ctx, "Crypt");
+
+      assertTrue(result.success());
+      assertTrue(result.message().startsWith("You travel south, down.\n\n"));
+      assertEquals("crypt", ctx.player().getRoomId());
+    }
+
+    @Test
+    @DisplayName("should stop in a room with a live monster")
+    void shouldStopAtLiveMonster() {
+      visit("lair", "tower");
+
+      CommandResult result = explorationService.travel(ctx, "Tower");
+
+      assertTrue(result.success());
+      assertTrue(result.message().startsWith("You travel north, and stop.\n\n"));
+      assertEquals("lair", ctx.player().getRoomId());
+    }
+
+    @Test
+    @DisplayName("should stop in a room that presents a puzzle")
+    void shouldStopAtPuzzle() {
+      visit("corridor", "vault", "treasury");
+
+      CommandResult result = explorationService.travel(ctx, "Treasury");
+
+      assertTrue(result.success());
+      assertTrue(result.message().startsWith("You travel east, east, and stop.\n\n"));
+      assertTrue(result.message().contains("=== PUZZLE ==="));
+      assertTrue(ctx.isAwaitingPuzzleAnswer());
+      assertEquals("vault", ctx.player().getRoomId());
+    }
+
+    @Test
+    @DisplayName("should refuse a room the player has not visited")
+    void shouldRefuseUnvisitedRoom() {
+      CommandResult result = explorationService.travel(ctx, "Crypt");
+
+      assertFalse(result.success());
+      assertEquals("You don't know the way to Crypt yet.", result.message());
+      assertEquals("hall", ctx.player().getRoomId());
+    }
+
+    @Test
+    @DisplayName("should refuse to travel to the current room")
+    void shouldRefuseCurrentRoom() {
+      CommandResult result = explorationService.travel(ctx, "Great Hall");
+
+      assertFalse(result.success());
+      assertEquals("You are already in Great Hall.", result.message());
+    }
+
+    @Test
+    @DisplayName("should refuse an unknown destination")
+    void shouldRefuseUnknownRoom() {
+      CommandResult result = explorationService.travel(ctx, "Nowhere");
+
+      assertFalse(result.success());
+      assertEquals("You don't know of any place called 'Nowhere'.", result.message());
+      assertEquals("hall", ctx.player().getRoomId());
+    }
+  }
+}
@@ -16,7 +16,6 @@ import com.dpandev.domain.model.PuzzleType;
 import com.dpandev.domain.model.Room;
 import com.dpandev.domain.utils.GameContext;
 import com.dpandev.domain.world.World;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -43,7 +42,6 @@ class DefaultInteractionServiceTest {
     interactionService = new DefaultInteractionService();
     lenient().when(ctx.world()).thenReturn(world);
     lenient().when(ctx.player()).thenReturn(player);
-    lenient().when(player.getPuzzlesSolved()).thenReturn(new ArrayList<>());
   }
 
   @Nested
@@ -86,6 +84,7 @@ class DefaultInteractionServiceTest {
     @DisplayName("should solve puzzle with correct answer")
     void shouldSolvePuzzleWithCorrectAnswer() {
       when(world.findItem("healing_potion")).thenReturn(Optional.empty());
+      when(world.puzzleHandle("puzzle1")).thenReturn(4);
 
       CommandResult result = interactionService.solve(ctx, "echo");
 
@@ -93,6 +92,7 @@ class DefaultInteractionServiceTest {
       assertTrue(puzzle.isSolved());
       assertEquals(Puzzle.PuzzlePhase.SOLVED, puzzle.getPuzzlePhase());
       verify(ctx).setAwaitingPuzzleAnswer(false);
+      verify(player).markSolved(4);
     }
 
     @Test
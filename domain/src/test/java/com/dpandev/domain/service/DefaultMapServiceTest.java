@@ -2,12 +2,14 @@ package com.dpandev.domain.service;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
 import com.dpandev.domain.model.Player;
 import com.dpandev.domain.model.Room;
 import com.dpandev.domain.utils.GameContext;
 import com.dpandev.domain.world.World;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -234,4 +236,61 @@ class DefaultMapServiceTest {
       assertTrue(map.contains("[ Current Room ]"));
     }
   }
+
+  @Nested
+  @DisplayName("Show World Map Tests")
+  class ShowWorldMapTests {
+
+    private World pack;
+
+    @BeforeEach
+    void setUpPack() {
+      // hall - kitchen - tower in a row, with a cellar south of the hall
+      Map<String, Room> rooms = new HashMap<>();
+      rooms.put("hall", room("hall", "Hall", Map.of("east", "kitchen", "south", "cellar")));
+      rooms.put("kitchen", room("kitchen", "Kitchen", Map.of("west", "hall", "east", "tower")));
+      rooms.put("tower", room("tower", "Tower", Map.of("west", "kitchen")));
+      rooms.put("cellar", room("cellar", "Cellar", Map.of("north", "hall")));
+      pack = new World("1.0", rooms, Map.of(), Map.of(), Map.of(), "hall");
+    }
+
+    private Room room(String id, String name, Map<String, String> exits) {
+      return Room.builder().id(id).name(name).description(name).exits(exits).build();
+    }
+
+    @Test
+    @DisplayName("should show visited rooms and hide the rest behind fog")
+    void shouldShowVisitedRoomsBehindFog() {
+      int hall = pack.roomHandle("hall");
+      int kitchen = pack.roomHandle("kitchen");
+      when(player.getRoomId()).thenReturn("kitchen");
+      when(world.roomHandle("kitchen")).thenReturn(kitchen);
+      when(world.findRoom(kitchen)).thenReturn(pack.findRoom(kitchen));
+      when(world.getWorldMap()).thenReturn(pack.getWorldMap());
+      when(world.getRoomIds()).thenReturn(pack.getRoomIds());
+      when(player.hasVisited(anyInt())).thenAnswer(call -> (int) call.getArgument(0) == hall);
+
+      CommandResult result = mapService.showWorldMap(ctx);
+
+      assertTrue(result.success());
+      String map = result.message();
+      assertTrue(map.contains("[Hall   ]-<Kitche >-[  ??   ]"));
+      assertTrue(map.contains("    |\n                    [  ??   ]\n"));
+      assertFalse(map.contains("Tower"));
+      assertFalse(map.contains("Cellar"));
+    }
+
+    @Test
+    @DisplayName("should fail when current room not found")
+    void shouldFailWhenCurrentRoomNotFound() {
+      when(player.getRoomId()).thenReturn("unknown");
+      when(world.roomHandle("unknown")).thenReturn(-1);
+      when(world.findRoom(-1)).thenReturn(Optional.empty());
+
+      CommandResult result = mapService.showWorldMap(ctx);
+
+      assertFalse(result.success());
+      assertTrue(result.message().contains("unknown"));
+    }
+  }
 }
@@ -0,0 +1,167 @@
+package com.dpandev.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dpandev.domain.spi.SaveRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the write-behind save queue. */
+class WriteBehindQueueTest {
+
+  private static SaveData save(UUID playerId, int score) {
+    return new SaveData(
+        "1.0",
+        playerId,
+        "Player",
+        "r1",
+        List.of(),
+        Map.of(),
+        score,
+        100,
+        100,
+        10,
+        0,
+        List.of(),
+        List.of("r1"),
+        Instant.now());
+  }
+
+  /** Records every batch; the first batch can be held back until released. */
+  private static final class RecordingRepository implements SaveRepository {
+    final Map<UUID, SaveData> saves = new ConcurrentHashMap<>();
+    final List<List<SaveData>> batches = new ArrayList<>();
+    final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+    final CountDownLatch release;
+    final AtomicBoolean failing = new AtomicBoolean();
+
+    RecordingRepository(boolean holdFirstBatch) {
+      this.release = new CountDownLatch(holdFirstBatch ? 1 : 0);
+    }
+
+    @Override
+    public Optional<SaveData> findByPlayerId(UUID id) {
+      return Optional.ofNullable(saves.get(id));
+    }
+
+    @Override
+    public void upsert(SaveData save) {
+      upsertAll(List.of(save));
+    }
+
+    @Override
+    public List<SaveSummary> listAll() {
+      return saves.values().stream().map(SaveSummary::of).sorted(SaveSummary.NEWEST_FIRST).toList();
+    }
+
+    @Override
+    public void upsertAll(List<SaveData> batch) {
+      firstBatchStarted.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (failing.get()) {
+        throw new IllegalStateException("disk full");
+      }
+      synchronized (batches) {
+        batches.add(List.copyOf(batch));
+      }
+      batch.forEach(save -> saves.put(save.playerId(), save));
+    }
+  }
+
+  @Nested
+  @DisplayName("Write Tests")
+  class WriteTests {
+
+    @Test
+    @DisplayName("should write queued saves on flush")
+    void shouldWriteOnFlush() {
+      RecordingRepository repo = new RecordingRepository(false);
+      UUID id = UUID.randomUUID();
+      try (WriteBehindQueue queue = new WriteBehindQueue(repo, 8)) {
+        queue.enqueue(save(id, 1));
+        queue.flush();
+
+        assertEquals(1, repo.saves.get(id).score());
+      }
+    }
+
+    @Test
+    @DisplayName("should coalesce saves for the same player while a batch is being written")
+    void shouldCoalesceSaves() throws InterruptedException {
+      RecordingRepository repo = new RecordingRepository(true);
+      UUID blocker = UUID.randomUUID();
+      UUID id = UUID.randomUUID();
+      try (WriteBehindQueue queue = new WriteBehindQueue(repo, 8)) {
+        queue.enqueue(save(blocker, 0));
+        repo.firstBatchStarted.await();
+        for (int i = 1; i <= 5; i++) {
+          queue.enqueue(save(id, i));
+        }
+        assertEquals(5, queue.unwritten(id, SaveData.DEFAULT_SLOT).orElseThrow().score());
+
+        repo.release.countDown();
+        queue.flush();
+      }
+
+      assertEquals(2, repo.batches.size());
+      assertEquals(List.of(5), repo.batches.get(1).stream().map(SaveData::score).toList());
+      assertEquals(5, repo.saves.get(id).score());
+    }
+
+    @Test
+    @DisplayName("should write remaining saves on close")
+    void shouldWriteRemainingSavesOnClose() {
+      RecordingRepository repo = new RecordingRepository(false);
+      List<UUID> ids = new ArrayList<>();
+      WriteBehindQueue queue = new WriteBehindQueue(repo, 4);
+      for (int i = 0; i < 20; i++) {
+        UUID id = UUID.randomUUID();
+        ids.add(id);
+        queue.enqueue(save(id, i));
+      }
+
+      queue.close();
+
+      ids.forEach(id -> assertTrue(repo.saves.containsKey(id)));
+      assertThrows(IllegalStateException.class, () -> queue.enqueue(save(UUID.randomUUID(), 0)));
+    }
+  }
+
+  @Nested
+  @DisplayName("Failure Tests")
+  class FailureTests {
+
+    @Test
+    @DisplayName("should report a failed write on flush and keep the save queued")
+    void shouldReportFailedWrite() {
+      RecordingRepository repo = new RecordingRepository(false);
+      repo.failing.set(true);
+      UUID id = UUID.randomUUID();
+      WriteBehindQueue queue = new WriteBehindQueue(repo, 8);
+      queue.enqueue(save(id, 3));
+
+      assertThrows(IllegalStateException.class, queue::flush);
+      assertEquals(3, queue.unwritten(id, SaveData.DEFAULT_SLOT).orElseThrow().score());
+
+      repo.failing.set(false);
+      queue.close();
+      assertEquals(3, repo.saves.get(id).score());
+    }
+  }
+}
@@ -2,14 +2,18 @@ package com.dpandev.domain.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.dpandev.domain.model.Player;
+import com.dpandev.domain.model.Room;
 import com.dpandev.domain.world.World;
 import java.util.Map;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -29,6 +33,11 @@ class GameContextTest {
     context = new GameContext(world, player);
   }
 
+  private static World oneRoomWorld(String roomId) {
+    Room room = Room.builder().id(roomId).name(roomId).description(roomId).build();
+    return new World("1.0", Map.of(roomId, room), Map.of(), Map.of(), Map.of(), roomId);
+  }
+
   @Nested
   @DisplayName("Constructor Tests")
   class ConstructorTests {
@@ -49,6 +58,18 @@ class GameContextTest {
       assertNull(context.getCombatMonsterId());
     }
 
+    @Test
+    @DisplayName("should mark the player's starting room visited")
+    void shouldMarkStartRoomVisited() {
+      World oneRoom = oneRoomWorld("entrance");
+      Player newPlayer = new Player("TestPlayer", "entrance");
+
+      new GameContext(oneRoom, newPlayer);
+
+      assertEquals(1, newPlayer.getRoomsVisitedCount());
+      assertTrue(newPlayer.hasVisited(oneRoom.roomHandle("entrance")));
+    }
+
     @Test
     @DisplayName("should throw NullPointerException if world is null")
     void shouldThrowNullPointerExceptionIfWorldIsNull() {
@@ -174,6 +195,17 @@ class GameContextTest {
       assertThrows(NullPointerException.class, () -> context.resetGame(null, "NewPlayer"));
     }
 
+    @Test
+    @DisplayName("should keep the player's ID so their saves stay theirs")
+    void shouldKeepPlayerIdOnReset() {
+      UUID playerId = context.player().getId();
+      World newWorld = new World("2.0", Map.of(), Map.of(), Map.of(), Map.of(), "entrance");
+
+      context.resetGame(newWorld, "NewPlayer");
+
+      assertEquals(playerId, context.player().getId());
+    }
+
     @Test
     @DisplayName("should create player at new world start room")
     void shouldCreatePlayerAtNewWorldStartRoom() {
@@ -183,6 +215,17 @@ class GameContextTest {
 
       assertEquals("custom_start", context.player().getRoomId());
     }
+
+    @Test
+    @DisplayName("should mark the new world's start room visited")
+    void shouldMarkStartRoomVisitedOnReset() {
+      World newWorld = oneRoomWorld("entrance");
+
+      context.resetGame(newWorld, "NewPlayer");
+
+      assertEquals(1, context.player().getRoomsVisitedCount());
+      assertTrue(context.player().hasVisited(newWorld.roomHandle("entrance")));
+    }
   }
 
   @Nested
@@ -235,4 +278,39 @@ class GameContextTest {
       assertEquals("TestPlayer", contextPlayer.getName());
     }
   }
+
+  @Nested
+  @DisplayName("Random Generator Tests")
+  class RandomGeneratorTests {
+
+    @Test
+    @DisplayName("should roll the same sequence for the same seed")
+    void shouldReplaySameSeed() {
+      GameContext first = new GameContext(world, player, 42L);
+      GameContext second = new GameContext(world, player, 42L);
+
+      assertEquals(42L, first.seed());
+      for (int i = 0; i < 10; i++) {
+        assertEquals(first.random().nextDouble(), second.random().nextDouble());
+      }
+    }
+
+    @Test
+    @DisplayName("should derive distinct, repeatable seeds per session")
+    void shouldDeriveSessionSeeds() {
+      assertEquals(GameContext.seedFor("session-1", 7L), GameContext.seedFor("session-1", 7L));
+      assertNotEquals(GameContext.seedFor("session-1", 7L), GameContext.seedFor("session-2", 7L));
+      assertNotEquals(GameContext.seedFor("session-1", 7L), GameContext.seedFor("session-1", 8L));
+    }
+
+    @Test
+    @DisplayName("should keep the generator when the game is reset")
+    void shouldKeepGeneratorOnReset() {
+      var random = context.random();
+
+      context.resetGame(world, "NewPlayer");
+
+      assertSame(random, context.random());
+    }
+  }
 }
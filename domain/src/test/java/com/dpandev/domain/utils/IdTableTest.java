@@ -0,0 +1,74 @@
+package com.dpandev.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the IdTable interface. */
+class IdTableTest {
+
+  @Test
+  @DisplayName("should number IDs densely in code point order")
+  void shouldNumberIdsDenselyInCodePointOrder() {
+    IdTable table = IdTable.of(List.of("hall", "café", "attic", "cafe"));
+
+    assertEquals(4, table.size());
+    assertEquals("attic", table.id(0));
+    assertEquals("cafe", table.id(1));
+    assertEquals("café", table.id(2));
+    assertEquals("hall", table.id(3));
+    for (int handle = 0; handle < table.size(); handle++) {
+      assertEquals(handle, table.handle(table.id(handle)));
+    }
+  }
+
+  @Test
+  @DisplayName("should return NO_HANDLE for unknown and null IDs")
+  void shouldReturnNoHandleForUnknownAndNullIds() {
+    IdTable table = IdTable.of(List.of("hall"));
+
+    assertEquals(IdTable.NO_HANDLE, table.handle("cellar"));
+    assertEquals(IdTable.NO_HANDLE, table.handle(null));
+    assertTrue(table.contains("hall"));
+    assertFalse(table.contains("cellar"));
+  }
+
+  @Test
+  @DisplayName("should handle an empty table")
+  void shouldHandleEmptyTable() {
+    IdTable table = IdTable.of(List.of());
+
+    assertEquals(0, table.size());
+    assertEquals(IdTable.NO_HANDLE, table.handle("hall"));
+  }
+
+  @Test
+  @DisplayName("should resolve every ID of a large table")
+  void shouldResolveEveryIdOfLargeTable() {
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      ids.add("room_" + i);
+    }
+    IdTable table = IdTable.of(ids);
+
+    String[] sorted = ids.toArray(String[]::new);
+    Arrays.sort(sorted, IdTable.ORDER);
+    for (int handle = 0; handle < sorted.length; handle++) {
+      assertEquals(handle, table.handle(sorted[handle]));
+    }
+  }
+
+  @Test
+  @DisplayName("should reject duplicate and null IDs")
+  void shouldRejectDuplicateAndNullIds() {
+    assertThrows(IllegalArgumentException.class, () -> IdTable.of(List.of("hall", "hall")));
+    assertThrows(IllegalArgumentException.class, () -> IdTable.of(Arrays.asList("hall", null)));
+  }
+}
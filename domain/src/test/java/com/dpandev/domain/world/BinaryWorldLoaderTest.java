@@ -0,0 +1,329 @@
+package com.dpandev.domain.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dpandev.domain.model.Item;
+import com.dpandev.domain.model.Monster;
+import com.dpandev.domain.model.Puzzle;
+import com.dpandev.domain.model.PuzzleType;
+import com.dpandev.domain.model.Room;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Round-trip tests for BinaryWorldCompiler and BinaryWorldLoader. */
+class BinaryWorldLoaderTest {
+
+  private static final String WORLD_JSON =
+      """
+      {
+        "version": "2.0",
+        "startRoomId": "entrance",
+        "items": [
+          {
+            "id": "sword",
+            "name": "Steel Sword",
+            "description": "A sharp blade",
+            "type": "WEAPON",
+            "attackBonus": 10
+          },
+          {
+            "id": "potion",
+            "name": "Health Potion",
+            "type": "CONSUMABLE",
+            "consumableType": "HEALTH_POTION",
+            "healthRestore": 20
+          },
+          {
+            "id": "helmet",
+            "name": "Iron Helmet",
+            "type": "ARMOR",
+            "armorType": "HELMET",
+            "defenseBonus": 5
+          }
+        ],
+        "monsters": [
+          {
+            "id": "goblin",
+            "name": "Goblin",
+            "description": "A small green creature",
+            "maxHealth": 25,
+            "baseAttack": 5,
+            "baseDefense": 2,
+            "criticalHitThreshold": 0.2
+          }
+        ],
+        "rooms": [
+          {
+            "id": "entrance",
+            "name": "Entrance Hall",
+            "description": "The entrance to the dungeon",
+            "exits": { "north": "treasure_room", "east": "café" },
+            "itemIds": ["sword", "potion"],
+            "monsterId": "goblin",
+            "puzzles": [
+              {
+                "id": "combo_lock",
+                "description": "Enter the combination",
+                "type": "LOGIC",
+                "solution": { "code": "1234", "sequence": ["red", "blue"] },
+                "maxAttempts": 3,
+                "rewardItemId": "helmet"
+              }
+            ]
+          },
+          {
+            "id": "treasure_room",
+            "name": "Treasure Room",
+            "description": "Gold and jewels everywhere",
+            "exits": { "south": "entrance" },
+            "itemIds": ["helmet"]
+          },
+          {
+            "id": "café",
+            "name": "Café",
+            "exits": { "west": "entrance" }
+          }
+        ]
+      }
+      """;
+
+  @TempDir Path tempDir;
+
+  private Path packFile;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    Path json = tempDir.resolve("world.json");
+    Files.writeString(json, WORLD_JSON);
+    packFile = tempDir.resolve("packs").resolve("world.atwp");
+    WorldTemplate template = new JsonWorldLoader(json.toString()).loadTemplate();
+    new BinaryWorldCompiler().compile(template, packFile);
+  }
+
+  @Nested
+  @DisplayName("Round Trip Tests")
+  class RoundTripTests {
+
+    @Test
+    @DisplayName("Should preserve header fields and entity counts")
+    void testHeaderAndCounts() {
+      World world = new BinaryWorldLoader(packFile).load();
+
+      assertEquals("2.0", world.getVersion());
+      assertEquals("entrance", world.getStartRoomId());
+      assertEquals(3, world.getRooms().size());
+      assertEquals(3, world.getItems().size());
+      assertEquals(1, world.getMonsters().size());
+      assertEquals(1, world.getPuzzles().size());
+    }
+
+    @Test
+    @DisplayName("Should preserve item fields, including absent enums")
+    void testItems() {
+      World world = new BinaryWorldLoader(packFile).load();
+
+      Item sword = world.findItem("sword").orElseThrow();
+      assertEquals("Steel Sword", sword.getName());
+      assertEquals("A sharp blade", sword.getDescription());
+      assertEquals(Item.ItemType.WEAPON, sword.getItemType());
+      assertEquals(10, sword.getAttackBonus());
+      assertNull(sword.getArmorType());
+
+      Item potion = world.findItem("potion").orElseThrow();
+      assertEquals(Item.ConsumableType.HEALTH_POTION, potion.getConsumableType());
+      assertEquals(20, potion.getHealthRestore());
+
+      Item helmet = world.findItem("helmet").orElseThrow();
+      assertEquals(Item.ArmorType.HELMET, helmet.getArmorType());
+      assertEquals(5, helmet.getDefenseBonus());
+    }
+
+    @Test
+    @DisplayName("Should preserve monster stats")
+    void testMonsters() {
+      World world = new BinaryWorldLoader(packFile).load();
+      Monster goblin = world.findMonster("goblin").orElseThrow();
+
+      assertEquals("Goblin", goblin.getName());
+      assertEquals("A small green creature", goblin.getDescription());
+      assertEquals(25, goblin.getMaxHealth());
+      assertEquals(25, goblin.getCurrentHealth());
+      assertEquals(5, goblin.getBaseAttack());
+      assertEquals(2, goblin.getBaseDefense());
+      assertEquals(0.2, goblin.getCriticalHitThreshold(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should preserve puzzle definition and structured solution")
+    void testPuzzles() {
+      World world = new BinaryWorldLoader(packFile).load();
+      Puzzle puzzle = world.findPuzzle("combo_lock").orElseThrow();
+
+      assertEquals("Enter the combination", puzzle.getDescription());
+      assertEquals(PuzzleType.LOGIC, puzzle.getPuzzleType());
+      assertEquals("1234", puzzle.getSolution().get("code"));
+      assertEquals(List.of("red", "blue"), puzzle.getSolution().get("sequence"));
+      assertEquals(3, puzzle.getMaxAttempts());
+      assertEquals("helmet", puzzle.getRewardItemId());
+      assertEquals(Puzzle.PuzzlePhase.LOCKED, puzzle.getPuzzlePhase());
+    }
+
+    @Test
+    @DisplayName("Should preserve rooms, exit order, item lists and non-ASCII IDs")
+    void testRooms() {
+      World world = new BinaryWorldLoader(packFile).load();
+
+      Room entrance = world.getRoomById("entrance").orElseThrow();
+      assertEquals("Entrance Hall", entrance.getName());
+      assertEquals(List.of("north", "east"), List.copyOf(entrance.getExits().keySet()));
+      assertEquals("café", entrance.getExits().get("east"));
+      assertEquals(List.of("sword", "potion"), entrance.getItemIds());
+      assertEquals("goblin", entrance.getMonsterId());
+      assertEquals("combo_lock", entrance.getPuzzleId());
+
+      Room cafe = world.getRoomById("café").orElseThrow();
+      assertEquals("Café", cafe.getName());
+      assertNull(cafe.getMonsterId());
+      assertTrue(cafe.getItemIds().isEmpty());
+      assertTrue(world.getRoomById("missing").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should support name lookups on a lazily loaded template")
+    void testNameLookups() {
+      World world = new BinaryWorldLoader(packFile).load();
+
+      assertEquals("sword", world.findItemByName("steel sword").orElseThrow().getId());
+      assertEquals("Goblin", world.findMonsterByName("GOBLIN").orElseThrow().getName());
+    }
+  }
+
+  @Nested
+  @DisplayName("Lazy Materialization Tests")
+  class LazyTests {
+
+    @Test
+    @DisplayName("Should decode each record once and share it across lookups")
+    void testRecordsAreCached() {
+      WorldTemplate template = new BinaryWorldLoader(packFile).loadTemplate();
+
+      assertSame(template.getItems().get("sword"), template.getItems().get("sword"));
+      assertSame(template.getRooms().get("entrance"), template.getRooms().get("entrance"));
+    }
+
+    @Test
+    @DisplayName("Should keep session changes out of the mapped template")
+    void testSessionsAreIsolated() {
+      WorldTemplate template = new BinaryWorldLoader(packFile).loadTemplate();
+      World first = template.newSession();
+      World second = template.newSession();
+
+      first.getRoomById("entrance").orElseThrow().removeItemFromRoom("sword");
+      first.findMonster("goblin").orElseThrow().setCurrentHealth(1);
+
+      Room untouched = second.getRoomById("entrance").orElseThrow();
+      assertEquals(List.of("sword", "potion"), untouched.getItemIds());
+      assertEquals(25, second.findMonster("goblin").orElseThrow().getCurrentHealth());
+      assertFalse(template.getRooms().get("entrance").getItemIds().isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("Error Handling Tests")
+  class ErrorTests {
+
+    @Test
+    @DisplayName("Should reject files without the worldpack magic number")
+    void testRejectsNonPack() throws IOException {
+      Path bogus = tempDir.resolve("bogus.atwp");
+      Files.writeString(bogus, WORLD_JSON);
+
+      assertThrows(IllegalStateException.class, () -> new BinaryWorldLoader(bogus).load());
+    }
+
+    @Test
+    @DisplayName("Should reject truncated packs")
+    void testRejectsTruncatedPack() throws IOException {
+      byte[] bytes = Files.readAllBytes(packFile);
+      Path truncated = tempDir.resolve("truncated.atwp");
+      Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+
+      assertThrows(IllegalStateException.class, () -> new BinaryWorldLoader(truncated).load());
+    }
+
+    @Test
+    @DisplayName("Should report an invalid enum ordinal when the record is decoded")
+    void testRejectsInvalidOrdinal() throws IOException {
+      // helmet sorts first, so its type byte sits 12 bytes into the item section
+      Path corrupt = corruptItemByte(12, (byte) 100);
+      WorldTemplate template = new BinaryWorldLoader(corrupt).loadTemplate();
+
+      IllegalStateException e =
+          assertThrows(IllegalStateException.class, () -> template.getItems().get("helmet"));
+      assertTrue(e.getMessage().contains("invalid ItemType ordinal 100"));
+      assertEquals("sword", template.getItems().get("sword").getId());
+    }
+
+    @Test
+    @DisplayName("Should report a string index outside the string table")
+    void testRejectsInvalidStringIndex() throws IOException {
+      // the helmet's name index is the second int of its record
+      Path corrupt = corruptItemByte(4, (byte) 0x7f);
+      WorldTemplate template = new BinaryWorldLoader(corrupt).loadTemplate();
+
+      IllegalStateException e =
+          assertThrows(IllegalStateException.class, () -> template.getItems().get("helmet"));
+      assertTrue(e.getMessage().startsWith("Corrupt binary worldpack '" + corrupt + "'"));
+    }
+
+    @Test
+    @DisplayName("Should reject a start room that is not in the rooms table")
+    void testRejectsUnknownStartRoom() throws IOException {
+      byte[] bytes = Files.readAllBytes(packFile);
+      ByteBuffer header = ByteBuffer.wrap(bytes);
+      header.putInt(12, header.getInt(8)); // point the start room at the version string
+      Path corrupt = tempDir.resolve("corrupt.atwp");
+      Files.write(corrupt, bytes);
+
+      IllegalStateException e =
+          assertThrows(IllegalStateException.class, () -> new BinaryWorldLoader(corrupt).load());
+      assertTrue(e.getMessage().contains("start room '2.0' is not in the rooms table"));
+    }
+
+    @Test
+    @DisplayName("Should wrap I/O failures for missing files")
+    void testMissingFile() {
+      Path missing = tempDir.resolve("missing.atwp");
+
+      assertThrows(UncheckedIOException.class, () -> new BinaryWorldLoader(missing).load());
+    }
+
+    private Path corruptItemByte(int recordOffset, byte value) throws IOException {
+      byte[] bytes = Files.readAllBytes(packFile);
+      ByteBuffer header = ByteBuffer.wrap(bytes);
+      int stringCount = header.getInt(16);
+      int stringDataLength = header.getInt(20);
+      int itemsStart =
+          BinaryWorldFormat.HEADER_BYTES + (stringCount + 1) * Integer.BYTES + stringDataLength;
+      bytes[itemsStart + recordOffset] = value;
+      Path corrupt = tempDir.resolve("corrupt.atwp");
+      Files.write(corrupt, bytes);
+      return corrupt;
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.dpandev.domain.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Unit tests for CachingWorldLoader. */
+class CachingWorldLoaderTest {
+
+  @TempDir Path tempDir;
+
+  private Path worldFile;
+  private CountingLoader counting;
+  private CachingWorldLoader loader;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    worldFile = tempDir.resolve("world.json");
+    Files.writeString(worldFile, worldJson("Hall"));
+    counting = new CountingLoader(new JsonWorldLoader(worldFile.toString()));
+    loader = new CachingWorldLoader(counting);
+  }
+
+  @Nested
+  @DisplayName("Cache Hit Tests")
+  class HitTests {
+
+    @Test
+    @DisplayName("Should parse once and hand out independent sessions")
+    void testReusesTemplate() {
+      World first = loader.load();
+      World second = loader.load();
+
+      assertEquals(1, counting.loads);
+      assertNotSame(first, second);
+      assertSame(first.getTemplate(), second.getTemplate());
+      assertEquals(1, loader.stats().hits());
+      assertEquals(1, loader.stats().misses());
+    }
+
+    @Test
+    @DisplayName("Should not re-parse when the file is touched again but unchanged")
+    void testTouchedFileIsStillHit() throws IOException {
+      loader.load();
+      Files.setLastModifiedTime(worldFile, FileTime.fromMillis(1_000));
+      loader.load();
+      Files.setLastModifiedTime(worldFile, FileTime.fromMillis(0));
+
+      loader.load();
+
+      assertEquals(2, counting.loads);
+      assertEquals(1, loader.stats().invalidations());
+      assertEquals(1, loader.stats().hits());
+    }
+
+    @Test
+    @DisplayName("Should parse classpath-style sources only once")
+    void testSourceWithoutFile() {
+      CountingLoader resource =
+          new CountingLoader(new JsonWorldLoader(worldFile.toString())) {
+            @Override
+            public Optional<Path> sourceFile() {
+              return Optional.empty();
+            }
+          };
+      CachingWorldLoader cache = new CachingWorldLoader(resource);
+
+      cache.load();
+      cache.load();
+
+      assertEquals(1, resource.loads);
+    }
+  }
+
+  @Nested
+  @DisplayName("Invalidation Tests")
+  class InvalidationTests {
+
+    @Test
+    @DisplayName("Should re-parse when the file content changes")
+    void testChangedFileReloads() throws IOException {
+      World before = loader.load();
+      Files.writeString(worldFile, worldJson("Great Hall"));
+
+      World after = loader.load();
+
+      assertEquals(2, counting.loads);
+      assertEquals("Hall", before.getRooms().get("hall").getName());
+      assertEquals("Great Hall", after.getRooms().get("hall").getName());
+      assertEquals(1, loader.stats().invalidations());
+    }
+
+    @Test
+    @DisplayName("Should re-parse after explicit invalidation")
+    void testExplicitInvalidate() {
+      loader.load();
+      loader.invalidate();
+      loader.load();
+
+      assertEquals(2, counting.loads);
+      assertEquals(2, loader.stats().misses());
+      assertTrue(loader.stats().loadNanos() > 0);
+    }
+  }
+
+  private static String worldJson(String hallName) {
+    return """
+        {
+          "version": "1.0",
+          "startRoomId": "hall",
+          "rooms": [{ "id": "hall", "name": "%s" }]
+        }
+        """
+        .formatted(hallName);
+  }
+
+  /** Delegate that counts how often the pack is actually parsed. */
+  private static class CountingLoader implements WorldLoader {
+    private final JsonWorldLoader delegate;
+    private int loads;
+
+    CountingLoader(JsonWorldLoader delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public World load() {
+      return loadTemplate().newSession();
+    }
+
+    @Override
+    public WorldTemplate loadTemplate() {
+      loads++;
+      return delegate.loadTemplate();
+    }
+
+    @Override
+    public Optional<Path> sourceFile() {
+      return delegate.sourceFile();
+    }
+  }
+}
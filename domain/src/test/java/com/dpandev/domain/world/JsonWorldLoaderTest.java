@@ -1679,4 +1679,225 @@ class JsonWorldLoaderTest {
     Puzzle puzzle = world.getPuzzles().get("puzzle1");
     assertEquals(0, puzzle.getMaxAttempts());
   }
+
+  // ============================================================================
+  // Streaming Mode Tests
+  // ============================================================================
+
+  @Test
+  void testStreamingModeHandlesSectionsInAnyOrder() throws IOException {
+    String json =
+        """
+        {
+          "rooms": [
+            {
+              "id": "hall",
+              "name": "Hall",
+              "exits": { "north": "vault" },
+              "itemIds": ["key"],
+              "monsterId": "rat",
+              "puzzles": [{ "id": "riddle", "answer": "echo" }]
+            },
+            { "id": "vault", "name": "Vault", "exits": { "south": "hall" } }
+          ],
+          "unknownSection": { "nested": [1, 2, 3] },
+          "monsters": [{ "id": "rat", "name": "Rat", "maxHealth": 5 }],
+          "items": [{ "id": "key", "name": "Brass Key", "type": "QUEST" }],
+          "startRoomId": "hall",
+          "version": "3.0"
+        }
+        """;
+
+    Path worldFile = tempDir.resolve("streaming_order.json");
+    Files.writeString(worldFile, json);
+
+    World world =
+        new JsonWorldLoader(worldFile.toString(), JsonWorldLoader.ParseMode.STREAMING).load();
+
+    assertEquals("3.0", world.getVersion());
+    assertEquals("hall", world.getStartRoomId());
+    assertEquals(2, world.getRooms().size());
+    assertEquals("vault", world.getRooms().get("hall").getExits().get("north"));
+    assertEquals("riddle", world.getRooms().get("hall").getPuzzleId());
+    assertEquals("echo", world.getPuzzles().get("riddle").getSolution().get("answer"));
+    assertEquals(5, world.getMonsters().get("rat").getMaxHealth());
+    assertEquals(Item.ItemType.QUEST, world.getItems().get("key").getItemType());
+  }
+
+  @Test
+  void testStreamingModeInvalidJsonThrowsException() throws IOException {
+    Path worldFile = tempDir.resolve("streaming_invalid.json");
+    Files.writeString(worldFile, "{ \"version\": \"1.0\", \"rooms\": [ { \"id\": ");
+
+    JsonWorldLoader loader =
+        new JsonWorldLoader(worldFile.toString(), JsonWorldLoader.ParseMode.STREAMING);
+    assertThrows(UncheckedIOException.class, () -> loader.load());
+  }
+
+  @Test
+  void testStreamingModeStartRoomNotFoundThrowsException() throws IOException {
+    String json =
+        """
+        {
+          "version": "1.0",
+          "startRoomId": "missing",
+          "rooms": [{ "id": "room1", "name": "Room" }]
+        }
+        """;
+
+    Path worldFile = tempDir.resolve("streaming_start.json");
+    Files.writeString(worldFile, json);
+
+    JsonWorldLoader loader =
+        new JsonWorldLoader(worldFile.toString(), JsonWorldLoader.ParseMode.STREAMING);
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> loader.load());
+    assertTrue(exception.getMessage().contains("Start room"));
+  }
+
+  // ============================================================================
+  // Parallel Mode Tests
+  // ============================================================================
+
+  @Test
+  void testParallelModeLoadsLargeWorldInChunks() throws IOException {
+    int roomCount = 2_000;
+    StringBuilder rooms = new StringBuilder();
+    StringBuilder items = new StringBuilder();
+    for (int i = 0; i < roomCount; i++) {
+      String next = "r" + ((i + 1) % roomCount);
+      rooms.append(i == 0 ? "" : ",").append("{\"id\":\"r").append(i);
+      rooms.append("\",\"name\":\"Room ").append(i);
+      rooms.append("\",\"exits\":{\"east\":\"").append(next);
+      rooms.append("\"},\"itemIds\":[\"i").append(i).append("\"]}");
+      items.append(i == 0 ? "" : ",").append("{\"id\":\"i").append(i);
+      items.append("\",\"name\":\"Item ").append(i).append("\"}");
+    }
+    // a duplicate ID at the very end must win, as it does when parsing sequentially
+    rooms.append(",{\"id\":\"r0\",\"name\":\"Last r0\",\"exits\":{\"east\":\"r1\"}}");
+    String json =
+        "{\"version\":\"1.0\",\"startRoomId\":\"r0\",\"items\":["
+            + items
+            + "],\"monsters\":[],\"rooms\":["
+            + rooms
+            + "]}";
+
+    Path worldFile = tempDir.resolve("parallel_large.json");
+    Files.writeString(worldFile, json);
+
+    World world =
+        new JsonWorldLoader(worldFile.toString(), JsonWorldLoader.ParseMode.PARALLEL).load();
+
+    assertEquals(roomCount, world.getRooms().size());
+    assertEquals(roomCount, world.getItems().size());
+    assertEquals("Last r0", world.getRooms().get("r0").getName());
+    assertEquals("r0", world.getRooms().get("r" + (roomCount - 1)).getExits().get("east"));
+    assertEquals("Item 1234", world.getItems().get("i1234").getName());
+  }
+
+  @Test
+  void testParallelModeMatchesTreeMode() throws IOException {
+    String json =
+        """
+        {
+          "version": "2.0",
+          "startRoomId": "hall",
+          "items": [{ "id": "key", "name": "Brass Key", "type": "QUEST" }],
+          "monsters": [{ "id": "rat", "name": "Rat", "maxHealth": 5 }],
+          "rooms": [
+            {
+              "id": "hall",
+              "name": "Hall",
+              "exits": { "north": "vault" },
+              "itemIds": ["key"],
+              "monsterId": "rat",
+              "puzzles": [{ "id": "riddle", "answer": "echo", "rewardItemId": "key" }]
+            },
+            { "id": "vault", "name": "Vault", "exits": { "south": "hall" } }
+          ]
+        }
+        """;
+
+    Path worldFile = tempDir.resolve("parallel_small.json");
+    Files.writeString(worldFile, json);
+
+    World tree = new JsonWorldLoader(worldFile.toString()).load();
+    World parallel =
+        new JsonWorldLoader(worldFile.toString(), JsonWorldLoader.ParseMode.PARALLEL).load();
+
+    assertEquals(tree.getRooms().keySet(), parallel.getRooms().keySet());
+    assertEquals(tree.getItems().keySet(), parallel.getItems().keySet());
+    assertEquals(tree.getMonsters().keySet(), parallel.getMonsters().keySet());
+    assertEquals(tree.getPuzzles().keySet(), parallel.getPuzzles().keySet());
+    assertEquals(
+        tree.getRooms().get("hall").getExits(), parallel.getRooms().get("hall").getExits());
+    assertEquals("riddle", parallel.getRooms().get("hall").getPuzzleId());
+  }
+
+  @Test
+  void testParallelModeMissingFieldThrowsException() throws IOException {
+    String json =
+        """
+        {
+          "version": "1.0",
+          "startRoomId": "room1",
+          "items": [{ "id": "nameless" }],
+          "rooms": [{ "id": "room1", "name": "Room" }]
+        }
+        """;
+
+    Path worldFile = tempDir.resolve("parallel_missing_field.json");
+    Files.writeString(worldFile, json);
+
+    JsonWorldLoader loader =
+        new JsonWorldLoader(worldFile.toString(), JsonWorldLoader.ParseMode.PARALLEL);
+    assertThrows(IllegalArgumentException.class, () -> loader.load());
+  }
+
+  @Test
+  void testParallelModeStartRoomNotFoundThrowsException() throws IOException {
+    String json =
+        """
+        {
+          "version": "1.0",
+          "startRoomId": "missing",
+          "rooms": [{ "id": "room1", "name": "Room" }]
+        }
+        """;
+
+    Path worldFile = tempDir.resolve("parallel_start.json");
+    Files.writeString(worldFile, json);
+
+    JsonWorldLoader loader =
+        new JsonWorldLoader(worldFile.toString(), JsonWorldLoader.ParseMode.PARALLEL);
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> loader.load());
+    assertTrue(exception.getMessage().contains("Start room"));
+  }
+
+  @Test
+  void testParallelModeLeavesDanglingReferencesToValidator() throws IOException {
+    String json =
+        """
+        {
+          "version": "1.0",
+          "startRoomId": "room1",
+          "rooms": [
+            { "id": "room1", "name": "Room", "exits": { "north": "nowhere" } }
+          ]
+        }
+        """;
+
+    Path worldFile = tempDir.resolve("parallel_dangling.json");
+    Files.writeString(worldFile, json);
+
+    JsonWorldLoader loader =
+        new JsonWorldLoader(worldFile.toString(), JsonWorldLoader.ParseMode.PARALLEL);
+    assertEquals("nowhere", loader.loadTemplate().getRooms().get("room1").getExits().get("north"));
+
+    ValidatingWorldLoader validating = new ValidatingWorldLoader(loader);
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> validating.load());
+    assertTrue(exception.getMessage().contains("nowhere"));
+  }
 }
@@ -0,0 +1,256 @@
+package com.dpandev.domain.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dpandev.domain.model.Item;
+import com.dpandev.domain.model.Monster;
+import com.dpandev.domain.model.Puzzle;
+import com.dpandev.domain.model.PuzzleType;
+import com.dpandev.domain.model.Room;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for WorldTemplate sessions and the WorldState overlay. */
+class WorldStateTest {
+
+  private WorldTemplate template;
+
+  @BeforeEach
+  void setUp() {
+    Map<String, Room> rooms = new HashMap<>();
+    rooms.put(
+        "room1",
+        Room.builder()
+            .id("room1")
+            .name("Room 1")
+            .description("First room")
+            .exits(Map.of("north", "room2"))
+            .itemIds(List.of("sword"))
+            .monsterId("goblin")
+            .puzzleId("puzzle1")
+            .build());
+    rooms.put(
+        "room2",
+        Room.builder()
+            .id("room2")
+            .name("Room 2")
+            .description("Second room")
+            .exits(Map.of("south", "room1"))
+            .build());
+
+    Map<String, Item> items =
+        Map.of("sword", Item.builder().id("sword").name("Steel Sword").build());
+    Map<String, Puzzle> puzzles =
+        Map.of(
+            "puzzle1",
+            new Puzzle(
+                "puzzle1",
+                "What am I?",
+                PuzzleType.RIDDLE,
+                Map.of("answer", "echo"),
+                Puzzle.PuzzlePhase.LOCKED,
+                3,
+                null));
+    Map<String, Monster> monsters =
+        Map.of("goblin", new Monster("Goblin", "A small green creature", 30, 5, 2, 0.3));
+
+    template = new WorldTemplate("1.0", rooms, items, puzzles, monsters, "room1");
+  }
+
+  @Nested
+  @DisplayName("Session Isolation Tests")
+  class SessionIsolationTests {
+
+    @Test
+    @DisplayName("should not leak room item changes between sessions")
+    void shouldNotLeakRoomItemChangesBetweenSessions() {
+      World first = template.newSession();
+      World second = template.newSession();
+
+      first.findRoom("room1").get().removeItemFromRoom("sword");
+
+      assertFalse(first.findRoom("room1").get().hasItem("sword"));
+      assertTrue(second.findRoom("room1").get().hasItem("sword"));
+      assertTrue(template.getRooms().get("room1").hasItem("sword"));
+    }
+
+    @Test
+    @DisplayName("should index session room items by name")
+    void shouldIndexSessionRoomItemsByName() {
+      World world = template.newSession();
+      Room room = world.findRoom("room1").get();
+
+      assertEquals("sword", room.findItemByName("steel SWORD"));
+      assertEquals("Steel Sword", room.describeItems());
+
+      room.addItemToRoom("sword");
+      assertEquals("Steel Sword (x2)", room.describeItems());
+      assertEquals("", template.getRooms().get("room1").describeItems());
+    }
+
+    @Test
+    @DisplayName("should not leak monster health between sessions")
+    void shouldNotLeakMonsterHealthBetweenSessions() {
+      World first = template.newSession();
+      World second = template.newSession();
+
+      first.findMonster("goblin").get().takeDamage(10);
+
+      assertEquals(20, first.findMonster("goblin").get().getCurrentHealth());
+      assertEquals(30, second.findMonster("goblin").get().getCurrentHealth());
+      assertEquals(30, template.getMonsters().get("goblin").getCurrentHealth());
+    }
+
+    @Test
+    @DisplayName("should not leak puzzle phase between sessions")
+    void shouldNotLeakPuzzlePhaseBetweenSessions() {
+      World first = template.newSession();
+      World second = template.newSession();
+
+      first.findPuzzle("puzzle1").get().setPuzzlePhase(Puzzle.PuzzlePhase.SOLVED);
+
+      assertTrue(first.findPuzzle("puzzle1").get().isSolved());
+      assertFalse(second.findPuzzle("puzzle1").get().isSolved());
+    }
+
+    @Test
+    @DisplayName("should share immutable items across sessions")
+    void shouldShareImmutableItemsAcrossSessions() {
+      World first = template.newSession();
+      World second = template.newSession();
+
+      assertSame(first.findItem("sword").get(), second.findItem("sword").get());
+    }
+  }
+
+  @Nested
+  @DisplayName("Overlay Tests")
+  class OverlayTests {
+
+    @Test
+    @DisplayName("should return the same session copy on repeated lookups")
+    void shouldReturnSameSessionCopyOnRepeatedLookups() {
+      World world = template.newSession();
+
+      Room room = world.findRoom("room1").get();
+
+      assertSame(room, world.findRoom("room1").get());
+      assertSame(room, world.getRooms().get("room1"));
+      assertNotSame(template.getRooms().get("room1"), room);
+    }
+
+    @Test
+    @DisplayName("should only copy entities the session touches")
+    void shouldOnlyCopyEntitiesTheSessionTouches() {
+      World world = template.newSession();
+      assertEquals(0, world.getState().size());
+
+      world.findRoom("room2");
+      world.findMonsterByName("goblin");
+
+      assertEquals(2, world.getState().size());
+    }
+
+    @Test
+    @DisplayName("should restore pristine entities after reset")
+    void shouldRestorePristineEntitiesAfterReset() {
+      World world = template.newSession();
+      world.findMonster("goblin").get().takeDamage(30);
+      world.findRoom("room1").get().removeItemFromRoom("sword");
+
+      world.getState().reset();
+
+      assertEquals(0, world.getState().size());
+      assertTrue(world.findMonster("goblin").get().isAlive());
+      assertTrue(world.findRoom("room1").get().hasItem("sword"));
+    }
+
+    @Test
+    @DisplayName("should return empty for unknown or null IDs")
+    void shouldReturnEmptyForUnknownOrNullIds() {
+      World world = template.newSession();
+
+      assertTrue(world.findRoom("nonexistent").isEmpty());
+      assertTrue(world.findRoom(null).isEmpty());
+      assertTrue(world.findMonster(null).isEmpty());
+      assertEquals(0, world.getState().size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Delta Tests")
+  class DeltaTests {
+
+    @Test
+    @DisplayName("should record only entities that differ from the template")
+    void shouldRecordOnlyChangedEntities() {
+      World world = template.newSession();
+      world.findRoom("room1").get().removeItemFromRoom("sword");
+      world.findRoom("room2").get().addItemToRoom("sword");
+      world.findMonster("goblin").get().takeDamage(12);
+      world.findPuzzle("puzzle1").get().decrementAttemptsLeft();
+
+      WorldDelta delta = world.getState().diff();
+
+      assertEquals(Map.of("room1", List.of(), "room2", List.of("sword")), delta.roomItems());
+      assertEquals(Map.of("goblin", 18), delta.monsterHealth());
+      assertEquals(
+          Map.of("puzzle1", new WorldDelta.PuzzleState(Puzzle.PuzzlePhase.LOCKED, 2)),
+          delta.puzzles());
+    }
+
+    @Test
+    @DisplayName("should record nothing for entities touched without changes")
+    void shouldRecordNothingForUntouchedChanges() {
+      World world = template.newSession();
+      world.findRoom("room1");
+      world.findMonster("goblin");
+      world.findRoom("room2").get().addItemToRoom("sword");
+      world.findRoom("room2").get().removeItemFromRoom("sword");
+
+      assertTrue(world.getState().diff().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should restore a delta into a fresh session")
+    void shouldRestoreDeltaIntoFreshSession() {
+      World played = template.newSession();
+      played.findRoom("room1").get().removeItemFromRoom("sword");
+      played.findMonster("goblin").get().takeDamage(30);
+      played.findPuzzle("puzzle1").get().setPuzzlePhase(Puzzle.PuzzlePhase.SOLVED);
+      WorldDelta delta = played.getState().diff();
+
+      World restored = template.newSession();
+      restored.findRoom("room2").get().addItemToRoom("sword");
+      restored.getState().apply(delta);
+
+      assertEquals(3, restored.getState().size());
+      assertFalse(restored.findRoom("room1").get().hasItem("sword"));
+      assertFalse(restored.findRoom("room2").get().hasItem("sword"));
+      assertFalse(restored.findMonster("goblin").get().isAlive());
+      assertTrue(restored.findPuzzle("puzzle1").get().isSolved());
+      assertEquals(delta, restored.getState().diff());
+    }
+
+    @Test
+    @DisplayName("should skip entities the template does not define")
+    void shouldSkipUnknownEntities() {
+      World world = template.newSession();
+
+      world
+          .getState()
+          .apply(new WorldDelta(Map.of("gone", List.of("sword")), Map.of("ghost", 1), null));
+
+      assertEquals(0, world.getState().size());
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.dpandev.domain.world;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.dpandev.domain.model.Item;
@@ -10,6 +11,7 @@ import com.dpandev.domain.model.Monster;
 import com.dpandev.domain.model.Puzzle;
 import com.dpandev.domain.model.PuzzleType;
 import com.dpandev.domain.model.Room;
+import com.dpandev.domain.utils.IdTable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -329,4 +331,220 @@ class WorldTest {
       assertTrue(worldMonsters.containsKey("troll"));
     }
   }
+
+  @Nested
+  @DisplayName("Name Index Tests")
+  class NameIndexTests {
+
+    @Test
+    @DisplayName("should find unique item by name prefix")
+    void shouldFindUniqueItemByNamePrefix() {
+      Optional<Item> item = world.findItemByNamePrefix("steel");
+
+      assertTrue(item.isPresent());
+      assertEquals("sword", item.get().getId());
+    }
+
+    @Test
+    @DisplayName("should return empty for ambiguous or unknown prefix")
+    void shouldReturnEmptyForAmbiguousOrUnknownPrefix() {
+      World shared =
+          new World(
+              "1.0",
+              rooms,
+              Map.of(
+                  "short_sword", Item.builder().id("short_sword").name("Sword").build(),
+                  "long_sword", Item.builder().id("long_sword").name("Sword of Ages").build()),
+              puzzles,
+              monsters,
+              "room1");
+
+      assertFalse(shared.findItemByNamePrefix("sw").isPresent());
+      assertFalse(shared.findItemByNamePrefix("axe").isPresent());
+      assertFalse(shared.findItemByNamePrefix("").isPresent());
+      assertEquals("short_sword", shared.findItemByName("SWORD").get().getId());
+    }
+
+    @Test
+    @DisplayName("should list all items matching a prefix in name order")
+    void shouldListAllItemsMatchingPrefixInNameOrder() {
+      items.put("shield", Item.builder().id("shield").name("steel shield").build());
+      World withShield = new World("1.0", rooms, items, puzzles, monsters, "room1");
+
+      List<Item> matches = withShield.findItemsByNamePrefix("STEEL S");
+
+      assertEquals(2, matches.size());
+      assertEquals("shield", matches.get(0).getId());
+      assertEquals("sword", matches.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("should resolve the lowest ID when names collide")
+    void shouldResolveLowestIdWhenNamesCollide() {
+      items.put("a_sword", Item.builder().id("a_sword").name("STEEL SWORD").build());
+      World duplicated = new World("1.0", rooms, items, puzzles, monsters, "room1");
+
+      assertEquals("a_sword", duplicated.findItemByName("steel sword").get().getId());
+    }
+
+    @Test
+    @DisplayName("should return empty for null names")
+    void shouldReturnEmptyForNullNames() {
+      assertFalse(world.findItemByName(null).isPresent());
+      assertFalse(world.findMonsterByName(null).isPresent());
+    }
+  }
+
+  @Nested
+  @DisplayName("Handle Tests")
+  class HandleTests {
+
+    @Test
+    @DisplayName("should find entities by handle")
+    void shouldFindEntitiesByHandle() {
+      int room = world.roomHandle("room2");
+      int item = world.getItemIds().handle("potion");
+      int puzzle = world.getPuzzleIds().handle("puzzle1");
+
+      assertEquals("room2", world.findRoom(room).get().getId());
+      assertEquals("potion", world.findItem(item).get().getId());
+      assertEquals("puzzle1", world.findPuzzle(puzzle).get().getId());
+      assertSame(world.getRoomById("room2").get(), world.findRoom(room).get());
+    }
+
+    @Test
+    @DisplayName("should return empty for handles outside the world")
+    void shouldReturnEmptyForHandlesOutsideWorld() {
+      assertEquals(IdTable.NO_HANDLE, world.roomHandle("nonexistent"));
+      assertFalse(world.findRoom(IdTable.NO_HANDLE).isPresent());
+      assertFalse(world.findItem(items.size()).isPresent());
+    }
+
+    @Test
+    @DisplayName("should resolve exits to room handles")
+    void shouldResolveExitsToRoomHandles() {
+      int room1 = world.roomHandle("room1");
+
+      assertEquals(world.roomHandle("room2"), world.findExit(room1, "north"));
+      assertEquals(IdTable.NO_HANDLE, world.findExit(room1, "south"));
+      assertEquals(IdTable.NO_HANDLE, world.findExit(IdTable.NO_HANDLE, "north"));
+    }
+
+    @Test
+    @DisplayName("should return NO_HANDLE for exits to undefined rooms")
+    void shouldReturnNoHandleForExitsToUndefinedRooms() {
+      rooms.put(
+          "room3",
+          Room.builder().id("room3").name("Room 3").exits(Map.of("east", "nowhere")).build());
+      World dangling = new World("1.0", rooms, items, puzzles, monsters, "room1");
+
+      assertEquals(IdTable.NO_HANDLE, dangling.findExit(dangling.roomHandle("room3"), "east"));
+    }
+  }
+
+  @Nested
+  @DisplayName("Route Tests")
+  class RouteTests {
+
+    private World grid;
+
+    @BeforeEach
+    void setUpGrid() {
+      // a - b - c in a row, with a one-way drop from c back down to a, and d on its own
+      Map<String, Room> gridRooms = new HashMap<>();
+      gridRooms.put("a", room("a", "Hall", Map.of("east", "b")));
+      gridRooms.put("b", room("b", "Kitchen", Map.of("west", "a", "east", "c")));
+      gridRooms.put("c", room("c", "Tower", Map.of("west", "b", "down", "a", "portal", "d")));
+      gridRooms.put("d", room("d", "Island", Map.of()));
+      grid = new World("1.0", gridRooms, items, puzzles, monsters, "a");
+    }
+
+    private Room room(String id, String name, Map<String, String> exits) {
+      return Room.builder().id(id).name(name).description(name).exits(exits).build();
+    }
+
+    @Test
+    @DisplayName("should find the shortest route between rooms")
+    void shouldFindShortestRoute() {
+      int a = grid.roomHandle("a");
+      int b = grid.roomHandle("b");
+      int c = grid.roomHandle("c");
+
+      assertEquals(List.of("east", "east"), grid.findRoute(a, c).get());
+      assertEquals(List.of("down"), grid.findRoute(c, a).get());
+      assertEquals(List.of(), grid.findRoute(b, b).get());
+    }
+
+    @Test
+    @DisplayName("should not route through exits a player cannot walk")
+    void shouldNotRouteThroughUnwalkableExits() {
+      assertFalse(grid.findRoute(grid.roomHandle("c"), grid.roomHandle("d")).isPresent());
+      assertFalse(grid.findRoute(grid.roomHandle("d"), grid.roomHandle("a")).isPresent());
+      assertFalse(grid.findRoute(IdTable.NO_HANDLE, grid.roomHandle("a")).isPresent());
+    }
+
+    @Test
+    @DisplayName("should find rooms by name ignoring case")
+    void shouldFindRoomsByName() {
+      assertEquals("c", grid.findRoomByName("TOWER").get().getId());
+      assertFalse(grid.findRoomByName("Dungeon").isPresent());
+    }
+
+    @Test
+    @DisplayName("should build routes on demand for large packs")
+    void shouldBuildRoutesOnDemandForLargePacks() {
+      // a ring one room larger than the packs that are routed up front
+      int size = RouteTable.EAGER_ROOM_LIMIT + 1;
+      Map<String, Room> ring = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        ring.put(
+            "r" + i,
+            room(
+                "r" + i,
+                "Room " + i,
+                Map.of("east", "r" + (i + 1) % size, "west", "r" + (i + size - 1) % size)));
+      }
+      World large = new World("1.0", ring, items, puzzles, monsters, "r0");
+      int start = large.roomHandle("r0");
+      int behind = large.roomHandle("r" + (size - 2));
+
+      assertEquals(List.of("west", "west"), large.findRoute(start, behind).get());
+      assertEquals(size / 2, large.findRoute(start, large.roomHandle("r" + size / 2)).get().size());
+    }
+  }
+
+  @Nested
+  @DisplayName("World Map Tests")
+  class WorldMapTests {
+
+    @Test
+    @DisplayName("should lay rooms out on a grid from their exits")
+    void shouldLayRoomsOutFromExits() {
+      WorldMap map = world.getWorldMap();
+      int room1 = world.roomHandle("room1");
+      int room2 = world.roomHandle("room2");
+
+      assertEquals(room1, map.roomAt(0, 0, 0));
+      assertEquals(room2, map.roomAt(0, -1, 0));
+      assertTrue(map.linksSouth(room2));
+      assertFalse(map.linksEast(room1));
+      assertEquals("[Room 1 ]", map.tile(room1, false));
+      assertEquals("<Room 2 >", map.tile(room2, true));
+      assertSame(map, world.newSession().getWorldMap());
+    }
+
+    @Test
+    @DisplayName("should place unreachable rooms to the east of the rest")
+    void shouldPlaceUnreachableRoomsEast() {
+      rooms.put(
+          "room3", Room.builder().id("room3").name("Attic").exits(Map.of("up", "room1")).build());
+      World withAttic = new World("1.0", rooms, items, puzzles, monsters, "room1");
+      WorldMap map = withAttic.getWorldMap();
+      int room3 = withAttic.roomHandle("room3");
+
+      assertEquals(2, map.column(room3));
+      assertEquals(0, map.floor(room3));
+      assertEquals("[Attic ^]", map.tile(room3, false));
+    }
+  }
 }
@@ -0,0 +1,204 @@
+package com.dpandev.domain.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dpandev.domain.model.Item;
+import com.dpandev.domain.model.Monster;
+import com.dpandev.domain.model.Puzzle;
+import com.dpandev.domain.model.PuzzleType;
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.world.ValidationReport.Issue;
+import com.dpandev.domain.world.ValidationReport.Severity;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the WorldValidator class. */
+class WorldValidatorTest {
+
+  private final WorldValidator validator = new WorldValidator();
+  private Map<String, Room> rooms;
+  private Map<String, Item> items;
+  private Map<String, Puzzle> puzzles;
+  private Map<String, Monster> monsters;
+
+  @BeforeEach
+  void setUp() {
+    rooms = new HashMap<>();
+    addRoom(
+        room("hall", Map.of("north", "tower", "east", "cellar"))
+            .itemIds(List.of("sword"))
+            .monsterId("goblin"));
+    addRoom(room("tower", Map.of("south", "hall")).puzzleId("riddle"));
+    addRoom(room("cellar", Map.of("west", "hall")));
+
+    items = new HashMap<>();
+    items.put("sword", Item.builder().id("sword").name("Steel Sword").build());
+    items.put("key", Item.builder().id("key").name("Iron Key").build());
+
+    puzzles = new HashMap<>();
+    puzzles.put("riddle", puzzle("riddle", "key"));
+
+    monsters = new HashMap<>();
+    monsters.put("goblin", new Monster("Goblin", "A small green creature", 30, 5, 2, 0.3));
+  }
+
+  private static Room.Builder room(String id, Map<String, String> exits) {
+    return Room.builder().id(id).name(id).description(id).exits(exits);
+  }
+
+  private void addRoom(Room.Builder builder) {
+    Room room = builder.build();
+    rooms.put(room.getId(), room);
+  }
+
+  private static Puzzle puzzle(String id, String rewardItemId) {
+    return new Puzzle(
+        id, "What am I?", PuzzleType.RIDDLE, Map.of(), Puzzle.PuzzlePhase.LOCKED, 3, rewardItemId);
+  }
+
+  private ValidationReport validate() {
+    return validator.validate(new WorldTemplate("1.0", rooms, items, puzzles, monsters, "hall"));
+  }
+
+  private static List<String> messages(ValidationReport report, Severity severity) {
+    return report.issues().stream()
+        .filter(issue -> issue.severity() == severity)
+        .map(Issue::message)
+        .toList();
+  }
+
+  @Nested
+  @DisplayName("Reference Tests")
+  class ReferenceTests {
+
+    @Test
+    @DisplayName("should accept a pack whose references all resolve")
+    void shouldAcceptCleanPack() {
+      ValidationReport report = validate();
+
+      assertTrue(report.isValid());
+      assertEquals(List.of(), report.issues());
+      assertEquals(3, report.roomCount());
+      assertEquals(3, report.reachableRooms());
+      assertEquals(1, report.components());
+    }
+
+    @Test
+    @DisplayName("should report an exit into a room that does not exist")
+    void shouldReportDanglingExit() {
+      addRoom(room("tower", Map.of("south", "hall", "up", "attic")));
+
+      ValidationReport report = validate();
+
+      assertFalse(report.isValid());
+      assertEquals(
+          List.of("Exit target room 'attic' referenced by room 'tower' not found"),
+          messages(report, Severity.ERROR));
+    }
+
+    @Test
+    @DisplayName("should report missing items, monsters, puzzles and rewards")
+    void shouldReportMissingEntities() {
+      items.remove("sword");
+      items.remove("key");
+      monsters.clear();
+      addRoom(room("cellar", Map.of("west", "hall")).puzzleId("lock"));
+
+      ValidationReport report = validate();
+
+      assertEquals(4, report.errorCount());
+      assertTrue(
+          messages(report, Severity.ERROR)
+              .containsAll(
+                  List.of(
+                      "Item 'sword' referenced by room 'hall' not found",
+                      "Monster 'goblin' referenced by room 'hall' not found",
+                      "Puzzle 'lock' referenced by room 'cellar' not found",
+                      "Reward item 'key' referenced by puzzle 'riddle' not found")));
+    }
+
+    @Test
+    @DisplayName("should warn about exits players cannot take")
+    void shouldWarnAboutUnwalkableExit() {
+      addRoom(room("cellar", Map.of("west", "hall", "portal", "tower")));
+
+      ValidationReport report = validate();
+
+      assertTrue(report.isValid());
+      assertEquals(
+          List.of("Exit 'portal' of room 'cellar' is not a direction players can go"),
+          messages(report, Severity.WARNING));
+    }
+  }
+
+  @Nested
+  @DisplayName("Reachability Tests")
+  class ReachabilityTests {
+
+    @Test
+    @DisplayName("should warn about rooms that cannot be reached from the start room")
+    void shouldWarnAboutUnreachableRoom() {
+      addRoom(room("island", Map.of("north", "hall")));
+
+      ValidationReport report = validate();
+
+      assertTrue(report.isValid());
+      assertEquals(3, report.reachableRooms());
+      assertEquals(2, report.components());
+      assertEquals(
+          List.of("Room 'island' cannot be reached from start room 'hall'"),
+          messages(report, Severity.WARNING));
+    }
+
+    @Test
+    @DisplayName("should warn about rooms with no way back to the start room")
+    void shouldWarnAboutTrapRoom() {
+      addRoom(room("tower", Map.of("up", "pit")));
+      addRoom(room("pit", Map.of()));
+
+      ValidationReport report = validate();
+
+      assertEquals(4, report.reachableRooms());
+      assertEquals(3, report.components());
+      List<String> warnings = messages(report, Severity.WARNING);
+      assertEquals(2, warnings.size());
+      assertTrue(warnings.contains("Room 'tower' has no way back to start room 'hall'"));
+      assertTrue(warnings.contains("Room 'pit' has no way back to start room 'hall'"));
+    }
+  }
+
+  @Nested
+  @DisplayName("Validating Loader Tests")
+  class ValidatingLoaderTests {
+
+    @Test
+    @DisplayName("should refuse a pack with errors and list them")
+    void shouldRefusePackWithErrors() {
+      items.remove("sword");
+      WorldTemplate template = new WorldTemplate("1.0", rooms, items, puzzles, monsters, "hall");
+      WorldLoader loader = new ValidatingWorldLoader(template::newSession);
+
+      IllegalStateException e = assertThrows(IllegalStateException.class, loader::loadTemplate);
+      assertEquals(
+          "World pack has 1 error(s):\n  Item 'sword' referenced by room 'hall' not found",
+          e.getMessage());
+    }
+
+    @Test
+    @DisplayName("should load a pack that only has warnings")
+    void shouldLoadPackWithWarnings() {
+      addRoom(room("island", Map.of()));
+      WorldTemplate template = new WorldTemplate("1.0", rooms, items, puzzles, monsters, "hall");
+
+      assertEquals(template, new ValidatingWorldLoader(template::newSession).loadTemplate());
+    }
+  }
+}
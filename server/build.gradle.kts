@@ -6,6 +6,8 @@ plugins {
 
 dependencies {
     implementation(project(":domain"))
+    // command routing (FrontController + controllers) and file-based saves are shared with the CLI
+    implementation(project(":client"))
 
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-websocket")
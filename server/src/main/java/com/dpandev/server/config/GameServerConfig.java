@@ -0,0 +1,131 @@
+package com.dpandev.server.config;
+
+import com.dpandev.client.controller.CombatController;
+import com.dpandev.client.controller.CommandController;
+import com.dpandev.client.controller.FrontController;
+import com.dpandev.client.controller.InteractionController;
+import com.dpandev.client.controller.InventoryController;
+import com.dpandev.client.controller.MovementController;
+import com.dpandev.client.controller.SystemController;
+import com.dpandev.domain.command.CommandParser;
+import com.dpandev.domain.command.SimpleCommandParser;
+import com.dpandev.domain.service.DefaultCombatService;
+import com.dpandev.domain.service.DefaultExplorationService;
+import com.dpandev.domain.service.DefaultInteractionService;
+import com.dpandev.domain.service.DefaultInventoryService;
+import com.dpandev.domain.service.DefaultMapService;
+import com.dpandev.domain.service.ExplorationService;
+import com.dpandev.domain.service.InteractionService;
+import com.dpandev.domain.service.SaveService;
+import com.dpandev.domain.spi.SaveRepository;
+import com.dpandev.domain.utils.VerbCategory;
+import com.dpandev.domain.world.BinaryWorldLoader;
+import com.dpandev.domain.world.CachingWorldLoader;
+import com.dpandev.domain.world.JsonWorldLoader;
+import com.dpandev.domain.world.ValidatingWorldLoader;
+import com.dpandev.domain.world.WorldLoader;
+import com.dpandev.server.session.GameSessionManager;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the game engine for the server. The parser, services and controllers hold no per-player
+ * state, so a single instance of each is shared by every session, exactly as the CLI wires them for
+ * its one player.
+ */
+@Configuration
+@EnableConfigurationProperties(GameServerProperties.class)
+public class GameServerConfig {
+  private static final Logger log = LoggerFactory.getLogger(GameServerConfig.class);
+
+  @Bean
+  public WorldLoader worldLoader(GameServerProperties props) {
+    String worldpack = props.worldpack();
+    WorldLoader loader =
+        worldpack.endsWith(".atwp")
+            ? new BinaryWorldLoader(Path.of(worldpack))
+            : new JsonWorldLoader(worldpack);
+    if (props.validateWorldpack()) {
+      loader = new ValidatingWorldLoader(loader);
+    }
+    // parse once at startup; every session gets a fresh overlay over the cached template
+    CachingWorldLoader cached = new CachingWorldLoader(loader);
+    cached.loadTemplate();
+    return cached;
+  }
+
+  @Bean
+  public CommandParser commandParser() {
+    return new SimpleCommandParser();
+  }
+
+  /** Spring calls the repository's close method, if it has one, on shutdown. */
+  @Bean
+  public SaveRepository saveRepository(GameServerProperties props) {
+    return props.saveStore().open(Path.of(props.savesDir()).toAbsolutePath());
+  }
+
+  /** Closed before the repository on shutdown, which writes any saves still queued. */
+  @Bean
+  public SaveService saveService(SaveRepository saveRepository, GameServerProperties props) {
+    return props.saveQueueCapacity() > 0
+        ? SaveService.writeBehind(saveRepository, props.saveQueueCapacity())
+        : new SaveService(saveRepository);
+  }
+
+  @Bean
+  public ExplorationService explorationService() {
+    return new DefaultExplorationService(new DefaultInteractionService());
+  }
+
+  @Bean
+  public FrontController frontController(
+      ExplorationService explorationService, SaveService saveService, WorldLoader worldLoader) {
+    InteractionService interactionService = new DefaultInteractionService();
+    CommandController movementController =
+        new MovementController(explorationService, new DefaultMapService());
+    CommandController inventoryController = new InventoryController(new DefaultInventoryService());
+    CommandController interactionController = new InteractionController(interactionService);
+    CommandController combatController = new CombatController(new DefaultCombatService());
+    CommandController systemController = new SystemController(saveService, worldLoader);
+
+    return new FrontController(
+        Map.of(
+            VerbCategory.MOVEMENT, movementController,
+            VerbCategory.INVENTORY, inventoryController,
+            VerbCategory.INTERACTION, interactionController,
+            VerbCategory.COMBAT, combatController,
+            VerbCategory.SYSTEM, systemController),
+        systemController);
+  }
+
+  /** Closed before the save service on shutdown, so no session is still saving when it stops. */
+  @Bean(destroyMethod = "closeAll")
+  public GameSessionManager gameSessionManager(
+      WorldLoader worldLoader,
+      CommandParser commandParser,
+      FrontController frontController,
+      ExplorationService explorationService,
+      SaveService saveService,
+      GameServerProperties props) {
+    // record the seed so any session's fights can be replayed by setting game.combat-seed
+    long seed =
+        props.combatSeed() != null ? props.combatSeed() : ThreadLocalRandom.current().nextLong();
+    log.info("Session random seed: {}", seed);
+    return new GameSessionManager(
+        worldLoader,
+        commandParser,
+        frontController,
+        explorationService,
+        saveService,
+        props.maxSessions(),
+        props.inboxCapacity(),
+        seed);
+  }
+}
@@ -0,0 +1,41 @@
+package com.dpandev.server.config;
+
+import com.dpandev.client.persistence.SaveStore;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the game session host, bound from {@code game.*} properties.
+ *
+ * @param worldpack world pack to serve; {@code .atwp} files are loaded as precompiled packs
+ * @param validateWorldpack whether to check the pack's references at startup and refuse to start if
+ *     any are broken
+ * @param savesDir directory for player save files
+ * @param saveStore how saves are stored: one file per player, an append-only journal, or H2
+ * @param saveQueueCapacity players whose saves may be queued for the background writer; 0 saves
+ *     synchronously
+ * @param maxSessions maximum number of concurrent sessions on this node
+ * @param inboxCapacity maximum number of queued, unprocessed commands per session
+ * @param combatSeed seed for the sessions' random number generators; each session's generator is
+ *     seeded from it and the session ID, so fights can be replayed. Chosen at random and logged
+ *     when unset
+ * @param maxMessageBytes largest accepted inbound WebSocket message
+ * @param sendTimeLimitMillis how long a send may block on a slow client before it is dropped
+ * @param sendBufferLimitBytes outbound bytes buffered per session before it is dropped
+ * @param allowedOrigins origin patterns, besides the server's own, allowed to open the game
+ *     WebSocket; none by default, so only pages served by this server can connect
+ */
+@ConfigurationProperties(prefix = "game")
+public record GameServerProperties(
+    @DefaultValue("worldpacks/example.json") String worldpack,
+    @DefaultValue("false") boolean validateWorldpack,
+    @DefaultValue("saves") String savesDir,
+    @DefaultValue("files") SaveStore saveStore,
+    @DefaultValue("1024") int saveQueueCapacity,
+    @DefaultValue("20000") int maxSessions,
+    @DefaultValue("32") int inboxCapacity,
+    Long combatSeed,
+    @DefaultValue("4096") int maxMessageBytes,
+    @DefaultValue("5000") int sendTimeLimitMillis,
+    @DefaultValue("65536") int sendBufferLimitBytes,
+    @DefaultValue String[] allowedOrigins) {}
@@ -0,0 +1,169 @@
+package com.dpandev.server.session;
+
+import com.dpandev.client.controller.CommandExecutor;
+import com.dpandev.client.controller.FrontController;
+import com.dpandev.domain.command.CommandParser;
+import com.dpandev.domain.service.CommandResult;
+import com.dpandev.domain.service.ExplorationService;
+import com.dpandev.domain.utils.GameContext;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One connected player. Commands are queued in a bounded inbox and executed in order by a single
+ * virtual thread that owns the session's {@link GameContext}, so the context is never touched by
+ * two threads and needs no locking. The loop mirrors the CLI runner: input is treated as a puzzle
+ * answer while one is pending, otherwise it is parsed and routed through the front controller.
+ */
+public final class GameSession {
+  private static final Logger log = LoggerFactory.getLogger(GameSession.class);
+
+  static final String WELCOME =
+      "Welcome to Adventure Time\nType 'help' for commands, 'quit' to exit.";
+  static final String INBOX_FULL = "Too many pending commands; slow down.";
+
+  private final String id;
+  private final GameContext ctx;
+  private final CommandExecutor executor;
+  private final ExplorationService explorationService;
+  private final SessionOutput output;
+  private final BlockingQueue<String> inbox;
+  private final Runnable onEnd;
+  private volatile Thread thread;
+  private volatile boolean stopped;
+
+  /**
+   * Creates a session. It does not process input until {@link #start()} is called.
+   *
+   * @param id unique session ID
+   * @param ctx the player's own game context
+   * @param parser shared command parser
+   * @param frontController shared command router
+   * @param explorationService shared exploration service, used for the opening room description
+   * @param output channel back to the player
+   * @param inboxCapacity maximum number of queued commands
+   * @param onEnd callback run once when the session loop exits
+   */
+  public GameSession(
+      String id,
+      GameContext ctx,
+      CommandParser parser,
+      FrontController frontController,
+      ExplorationService explorationService,
+      SessionOutput output,
+      int inboxCapacity,
+      Runnable onEnd) {
+    this.id = Objects.requireNonNull(id, "id cannot be null");
+    this.ctx = Objects.requireNonNull(ctx, "ctx cannot be null");
+    this.executor = new CommandExecutor(parser, frontController);
+    this.explorationService =
+        Objects.requireNonNull(explorationService, "explorationService cannot be null");
+    this.output = Objects.requireNonNull(output, "output cannot be null");
+    this.inbox = new ArrayBlockingQueue<>(inboxCapacity);
+    this.onEnd = Objects.requireNonNull(onEnd, "onEnd cannot be null");
+  }
+
+  /** Starts the session loop on a new virtual thread. A session already stopped ends at once. */
+  public void start() {
+    Thread started = Thread.ofVirtual().name("game-session-" + id).unstarted(this::run);
+    thread = started;
+    started.start();
+    // stop() sets the flag before reading the thread, so one of the two always sees the other
+    if (stopped) {
+      started.interrupt();
+    }
+  }
+
+  /**
+   * Queues a line of player input. Input beyond the inbox capacity is rejected with a notice
+   * instead of being buffered, which keeps per-session memory bounded.
+   *
+   * @param line the raw command line
+   * @return true if the line was queued
+   */
+  public boolean submit(String line) {
+    if (inbox.offer(line == null ? "" : line)) {
+      return true;
+    }
+    output.send(INBOX_FULL);
+    return false;
+  }
+
+  /**
+   * Stops the session loop. Pending input is discarded. Safe to call before {@link #start()}, in
+   * which case the loop ends as soon as it starts.
+   */
+  public void stop() {
+    stopped = true;
+    Thread current = thread;
+    if (current != null) {
+      current.interrupt();
+    }
+  }
+
+  /**
+   * Waits for the session loop to exit.
+   *
+   * @param timeout how long to wait at most
+   * @return true if the loop has exited or was never started
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean join(Duration timeout) throws InterruptedException {
+    Thread current = thread;
+    return current == null || current.join(timeout);
+  }
+
+  /**
+   * Gets the session ID.
+   *
+   * @return the session ID
+   */
+  public String id() {
+    return id;
+  }
+
+  private void run() {
+    try {
+      if (stopped) {
+        return;
+      }
+      output.send(WELCOME);
+      CommandResult roomDesc = explorationService.describeCurrentRoom(ctx);
+      if (roomDesc != null && !roomDesc.message().isBlank()) {
+        output.send(roomDesc.message());
+      }
+
+      while (true) {
+        CommandResult result = execute(inbox.take());
+        if (result != null && !result.message().isBlank()) {
+          output.send(result.message());
+        }
+        if (result != null && result.shouldExit()) {
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      // stopped by the manager or the connection closed
+    } finally {
+      onEnd.run();
+      output.close();
+    }
+  }
+
+  /**
+   * Executes one line of input. A failing command is reported to the player and does not end the
+   * session.
+   */
+  private CommandResult execute(String line) {
+    try {
+      return executor.execute(line, ctx);
+    } catch (RuntimeException e) {
+      log.warn("Command '{}' failed in session {}", line, id, e);
+      return CommandResult.fail("Something went wrong handling that command.");
+    }
+  }
+}
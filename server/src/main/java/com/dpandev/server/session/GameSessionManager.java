@@ -0,0 +1,209 @@
+package com.dpandev.server.session;
+
+import com.dpandev.client.controller.FrontController;
+import com.dpandev.domain.command.CommandParser;
+import com.dpandev.domain.model.Player;
+import com.dpandev.domain.service.CommandResult;
+import com.dpandev.domain.service.ExplorationService;
+import com.dpandev.domain.service.SaveService;
+import com.dpandev.domain.utils.GameContext;
+import com.dpandev.domain.world.World;
+import com.dpandev.domain.world.WorldLoader;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hosts the game sessions of one server node. All sessions share the parser, the services, the
+ * front controller and the parsed world template; each gets its own {@link GameContext} whose world
+ * is a copy-on-access overlay, so a session only costs memory for what its player changes.
+ *
+ * <p>Each session's random number generator is seeded from the session ID and the node's seed (see
+ * {@link GameContext#seedFor}), so a session's fights can be replayed from those two values. Both
+ * are logged: the node's seed at startup and each session's derived seed when it opens.
+ *
+ * <p>A connection names the player it plays as, and a returning player picks up from their most
+ * recent save.
+ */
+public final class GameSessionManager {
+  private static final Logger log = LoggerFactory.getLogger(GameSessionManager.class);
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+  private final WorldLoader worldLoader;
+  private final CommandParser parser;
+  private final FrontController frontController;
+  private final ExplorationService explorationService;
+  private final SaveService saveService;
+  private final int maxSessions;
+  private final int inboxCapacity;
+  private final long seed;
+  private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+  private final AtomicInteger reserved = new AtomicInteger();
+
+  /**
+   * Creates a session manager.
+   *
+   * @param worldLoader loader for new sessions' worlds; should cache the parsed template
+   * @param parser shared command parser
+   * @param frontController shared command router
+   * @param explorationService shared exploration service
+   * @param saveService shared save service, used to resume returning players
+   * @param maxSessions maximum number of concurrent sessions
+   * @param inboxCapacity maximum number of queued commands per session
+   * @param seed seed that, with each session's ID, seeds the session's random number generator
+   */
+  public GameSessionManager(
+      WorldLoader worldLoader,
+      CommandParser parser,
+      FrontController frontController,
+      ExplorationService explorationService,
+      SaveService saveService,
+      int maxSessions,
+      int inboxCapacity,
+      long seed) {
+    if (maxSessions <= 0 || inboxCapacity <= 0) {
+      throw new IllegalArgumentException("maxSessions and inboxCapacity must be positive");
+    }
+    this.worldLoader = Objects.requireNonNull(worldLoader, "worldLoader cannot be null");
+    this.parser = Objects.requireNonNull(parser, "parser cannot be null");
+    this.frontController =
+        Objects.requireNonNull(frontController, "frontController cannot be null");
+    this.explorationService =
+        Objects.requireNonNull(explorationService, "explorationService cannot be null");
+    this.saveService = Objects.requireNonNull(saveService, "saveService cannot be null");
+    this.maxSessions = maxSessions;
+    this.inboxCapacity = inboxCapacity;
+    this.seed = seed;
+  }
+
+  /**
+   * Opens and starts a session for a new connection, resuming the player's most recent save if they
+   * have one.
+   *
+   * @param id unique connection ID
+   * @param playerId stable ID of the player the connection plays as
+   * @param output channel back to the player
+   * @return true if the session was started, false if the node is at capacity
+   * @throws IllegalStateException if a session with the same ID is already open
+   */
+  public boolean open(String id, UUID playerId, SessionOutput output) {
+    if (reserved.incrementAndGet() > maxSessions) {
+      reserved.decrementAndGet();
+      return false;
+    }
+    try {
+      World world = worldLoader.load();
+      long sessionSeed = GameContext.seedFor(id, seed);
+      Player player = new Player(playerId, "Player", world.getStartRoomId());
+      GameContext ctx = new GameContext(world, player, sessionSeed);
+      resume(ctx);
+      GameSession session =
+          new GameSession(
+              id,
+              ctx,
+              parser,
+              frontController,
+              explorationService,
+              output,
+              inboxCapacity,
+              () -> release(id));
+      if (sessions.putIfAbsent(id, session) != null) {
+        throw new IllegalStateException("Session already open: " + id);
+      }
+      session.start();
+      log.info("Opened session {} for player {} with random seed {}", id, playerId, sessionSeed);
+      return true;
+    } catch (RuntimeException e) {
+      reserved.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * Queues input for a session.
+   *
+   * @param id the session ID
+   * @param line the raw command line
+   * @return true if the line was queued, false if the session is unknown or its inbox is full
+   */
+  public boolean submit(String id, String line) {
+    GameSession session = sessions.get(id);
+    return session != null && session.submit(line);
+  }
+
+  /**
+   * Stops a session, e.g. because its connection closed. Unknown IDs are ignored.
+   *
+   * @param id the session ID
+   */
+  public void close(String id) {
+    GameSession session = sessions.get(id);
+    if (session != null) {
+      session.stop();
+    }
+  }
+
+  /** Stops every session and waits a few seconds for the loops to exit. Used on server shutdown. */
+  public void closeAll() {
+    List<GameSession> open = List.copyOf(sessions.values());
+    open.forEach(GameSession::stop);
+    long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+    try {
+      for (GameSession session : open) {
+        Duration left = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        if (!session.join(left)) {
+          log.warn("Session {} did not stop within {}", session.id(), SHUTDOWN_TIMEOUT);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Gets the number of sessions currently running.
+   *
+   * @return the active session count
+   */
+  public int activeSessions() {
+    return sessions.size();
+  }
+
+  /**
+   * Gets the seed session generators are derived from.
+   *
+   * @return the node's seed
+   */
+  public long seed() {
+    return seed;
+  }
+
+  /** Applies the player's most recent save, unless it is for another version of the world. */
+  private void resume(GameContext ctx) {
+    UUID playerId = ctx.player().getId();
+    saveService
+        .load(playerId)
+        .ifPresent(
+            data -> {
+              CommandResult result = saveService.applySave(ctx, data);
+              if (result.success()) {
+                log.info("Resumed player {} from save slot '{}'", playerId, data.slot());
+              } else {
+                log.info("Starting player {} afresh: {}", playerId, result.message());
+              }
+            });
+  }
+
+  /** Called by a session when its loop exits, however it ended. */
+  private void release(String id) {
+    if (sessions.remove(id) != null) {
+      reserved.decrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.dpandev.server.session;
+
+/** Outbound channel of a game session, implemented by the transport (e.g. a WebSocket). */
+public interface SessionOutput {
+
+  /**
+   * Sends one message to the player. Implementations must not block indefinitely; slow clients
+   * should be disconnected rather than buffered without limit.
+   *
+   * @param message the text to send
+   */
+  void send(String message);
+
+  /** Closes the connection to the player. Called once when the session ends. */
+  void close();
+}
@@ -0,0 +1,117 @@
+package com.dpandev.server.web;
+
+import com.dpandev.server.config.GameServerProperties;
+import com.dpandev.server.session.GameSessionManager;
+import com.dpandev.server.session.SessionOutput;
+import java.io.IOException;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * WebSocket endpoint for players. Each text frame is one command line; each reply is one text
+ * frame. The handler only forwards frames to the session manager, so container threads never run
+ * game logic.
+ *
+ * <p>Clients name the player they play as with a UUID in the {@value #PLAYER_PARAM} query parameter
+ * of the handshake, e.g. {@code /ws/game?player=<uuid>}, and keep using it across connections so
+ * they can pick up their saves. Connections without a valid one are refused.
+ */
+@Component
+public class GameWebSocketHandler extends TextWebSocketHandler {
+  private static final Logger log = LoggerFactory.getLogger(GameWebSocketHandler.class);
+  static final String PLAYER_PARAM = "player";
+
+  private final GameSessionManager sessions;
+  private final GameServerProperties props;
+
+  public GameWebSocketHandler(GameSessionManager sessions, GameServerProperties props) {
+    this.sessions = sessions;
+    this.props = props;
+  }
+
+  @Override
+  public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+    UUID playerId = playerId(session);
+    if (playerId == null) {
+      session.close(CloseStatus.POLICY_VIOLATION.withReason("Missing or invalid player ID"));
+      return;
+    }
+    // bounds outbound buffering: a client that stops reading is disconnected, not buffered for
+    WebSocketSession bounded =
+        new ConcurrentWebSocketSessionDecorator(
+            session, props.sendTimeLimitMillis(), props.sendBufferLimitBytes());
+    if (!sessions.open(session.getId(), playerId, new WebSocketOutput(bounded))) {
+      session.close(CloseStatus.SERVICE_OVERLOAD.withReason("Server is full"));
+    }
+  }
+
+  @Override
+  protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+    sessions.submit(session.getId(), message.getPayload());
+  }
+
+  @Override
+  public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+    sessions.close(session.getId());
+  }
+
+  @Override
+  public void handleTransportError(WebSocketSession session, Throwable exception) {
+    log.debug("Transport error in session {}", session.getId(), exception);
+    sessions.close(session.getId());
+  }
+
+  /** Reads the player ID from the handshake's query string, or null if it is missing or invalid. */
+  private static UUID playerId(WebSocketSession session) {
+    if (session.getUri() == null) {
+      return null;
+    }
+    String value =
+        UriComponentsBuilder.fromUri(session.getUri())
+            .build()
+            .getQueryParams()
+            .getFirst(PLAYER_PARAM);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return UUID.fromString(value);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /** Sends session output as text frames over the bounded session. */
+  private record WebSocketOutput(WebSocketSession session) implements SessionOutput {
+    @Override
+    public void send(String message) {
+      if (!session.isOpen()) {
+        return;
+      }
+      try {
+        session.sendMessage(new TextMessage(message));
+      } catch (IOException | RuntimeException e) {
+        // send limits exceeded or connection gone; the close callback stops the game session
+        log.debug("Dropping session {} after failed send", session.getId(), e);
+        close();
+      }
+    }
+
+    @Override
+    public void close() {
+      try {
+        session.close(CloseStatus.NORMAL);
+      } catch (IOException e) {
+        log.debug("Failed to close session {}", session.getId(), e);
+      }
+    }
+  }
+}
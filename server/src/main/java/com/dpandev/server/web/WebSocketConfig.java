@@ -0,0 +1,38 @@
+package com.dpandev.server.web;
+
+import com.dpandev.server.config.GameServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+/** Registers the game WebSocket endpoint at {@value #GAME_ENDPOINT}. */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+  static final String GAME_ENDPOINT = "/ws/game";
+
+  private final GameWebSocketHandler handler;
+  private final GameServerProperties props;
+
+  public WebSocketConfig(GameWebSocketHandler handler, GameServerProperties props) {
+    this.handler = handler;
+    this.props = props;
+  }
+
+  @Override
+  public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+    registry.addHandler(handler, GAME_ENDPOINT).setAllowedOriginPatterns(props.allowedOrigins());
+  }
+
+  /** Caps inbound frame size so a single client cannot make the container buffer large frames. */
+  @Bean
+  public ServletServerContainerFactoryBean webSocketContainer() {
+    ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+    container.setMaxTextMessageBufferSize(props.maxMessageBytes());
+    container.setMaxBinaryMessageBufferSize(props.maxMessageBytes());
+    return container;
+  }
+}
@@ -0,0 +1,323 @@
+package com.dpandev.server.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dpandev.client.controller.CommandController;
+import com.dpandev.client.controller.FrontController;
+import com.dpandev.client.controller.MovementController;
+import com.dpandev.client.controller.SystemController;
+import com.dpandev.client.persistence.FileSaveRepository;
+import com.dpandev.domain.command.SimpleCommandParser;
+import com.dpandev.domain.model.Player;
+import com.dpandev.domain.model.Room;
+import com.dpandev.domain.service.DefaultExplorationService;
+import com.dpandev.domain.service.DefaultInteractionService;
+import com.dpandev.domain.service.DefaultMapService;
+import com.dpandev.domain.service.ExplorationService;
+import com.dpandev.domain.service.SaveService;
+import com.dpandev.domain.utils.GameContext;
+import com.dpandev.domain.utils.VerbCategory;
+import com.dpandev.domain.world.World;
+import com.dpandev.domain.world.WorldLoader;
+import com.dpandev.domain.world.WorldTemplate;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for GameSessionManager and the per-session command loop. */
+class GameSessionManagerTest {
+
+  @TempDir Path tempDir;
+
+  private SaveService saveService;
+  private GameSessionManager manager;
+
+  @BeforeEach
+  void setUp() {
+    // shared by the manager and the controllers, as the server wires them
+    saveService = new SaveService(new FileSaveRepository(tempDir));
+    manager = newManager(2, 4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    manager.closeAll();
+  }
+
+  @Nested
+  @DisplayName("Session Loop Tests")
+  class LoopTests {
+
+    @Test
+    @DisplayName("Should greet the player and describe the start room")
+    void testGreeting() throws InterruptedException {
+      RecordingOutput output = new RecordingOutput();
+
+      assertTrue(manager.open("s1", UUID.randomUUID(), output));
+
+      assertEquals(GameSession.WELCOME, output.next());
+      assertTrue(output.next().contains("Hall"));
+    }
+
+    @Test
+    @DisplayName("Should route commands through the front controller in order")
+    void testCommandsRunInOrder() throws InterruptedException {
+      RecordingOutput output = new RecordingOutput();
+      manager.open("s1", UUID.randomUUID(), output);
+      output.skip(2);
+
+      manager.submit("s1", "go north");
+      manager.submit("s1", "look");
+
+      assertTrue(output.next().contains("Vault"));
+      assertTrue(output.next().contains("Vault"));
+    }
+
+    @Test
+    @DisplayName("Should end the session and close the connection on quit")
+    void testQuitEndsSession() throws InterruptedException {
+      RecordingOutput output = new RecordingOutput();
+      manager.open("s1", UUID.randomUUID(), output);
+      output.skip(2);
+
+      manager.submit("s1", "quit");
+
+      assertTrue(output.next().contains("Goodbye"));
+      assertTrue(output.closed.await(5, TimeUnit.SECONDS));
+      awaitActiveSessions(0);
+      assertFalse(manager.submit("s1", "look"));
+    }
+
+    @Test
+    @DisplayName("Should keep each player's state separate")
+    void testSessionsAreIsolated() throws InterruptedException {
+      RecordingOutput first = new RecordingOutput();
+      RecordingOutput second = new RecordingOutput();
+      manager.open("s1", UUID.randomUUID(), first);
+      manager.open("s2", UUID.randomUUID(), second);
+      first.skip(2);
+      second.skip(2);
+
+      manager.submit("s1", "go north");
+      manager.submit("s2", "look");
+
+      assertTrue(first.next().contains("Vault"));
+      assertTrue(second.next().contains("Hall"));
+    }
+
+    @Test
+    @DisplayName("Should resume a returning player from their save")
+    void testReturningPlayerResumes() throws InterruptedException {
+      UUID playerId = UUID.randomUUID();
+      RecordingOutput first = new RecordingOutput();
+      manager.open("s1", playerId, first);
+      first.skip(2);
+      manager.submit("s1", "go north");
+      manager.submit("s1", "quit");
+      assertTrue(first.closed.await(5, TimeUnit.SECONDS));
+      awaitActiveSessions(0);
+
+      RecordingOutput second = new RecordingOutput();
+      manager.open("s2", playerId, second);
+
+      assertEquals(GameSession.WELCOME, second.next());
+      assertTrue(second.next().contains("Vault"));
+    }
+  }
+
+  @Nested
+  @DisplayName("Shutdown Tests")
+  class ShutdownTests {
+
+    @Test
+    @DisplayName("Should end a session stopped before it was started")
+    void testStopBeforeStart() throws InterruptedException {
+      RecordingOutput output = new RecordingOutput();
+      CountDownLatch ended = new CountDownLatch(1);
+      GameSession session =
+          new GameSession(
+              "s1",
+              newContext(),
+              new SimpleCommandParser(),
+              newFrontController(),
+              newExplorationService(),
+              output,
+              1,
+              ended::countDown);
+
+      session.stop();
+      session.start();
+
+      assertTrue(ended.await(5, TimeUnit.SECONDS));
+      assertTrue(output.closed.await(5, TimeUnit.SECONDS));
+      assertTrue(output.messages.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should wait for every session to end when closing all")
+    void testCloseAllWaitsForSessions() {
+      RecordingOutput first = new RecordingOutput();
+      RecordingOutput second = new RecordingOutput();
+      manager.open("s1", UUID.randomUUID(), first);
+      manager.open("s2", UUID.randomUUID(), second);
+
+      manager.closeAll();
+
+      assertEquals(0, manager.activeSessions());
+      assertEquals(0, first.closed.getCount());
+      assertEquals(0, second.closed.getCount());
+    }
+  }
+
+  @Nested
+  @DisplayName("Capacity Tests")
+  class CapacityTests {
+
+    @Test
+    @DisplayName("Should refuse sessions beyond the configured maximum")
+    void testMaxSessions() {
+      assertTrue(manager.open("s1", UUID.randomUUID(), new RecordingOutput()));
+      assertTrue(manager.open("s2", UUID.randomUUID(), new RecordingOutput()));
+
+      assertFalse(manager.open("s3", UUID.randomUUID(), new RecordingOutput()));
+      assertEquals(2, manager.activeSessions());
+    }
+
+    @Test
+    @DisplayName("Should free a slot when a session is closed")
+    void testCloseFreesSlot() throws InterruptedException {
+      RecordingOutput output = new RecordingOutput();
+      manager.open("s1", UUID.randomUUID(), output);
+      manager.open("s2", UUID.randomUUID(), new RecordingOutput());
+
+      manager.close("s1");
+
+      assertTrue(output.closed.await(5, TimeUnit.SECONDS));
+      awaitActiveSessions(1);
+      assertTrue(manager.open("s3", UUID.randomUUID(), new RecordingOutput()));
+    }
+
+    @Test
+    @DisplayName("Should reject input once the inbox is full")
+    void testInboxIsBounded() {
+      RecordingOutput output = new RecordingOutput();
+      GameSession session =
+          new GameSession(
+              "s1",
+              newContext(),
+              new SimpleCommandParser(),
+              newFrontController(),
+              newExplorationService(),
+              output,
+              1,
+              () -> {});
+
+      // not started, so nothing drains the inbox
+      assertTrue(session.submit("look"));
+      assertFalse(session.submit("look"));
+      assertTrue(output.messages.contains(GameSession.INBOX_FULL));
+    }
+  }
+
+  private void awaitActiveSessions(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (manager.activeSessions() != expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(expected, manager.activeSessions());
+  }
+
+  private GameSessionManager newManager(int maxSessions, int inboxCapacity) {
+    return new GameSessionManager(
+        newWorldLoader(),
+        new SimpleCommandParser(),
+        newFrontController(),
+        newExplorationService(),
+        saveService,
+        maxSessions,
+        inboxCapacity,
+        42L);
+  }
+
+  private static GameContext newContext() {
+    World world = newWorldLoader().load();
+    return new GameContext(world, new Player("Player", world.getStartRoomId()));
+  }
+
+  private static ExplorationService newExplorationService() {
+    return new DefaultExplorationService(new DefaultInteractionService());
+  }
+
+  private FrontController newFrontController() {
+    CommandController movement =
+        new MovementController(newExplorationService(), new DefaultMapService());
+    CommandController system = new SystemController(saveService, newWorldLoader());
+    return new FrontController(
+        Map.of(VerbCategory.MOVEMENT, movement, VerbCategory.SYSTEM, system), system);
+  }
+
+  private static WorldLoader newWorldLoader() {
+    Room hall =
+        Room.builder()
+            .id("hall")
+            .name("Hall")
+            .description("A quiet hall")
+            .exits(Map.of("north", "vault"))
+            .itemIds(new ArrayList<>())
+            .build();
+    Room vault =
+        Room.builder()
+            .id("vault")
+            .name("Vault")
+            .description("A cold vault")
+            .exits(Map.of("south", "hall"))
+            .itemIds(new ArrayList<>())
+            .build();
+    WorldTemplate template =
+        new WorldTemplate(
+            "1.0", Map.of("hall", hall, "vault", vault), Map.of(), Map.of(), Map.of(), "hall");
+    return template::newSession;
+  }
+
+  /** Captures messages sent to the player. */
+  private static final class RecordingOutput implements SessionOutput {
+    private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+    private final CountDownLatch closed = new CountDownLatch(1);
+
+    @Override
+    public void send(String message) {
+      messages.add(message);
+    }
+
+    @Override
+    public void close() {
+      closed.countDown();
+    }
+
+    String next() throws InterruptedException {
+      String message = messages.poll(5, TimeUnit.SECONDS);
+      assertNotNull(message, "timed out waiting for output");
+      return message;
+    }
+
+    void skip(int count) throws InterruptedException {
+      for (int i = 0; i < count; i++) {
+        next();
+      }
+    }
+  }
+}
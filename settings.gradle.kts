@@ -7,5 +7,5 @@
       }
     }
 
-    include(":domain", ":client", ":server")
+    include(":domain", ":client", ":server", ":benchmarks")
     
\ No newline at end of file